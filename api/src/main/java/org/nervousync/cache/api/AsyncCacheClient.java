@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.api;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <h2 class="en-US">Asynchronous cache client interface</h2>
+ * <span class="en-US">All operations return immediately, the result was completed by the cache provider</span>
+ * <h2 class="zh-CN">异步缓存客户端接口</h2>
+ * <span class="zh-CN">所有操作立即返回，操作结果由缓存适配器完成</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 04, 2024 10:21:17 $
+ */
+public interface AsyncCacheClient {
+
+	/**
+	 * <h3 class="en-US">Set key-value to cache server, using default expire time</h3>
+	 * <h3 class="zh-CN">使用默认的过期时间设置缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @return  <span class="en-US">Operate future</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	default CompletableFuture<Void> set(final String key, final String value) {
+		return this.set(key, value, CacheClient.DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Set key-value to cache server and set expire time</h3>
+	 * <h3 class="zh-CN">使用指定的过期时间设置缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @return  <span class="en-US">Operate future</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	CompletableFuture<Void> set(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Add a new key-value to cache server, using default expire time</h3>
+	 * <h3 class="zh-CN">使用默认的过期时间添加缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @return  <span class="en-US">Operate future</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	default CompletableFuture<Void> add(final String key, final String value) {
+		return this.add(key, value, CacheClient.DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Add a new key-value to cache server and set expire time</h3>
+	 * <h3 class="zh-CN">使用指定的过期时间添加缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @return  <span class="en-US">Operate future</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	CompletableFuture<Void> add(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Replace exists value of given key by given value, using default expire time</h3>
+	 * <h3 class="zh-CN">使用默认的过期时间替换已存在的缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @return  <span class="en-US">Operate future</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	default CompletableFuture<Void> replace(final String key, final String value) {
+		return this.replace(key, value, CacheClient.DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Replace exists value of given key by given value and set expire time</h3>
+	 * <h3 class="zh-CN">使用指定的过期时间替换已存在的缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @return  <span class="en-US">Operate future</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	CompletableFuture<Void> replace(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Set expire time to new given expire value which cache key was given</h3>
+	 * <h3 class="zh-CN">将指定的缓存键值过期时间设置为指定的新值</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param expire	<span class="en-US">New expire time</span>
+	 *                  <span class="zh-CN">新的过期时间</span>
+	 * @return  <span class="en-US">Operate future</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	CompletableFuture<Void> expire(final String key, final int expire);
+
+	/**
+	 * <h3 class="en-US">Execute touch operate which cache key was given</h3>
+	 * <h3 class="zh-CN">修改指定缓存键值的最后访问时间</h3>
+	 *
+	 * @param keys      <span class="en-US">Cache keys array strings</span>
+	 *                  <span class="zh-CN">缓存键值数组</span>
+	 * @return  <span class="en-US">Operate future</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	CompletableFuture<Void> touch(final String... keys);
+
+	/**
+	 * <h3 class="en-US">Remove cache key-value from cache server</h3>
+	 * <h3 class="zh-CN">移除指定的缓存键值</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Operate future</span>
+	 *          <span class="zh-CN">操作结果</span>
+	 */
+	CompletableFuture<Void> delete(final String key);
+
+	/**
+	 * <h3 class="en-US">Read cache value from cache key which cache key was given</h3>
+	 * <h3 class="zh-CN">读取指定缓存键值对应的缓存数据</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Future of cache value, completed with null if cache key was not exists or it was expired</span>
+	 *          <span class="zh-CN">缓存数据的异步结果，如果缓存键值不存在或已过期，则结果为null</span>
+	 */
+	CompletableFuture<String> get(final String key);
+
+	/**
+	 * <h3 class="en-US">Read cache values of given cache keys in one operation</h3>
+	 * <h3 class="zh-CN">批量读取给定缓存键值对应的缓存数据</h3>
+	 *
+	 * @param keys      <span class="en-US">Cache keys collection</span>
+	 *                  <span class="zh-CN">缓存键值集合</span>
+	 * @return  <span class="en-US">Future of cache key-value map, not exists or expired keys were not contained</span>
+	 *          <span class="zh-CN">缓存键值与数据映射表的异步结果，不存在或已过期的缓存键值不包含在内</span>
+	 */
+	CompletableFuture<Map<String, String>> getAll(final Collection<String> keys);
+
+	/**
+	 * <h3 class="en-US">Increment data by given cache key and value</h3>
+	 * <h3 class="zh-CN">对给定的缓存键值执行自增操作，增加值为给定的步进值</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param step      <span class="en-US">Increment step value</span>
+	 *                  <span class="zh-CN">自增步进值</span>
+	 * @return  <span class="en-US">Future of operate result</span>
+	 *          <span class="zh-CN">操作结果的异步结果</span>
+	 */
+	CompletableFuture<Long> incr(final String key, final long step);
+
+	/**
+	 * <h3 class="en-US">Decrement data by given cache key and value</h3>
+	 * <h3 class="zh-CN">对给定的缓存键值执行自减操作，减少值为给定的步进值</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param step      <span class="en-US">Decrement step value</span>
+	 *                  <span class="zh-CN">自减步进值</span>
+	 * @return  <span class="en-US">Future of operate result</span>
+	 *          <span class="zh-CN">操作结果的异步结果</span>
+	 */
+	CompletableFuture<Long> decr(final String key, final long step);
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.api;
+
+/**
+ * <h2 class="en-US">Batch of cache operations</h2>
+ * <span class="en-US">
+ *     Operations were recorded in order and executed together by the provider,
+ *     providers which support pipelining execute them on one connection in as few round trips as possible.
+ *     Recording operation which cache key was empty or write value was null throws IllegalArgumentException,
+ *     so the results were always matched with the recorded operations by position.
+ * </span>
+ * <h2 class="zh-CN">缓存操作批次</h2>
+ * <span class="zh-CN">
+ *     操作按顺序记录并由缓存适配器一起执行，支持管道的缓存适配器在一个连接上以尽可能少的网络往返次数执行。记录缓存键值为空或写入数据为null的操作时抛出IllegalArgumentException，因此结果始终按位置与记录的操作对应。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 20, 2024 09:31:46 $
+ */
+public interface CacheBatch {
+
+	/**
+	 * <h3 class="en-US">Set key-value to cache server and set expire time</h3>
+	 * <h3 class="zh-CN">使用指定的过期时间设置缓存信息</h3>
+	 *
+	 * @param key    <span class="en-US">Cache key</span>
+	 *               <span class="zh-CN">缓存键值</span>
+	 * @param value  <span class="en-US">Cache value</span>
+	 *               <span class="zh-CN">缓存数据</span>
+	 * @param expire <span class="en-US">Expire time</span>
+	 *               <span class="zh-CN">过期时间</span>
+	 * @return <span class="en-US">Current batch instance</span>
+	 * <span class="zh-CN">当前批次实例</span>
+	 */
+	CacheBatch set(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Add a new key-value to cache server and set expire time</h3>
+	 * <h3 class="zh-CN">使用指定的过期时间添加缓存信息</h3>
+	 *
+	 * @param key    <span class="en-US">Cache key</span>
+	 *               <span class="zh-CN">缓存键值</span>
+	 * @param value  <span class="en-US">Cache value</span>
+	 *               <span class="zh-CN">缓存数据</span>
+	 * @param expire <span class="en-US">Expire time</span>
+	 *               <span class="zh-CN">过期时间</span>
+	 * @return <span class="en-US">Current batch instance</span>
+	 * <span class="zh-CN">当前批次实例</span>
+	 */
+	CacheBatch add(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Replace exists value of given key by given value and set expire time</h3>
+	 * <h3 class="zh-CN">使用指定的过期时间替换已存在的缓存信息</h3>
+	 *
+	 * @param key    <span class="en-US">Cache key</span>
+	 *               <span class="zh-CN">缓存键值</span>
+	 * @param value  <span class="en-US">Cache value</span>
+	 *               <span class="zh-CN">缓存数据</span>
+	 * @param expire <span class="en-US">Expire time</span>
+	 *               <span class="zh-CN">过期时间</span>
+	 * @return <span class="en-US">Current batch instance</span>
+	 * <span class="zh-CN">当前批次实例</span>
+	 */
+	CacheBatch replace(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Set expire time to new given expire value which cache key was given</h3>
+	 * <h3 class="zh-CN">将指定的缓存键值过期时间设置为指定的新值</h3>
+	 *
+	 * @param key    <span class="en-US">Cache key</span>
+	 *               <span class="zh-CN">缓存键值</span>
+	 * @param expire <span class="en-US">New expire time</span>
+	 *               <span class="zh-CN">新的过期时间</span>
+	 * @return <span class="en-US">Current batch instance</span>
+	 * <span class="zh-CN">当前批次实例</span>
+	 */
+	CacheBatch expire(final String key, final int expire);
+
+	/**
+	 * <h3 class="en-US">Remove cache key-value from cache server</h3>
+	 * <h3 class="zh-CN">移除指定的缓存键值</h3>
+	 *
+	 * @param key <span class="en-US">Cache key</span>
+	 *            <span class="zh-CN">缓存键值</span>
+	 * @return <span class="en-US">Current batch instance</span>
+	 * <span class="zh-CN">当前批次实例</span>
+	 */
+	CacheBatch delete(final String key);
+
+	/**
+	 * <h3 class="en-US">Read cache value of given cache key, result was cache value string or null</h3>
+	 * <h3 class="zh-CN">读取指定缓存键值对应的缓存数据，结果为缓存数据字符串或null</h3>
+	 *
+	 * @param key <span class="en-US">Cache key</span>
+	 *            <span class="zh-CN">缓存键值</span>
+	 * @return <span class="en-US">Current batch instance</span>
+	 * <span class="zh-CN">当前批次实例</span>
+	 */
+	CacheBatch get(final String key);
+
+	/**
+	 * <h3 class="en-US">Increase data by given step, result was the value after increase</h3>
+	 * <h3 class="zh-CN">使用给定的步长增加数据，结果为增加后的值</h3>
+	 *
+	 * @param key  <span class="en-US">Cache key</span>
+	 *             <span class="zh-CN">缓存键值</span>
+	 * @param step <span class="en-US">Increase step</span>
+	 *             <span class="zh-CN">增加步长</span>
+	 * @return <span class="en-US">Current batch instance</span>
+	 * <span class="zh-CN">当前批次实例</span>
+	 */
+	CacheBatch incr(final String key, final long step);
+
+	/**
+	 * <h3 class="en-US">Decrease data by given step, result was the value after decrease</h3>
+	 * <h3 class="zh-CN">使用给定的步长减少数据，结果为减少后的值</h3>
+	 *
+	 * @param key  <span class="en-US">Cache key</span>
+	 *             <span class="zh-CN">缓存键值</span>
+	 * @param step <span class="en-US">Decrease step</span>
+	 *             <span class="zh-CN">减少步长</span>
+	 * @return <span class="en-US">Current batch instance</span>
+	 * <span class="zh-CN">当前批次实例</span>
+	 */
+	CacheBatch decr(final String key, final long step);
+}
@@ -16,6 +16,13 @@
  */
 package org.nervousync.cache.api;
 
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 /**
  * <h2 class="en-US">Cache client interface</h2>
  * <h2 class="zh-CN">缓存客户端接口</h2>
@@ -57,6 +64,41 @@ public interface CacheClient {
 	 */
 	void set(final String key, final String value, final int expire);
 
+	/**
+	 * <h3 class="en-US">Set all key-values to cache server, using default expire time</h3>
+	 * <h3 class="zh-CN">使用默认的过期时间批量设置缓存信息</h3>
+	 *
+	 * @param dataMap   <span class="en-US">Cache key-value map</span>
+	 *                  <span class="zh-CN">缓存键值与数据的映射表</span>
+	 */
+	default void setAll(final Map<String, String> dataMap) {
+		this.setAll(dataMap, DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Set all key-values to cache server and set the same expire time</h3>
+	 * <h3 class="zh-CN">使用相同的过期时间批量设置缓存信息</h3>
+	 *
+	 * @param dataMap   <span class="en-US">Cache key-value map</span>
+	 *                  <span class="zh-CN">缓存键值与数据的映射表</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 */
+	void setAll(final Map<String, String> dataMap, final int expire);
+
+	/**
+	 * <h3 class="en-US">Set all key-values to cache server and set expire time for each cache key</h3>
+	 * <span class="en-US">Cache key not contained in the expire time map will use default expire time</span>
+	 * <h3 class="zh-CN">批量设置缓存信息并为每个缓存键值设置过期时间</h3>
+	 * <span class="zh-CN">未包含在过期时间映射表中的缓存键值使用默认的过期时间</span>
+	 *
+	 * @param dataMap   <span class="en-US">Cache key-value map</span>
+	 *                  <span class="zh-CN">缓存键值与数据的映射表</span>
+	 * @param expireMap	<span class="en-US">Cache key-expire time map</span>
+	 *                  <span class="zh-CN">缓存键值与过期时间的映射表</span>
+	 */
+	void setAll(final Map<String, String> dataMap, final Map<String, Integer> expireMap);
+
 	/**
 	 * <h3 class="en-US">Add a new key-value to cache server, using default expire time</h3>
 	 * <h3 class="zh-CN">使用指定的过期时间添加缓存信息</h3>
@@ -149,6 +191,196 @@ public interface CacheClient {
 	 */
 	String get(final String key);
 
+	/**
+	 * <h3 class="en-US">Read cache value and set new expire time in one operation</h3>
+	 * <h3 class="zh-CN">在一个操作中读取缓存数据并设置新的过期时间</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param expire	<span class="en-US">New expire time</span>
+	 *                  <span class="zh-CN">新的过期时间</span>
+	 * @return  <span class="en-US">Cache value or null if cache key was not exists or it was expired</span>
+	 *          <span class="zh-CN">读取的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+	 */
+	String getAndTouch(final String key, final int expire);
+
+	/**
+	 * <h3 class="en-US">Read cache values of given cache keys in one operation</h3>
+	 * <h3 class="zh-CN">批量读取给定缓存键值对应的缓存数据</h3>
+	 *
+	 * @param keys      <span class="en-US">Cache keys collection</span>
+	 *                  <span class="zh-CN">缓存键值集合</span>
+	 * @return  <span class="en-US">Cache key-value map, not exists or expired keys were not contained</span>
+	 *          <span class="zh-CN">缓存键值与数据的映射表，不存在或已过期的缓存键值不包含在内</span>
+	 */
+	Map<String, String> getAll(final Collection<String> keys);
+
+	/**
+	 * <h3 class="en-US">Set binary value to cache server, using default expire time</h3>
+	 * <h3 class="zh-CN">使用默认的过期时间设置二进制缓存数据</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Binary cache value</span>
+	 *                  <span class="zh-CN">二进制缓存数据</span>
+	 */
+	default void setBytes(final String key, final byte[] value) {
+		this.setBytes(key, value, DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Set binary value to cache server and set expire time</h3>
+	 * <span class="en-US">The value was written as is without string encoding, binary values were not stored in near cache</span>
+	 * <h3 class="zh-CN">使用指定的过期时间设置二进制缓存数据</h3>
+	 * <span class="zh-CN">数据按原样写入而不经过字符串编码，二进制数据不存储在近端缓存中</span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Binary cache value</span>
+	 *                  <span class="zh-CN">二进制缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 */
+	void setBytes(final String key, final byte[] value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Set remaining bytes of buffer to cache server and set expire time</h3>
+	 * <span class="en-US">Position of given buffer was not changed</span>
+	 * <h3 class="zh-CN">使用指定的过期时间将缓冲区的剩余字节设置为缓存数据</h3>
+	 * <span class="zh-CN">给定缓冲区的位置不会改变</span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Buffer of cache value</span>
+	 *                  <span class="zh-CN">缓存数据的缓冲区</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 */
+	default void setBytes(final String key, final ByteBuffer value, final int expire) {
+		if (value == null) {
+			return;
+		}
+		byte[] dataBytes = new byte[value.remaining()];
+		value.duplicate().get(dataBytes);
+		this.setBytes(key, dataBytes, expire);
+	}
+
+	/**
+	 * <h3 class="en-US">Read binary cache value from cache key which cache key was given</h3>
+	 * <h3 class="zh-CN">读取指定缓存键值对应的二进制缓存数据</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Binary cache value or null if cache key was not exists or it was expired</span>
+	 *          <span class="zh-CN">读取的二进制缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+	 */
+	byte[] getBytes(final String key);
+
+	/**
+	 * <h3 class="en-US">Read binary cache value from cache key which cache key was given and wrap it as buffer</h3>
+	 * <h3 class="zh-CN">读取指定缓存键值对应的二进制缓存数据并包装为缓冲区</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Buffer of cache value or null if cache key was not exists or it was expired</span>
+	 *          <span class="zh-CN">缓存数据的缓冲区，如果缓存键值不存在或已过期，则返回null</span>
+	 */
+	default ByteBuffer getBuffer(final String key) {
+		byte[] dataBytes = this.getBytes(key);
+		return (dataBytes == null) ? null : ByteBuffer.wrap(dataBytes);
+	}
+
+	/**
+	 * <h3 class="en-US">Encode typed value by codec and set to cache server, using default expire time</h3>
+	 * <h3 class="zh-CN">使用编解码器编码类型化数据并使用默认的过期时间设置缓存数据</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Typed cache value</span>
+	 *                  <span class="zh-CN">类型化缓存数据</span>
+	 * @param <T>		<span class="en-US">Value type</span>
+	 *                  <span class="zh-CN">数据类型</span>
+	 */
+	default <T> void set(final String key, final T value) {
+		this.set(key, value, DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Encode typed value by codec and set to cache server, using given expire time</h3>
+	 * <span class="en-US">
+	 *     String values were written as string value, byte array and primitive values use built-in codecs,
+	 *     other types use the codec configured for current cache.
+	 * </span>
+	 * <h3 class="zh-CN">使用编解码器编码类型化数据并使用指定的过期时间设置缓存数据</h3>
+	 * <span class="zh-CN">字符串数据按字符串数据写入，字节数组和基本类型数据使用内置编解码器，其他类型使用当前缓存配置的编解码器</span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Typed cache value</span>
+	 *                  <span class="zh-CN">类型化缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @param <T>		<span class="en-US">Value type</span>
+	 *                  <span class="zh-CN">数据类型</span>
+	 */
+	<T> void set(final String key, final T value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Read cache value of given cache key and decode it to given type by codec</h3>
+	 * <h3 class="zh-CN">读取指定缓存键值对应的缓存数据并使用编解码器解码为给定类型</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param type		<span class="en-US">Value type</span>
+	 *                  <span class="zh-CN">数据类型</span>
+	 * @param <T>		<span class="en-US">Value type</span>
+	 *                  <span class="zh-CN">数据类型</span>
+	 * @return  <span class="en-US">Decoded value or null if cache key was not exists, expired or can not be decoded</span>
+	 *          <span class="zh-CN">解码后的数据，如果缓存键值不存在、已过期或无法解码，则返回null</span>
+	 */
+	<T> T get(final String key, final Class<T> type);
+
+	/**
+	 * <h3 class="en-US">Read cache value, load and write the value to cache server if cache key was not exists</h3>
+	 * <span class="en-US">Concurrent misses of the same cache key in current JVM were coalesced into one load</span>
+	 * <h3 class="zh-CN">读取缓存数据，如果缓存键值不存在则加载数据并写入缓存服务器</h3>
+	 * <span class="zh-CN">当前JVM中同一缓存键值的并发未命中被合并为一次加载</span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param loader    <span class="en-US">Loader function, returns null if the value was not exists</span>
+	 *                  <span class="zh-CN">加载函数，数据不存在时返回null</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @return  <span class="en-US">Cache value or null if the loader returns null</span>
+	 *          <span class="zh-CN">缓存数据，如果加载函数返回null则返回null</span>
+	 */
+	String get(final String key, final Function<String, String> loader, final int expire);
+
+	/**
+	 * <h3 class="en-US">Read cache value, load and write the value to cache server if cache key was not exists</h3>
+	 * <span class="en-US">
+	 *     Concurrent misses of the same cache key in current JVM were coalesced into one load,
+	 *     the node which added the lease key loads the value, other nodes wait for the value until the lease expired.
+	 * </span>
+	 * <h3 class="zh-CN">读取缓存数据，如果缓存键值不存在则加载数据并写入缓存服务器</h3>
+	 * <span class="zh-CN">
+	 *     当前JVM中同一缓存键值的并发未命中被合并为一次加载，成功添加租约键值的节点加载数据，其他节点等待数据直到租约过期。
+	 * </span>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param loader    <span class="en-US">Loader function, returns null if the value was not exists</span>
+	 *                  <span class="zh-CN">加载函数，数据不存在时返回null</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @param leaseTime	<span class="en-US">Expire time of distributed lease, less than or equal to 0 for disable lease</span>
+	 *                  <span class="zh-CN">分布式租约的过期时间，小于等于0为不使用租约</span>
+	 * @return  <span class="en-US">Cache value or null if the loader returns null</span>
+	 *          <span class="zh-CN">缓存数据，如果加载函数返回null则返回null</span>
+	 */
+	String get(final String key, final Function<String, String> loader, final int expire, final int leaseTime);
+
 	/**
 	 * <h3 class="en-US">Increment data by given cache key and value</h3>
 	 * <h3 class="zh-CN">对给定的缓存键值执行自增操作，增加值为给定的步进值</h3>
@@ -175,6 +407,48 @@ public interface CacheClient {
 	 */
 	long decr(final String key, final long step);
 
+	/**
+	 * <h3 class="en-US">Execute cache operations in one batch</h3>
+	 * <span class="en-US">
+	 *     Operations recorded by the given consumer were executed together,
+	 *     providers which support pipelining execute them on one borrowed connection.
+	 *     Result list contains one element for each recorded operation in order:
+	 *     cache value string or null for read operation, long value for increase and decrease operations,
+	 *     null for other operations.
+	 * </span>
+	 * <h3 class="zh-CN">在一个批次中执行缓存操作</h3>
+	 * <span class="zh-CN">
+	 *     给定的处理器记录的操作将一起执行，支持管道的缓存适配器在一个借用的连接上执行。
+	 *     结果列表按顺序为每个记录的操作包含一个元素：读取操作为缓存数据字符串或null，增加和减少操作为长整型数值，其他操作为null。
+	 * </span>
+	 *
+	 * @param operations <span class="en-US">Consumer which record cache operations</span>
+	 *                   <span class="zh-CN">记录缓存操作的处理器</span>
+	 * @return <span class="en-US">Result list of recorded operations</span>
+	 * <span class="zh-CN">记录的操作的结果列表</span>
+	 * @throws IllegalArgumentException <span class="en-US">If cache key of recorded operation was empty or write value was null</span>
+	 *                                  <span class="zh-CN">如果记录的操作的缓存键值为空或写入数据为null</span>
+	 */
+	List<Object> batch(final Consumer<CacheBatch> operations);
+
+	/**
+	 * <h3 class="en-US">Retrieve asynchronous client of current cache</h3>
+	 * <h3 class="zh-CN">获取当前缓存的异步客户端</h3>
+	 *
+	 * @return  <span class="en-US">Asynchronous cache client instance</span>
+	 *          <span class="zh-CN">异步缓存客户端实例</span>
+	 */
+	AsyncCacheClient async();
+
+	/**
+	 * <h3 class="en-US">Retrieve reactive client of current cache</h3>
+	 * <h3 class="zh-CN">获取当前缓存的响应式客户端</h3>
+	 *
+	 * @return  <span class="en-US">Reactive cache client instance</span>
+	 *          <span class="zh-CN">响应式缓存客户端实例</span>
+	 */
+	ReactiveCacheClient reactive();
+
 	/**
 	 * <h3 class="en-US">Destroy cache client</h3>
 	 * <h3 class="zh-CN">销毁当前缓存客户端</h3>
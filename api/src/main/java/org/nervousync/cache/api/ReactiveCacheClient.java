@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.api;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+/**
+ * <h2 class="en-US">Reactive cache client interface</h2>
+ * <span class="en-US">
+ *     All operations return a cold publisher, the operation was executed when the subscriber requested data.
+ *     Write operations publish nothing and complete when the cache server replied.
+ * </span>
+ * <h2 class="zh-CN">响应式缓存客户端接口</h2>
+ * <span class="zh-CN">所有操作返回冷发布者，订阅者请求数据时才执行操作。写操作不发布数据，缓存服务器应答后完成</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 06, 2024 15:27:42 $
+ */
+public interface ReactiveCacheClient {
+
+	/**
+	 * <h3 class="en-US">Set key-value to cache server, using default expire time</h3>
+	 * <h3 class="zh-CN">使用默认的过期时间设置缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @return  <span class="en-US">Completion publisher</span>
+	 *          <span class="zh-CN">操作完成的发布者</span>
+	 */
+	default Flow.Publisher<Void> set(final String key, final String value) {
+		return this.set(key, value, CacheClient.DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Set key-value to cache server and set expire time</h3>
+	 * <h3 class="zh-CN">使用指定的过期时间设置缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @return  <span class="en-US">Completion publisher</span>
+	 *          <span class="zh-CN">操作完成的发布者</span>
+	 */
+	Flow.Publisher<Void> set(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Add a new key-value to cache server, using default expire time</h3>
+	 * <h3 class="zh-CN">使用默认的过期时间添加缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @return  <span class="en-US">Completion publisher</span>
+	 *          <span class="zh-CN">操作完成的发布者</span>
+	 */
+	default Flow.Publisher<Void> add(final String key, final String value) {
+		return this.add(key, value, CacheClient.DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Add a new key-value to cache server and set expire time</h3>
+	 * <h3 class="zh-CN">使用指定的过期时间添加缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @return  <span class="en-US">Completion publisher</span>
+	 *          <span class="zh-CN">操作完成的发布者</span>
+	 */
+	Flow.Publisher<Void> add(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Replace exists value of given key by given value, using default expire time</h3>
+	 * <h3 class="zh-CN">使用默认的过期时间替换已存在的缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @return  <span class="en-US">Completion publisher</span>
+	 *          <span class="zh-CN">操作完成的发布者</span>
+	 */
+	default Flow.Publisher<Void> replace(final String key, final String value) {
+		return this.replace(key, value, CacheClient.DEFAULT_EXPIRE_TIME);
+	}
+
+	/**
+	 * <h3 class="en-US">Replace exists value of given key by given value and set expire time</h3>
+	 * <h3 class="zh-CN">使用指定的过期时间替换已存在的缓存信息</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param value		<span class="en-US">Cache value</span>
+	 *                  <span class="zh-CN">缓存数据</span>
+	 * @param expire	<span class="en-US">Expire time</span>
+	 *                  <span class="zh-CN">过期时间</span>
+	 * @return  <span class="en-US">Completion publisher</span>
+	 *          <span class="zh-CN">操作完成的发布者</span>
+	 */
+	Flow.Publisher<Void> replace(final String key, final String value, final int expire);
+
+	/**
+	 * <h3 class="en-US">Set expire time to new given expire value which cache key was given</h3>
+	 * <h3 class="zh-CN">将指定的缓存键值过期时间设置为指定的新值</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param expire	<span class="en-US">New expire time</span>
+	 *                  <span class="zh-CN">新的过期时间</span>
+	 * @return  <span class="en-US">Completion publisher</span>
+	 *          <span class="zh-CN">操作完成的发布者</span>
+	 */
+	Flow.Publisher<Void> expire(final String key, final int expire);
+
+	/**
+	 * <h3 class="en-US">Execute touch operate which cache key was given</h3>
+	 * <h3 class="zh-CN">修改指定缓存键值的最后访问时间</h3>
+	 *
+	 * @param keys      <span class="en-US">Cache keys array strings</span>
+	 *                  <span class="zh-CN">缓存键值数组</span>
+	 * @return  <span class="en-US">Completion publisher</span>
+	 *          <span class="zh-CN">操作完成的发布者</span>
+	 */
+	Flow.Publisher<Void> touch(final String... keys);
+
+	/**
+	 * <h3 class="en-US">Remove cache key-value from cache server</h3>
+	 * <h3 class="zh-CN">移除指定的缓存键值</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Completion publisher</span>
+	 *          <span class="zh-CN">操作完成的发布者</span>
+	 */
+	Flow.Publisher<Void> delete(final String key);
+
+	/**
+	 * <h3 class="en-US">Read cache value from cache key which cache key was given</h3>
+	 * <h3 class="zh-CN">读取指定缓存键值对应的缓存数据</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @return  <span class="en-US">Publisher of cache value, completed without data if cache key was not exists or it was expired</span>
+	 *          <span class="zh-CN">缓存数据的发布者，如果缓存键值不存在或已过期，则不发布数据直接完成</span>
+	 */
+	Flow.Publisher<String> get(final String key);
+
+	/**
+	 * <h3 class="en-US">Stream cache values of given cache keys</h3>
+	 * <span class="en-US">
+	 *     Cache keys were read in batches by subscriber demand,
+	 *     so the complete result map will not be built in memory.
+	 * </span>
+	 * <h3 class="zh-CN">以流的方式读取给定缓存键值对应的缓存数据</h3>
+	 * <span class="zh-CN">根据订阅者的需求分批读取缓存键值，不会在内存中构建完整的结果映射表</span>
+	 *
+	 * @param keys      <span class="en-US">Cache keys collection</span>
+	 *                  <span class="zh-CN">缓存键值集合</span>
+	 * @return  <span class="en-US">Publisher of cache key-value entries, not exists or expired keys were not published</span>
+	 *          <span class="zh-CN">缓存键值与数据的发布者，不存在或已过期的缓存键值不发布</span>
+	 */
+	Flow.Publisher<Map.Entry<String, String>> getAll(final Collection<String> keys);
+
+	/**
+	 * <h3 class="en-US">Increment data by given cache key and value</h3>
+	 * <h3 class="zh-CN">对给定的缓存键值执行自增操作，增加值为给定的步进值</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param step      <span class="en-US">Increment step value</span>
+	 *                  <span class="zh-CN">自增步进值</span>
+	 * @return  <span class="en-US">Publisher of operate result</span>
+	 *          <span class="zh-CN">操作结果的发布者</span>
+	 */
+	Flow.Publisher<Long> incr(final String key, final long step);
+
+	/**
+	 * <h3 class="en-US">Decrement data by given cache key and value</h3>
+	 * <h3 class="zh-CN">对给定的缓存键值执行自减操作，减少值为给定的步进值</h3>
+	 *
+	 * @param key       <span class="en-US">Cache key</span>
+	 *                  <span class="zh-CN">缓存键值</span>
+	 * @param step      <span class="en-US">Decrement step value</span>
+	 *                  <span class="zh-CN">自减步进值</span>
+	 * @return  <span class="en-US">Publisher of operate result</span>
+	 *          <span class="zh-CN">操作结果的发布者</span>
+	 */
+	Flow.Publisher<Long> decr(final String key, final long step);
+}
@@ -21,14 +21,21 @@ import org.nervousync.builder.AbstractBuilder;
 import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig;
 import org.nervousync.cache.enumeration.ClusterMode;
+import org.nervousync.cache.enumeration.Compression;
+import org.nervousync.cache.enumeration.NearCacheStorage;
+import org.nervousync.cache.enumeration.ReadPolicy;
+import org.nervousync.cache.enumeration.TrackingMode;
 import org.nervousync.commons.Globals;
 import org.nervousync.configs.ConfigureManager;
 import org.nervousync.exceptions.builder.BuilderException;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * <h2 class="en-US">Abstract cache configure builder</h2>
@@ -180,6 +187,217 @@ public final class CacheConfigBuilder {
         return this;
     }
 
+    /**
+     * <h3 class="en-US">Configure connection pool tuning</h3>
+     * <span class="en-US">
+     *     Idle connections were validated in background by given interval instead of testing each borrowed connection.
+     * </span>
+     * <h3 class="zh-CN">设置连接池调优参数</h3>
+     * <span class="zh-CN">按照给定的间隔在后台校验空闲连接，代替测试每个借用的连接</span>
+     *
+     * @param minimumIdle      <span class="en-US">Minimum idle connections</span>
+     *                         <span class="zh-CN">最小空闲连接数</span>
+     * @param evictionInterval <span class="en-US">Interval of validating idle connections, 0 means disabled. Unit: second</span>
+     *                         <span class="zh-CN">空闲连接校验间隔，0为禁用。单位：秒</span>
+     * @param poolLifo         <span class="en-US">true for LIFO, false for FIFO</span>
+     *                         <span class="zh-CN">true为后进先出，false为先进先出</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder connectionPool(final int minimumIdle, final int evictionInterval, final boolean poolLifo) {
+        this.cacheConfig.setMinimumIdle(Math.max(minimumIdle, 0));
+        this.cacheConfig.setEvictionInterval(Math.max(evictionInterval, 0));
+        this.cacheConfig.setPoolLifo(poolLifo);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure command batching</h3>
+     * <span class="en-US">
+     *     Commands from all threads were gathered on a dedicated connection and written to the server together,
+     *     when the flush window elapsed or the maximum command count was reached.
+     *     Providers which not support command batching ignore this configure.
+     * </span>
+     * <h3 class="zh-CN">设置命令合并发送</h3>
+     * <span class="zh-CN">
+     *     所有线程的命令在专用连接上合并，在发送窗口结束或达到最大命令数量时一并写入服务器。不支持命令合并发送的缓存适配器忽略此配置。
+     * </span>
+     *
+     * @param flushWindow  <span class="en-US">Flush window, 0 means disabled. Unit: microsecond</span>
+     *                     <span class="zh-CN">合并发送窗口，0为禁用。单位：微秒</span>
+     * @param maxBatchSize <span class="en-US">Maximum command count of each flush</span>
+     *                     <span class="zh-CN">每次发送的最大命令数量</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder commandBatching(final int flushWindow, final int maxBatchSize) {
+        this.cacheConfig.setFlushWindow(Math.max(flushWindow, 0));
+        this.cacheConfig.setMaxBatchSize((maxBatchSize > 0) ? maxBatchSize : CacheGlobals.DEFAULT_MAX_BATCH_SIZE);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure bulk reads use a dedicated connection</h3>
+     * <span class="en-US">
+     *     Bulk reads were not queued behind small commands of the multiplexed connection.
+     *     Providers which not use multiplexed connection ignore this configure.
+     * </span>
+     * <h3 class="zh-CN">设置批量读取是否使用专用连接</h3>
+     * <span class="zh-CN">批量读取无需在多路复用连接上排在小命令之后。不使用多路复用连接的缓存适配器忽略此配置。</span>
+     *
+     * @param bulkReadConnection <span class="en-US">true for dedicated connection of bulk reads</span>
+     *                           <span class="zh-CN">批量读取使用专用连接为true</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder bulkReadConnection(final boolean bulkReadConnection) {
+        this.cacheConfig.setBulkReadConnection(bulkReadConnection);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure shared client resources</h3>
+     * <span class="en-US">
+     *     Caches which have the same configure share event loop and computation threads.
+     *     Providers which not use shared client resources ignore this configure.
+     * </span>
+     * <h3 class="zh-CN">设置共享客户端资源</h3>
+     * <span class="zh-CN">配置相同的缓存共享事件循环线程和计算线程。不使用共享客户端资源的缓存适配器忽略此配置。</span>
+     *
+     * @param ioThreads              <span class="en-US">I/O thread count, 0 means the number of available processors</span>
+     *                               <span class="zh-CN">I/O线程数，0表示可用处理器数量</span>
+     * @param latencyMetricsInterval <span class="en-US">Publish interval of command latency metrics, 0 means disabled. Unit: second</span>
+     *                               <span class="zh-CN">命令延迟指标的发布间隔，0为禁用。单位：秒</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder clientResources(final int ioThreads, final int latencyMetricsInterval) {
+        this.cacheConfig.setIoThreads(Math.max(ioThreads, 0));
+        this.cacheConfig.setLatencyMetricsInterval(Math.max(latencyMetricsInterval, 0));
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure local cached map mode</h3>
+     * <span class="en-US">
+     *     Cache values were stored in the given map, and hot entries were held in the local memory of each client.
+     *     Local entries were invalidated or updated by the synchronization messages of the server.
+     *     Providers which not support local cached map ignore this configure.
+     * </span>
+     * <h3 class="zh-CN">设置本地缓存映射表模式</h3>
+     * <span class="zh-CN">
+     *     缓存数据存储在指定的映射表中，热点条目保存在每个客户端的本地内存中。本地条目根据服务器的同步消息失效或更新。不支持本地缓存映射表的缓存适配器忽略此配置。
+     * </span>
+     *
+     * @param mapName              <span class="en-US">Map name, empty means disabled</span>
+     *                             <span class="zh-CN">映射表名称，为空表示禁用</span>
+     * @param cacheSize            <span class="en-US">Local cache size, 0 means unlimited</span>
+     *                             <span class="zh-CN">本地缓存大小，0表示不限制</span>
+     * @param evictionPolicy       <span class="en-US">Eviction policy name, one of NONE, LRU, LFU, SOFT and WEAK</span>
+     *                             <span class="zh-CN">淘汰策略名称，可选值为NONE、LRU、LFU、SOFT和WEAK</span>
+     * @param reconnectionStrategy <span class="en-US">Reconnection strategy name, one of NONE, CLEAR and LOAD</span>
+     *                             <span class="zh-CN">重连策略名称，可选值为NONE、CLEAR和LOAD</span>
+     * @param syncStrategy         <span class="en-US">Synchronization strategy name, one of NONE, INVALIDATE and UPDATE</span>
+     *                             <span class="zh-CN">同步策略名称，可选值为NONE、INVALIDATE和UPDATE</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder localCachedMap(final String mapName, final int cacheSize, final String evictionPolicy,
+                                             final String reconnectionStrategy, final String syncStrategy) {
+        this.cacheConfig.setLocalMapName(StringUtils.isEmpty(mapName) ? Globals.DEFAULT_VALUE_STRING : mapName);
+        this.cacheConfig.setLocalMapSize(Math.max(cacheSize, 0));
+        this.cacheConfig.setLocalMapEviction(StringUtils.isEmpty(evictionPolicy)
+                ? CacheGlobals.DEFAULT_LOCAL_MAP_EVICTION
+                : evictionPolicy.toUpperCase());
+        this.cacheConfig.setLocalMapReconnection(StringUtils.isEmpty(reconnectionStrategy)
+                ? CacheGlobals.DEFAULT_LOCAL_MAP_RECONNECTION
+                : reconnectionStrategy.toUpperCase());
+        this.cacheConfig.setLocalMapSync(StringUtils.isEmpty(syncStrategy)
+                ? CacheGlobals.DEFAULT_LOCAL_MAP_SYNC
+                : syncStrategy.toUpperCase());
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure geometry of new created shared memory store file</h3>
+     * <span class="en-US">
+     *     Existing store file keeps its geometry, because the file was mapped by other processes.
+     *     Providers which not use shared memory store ignore this configure.
+     * </span>
+     * <h3 class="zh-CN">设置新建共享内存存储文件的结构</h3>
+     * <span class="zh-CN">已存在的存储文件保持原有结构，因为文件已被其他进程映射。不使用共享内存存储的缓存适配器忽略此配置。</span>
+     *
+     * @param slotCount <span class="en-US">Slot count, rounded up to power of two</span>
+     *                  <span class="zh-CN">槽位数量，向上取整为2的幂</span>
+     * @param slotSize  <span class="en-US">Slot size in bytes, limits the total length of key and value</span>
+     *                  <span class="zh-CN">以字节为单位的槽位大小，限制键值与数据的总长度</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder storeGeometry(final int slotCount, final int slotSize) {
+        this.cacheConfig.setStoreSlotCount((slotCount > 0) ? slotCount : CacheGlobals.DEFAULT_STORE_SLOT_COUNT);
+        this.cacheConfig.setStoreSlotSize((slotSize > 0) ? slotSize : CacheGlobals.DEFAULT_STORE_SLOT_SIZE);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure write operations not wait for acknowledge of server</h3>
+     * <span class="en-US">
+     *     Designed for writes which not need confirmation, such as session refresh. Failures of write were not reported.
+     *     Providers which not support noreply commands ignore this configure.
+     * </span>
+     * <h3 class="zh-CN">设置写操作是否不等待服务器确认</h3>
+     * <span class="zh-CN">为无需确认的写操作设计，例如会话刷新。写操作的失败不会被报告。不支持无回复命令的缓存适配器忽略此配置。</span>
+     *
+     * @param noReply <span class="en-US">true for not wait for acknowledge</span>
+     *                <span class="zh-CN">不等待服务器确认为true</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder noReply(final boolean noReply) {
+        this.cacheConfig.setNoReply(noReply);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure each thread uses a dedicated connection</h3>
+     * <span class="en-US">
+     *     Designed for callers which own long-lived threads, commands were sent without borrowing and returning pooled connections.
+     *     Connections were closed when the cache client was destroyed.
+     *     Providers which multiplex one connection or not use connection pool ignore this configure.
+     * </span>
+     * <h3 class="zh-CN">设置每个线程是否使用专用连接</h3>
+     * <span class="zh-CN">
+     *     为拥有长生命周期线程的调用者设计，发送命令时无需借用和归还连接池中的连接。连接在销毁缓存客户端时关闭。复用单一连接或不使用连接池的缓存适配器忽略此配置。
+     * </span>
+     *
+     * @param threadConfined <span class="en-US">true for thread confined connections</span>
+     *                       <span class="zh-CN">线程专用连接为true</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder threadConfined(final boolean threadConfined) {
+        this.cacheConfig.setThreadConfined(threadConfined);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure read routing policy of replicated servers</h3>
+     * <span class="en-US">Reading from replica servers may return stale data because of the replication lag</span>
+     * <h3 class="zh-CN">设置复制服务器的读操作路由策略</h3>
+     * <span class="zh-CN">由于复制延迟，从从服务器读取可能返回过期数据</span>
+     *
+     * @param readPolicy <span class="en-US">Read routing policy</span>
+     *                   <span class="zh-CN">读操作路由策略</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     * @see ReadPolicy
+     */
+    public CacheConfigBuilder readPolicy(final ReadPolicy readPolicy) {
+        this.cacheConfig.setReadPolicy(((readPolicy == null) ? ReadPolicy.Master : readPolicy).toString());
+        return this;
+    }
+
     /**
      * <h3 class="en-US">Configure connection timeout retry count</h3>
      * <h3 class="zh-CN">设置连接超时后的重试次数</h3>
@@ -244,6 +462,165 @@ public final class CacheConfigBuilder {
         return this;
     }
 
+    /**
+     * <h3 class="en-US">Configure near cache in front of the cache server</h3>
+     * <span class="en-US">
+     *     Weight of each entry is the length of cache key and cache value,
+     *     the expire time of near cache entries will not greater than the given maximum expire time.
+     * </span>
+     * <h3 class="zh-CN">设置缓存服务器前的近端缓存</h3>
+     * <span class="zh-CN">每个条目的权重为缓存键值与缓存数据的长度之和，近端缓存数据的过期时间不会超过给定的最大过期时间</span>
+     *
+     * @param maximumEntries <span class="en-US">Maximum entries, 0 for disable near cache</span>
+     *                       <span class="zh-CN">最大条目数，0为禁用近端缓存</span>
+     * @param maximumWeight  <span class="en-US">Maximum weight, 0 for not limited by weight</span>
+     *                       <span class="zh-CN">最大权重，0为不限制权重</span>
+     * @param expireTime     <span class="en-US">Maximum expire time</span>
+     *                       <span class="zh-CN">最大过期时间</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder nearCache(final int maximumEntries, final long maximumWeight, final int expireTime) {
+        if (maximumEntries > 0) {
+            this.cacheConfig.setNearCacheEntries(maximumEntries);
+        } else {
+            this.cacheConfig.setNearCacheEntries(CacheGlobals.DEFAULT_NEAR_CACHE_ENTRIES);
+        }
+        if (maximumWeight > 0L) {
+            this.cacheConfig.setNearCacheWeight(maximumWeight);
+        } else {
+            this.cacheConfig.setNearCacheWeight(CacheGlobals.DEFAULT_NEAR_CACHE_WEIGHT);
+        }
+        if (expireTime > 0) {
+            this.cacheConfig.setNearCacheExpire(expireTime);
+        } else {
+            this.cacheConfig.setNearCacheExpire(CacheGlobals.DEFAULT_NEAR_CACHE_EXPIRE);
+        }
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure refresh ahead of values read by loader</h3>
+     * <span class="en-US">
+     *     When the elapsed expire time of a loaded value passed the given percentage, the read returns current value
+     *     and reload it in background. Valid ratio is between 1 and 99, other value disables refresh ahead.
+     * </span>
+     * <h3 class="zh-CN">设置通过加载函数读取的数据的提前刷新</h3>
+     * <span class="zh-CN">当已加载数据经过的过期时间超过给定百分比时，读取操作返回当前数据并在后台重新加载。有效比例为1至99，其他值为禁用提前刷新</span>
+     *
+     * @param refreshAheadRatio <span class="en-US">Percentage of expire time</span>
+     *                          <span class="zh-CN">过期时间百分比</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder refreshAhead(final int refreshAheadRatio) {
+        if (refreshAheadRatio > 0 && refreshAheadRatio < 100) {
+            this.cacheConfig.setRefreshAheadRatio(refreshAheadRatio);
+        } else {
+            this.cacheConfig.setRefreshAheadRatio(CacheGlobals.DEFAULT_REFRESH_AHEAD_RATIO);
+        }
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure storage of near cache entries</h3>
+     * <span class="en-US">
+     *     Maximum weight of near cache means the direct memory capacity in bytes when using off-heap storage
+     * </span>
+     * <h3 class="zh-CN">设置近端缓存数据的存储方式</h3>
+     * <span class="zh-CN">使用堆外存储时，近端缓存的最大权重表示以字节为单位的直接内存容量</span>
+     *
+     * @param nearCacheStorage <span class="en-US">Near cache storage</span>
+     *                         <span class="zh-CN">近端缓存存储方式</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     * @see NearCacheStorage
+     */
+    public CacheConfigBuilder nearCacheStorage(final NearCacheStorage nearCacheStorage) {
+        this.cacheConfig.setNearCacheStorage(((nearCacheStorage == null) ? NearCacheStorage.Heap : nearCacheStorage).toString());
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure compression of large cache values</h3>
+     * <span class="en-US">
+     *     Values which size was greater than or equal to the threshold were compressed before written to cache server,
+     *     compressed values were marked so uncompressed values still read correctly.
+     * </span>
+     * <h3 class="zh-CN">设置大缓存数据的压缩</h3>
+     * <span class="zh-CN">长度大于等于阈值的数据在写入缓存服务器前压缩，压缩数据带有标记，因此未压缩的数据仍可正确读取</span>
+     *
+     * @param compression       <span class="en-US">Compression algorithm</span>
+     *                          <span class="zh-CN">压缩算法</span>
+     * @param compressThreshold <span class="en-US">Minimum size of compressed value. Unit: byte</span>
+     *                          <span class="zh-CN">压缩数据的最小长度。单位：字节</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     * @see Compression
+     */
+    public CacheConfigBuilder compression(final Compression compression, final int compressThreshold) {
+        this.cacheConfig.setCompression(((compression == null) ? Compression.None : compression).toString());
+        if (compressThreshold > 0) {
+            this.cacheConfig.setCompressThreshold(compressThreshold);
+        } else {
+            this.cacheConfig.setCompressThreshold(CacheGlobals.DEFAULT_COMPRESS_THRESHOLD);
+        }
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure codec of typed cache values</h3>
+     * <span class="en-US">
+     *     String, byte array and primitive values always use built-in codecs,
+     *     the configured codec was used for other types. Empty name means the default binary codec.
+     *     Codec which loads classes named in cache values only loads the classes in the package of the decode type
+     *     and the given class names or package names.
+     * </span>
+     * <h3 class="zh-CN">设置类型化缓存数据的编解码器</h3>
+     * <span class="zh-CN">
+     *     字符串、字节数组和基本类型数据始终使用内置编解码器，其他类型使用配置的编解码器。名称为空时使用默认的二进制编解码器。
+     *     根据缓存数据中的类名加载类的编解码器仅加载解码类型所在包中的类以及给定的类名或包名。
+     * </span>
+     *
+     * @param codecName  <span class="en-US">Codec name</span>
+     *                   <span class="zh-CN">编解码器名称</span>
+     * @param allowNames <span class="en-US">Class names or package names which allowed to be loaded</span>
+     *                   <span class="zh-CN">允许加载的类名或包名</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     */
+    public CacheConfigBuilder codec(final String codecName, final String... allowNames) {
+        this.cacheConfig.setCodecName(StringUtils.isEmpty(codecName) ? CacheGlobals.DEFAULT_CODEC_NAME : codecName);
+        List<String> allowList = (allowNames == null)
+                ? new ArrayList<>()
+                : Arrays.stream(allowNames).filter(StringUtils::notBlank).distinct().collect(Collectors.toList());
+        this.cacheConfig.setCodecAllowList(allowList);
+        return this;
+    }
+
+    /**
+     * <h3 class="en-US">Configure server assisted invalidation of near cache</h3>
+     * <span class="en-US">Key prefixes only effect in broadcast mode, empty prefixes means all keys</span>
+     * <h3 class="zh-CN">设置近端缓存的服务器辅助失效</h3>
+     * <span class="zh-CN">键值前缀仅在广播模式下生效，前缀为空表示所有键值</span>
+     *
+     * @param trackingMode <span class="en-US">Tracking mode</span>
+     *                     <span class="zh-CN">跟踪模式</span>
+     * @param prefixes     <span class="en-US">Key prefixes of broadcast mode</span>
+     *                     <span class="zh-CN">广播模式的键值前缀</span>
+     * @return <span class="en-US">Current cache configure builder</span>
+     * <span class="zh-CN">当前缓存配置构建器</span>
+     * @see TrackingMode
+     */
+    public CacheConfigBuilder clientTracking(final TrackingMode trackingMode, final String... prefixes) {
+        this.cacheConfig.setTrackingMode(((trackingMode == null) ? TrackingMode.Disabled : trackingMode).toString());
+        List<String> prefixList = (prefixes == null)
+                ? new ArrayList<>()
+                : Arrays.stream(prefixes).filter(StringUtils::notBlank).distinct().collect(Collectors.toList());
+        this.cacheConfig.setTrackingPrefixList(prefixList);
+        return this;
+    }
+
     /**
      * <h3 class="en-US">Configure cache server information</h3>
      * <h3 class="zh-CN">设置缓存服务器相关信息</h3>
@@ -42,11 +42,121 @@ public final class CacheGlobals {
      * <span class="zh-CN">默认最大缓存连接数</span>
      */
     public static final int DEFAULT_MAXIMUM_CLIENT = 500;
+    /**
+     * <span class="en-US">Default minimum idle connections of connection pool</span>
+     * <span class="zh-CN">默认的连接池最小空闲连接数</span>
+     */
+    public static final int DEFAULT_MINIMUM_IDLE = 1;
+    /**
+     * <span class="en-US">Default interval of validating idle connections, 0 means disabled. Unit: second</span>
+     * <span class="zh-CN">默认的空闲连接校验间隔，0为禁用。单位：秒</span>
+     */
+    public static final int DEFAULT_EVICTION_INTERVAL = 30;
     /**
      * <span class="en-US">Default retry count</span>
      * <span class="zh-CN">默认重试次数</span>
      */
     public static final int DEFAULT_RETRY_COUNT = 3;
+    /**
+     * <span class="en-US">Default command count of each batch operation</span>
+     * <span class="zh-CN">默认每次批量操作的命令数量</span>
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+    /**
+     * <span class="en-US">Default flush window of command batching, 0 means disabled. Unit: microsecond</span>
+     * <span class="zh-CN">默认的命令合并发送窗口，0为禁用。单位：微秒</span>
+     */
+    public static final int DEFAULT_FLUSH_WINDOW = 0;
+    /**
+     * <span class="en-US">Default maximum command count of each flush</span>
+     * <span class="zh-CN">默认每次发送的最大命令数量</span>
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+    /**
+     * <span class="en-US">Default I/O thread count of shared client resources, 0 means the number of available processors</span>
+     * <span class="zh-CN">默认的共享客户端资源I/O线程数，0表示可用处理器数量</span>
+     */
+    public static final int DEFAULT_IO_THREADS = 0;
+    /**
+     * <span class="en-US">Default publish interval of command latency metrics, 0 means disabled. Unit: second</span>
+     * <span class="zh-CN">默认的命令延迟指标发布间隔，0为禁用。单位：秒</span>
+     */
+    public static final int DEFAULT_LATENCY_METRICS_INTERVAL = 0;
+    /**
+     * <span class="en-US">Default local cache size of local cached map, 0 means unlimited</span>
+     * <span class="zh-CN">默认的本地缓存映射表的本地缓存大小，0表示不限制</span>
+     */
+    public static final int DEFAULT_LOCAL_MAP_SIZE = 0;
+    /**
+     * <span class="en-US">Default eviction policy of local cached map</span>
+     * <span class="zh-CN">默认的本地缓存映射表的淘汰策略</span>
+     */
+    public static final String DEFAULT_LOCAL_MAP_EVICTION = "LRU";
+    /**
+     * <span class="en-US">Default reconnection strategy of local cached map</span>
+     * <span class="zh-CN">默认的本地缓存映射表的重连策略</span>
+     */
+    public static final String DEFAULT_LOCAL_MAP_RECONNECTION = "CLEAR";
+    /**
+     * <span class="en-US">Default synchronization strategy of local cached map</span>
+     * <span class="zh-CN">默认的本地缓存映射表的同步策略</span>
+     */
+    public static final String DEFAULT_LOCAL_MAP_SYNC = "INVALIDATE";
+    /**
+     * <span class="en-US">Default slot count of new created shared memory store file</span>
+     * <span class="zh-CN">默认的新建共享内存存储文件的槽位数量</span>
+     */
+    public static final int DEFAULT_STORE_SLOT_COUNT = 1 << 16;
+    /**
+     * <span class="en-US">Default slot size of new created shared memory store file. Unit: byte</span>
+     * <span class="zh-CN">默认的新建共享内存存储文件的槽位大小。单位：字节</span>
+     */
+    public static final int DEFAULT_STORE_SLOT_SIZE = 512;
+    /**
+     * <span class="en-US">Default maximum entries of near cache, 0 means near cache was disabled</span>
+     * <span class="zh-CN">默认的近端缓存最大条目数，0表示禁用近端缓存</span>
+     */
+    public static final int DEFAULT_NEAR_CACHE_ENTRIES = 0;
+    /**
+     * <span class="en-US">Default maximum weight of near cache, 0 means not limited by weight</span>
+     * <span class="zh-CN">默认的近端缓存最大权重，0表示不限制权重</span>
+     */
+    public static final long DEFAULT_NEAR_CACHE_WEIGHT = 0L;
+    /**
+     * <span class="en-US">Default maximum expire time of near cache entries. Unit: second</span>
+     * <span class="zh-CN">默认的近端缓存数据最大过期时间。单位：秒</span>
+     */
+    public static final int DEFAULT_NEAR_CACHE_EXPIRE = 60;
+    /**
+     * <span class="en-US">Suffix of distributed lease key for loading cache value</span>
+     * <span class="zh-CN">加载缓存数据的分布式租约键值后缀</span>
+     */
+    public static final String LEASE_KEY_SUFFIX = "::lease";
+    /**
+     * <span class="en-US">Default refresh ahead ratio of expire time, 0 means refresh ahead was disabled</span>
+     * <span class="zh-CN">默认的提前刷新过期时间比例，0表示禁用提前刷新</span>
+     */
+    public static final int DEFAULT_REFRESH_AHEAD_RATIO = 0;
+    /**
+     * <span class="en-US">Maximum count of cache keys which expiry deadline was tracked by refresh ahead</span>
+     * <span class="zh-CN">提前刷新跟踪过期时间的缓存键值的最大数量</span>
+     */
+    public static final int REFRESH_AHEAD_TRACKED_KEYS = 65536;
+    /**
+     * <span class="en-US">Interval of checking cache value while waiting for the lease owner. Unit: millisecond</span>
+     * <span class="zh-CN">等待租约持有者时检查缓存数据的间隔时间。单位：毫秒</span>
+     */
+    public static final long LEASE_WAIT_INTERVAL = 50L;
+    /**
+     * <span class="en-US">Default minimum size of compressed cache value. Unit: byte</span>
+     * <span class="zh-CN">默认的压缩缓存数据的最小长度。单位：字节</span>
+     */
+    public static final int DEFAULT_COMPRESS_THRESHOLD = 4096;
+    /**
+     * <span class="en-US">Default codec name of typed cache values</span>
+     * <span class="zh-CN">默认的类型化缓存数据编解码器名称</span>
+     */
+    public static final String DEFAULT_CODEC_NAME = "BinaryCodec";
     /**
      * <span class="en-US">Default server weight</span>
      * <span class="zh-CN">默认服务器权重</span>
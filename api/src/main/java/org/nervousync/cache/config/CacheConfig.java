@@ -21,6 +21,10 @@ import org.nervousync.annotations.configs.Password;
 import org.nervousync.beans.core.BeanObject;
 import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.enumeration.ClusterMode;
+import org.nervousync.cache.enumeration.Compression;
+import org.nervousync.cache.enumeration.NearCacheStorage;
+import org.nervousync.cache.enumeration.ReadPolicy;
+import org.nervousync.cache.enumeration.TrackingMode;
 import org.nervousync.commons.Globals;
 
 import java.util.ArrayList;
@@ -79,6 +83,114 @@ public final class CacheConfig extends BeanObject {
 	 */
 	@XmlElement(name = "maximum_client")
 	private int maximumClient						= CacheGlobals.DEFAULT_MAXIMUM_CLIENT;
+	/**
+	 * <span class="en-US">Minimum idle connections of connection pool</span>
+	 * <span class="zh-CN">连接池最小空闲连接数</span>
+	 */
+	@XmlElement(name = "minimum_idle")
+	private int minimumIdle							= CacheGlobals.DEFAULT_MINIMUM_IDLE;
+	/**
+	 * <span class="en-US">Interval of validating idle connections, 0 means disabled. Unit: second</span>
+	 * <span class="zh-CN">空闲连接校验间隔，0为禁用。单位：秒</span>
+	 */
+	@XmlElement(name = "eviction_interval")
+	private int evictionInterval					= CacheGlobals.DEFAULT_EVICTION_INTERVAL;
+	/**
+	 * <span class="en-US">Borrow the most recently returned connection first (LIFO), false for FIFO</span>
+	 * <span class="zh-CN">优先借用最近归还的连接（后进先出），false为先进先出</span>
+	 */
+	@XmlElement(name = "pool_lifo")
+	private boolean poolLifo						= Boolean.TRUE;
+	/**
+	 * <span class="en-US">Each thread uses a dedicated connection instead of borrowing connections from pool</span>
+	 * <span class="zh-CN">每个线程使用专用连接，代替从连接池借用连接</span>
+	 */
+	@XmlElement(name = "thread_confined")
+	private boolean threadConfined					= Boolean.FALSE;
+	/**
+	 * <span class="en-US">Read routing policy of replicated servers</span>
+	 * <span class="zh-CN">复制服务器的读操作路由策略</span>
+	 */
+	@XmlElement(name = "read_policy")
+	private String readPolicy						= ReadPolicy.Master.toString();
+	/**
+	 * <span class="en-US">Flush window of command batching, 0 means disabled. Unit: microsecond</span>
+	 * <span class="zh-CN">命令合并发送窗口，0为禁用。单位：微秒</span>
+	 */
+	@XmlElement(name = "flush_window")
+	private int flushWindow							= CacheGlobals.DEFAULT_FLUSH_WINDOW;
+	/**
+	 * <span class="en-US">Maximum command count of each flush</span>
+	 * <span class="zh-CN">每次发送的最大命令数量</span>
+	 */
+	@XmlElement(name = "max_batch_size")
+	private int maxBatchSize						= CacheGlobals.DEFAULT_MAX_BATCH_SIZE;
+	/**
+	 * <span class="en-US">Bulk reads use a dedicated connection</span>
+	 * <span class="zh-CN">批量读取使用专用连接</span>
+	 */
+	@XmlElement(name = "bulk_read_connection")
+	private boolean bulkReadConnection				= Boolean.FALSE;
+	/**
+	 * <span class="en-US">I/O thread count of shared client resources, 0 means the number of available processors</span>
+	 * <span class="zh-CN">共享客户端资源的I/O线程数，0表示可用处理器数量</span>
+	 */
+	@XmlElement(name = "io_threads")
+	private int ioThreads							= CacheGlobals.DEFAULT_IO_THREADS;
+	/**
+	 * <span class="en-US">Publish interval of command latency metrics, 0 means disabled. Unit: second</span>
+	 * <span class="zh-CN">命令延迟指标的发布间隔，0为禁用。单位：秒</span>
+	 */
+	@XmlElement(name = "latency_metrics_interval")
+	private int latencyMetricsInterval				= CacheGlobals.DEFAULT_LATENCY_METRICS_INTERVAL;
+	/**
+	 * <span class="en-US">Map name of local cached map mode, empty means disabled</span>
+	 * <span class="zh-CN">本地缓存映射表模式的映射表名称，为空表示禁用</span>
+	 */
+	@XmlElement(name = "local_map_name")
+	private String localMapName						= Globals.DEFAULT_VALUE_STRING;
+	/**
+	 * <span class="en-US">Local cache size of local cached map, 0 means unlimited</span>
+	 * <span class="zh-CN">本地缓存映射表的本地缓存大小，0表示不限制</span>
+	 */
+	@XmlElement(name = "local_map_size")
+	private int localMapSize						= CacheGlobals.DEFAULT_LOCAL_MAP_SIZE;
+	/**
+	 * <span class="en-US">Eviction policy of local cached map</span>
+	 * <span class="zh-CN">本地缓存映射表的淘汰策略</span>
+	 */
+	@XmlElement(name = "local_map_eviction")
+	private String localMapEviction					= CacheGlobals.DEFAULT_LOCAL_MAP_EVICTION;
+	/**
+	 * <span class="en-US">Reconnection strategy of local cached map</span>
+	 * <span class="zh-CN">本地缓存映射表的重连策略</span>
+	 */
+	@XmlElement(name = "local_map_reconnection")
+	private String localMapReconnection				= CacheGlobals.DEFAULT_LOCAL_MAP_RECONNECTION;
+	/**
+	 * <span class="en-US">Synchronization strategy of local cached map</span>
+	 * <span class="zh-CN">本地缓存映射表的同步策略</span>
+	 */
+	@XmlElement(name = "local_map_sync")
+	private String localMapSync						= CacheGlobals.DEFAULT_LOCAL_MAP_SYNC;
+	/**
+	 * <span class="en-US">Slot count of new created shared memory store file, rounded up to power of two</span>
+	 * <span class="zh-CN">新建共享内存存储文件的槽位数量，向上取整为2的幂</span>
+	 */
+	@XmlElement(name = "store_slot_count")
+	private int storeSlotCount						= CacheGlobals.DEFAULT_STORE_SLOT_COUNT;
+	/**
+	 * <span class="en-US">Slot size of new created shared memory store file. Unit: byte</span>
+	 * <span class="zh-CN">新建共享内存存储文件的槽位大小。单位：字节</span>
+	 */
+	@XmlElement(name = "store_slot_size")
+	private int storeSlotSize						= CacheGlobals.DEFAULT_STORE_SLOT_SIZE;
+	/**
+	 * <span class="en-US">Write operations not wait for acknowledge of server</span>
+	 * <span class="zh-CN">写操作不等待服务器确认</span>
+	 */
+	@XmlElement(name = "no_reply")
+	private boolean noReply							= Boolean.FALSE;
 	/**
 	 * <span class="en-US">Cluster mode</span>
 	 * <span class="zh-CN">集群模式</span>
@@ -91,6 +203,74 @@ public final class CacheConfig extends BeanObject {
 	 */
 	@XmlElement(name = "master_name")
 	private String masterName						= Globals.DEFAULT_VALUE_STRING;
+	/**
+	 * <span class="en-US">Maximum entries of near cache, 0 for disable near cache</span>
+	 * <span class="zh-CN">近端缓存的最大条目数，0为禁用近端缓存</span>
+	 */
+	@XmlElement(name = "near_cache_entries")
+	private int nearCacheEntries					= CacheGlobals.DEFAULT_NEAR_CACHE_ENTRIES;
+	/**
+	 * <span class="en-US">Maximum weight of near cache, 0 for not limited by weight</span>
+	 * <span class="zh-CN">近端缓存的最大权重，0为不限制权重</span>
+	 */
+	@XmlElement(name = "near_cache_weight")
+	private long nearCacheWeight					= CacheGlobals.DEFAULT_NEAR_CACHE_WEIGHT;
+	/**
+	 * <span class="en-US">Maximum expire time of near cache entries. Unit: second</span>
+	 * <span class="zh-CN">近端缓存数据的最大过期时间。单位：秒</span>
+	 */
+	@XmlElement(name = "near_cache_expire")
+	private int nearCacheExpire						= CacheGlobals.DEFAULT_NEAR_CACHE_EXPIRE;
+	/**
+	 * <span class="en-US">Storage of near cache entries</span>
+	 * <span class="zh-CN">近端缓存数据的存储方式</span>
+	 */
+	@XmlElement(name = "near_cache_storage")
+	private String nearCacheStorage					= NearCacheStorage.Heap.toString();
+	/**
+	 * <span class="en-US">Percentage of expire time elapsed before loaded value was refreshed in background, 0 for disabled</span>
+	 * <span class="zh-CN">已加载数据在后台刷新前经过的过期时间百分比，0为禁用</span>
+	 */
+	@XmlElement(name = "refresh_ahead_ratio")
+	private int refreshAheadRatio					= CacheGlobals.DEFAULT_REFRESH_AHEAD_RATIO;
+	/**
+	 * <span class="en-US">Server assisted client side caching mode of near cache</span>
+	 * <span class="zh-CN">近端缓存的服务器辅助客户端缓存模式</span>
+	 */
+	@XmlElement(name = "tracking_mode")
+	private String trackingMode						= TrackingMode.Disabled.toString();
+	/**
+	 * <span class="en-US">Codec name of typed cache values</span>
+	 * <span class="zh-CN">类型化缓存数据的编解码器名称</span>
+	 */
+	@XmlElement(name = "codec_name")
+	private String codecName						= CacheGlobals.DEFAULT_CODEC_NAME;
+	/**
+	 * <span class="en-US">Compression algorithm of large cache values</span>
+	 * <span class="zh-CN">大缓存数据的压缩算法</span>
+	 */
+	@XmlElement(name = "compression")
+	private String compression						= Compression.None.toString();
+	/**
+	 * <span class="en-US">Minimum size of compressed cache value. Unit: byte</span>
+	 * <span class="zh-CN">压缩缓存数据的最小长度。单位：字节</span>
+	 */
+	@XmlElement(name = "compress_threshold")
+	private int compressThreshold					= CacheGlobals.DEFAULT_COMPRESS_THRESHOLD;
+	/**
+	 * <span class="en-US">Key prefix list of broadcast tracking mode</span>
+	 * <span class="zh-CN">广播跟踪模式的键值前缀列表</span>
+	 */
+	@XmlElementWrapper(name = "tracking_prefix_list")
+	@XmlElement(name = "tracking_prefix")
+	private List<String> trackingPrefixList;
+	/**
+	 * <span class="en-US">Class names or package names which codec was allowed to load from binary cache values</span>
+	 * <span class="zh-CN">编解码器允许从二进制缓存数据中加载的类名或包名</span>
+	 */
+	@XmlElementWrapper(name = "codec_allow_list")
+	@XmlElement(name = "allow_name")
+	private List<String> codecAllowList;
 	/**
 	 * <span class="en-US">Authenticate username</span>
 	 * <span class="zh-CN">用于身份验证的用户名</span>
@@ -118,6 +298,8 @@ public final class CacheConfig extends BeanObject {
 	 */
 	public CacheConfig() {
 		this.serverConfigList = new ArrayList<>();
+		this.trackingPrefixList = new ArrayList<>();
+		this.codecAllowList = new ArrayList<>();
 	}
 
 	/**
@@ -295,6 +477,402 @@ public final class CacheConfig extends BeanObject {
 		this.clientPoolSize = clientPoolSize;
 	}
 
+	/**
+	 * <h3 class="en-US">Retrieve minimum idle connections of connection pool</h3>
+	 * <h3 class="zh-CN">读取连接池最小空闲连接数</h3>
+	 *
+	 * @return 	<span class="en-US">Minimum idle connections</span>
+	 * 			<span class="zh-CN">最小空闲连接数</span>
+	 */
+	public int getMinimumIdle() {
+		return minimumIdle;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure minimum idle connections of connection pool</h3>
+	 * <h3 class="zh-CN">设置连接池最小空闲连接数</h3>
+	 *
+	 * @param minimumIdle <span class="en-US">Minimum idle connections</span>
+	 *                    <span class="zh-CN">最小空闲连接数</span>
+	 */
+	public void setMinimumIdle(final int minimumIdle) {
+		this.minimumIdle = minimumIdle;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve interval of validating idle connections</h3>
+	 * <h3 class="zh-CN">读取空闲连接校验间隔</h3>
+	 *
+	 * @return 	<span class="en-US">Interval in seconds, 0 means disabled</span>
+	 * 			<span class="zh-CN">以秒为单位的间隔，0为禁用</span>
+	 */
+	public int getEvictionInterval() {
+		return evictionInterval;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure interval of validating idle connections</h3>
+	 * <h3 class="zh-CN">设置空闲连接校验间隔</h3>
+	 *
+	 * @param evictionInterval <span class="en-US">Interval in seconds, 0 means disabled</span>
+	 *                         <span class="zh-CN">以秒为单位的间隔，0为禁用</span>
+	 */
+	public void setEvictionInterval(final int evictionInterval) {
+		this.evictionInterval = evictionInterval;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve the connection pool borrows the most recently returned connection first</h3>
+	 * <h3 class="zh-CN">读取连接池是否优先借用最近归还的连接</h3>
+	 *
+	 * @return 	<span class="en-US">true for LIFO, false for FIFO</span>
+	 * 			<span class="zh-CN">true为后进先出，false为先进先出</span>
+	 */
+	public boolean isPoolLifo() {
+		return poolLifo;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure the connection pool borrows the most recently returned connection first</h3>
+	 * <h3 class="zh-CN">设置连接池是否优先借用最近归还的连接</h3>
+	 *
+	 * @param poolLifo <span class="en-US">true for LIFO, false for FIFO</span>
+	 *                 <span class="zh-CN">true为后进先出，false为先进先出</span>
+	 */
+	public void setPoolLifo(final boolean poolLifo) {
+		this.poolLifo = poolLifo;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve each thread uses a dedicated connection</h3>
+	 * <h3 class="zh-CN">读取每个线程是否使用专用连接</h3>
+	 *
+	 * @return 	<span class="en-US">true for thread confined connections</span>
+	 * 			<span class="zh-CN">线程专用连接返回true</span>
+	 */
+	public boolean isThreadConfined() {
+		return threadConfined;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure each thread uses a dedicated connection</h3>
+	 * <h3 class="zh-CN">设置每个线程是否使用专用连接</h3>
+	 *
+	 * @param threadConfined <span class="en-US">true for thread confined connections</span>
+	 *                       <span class="zh-CN">线程专用连接为true</span>
+	 */
+	public void setThreadConfined(final boolean threadConfined) {
+		this.threadConfined = threadConfined;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve read routing policy of replicated servers</h3>
+	 * <h3 class="zh-CN">读取复制服务器的读操作路由策略</h3>
+	 *
+	 * @return 	<span class="en-US">Read policy string</span>
+	 * 			<span class="zh-CN">读操作路由策略字符串</span>
+	 */
+	public String getReadPolicy() {
+		return readPolicy;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure read routing policy of replicated servers</h3>
+	 * <h3 class="zh-CN">设置复制服务器的读操作路由策略</h3>
+	 *
+	 * @param readPolicy <span class="en-US">Read policy string</span>
+	 *                   <span class="zh-CN">读操作路由策略字符串</span>
+	 */
+	public void setReadPolicy(final String readPolicy) {
+		this.readPolicy = readPolicy;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve flush window of command batching</h3>
+	 * <h3 class="zh-CN">读取命令合并发送窗口</h3>
+	 *
+	 * @return 	<span class="en-US">Flush window, 0 means disabled. Unit: microsecond</span>
+	 * 			<span class="zh-CN">合并发送窗口，0为禁用。单位：微秒</span>
+	 */
+	public int getFlushWindow() {
+		return flushWindow;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure flush window of command batching</h3>
+	 * <h3 class="zh-CN">设置命令合并发送窗口</h3>
+	 *
+	 * @param flushWindow <span class="en-US">Flush window, 0 means disabled. Unit: microsecond</span>
+	 *                    <span class="zh-CN">合并发送窗口，0为禁用。单位：微秒</span>
+	 */
+	public void setFlushWindow(final int flushWindow) {
+		this.flushWindow = flushWindow;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve maximum command count of each flush</h3>
+	 * <h3 class="zh-CN">读取每次发送的最大命令数量</h3>
+	 *
+	 * @return 	<span class="en-US">Maximum command count</span>
+	 * 			<span class="zh-CN">最大命令数量</span>
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure maximum command count of each flush</h3>
+	 * <h3 class="zh-CN">设置每次发送的最大命令数量</h3>
+	 *
+	 * @param maxBatchSize <span class="en-US">Maximum command count</span>
+	 *                     <span class="zh-CN">最大命令数量</span>
+	 */
+	public void setMaxBatchSize(final int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve bulk reads use a dedicated connection</h3>
+	 * <h3 class="zh-CN">读取批量读取是否使用专用连接</h3>
+	 *
+	 * @return 	<span class="en-US">true for dedicated connection of bulk reads</span>
+	 * 			<span class="zh-CN">批量读取使用专用连接返回true</span>
+	 */
+	public boolean isBulkReadConnection() {
+		return bulkReadConnection;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure bulk reads use a dedicated connection</h3>
+	 * <h3 class="zh-CN">设置批量读取是否使用专用连接</h3>
+	 *
+	 * @param bulkReadConnection <span class="en-US">true for dedicated connection of bulk reads</span>
+	 *                           <span class="zh-CN">批量读取使用专用连接为true</span>
+	 */
+	public void setBulkReadConnection(final boolean bulkReadConnection) {
+		this.bulkReadConnection = bulkReadConnection;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve I/O thread count of shared client resources</h3>
+	 * <h3 class="zh-CN">读取共享客户端资源的I/O线程数</h3>
+	 *
+	 * @return 	<span class="en-US">I/O thread count, 0 means the number of available processors</span>
+	 * 			<span class="zh-CN">I/O线程数，0表示可用处理器数量</span>
+	 */
+	public int getIoThreads() {
+		return ioThreads;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure I/O thread count of shared client resources</h3>
+	 * <h3 class="zh-CN">设置共享客户端资源的I/O线程数</h3>
+	 *
+	 * @param ioThreads <span class="en-US">I/O thread count, 0 means the number of available processors</span>
+	 *                  <span class="zh-CN">I/O线程数，0表示可用处理器数量</span>
+	 */
+	public void setIoThreads(final int ioThreads) {
+		this.ioThreads = ioThreads;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve publish interval of command latency metrics</h3>
+	 * <h3 class="zh-CN">读取命令延迟指标的发布间隔</h3>
+	 *
+	 * @return 	<span class="en-US">Publish interval, 0 means disabled. Unit: second</span>
+	 * 			<span class="zh-CN">发布间隔，0为禁用。单位：秒</span>
+	 */
+	public int getLatencyMetricsInterval() {
+		return latencyMetricsInterval;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure publish interval of command latency metrics</h3>
+	 * <h3 class="zh-CN">设置命令延迟指标的发布间隔</h3>
+	 *
+	 * @param latencyMetricsInterval <span class="en-US">Publish interval, 0 means disabled. Unit: second</span>
+	 *                               <span class="zh-CN">发布间隔，0为禁用。单位：秒</span>
+	 */
+	public void setLatencyMetricsInterval(final int latencyMetricsInterval) {
+		this.latencyMetricsInterval = latencyMetricsInterval;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve map name of local cached map mode</h3>
+	 * <h3 class="zh-CN">读取本地缓存映射表模式的映射表名称</h3>
+	 *
+	 * @return 	<span class="en-US">Map name, empty means disabled</span>
+	 * 			<span class="zh-CN">映射表名称，为空表示禁用</span>
+	 */
+	public String getLocalMapName() {
+		return localMapName;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure map name of local cached map mode</h3>
+	 * <h3 class="zh-CN">设置本地缓存映射表模式的映射表名称</h3>
+	 *
+	 * @param localMapName <span class="en-US">Map name, empty means disabled</span>
+	 *                     <span class="zh-CN">映射表名称，为空表示禁用</span>
+	 */
+	public void setLocalMapName(final String localMapName) {
+		this.localMapName = localMapName;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve local cache size of local cached map</h3>
+	 * <h3 class="zh-CN">读取本地缓存映射表的本地缓存大小</h3>
+	 *
+	 * @return 	<span class="en-US">Local cache size, 0 means unlimited</span>
+	 * 			<span class="zh-CN">本地缓存大小，0表示不限制</span>
+	 */
+	public int getLocalMapSize() {
+		return localMapSize;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure local cache size of local cached map</h3>
+	 * <h3 class="zh-CN">设置本地缓存映射表的本地缓存大小</h3>
+	 *
+	 * @param localMapSize <span class="en-US">Local cache size, 0 means unlimited</span>
+	 *                     <span class="zh-CN">本地缓存大小，0表示不限制</span>
+	 */
+	public void setLocalMapSize(final int localMapSize) {
+		this.localMapSize = localMapSize;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve eviction policy of local cached map</h3>
+	 * <h3 class="zh-CN">读取本地缓存映射表的淘汰策略</h3>
+	 *
+	 * @return 	<span class="en-US">Eviction policy name</span>
+	 * 			<span class="zh-CN">淘汰策略名称</span>
+	 */
+	public String getLocalMapEviction() {
+		return localMapEviction;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure eviction policy of local cached map</h3>
+	 * <h3 class="zh-CN">设置本地缓存映射表的淘汰策略</h3>
+	 *
+	 * @param localMapEviction <span class="en-US">Eviction policy name</span>
+	 *                         <span class="zh-CN">淘汰策略名称</span>
+	 */
+	public void setLocalMapEviction(final String localMapEviction) {
+		this.localMapEviction = localMapEviction;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve reconnection strategy of local cached map</h3>
+	 * <h3 class="zh-CN">读取本地缓存映射表的重连策略</h3>
+	 *
+	 * @return 	<span class="en-US">Reconnection strategy name</span>
+	 * 			<span class="zh-CN">重连策略名称</span>
+	 */
+	public String getLocalMapReconnection() {
+		return localMapReconnection;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure reconnection strategy of local cached map</h3>
+	 * <h3 class="zh-CN">设置本地缓存映射表的重连策略</h3>
+	 *
+	 * @param localMapReconnection <span class="en-US">Reconnection strategy name</span>
+	 *                             <span class="zh-CN">重连策略名称</span>
+	 */
+	public void setLocalMapReconnection(final String localMapReconnection) {
+		this.localMapReconnection = localMapReconnection;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve synchronization strategy of local cached map</h3>
+	 * <h3 class="zh-CN">读取本地缓存映射表的同步策略</h3>
+	 *
+	 * @return 	<span class="en-US">Synchronization strategy name</span>
+	 * 			<span class="zh-CN">同步策略名称</span>
+	 */
+	public String getLocalMapSync() {
+		return localMapSync;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure synchronization strategy of local cached map</h3>
+	 * <h3 class="zh-CN">设置本地缓存映射表的同步策略</h3>
+	 *
+	 * @param localMapSync <span class="en-US">Synchronization strategy name</span>
+	 *                     <span class="zh-CN">同步策略名称</span>
+	 */
+	public void setLocalMapSync(final String localMapSync) {
+		this.localMapSync = localMapSync;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve slot count of new created shared memory store file</h3>
+	 * <h3 class="zh-CN">读取新建共享内存存储文件的槽位数量</h3>
+	 *
+	 * @return 	<span class="en-US">Slot count</span>
+	 * 			<span class="zh-CN">槽位数量</span>
+	 */
+	public int getStoreSlotCount() {
+		return storeSlotCount;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure slot count of new created shared memory store file</h3>
+	 * <h3 class="zh-CN">设置新建共享内存存储文件的槽位数量</h3>
+	 *
+	 * @param storeSlotCount <span class="en-US">Slot count</span>
+	 *                       <span class="zh-CN">槽位数量</span>
+	 */
+	public void setStoreSlotCount(final int storeSlotCount) {
+		this.storeSlotCount = storeSlotCount;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve slot size of new created shared memory store file</h3>
+	 * <h3 class="zh-CN">读取新建共享内存存储文件的槽位大小</h3>
+	 *
+	 * @return 	<span class="en-US">Slot size in bytes</span>
+	 * 			<span class="zh-CN">以字节为单位的槽位大小</span>
+	 */
+	public int getStoreSlotSize() {
+		return storeSlotSize;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure slot size of new created shared memory store file</h3>
+	 * <h3 class="zh-CN">设置新建共享内存存储文件的槽位大小</h3>
+	 *
+	 * @param storeSlotSize <span class="en-US">Slot size in bytes</span>
+	 *                      <span class="zh-CN">以字节为单位的槽位大小</span>
+	 */
+	public void setStoreSlotSize(final int storeSlotSize) {
+		this.storeSlotSize = storeSlotSize;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve write operations not wait for acknowledge of server</h3>
+	 * <h3 class="zh-CN">读取写操作是否不等待服务器确认</h3>
+	 *
+	 * @return 	<span class="en-US">true for not wait for acknowledge</span>
+	 * 			<span class="zh-CN">不等待服务器确认返回true</span>
+	 */
+	public boolean isNoReply() {
+		return noReply;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure write operations not wait for acknowledge of server</h3>
+	 * <h3 class="zh-CN">设置写操作是否不等待服务器确认</h3>
+	 *
+	 * @param noReply <span class="en-US">true for not wait for acknowledge</span>
+	 *                <span class="zh-CN">不等待服务器确认为true</span>
+	 */
+	public void setNoReply(final boolean noReply) {
+		this.noReply = noReply;
+	}
+
 	/**
 	 * <h3 class="en-US">Retrieve limit size of generated client instance</h3>
 	 * <h3 class="zh-CN">读取允许创建的客户端实例阈值</h3>
@@ -362,6 +940,248 @@ public final class CacheConfig extends BeanObject {
 		this.masterName = masterName;
 	}
 
+	/**
+	 * <h3 class="en-US">Retrieve maximum entries of near cache</h3>
+	 * <h3 class="zh-CN">读取近端缓存的最大条目数</h3>
+	 *
+	 * @return 	<span class="en-US">Maximum entries of near cache, 0 for disabled</span>
+	 * 			<span class="zh-CN">近端缓存的最大条目数，0为禁用</span>
+	 */
+	public int getNearCacheEntries() {
+		return nearCacheEntries;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure maximum entries of near cache</h3>
+	 * <h3 class="zh-CN">设置近端缓存的最大条目数</h3>
+	 *
+	 * @param nearCacheEntries <span class="en-US">Maximum entries of near cache, 0 for disabled</span>
+	 *                         <span class="zh-CN">近端缓存的最大条目数，0为禁用</span>
+	 */
+	public void setNearCacheEntries(final int nearCacheEntries) {
+		this.nearCacheEntries = nearCacheEntries;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve maximum weight of near cache</h3>
+	 * <h3 class="zh-CN">读取近端缓存的最大权重</h3>
+	 *
+	 * @return 	<span class="en-US">Maximum weight of near cache, 0 for not limited</span>
+	 * 			<span class="zh-CN">近端缓存的最大权重，0为不限制</span>
+	 */
+	public long getNearCacheWeight() {
+		return nearCacheWeight;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure maximum weight of near cache</h3>
+	 * <h3 class="zh-CN">设置近端缓存的最大权重</h3>
+	 *
+	 * @param nearCacheWeight <span class="en-US">Maximum weight of near cache, 0 for not limited</span>
+	 *                        <span class="zh-CN">近端缓存的最大权重，0为不限制</span>
+	 */
+	public void setNearCacheWeight(final long nearCacheWeight) {
+		this.nearCacheWeight = nearCacheWeight;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve maximum expire time of near cache entries</h3>
+	 * <h3 class="zh-CN">读取近端缓存数据的最大过期时间</h3>
+	 *
+	 * @return 	<span class="en-US">Maximum expire time</span>
+	 * 			<span class="zh-CN">最大过期时间</span>
+	 */
+	public int getNearCacheExpire() {
+		return nearCacheExpire;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure maximum expire time of near cache entries</h3>
+	 * <h3 class="zh-CN">设置近端缓存数据的最大过期时间</h3>
+	 *
+	 * @param nearCacheExpire <span class="en-US">Maximum expire time</span>
+	 *                        <span class="zh-CN">最大过期时间</span>
+	 */
+	public void setNearCacheExpire(final int nearCacheExpire) {
+		this.nearCacheExpire = nearCacheExpire;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve storage of near cache entries</h3>
+	 * <h3 class="zh-CN">读取近端缓存数据的存储方式</h3>
+	 *
+	 * @return 	<span class="en-US">Near cache storage string</span>
+	 * 			<span class="zh-CN">近端缓存存储方式字符串</span>
+	 */
+	public String getNearCacheStorage() {
+		return nearCacheStorage;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure storage of near cache entries</h3>
+	 * <h3 class="zh-CN">设置近端缓存数据的存储方式</h3>
+	 *
+	 * @param nearCacheStorage <span class="en-US">Near cache storage string</span>
+	 *                         <span class="zh-CN">近端缓存存储方式字符串</span>
+	 */
+	public void setNearCacheStorage(final String nearCacheStorage) {
+		this.nearCacheStorage = nearCacheStorage;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve refresh ahead ratio of expire time</h3>
+	 * <h3 class="zh-CN">读取提前刷新的过期时间比例</h3>
+	 *
+	 * @return 	<span class="en-US">Percentage of expire time, 0 for disabled</span>
+	 * 			<span class="zh-CN">过期时间百分比，0为禁用</span>
+	 */
+	public int getRefreshAheadRatio() {
+		return refreshAheadRatio;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure refresh ahead ratio of expire time</h3>
+	 * <h3 class="zh-CN">设置提前刷新的过期时间比例</h3>
+	 *
+	 * @param refreshAheadRatio <span class="en-US">Percentage of expire time, 0 for disabled</span>
+	 *                          <span class="zh-CN">过期时间百分比，0为禁用</span>
+	 */
+	public void setRefreshAheadRatio(final int refreshAheadRatio) {
+		this.refreshAheadRatio = refreshAheadRatio;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve server assisted client side caching mode</h3>
+	 * <h3 class="zh-CN">读取服务器辅助客户端缓存模式</h3>
+	 *
+	 * @return 	<span class="en-US">Tracking mode string</span>
+	 * 			<span class="zh-CN">跟踪模式字符串</span>
+	 */
+	public String getTrackingMode() {
+		return trackingMode;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure server assisted client side caching mode</h3>
+	 * <h3 class="zh-CN">设置服务器辅助客户端缓存模式</h3>
+	 *
+	 * @param trackingMode <span class="en-US">Tracking mode string</span>
+	 *                     <span class="zh-CN">跟踪模式字符串</span>
+	 */
+	public void setTrackingMode(final String trackingMode) {
+		this.trackingMode = trackingMode;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve codec name of typed cache values</h3>
+	 * <h3 class="zh-CN">读取类型化缓存数据的编解码器名称</h3>
+	 *
+	 * @return 	<span class="en-US">Codec name</span>
+	 * 			<span class="zh-CN">编解码器名称</span>
+	 */
+	public String getCodecName() {
+		return codecName;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure codec name of typed cache values</h3>
+	 * <h3 class="zh-CN">设置类型化缓存数据的编解码器名称</h3>
+	 *
+	 * @param codecName <span class="en-US">Codec name</span>
+	 *                  <span class="zh-CN">编解码器名称</span>
+	 */
+	public void setCodecName(final String codecName) {
+		this.codecName = codecName;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve compression algorithm of large cache values</h3>
+	 * <h3 class="zh-CN">读取大缓存数据的压缩算法</h3>
+	 *
+	 * @return 	<span class="en-US">Compression algorithm string</span>
+	 * 			<span class="zh-CN">压缩算法字符串</span>
+	 */
+	public String getCompression() {
+		return compression;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure compression algorithm of large cache values</h3>
+	 * <h3 class="zh-CN">设置大缓存数据的压缩算法</h3>
+	 *
+	 * @param compression <span class="en-US">Compression algorithm string</span>
+	 *                    <span class="zh-CN">压缩算法字符串</span>
+	 */
+	public void setCompression(final String compression) {
+		this.compression = compression;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve minimum size of compressed cache value</h3>
+	 * <h3 class="zh-CN">读取压缩缓存数据的最小长度</h3>
+	 *
+	 * @return 	<span class="en-US">Minimum size in bytes</span>
+	 * 			<span class="zh-CN">以字节为单位的最小长度</span>
+	 */
+	public int getCompressThreshold() {
+		return compressThreshold;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure minimum size of compressed cache value</h3>
+	 * <h3 class="zh-CN">设置压缩缓存数据的最小长度</h3>
+	 *
+	 * @param compressThreshold <span class="en-US">Minimum size in bytes</span>
+	 *                          <span class="zh-CN">以字节为单位的最小长度</span>
+	 */
+	public void setCompressThreshold(final int compressThreshold) {
+		this.compressThreshold = compressThreshold;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve key prefix list of broadcast tracking mode</h3>
+	 * <h3 class="zh-CN">读取广播跟踪模式的键值前缀列表</h3>
+	 *
+	 * @return 	<span class="en-US">Key prefix list</span>
+	 * 			<span class="zh-CN">键值前缀列表</span>
+	 */
+	public List<String> getTrackingPrefixList() {
+		return trackingPrefixList;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure key prefix list of broadcast tracking mode</h3>
+	 * <h3 class="zh-CN">设置广播跟踪模式的键值前缀列表</h3>
+	 *
+	 * @param trackingPrefixList <span class="en-US">Key prefix list</span>
+	 *                           <span class="zh-CN">键值前缀列表</span>
+	 */
+	public void setTrackingPrefixList(final List<String> trackingPrefixList) {
+		this.trackingPrefixList = trackingPrefixList;
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve class names or package names which codec was allowed to load</h3>
+	 * <h3 class="zh-CN">读取编解码器允许加载的类名或包名</h3>
+	 *
+	 * @return 	<span class="en-US">Allowed class names or package names</span>
+	 * 			<span class="zh-CN">允许的类名或包名</span>
+	 */
+	public List<String> getCodecAllowList() {
+		return codecAllowList;
+	}
+
+	/**
+	 * <h3 class="en-US">Configure class names or package names which codec was allowed to load</h3>
+	 * <h3 class="zh-CN">设置编解码器允许加载的类名或包名</h3>
+	 *
+	 * @param codecAllowList <span class="en-US">Allowed class names or package names</span>
+	 *                       <span class="zh-CN">允许的类名或包名</span>
+	 */
+	public void setCodecAllowList(final List<String> codecAllowList) {
+		this.codecAllowList = codecAllowList;
+	}
+
 	/**
 	 * <h2 class="en-US">Cache server configure JavaBean</h2>
 	 * <h2 class="zh-CN">缓存服务器配置JavaBean</h2>
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.enumeration;
+
+/**
+ * <h2 class="en-US">Compression algorithm define</h2>
+ * <span class="en-US">
+ *     None: values were written without compression;
+ *     Deflate: values were compressed by java.util.zip, no additional library was required;
+ *     LZ4: values were compressed by lz4-java which must be present in classpath, faster but less compression ratio.
+ *     Providers which store data in current process ignore the compression configure.
+ * </span>
+ * <h2 class="zh-CN">压缩算法定义</h2>
+ * <span class="zh-CN">
+ *     None：数据不压缩直接写入；
+ *     Deflate：使用java.util.zip压缩数据，不需要额外的依赖库；
+ *     LZ4：使用lz4-java压缩数据，类路径中必须存在lz4-java，速度更快但压缩率较低。
+ *     在当前进程中存储数据的缓存适配器忽略压缩配置。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 19, 2024 09:47:33 $
+ */
+public enum Compression {
+    None, Deflate, LZ4
+}
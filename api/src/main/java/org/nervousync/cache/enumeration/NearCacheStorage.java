@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.enumeration;
+
+/**
+ * <h2 class="en-US">Near cache storage define</h2>
+ * <span class="en-US">
+ *     Heap: entries were stored as objects in the Java heap and evicted by W-TinyLFU policy;
+ *     OffHeap: entries were serialized to direct memory slabs and evicted by slab, weight means memory capacity.
+ * </span>
+ * <h2 class="zh-CN">近端缓存存储方式定义</h2>
+ * <span class="zh-CN">
+ *     Heap：条目以对象形式存储在Java堆中，使用W-TinyLFU策略淘汰；
+ *     OffHeap：条目序列化后存储在直接内存块中，按块淘汰，权重表示内存容量。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 12, 2024 09:41:18 $
+ */
+public enum NearCacheStorage {
+    Heap, OffHeap
+}
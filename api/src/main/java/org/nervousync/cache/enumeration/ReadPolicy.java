@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.enumeration;
+
+/**
+ * <h2 class="en-US">Read routing policy define of replicated servers</h2>
+ * <span class="en-US">
+ *     Master: all operations were sent to master servers;
+ *     ReplicaPreferred: read operations were sent to replica servers, master servers were used if no replica available;
+ *     Nearest: read operations were sent to the server which has the lowest latency, master server included;
+ *     RoundRobin: read operations were distributed to master and replica servers in turn.
+ *     Write operations were always sent to master servers.
+ * </span>
+ * <h2 class="zh-CN">复制服务器的读操作路由策略定义</h2>
+ * <span class="zh-CN">
+ *     Master：所有操作均发送到主服务器；
+ *     ReplicaPreferred：读操作发送到从服务器，没有可用的从服务器时使用主服务器；
+ *     Nearest：读操作发送到延迟最低的服务器，包括主服务器；
+ *     RoundRobin：读操作轮流分发到主服务器和从服务器。
+ *     写操作始终发送到主服务器。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 19, 2024 10:27:46 $
+ */
+public enum ReadPolicy {
+    Master, ReplicaPreferred, Nearest, RoundRobin
+}
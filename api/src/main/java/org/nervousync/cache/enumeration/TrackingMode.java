@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.enumeration;
+
+/**
+ * <h2 class="en-US">Server assisted client side caching mode define</h2>
+ * <span class="en-US">
+ *     Disabled: near cache entries only expire by time;
+ *     Default: server remembers the keys read by client and notify when they were modified;
+ *     Broadcast: server notify all modified keys matching the configured prefixes.
+ * </span>
+ * <h2 class="zh-CN">服务器辅助的客户端缓存模式定义</h2>
+ * <span class="zh-CN">
+ *     Disabled：近端缓存数据仅按时间过期；
+ *     Default：服务器记录客户端读取的键值，并在键值被修改时通知客户端；
+ *     Broadcast：服务器通知所有匹配配置前缀的已修改键值。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 11, 2024 14:06:33 $
+ */
+public enum TrackingMode {
+    Disabled, Default, Broadcast
+}
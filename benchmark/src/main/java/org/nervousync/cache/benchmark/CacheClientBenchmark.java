@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.benchmark;
+
+import org.nervousync.cache.CacheUtils;
+import org.nervousync.cache.api.CacheClient;
+import org.nervousync.cache.builder.CacheConfigBuilder;
+import org.nervousync.cache.commons.CacheGlobals;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.configs.ConfigureManager;
+import org.nervousync.exceptions.builder.BuilderException;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2 class="en-US">Benchmark of cache client operations</h2>
+ * <span class="en-US">
+ *     Measures get, set, incr and bulk operations of every cache provider against local stand-in servers,
+ *     the server addresses can be configured by system properties "nervousync.benchmark.redis" and
+ *     "nervousync.benchmark.memcached", default is the servers started by benchmark/docker-compose.yml.
+ *     Thread count was configured by JMH option "-t", e.g. java -jar target/benchmarks.jar -t 8 -p valueSize=4096
+ * </span>
+ * <h2 class="zh-CN">缓存客户端操作的基准测试</h2>
+ * <span class="zh-CN">
+ *     针对本地替代服务器测量每个缓存适配器的读取、写入、自增和批量操作，
+ *     服务器地址可以通过系统属性"nervousync.benchmark.redis"和"nervousync.benchmark.memcached"进行配置，
+ *     默认为benchmark/docker-compose.yml启动的服务器。
+ *     线程数通过JMH参数"-t"进行配置，例如：java -jar target/benchmarks.jar -t 8 -p valueSize=4096
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 13, 2024 10:26:37 $
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class CacheClientBenchmark {
+
+    private static final String CACHE_NAME = "BenchmarkCache";
+    private static final String KEY_PREFIX = "benchmark:";
+    private static final String COUNTER_KEY = KEY_PREFIX + "counter";
+
+    /**
+     * <span class="en-US">Cache provider name</span>
+     * <span class="zh-CN">缓存适配器名称</span>
+     */
+    @Param({"JedisProvider", "LettuceProvider", "RedissonProvider", "XMemcachedProvider"})
+    private String providerName;
+    /**
+     * <span class="en-US">Value size. Unit: byte</span>
+     * <span class="zh-CN">数据大小。单位：字节</span>
+     */
+    @Param({"128", "4096"})
+    private int valueSize;
+    /**
+     * <span class="en-US">Key cardinality</span>
+     * <span class="zh-CN">键值基数</span>
+     */
+    @Param({"10000"})
+    private int keyCount;
+    /**
+     * <span class="en-US">Hit ratio of read operations, the percentage of keys was written before measurement</span>
+     * <span class="zh-CN">读操作的命中率，即测量前写入的键值百分比</span>
+     */
+    @Param({"0.9"})
+    private double hitRatio;
+    /**
+     * <span class="en-US">Key count of bulk operations</span>
+     * <span class="zh-CN">批量操作的键值数量</span>
+     */
+    @Param({"100"})
+    private int batchSize;
+
+    private CacheClient cacheClient;
+    private String value;
+
+    @Setup(Level.Trial)
+    public void setup() throws BuilderException, CacheException {
+        ConfigureManager.initialize();
+        CacheUtils.initialize();
+        String serverAddress = "XMemcachedProvider".equals(this.providerName)
+                ? System.getProperty("nervousync.benchmark.memcached", "127.0.0.1:11211")
+                : System.getProperty("nervousync.benchmark.redis", "127.0.0.1:6379");
+        int index = serverAddress.lastIndexOf(':');
+        boolean generateResult = CacheConfigBuilder.newBuilder(CACHE_NAME)
+                .providerName(this.providerName)
+                .connectTimeout(CacheGlobals.DEFAULT_CONNECTION_TIMEOUT)
+                .expireTime(300)
+                .clientPoolSize(CacheGlobals.DEFAULT_CLIENT_POOL_SIZE)
+                .maximumClient(CacheGlobals.DEFAULT_MAXIMUM_CLIENT)
+                .serverBuilder()
+                .serverConfig(serverAddress.substring(0, index), Integer.parseInt(serverAddress.substring(index + 1)))
+                .confirm()
+                .confirm();
+        if (!generateResult) {
+            throw new IllegalStateException("Generate benchmark configure failed! ");
+        }
+        CacheConfig cacheConfig = ConfigureManager.getInstance().readConfigure(CacheConfig.class, CACHE_NAME);
+        if (!CacheUtils.getInstance().register(CACHE_NAME, cacheConfig)) {
+            throw new IllegalStateException("Register cache provider " + this.providerName + " failed! ");
+        }
+        this.cacheClient = CacheUtils.getInstance().client(CACHE_NAME);
+
+        char[] chars = new char[this.valueSize];
+        Arrays.fill(chars, 'v');
+        this.value = new String(chars);
+        int preloadCount = (int) (this.keyCount * this.hitRatio);
+        Map<String, String> dataMap = new HashMap<>();
+        for (int i = 0; i < this.keyCount; i++) {
+            String key = KEY_PREFIX + i;
+            if (i < preloadCount) {
+                dataMap.put(key, this.value);
+            } else {
+                this.cacheClient.delete(key);
+            }
+            if (dataMap.size() == this.batchSize) {
+                this.cacheClient.setAll(dataMap, 300);
+                dataMap.clear();
+            }
+        }
+        if (!dataMap.isEmpty()) {
+            this.cacheClient.setAll(dataMap, 300);
+        }
+        this.cacheClient.set(COUNTER_KEY, "0", 300);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        CacheUtils.deregister(CACHE_NAME);
+        CacheUtils.destroy();
+        Optional.ofNullable(ConfigureManager.getInstance())
+                .ifPresent(configureManager -> configureManager.removeConfigure(CacheConfig.class, CACHE_NAME));
+    }
+
+    @Benchmark
+    public String get() {
+        return this.cacheClient.get(this.randomKey());
+    }
+
+    @Benchmark
+    public void set() {
+        this.cacheClient.set(this.randomKey(), this.value, 300);
+    }
+
+    @Benchmark
+    public long incr() {
+        return this.cacheClient.incr(COUNTER_KEY, 1L);
+    }
+
+    @Benchmark
+    public Map<String, String> getAll() {
+        List<String> keyList = new ArrayList<>(this.batchSize);
+        for (int i = 0; i < this.batchSize; i++) {
+            keyList.add(this.randomKey());
+        }
+        return this.cacheClient.getAll(keyList);
+    }
+
+    @Benchmark
+    public void setAll() {
+        Map<String, String> dataMap = new HashMap<>(this.batchSize);
+        for (int i = 0; i < this.batchSize; i++) {
+            dataMap.put(this.randomKey(), this.value);
+        }
+        this.cacheClient.setAll(dataMap, 300);
+    }
+
+    private String randomKey() {
+        return KEY_PREFIX + ThreadLocalRandom.current().nextInt(this.keyCount);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.batch;
+
+/**
+ * <h2 class="en-US">Cache operation recorded in batch</h2>
+ * <h2 class="zh-CN">批次中记录的缓存操作</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 20, 2024 09:58:12 $
+ */
+public final class BatchOperation {
+
+    /**
+     * <span class="en-US">Operation type</span>
+     * <span class="zh-CN">操作类型</span>
+     */
+    private final OperationType operationType;
+    /**
+     * <span class="en-US">Cache key</span>
+     * <span class="zh-CN">缓存键值</span>
+     */
+    private final String key;
+    /**
+     * <span class="en-US">Cache value, null for operations which not write value</span>
+     * <span class="zh-CN">缓存数据，不写入数据的操作为null</span>
+     */
+    private final String value;
+    /**
+     * <span class="en-US">Expire time</span>
+     * <span class="zh-CN">过期时间</span>
+     */
+    private final int expire;
+    /**
+     * <span class="en-US">Increase or decrease step</span>
+     * <span class="zh-CN">增加或减少的步长</span>
+     */
+    private final long step;
+
+    /**
+     * <h3 class="en-US">Constructor for batch operation</h3>
+     * <h3 class="zh-CN">批次操作的构造方法</h3>
+     *
+     * @param operationType <span class="en-US">Operation type</span>
+     *                      <span class="zh-CN">操作类型</span>
+     * @param key           <span class="en-US">Cache key</span>
+     *                      <span class="zh-CN">缓存键值</span>
+     * @param value         <span class="en-US">Cache value</span>
+     *                      <span class="zh-CN">缓存数据</span>
+     * @param expire        <span class="en-US">Expire time</span>
+     *                      <span class="zh-CN">过期时间</span>
+     * @param step          <span class="en-US">Increase or decrease step</span>
+     *                      <span class="zh-CN">增加或减少的步长</span>
+     */
+    BatchOperation(final OperationType operationType, final String key, final String value,
+                   final int expire, final long step) {
+        this.operationType = operationType;
+        this.key = key;
+        this.value = value;
+        this.expire = expire;
+        this.step = step;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve operation type</h3>
+     * <h3 class="zh-CN">读取操作类型</h3>
+     *
+     * @return  <span class="en-US">Operation type</span>
+     *          <span class="zh-CN">操作类型</span>
+     */
+    public OperationType getOperationType() {
+        return operationType;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cache key</h3>
+     * <h3 class="zh-CN">读取缓存键值</h3>
+     *
+     * @return  <span class="en-US">Cache key</span>
+     *          <span class="zh-CN">缓存键值</span>
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cache value</h3>
+     * <h3 class="zh-CN">读取缓存数据</h3>
+     *
+     * @return  <span class="en-US">Cache value</span>
+     *          <span class="zh-CN">缓存数据</span>
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve expire time</h3>
+     * <h3 class="zh-CN">读取过期时间</h3>
+     *
+     * @return  <span class="en-US">Expire time</span>
+     *          <span class="zh-CN">过期时间</span>
+     */
+    public int getExpire() {
+        return expire;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve increase or decrease step</h3>
+     * <h3 class="zh-CN">读取增加或减少的步长</h3>
+     *
+     * @return  <span class="en-US">Step value</span>
+     *          <span class="zh-CN">步长</span>
+     */
+    public long getStep() {
+        return step;
+    }
+
+    /**
+     * <h3 class="en-US">Check the operation modifies data of cache key</h3>
+     * <h3 class="zh-CN">检查操作是否修改缓存键值的数据</h3>
+     *
+     * @return  <span class="en-US">true for write operations, false for read operation</span>
+     *          <span class="zh-CN">写操作返回true，读操作返回false</span>
+     */
+    public boolean isWrite() {
+        return !OperationType.Get.equals(this.operationType);
+    }
+
+    /**
+     * <h2 class="en-US">Operation type define</h2>
+     * <h2 class="zh-CN">操作类型定义</h2>
+     */
+    public enum OperationType {
+        Set, Add, Replace, Expire, Delete, Get, Incr, Decr
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.batch;
+
+import org.nervousync.cache.api.CacheBatch;
+import org.nervousync.cache.batch.BatchOperation.OperationType;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Recorder of batch cache operations</h2>
+ * <span class="en-US">Operations which cache key was empty or write null value were rejected, so results stay positional</span>
+ * <h2 class="zh-CN">批次缓存操作的记录器</h2>
+ * <span class="zh-CN">拒绝缓存键值为空或写入null数据的操作，因此结果保持按位置对应</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 20, 2024 10:12:37 $
+ */
+public final class BatchRecorder implements CacheBatch {
+
+    /**
+     * <span class="en-US">Recorded operation list</span>
+     * <span class="zh-CN">记录的操作列表</span>
+     */
+    private final List<BatchOperation> operationList = new ArrayList<>();
+
+    /*
+     * (non-Javadoc)
+     * @see CacheBatch#set(String, String, int)
+     */
+    @Override
+    public CacheBatch set(final String key, final String value, final int expire) {
+        return this.record(OperationType.Set, key, value, expire, Globals.DEFAULT_VALUE_LONG);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheBatch#add(String, String, int)
+     */
+    @Override
+    public CacheBatch add(final String key, final String value, final int expire) {
+        return this.record(OperationType.Add, key, value, expire, Globals.DEFAULT_VALUE_LONG);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheBatch#replace(String, String, int)
+     */
+    @Override
+    public CacheBatch replace(final String key, final String value, final int expire) {
+        return this.record(OperationType.Replace, key, value, expire, Globals.DEFAULT_VALUE_LONG);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheBatch#expire(String, int)
+     */
+    @Override
+    public CacheBatch expire(final String key, final int expire) {
+        return this.record(OperationType.Expire, key, null, expire, Globals.DEFAULT_VALUE_LONG);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheBatch#delete(String)
+     */
+    @Override
+    public CacheBatch delete(final String key) {
+        return this.record(OperationType.Delete, key, null, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_LONG);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheBatch#get(String)
+     */
+    @Override
+    public CacheBatch get(final String key) {
+        return this.record(OperationType.Get, key, null, Globals.DEFAULT_VALUE_INT, Globals.DEFAULT_VALUE_LONG);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheBatch#incr(String, long)
+     */
+    @Override
+    public CacheBatch incr(final String key, final long step) {
+        return this.record(OperationType.Incr, key, null, Globals.DEFAULT_VALUE_INT, step);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheBatch#decr(String, long)
+     */
+    @Override
+    public CacheBatch decr(final String key, final long step) {
+        return this.record(OperationType.Decr, key, null, Globals.DEFAULT_VALUE_INT, step);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve recorded operations</h3>
+     * <h3 class="zh-CN">读取记录的操作</h3>
+     *
+     * @return  <span class="en-US">Unmodifiable operation list in recorded order</span>
+     *          <span class="zh-CN">按记录顺序排列的不可修改的操作列表</span>
+     */
+    public List<BatchOperation> operations() {
+        return Collections.unmodifiableList(this.operationList);
+    }
+
+    /**
+     * <h3 class="en-US">Record operation to operation list</h3>
+     * <h3 class="zh-CN">将操作记录到操作列表</h3>
+     *
+     * @param operationType <span class="en-US">Operation type</span>
+     *                      <span class="zh-CN">操作类型</span>
+     * @param key           <span class="en-US">Cache key</span>
+     *                      <span class="zh-CN">缓存键值</span>
+     * @param value         <span class="en-US">Cache value</span>
+     *                      <span class="zh-CN">缓存数据</span>
+     * @param expire        <span class="en-US">Expire time</span>
+     *                      <span class="zh-CN">过期时间</span>
+     * @param step          <span class="en-US">Step value</span>
+     *                      <span class="zh-CN">步进值</span>
+     * @return <span class="en-US">Current batch instance</span>
+     * <span class="zh-CN">当前批次实例</span>
+     * @throws IllegalArgumentException <span class="en-US">If cache key was empty or write value was null</span>
+     *                                  <span class="zh-CN">如果缓存键值为空或写入数据为null</span>
+     */
+    private CacheBatch record(final OperationType operationType, final String key, final String value,
+                              final int expire, final long step) {
+        if (StringUtils.isEmpty(key)) {
+            throw new IllegalArgumentException("Cache key of batch operation " + operationType + " is empty");
+        }
+        switch (operationType) {
+            case Set:
+            case Add:
+            case Replace:
+                if (value == null) {
+                    throw new IllegalArgumentException("Cache value of batch operation " + operationType
+                            + " for key: " + key + " is null");
+                }
+                break;
+            default:
+                break;
+        }
+        this.operationList.add(new BatchOperation(operationType, key, value, expire, step));
+        return this;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.client.impl;
+
+import org.nervousync.cache.api.AsyncCacheClient;
+import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.commons.Globals;
+import org.nervousync.utils.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * <h2 class="en-US">Asynchronous cache client implement class</h2>
+ * <h2 class="zh-CN">异步缓存客户端的实现类</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 04, 2024 10:43:25 $
+ */
+public final class AsyncCacheClientImpl implements AsyncCacheClient {
+
+    /**
+     * <span class="en-US">Current cache provider instance</span>
+     * <span class="zh-CN">缓存适配器实例</span>
+     */
+    private final AbstractProvider cacheProvider;
+    /**
+     * <span class="en-US">
+     *     Invalidator of written cache key, increase invalidation stamp, remove the key from near cache
+     *     and clear the recorded expiry deadline
+     * </span>
+     * <span class="zh-CN">已写入缓存键值的失效处理器，增加失效标记、从近端缓存中移除缓存键值并清除记录的过期时间点</span>
+     */
+    private final Consumer<String> invalidator;
+
+    /**
+     * <h3 class="en-US">Constructor for asynchronous cache client</h3>
+     * <h3 class="zh-CN">异步缓存客户端的构造方法</h3>
+     *
+     * @param cacheProvider <span class="en-US">Initialized cache provider instance</span>
+     *                      <span class="zh-CN">已初始化的缓存适配器实例</span>
+     * @param invalidator   <span class="en-US">Invalidator of written cache key</span>
+     *                      <span class="zh-CN">已写入缓存键值的失效处理器</span>
+     */
+    AsyncCacheClientImpl(final AbstractProvider cacheProvider, final Consumer<String> invalidator) {
+        this.cacheProvider = cacheProvider;
+        this.invalidator = invalidator;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#set(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> set(final String key, final String value, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.invalidate(key, this.cacheProvider.setAsync(key, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#add(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> add(final String key, final String value, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.invalidate(key, this.cacheProvider.addAsync(key, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#replace(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> replace(final String key, final String value, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.invalidate(key, this.cacheProvider.replaceAsync(key, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#expire(String, int)
+     */
+    @Override
+    public CompletableFuture<Void> expire(final String key, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.invalidate(key, this.cacheProvider.expireAsync(key, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#touch(String...)
+     */
+    @Override
+    public CompletableFuture<Void> touch(final String... keys) {
+        if (keys == null || keys.length == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.cacheProvider.touchAsync(keys);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#delete(String)
+     */
+    @Override
+    public CompletableFuture<Void> delete(final String key) {
+        if (StringUtils.isEmpty(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.invalidate(key, this.cacheProvider.deleteAsync(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#get(String)
+     */
+    @Override
+    public CompletableFuture<String> get(final String key) {
+        if (StringUtils.isEmpty(key)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return this.cacheProvider.getAsync(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#getAll(Collection)
+     */
+    @Override
+    public CompletableFuture<Map<String, String>> getAll(final Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        List<String> keyList = keys.stream()
+                .filter(StringUtils::notBlank)
+                .distinct()
+                .collect(Collectors.toList());
+        if (keyList.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        return this.cacheProvider.getAllAsync(keyList);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#incr(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> incr(final String key, final long step) {
+        if (StringUtils.isEmpty(key)) {
+            return CompletableFuture.completedFuture(Globals.DEFAULT_VALUE_LONG);
+        }
+        return this.invalidate(key, this.cacheProvider.incrAsync(key, step));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AsyncCacheClient#decr(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> decr(final String key, final long step) {
+        if (StringUtils.isEmpty(key)) {
+            return CompletableFuture.completedFuture(Globals.DEFAULT_VALUE_LONG);
+        }
+        return this.invalidate(key, this.cacheProvider.decrAsync(key, step));
+    }
+
+    /**
+     * <h3 class="en-US">Remove cache key from near cache before and after the write operation was completed</h3>
+     * <h3 class="zh-CN">在写操作开始前与完成后从近端缓存中移除缓存键值</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param future <span class="en-US">Write operation future</span>
+     *               <span class="zh-CN">写操作的异步结果</span>
+     * @param <T>    <span class="en-US">Result type</span>
+     *               <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Write operation future</span>
+     * <span class="zh-CN">写操作的异步结果</span>
+     */
+    private <T> CompletableFuture<T> invalidate(final String key, final CompletableFuture<T> future) {
+        this.invalidator.accept(key);
+        return future.whenComplete((result, throwable) -> this.invalidator.accept(key));
+    }
+}
@@ -16,9 +16,21 @@
  */
 package org.nervousync.cache.client.impl;
 
+import org.nervousync.cache.api.AsyncCacheClient;
+import org.nervousync.cache.api.CacheBatch;
 import org.nervousync.cache.api.CacheClient;
+import org.nervousync.cache.api.ReactiveCacheClient;
+import org.nervousync.cache.batch.BatchOperation;
+import org.nervousync.cache.batch.BatchRecorder;
+import org.nervousync.cache.codec.CacheCodec;
+import org.nervousync.cache.codec.CodecManager;
+import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.enumeration.NearCacheStorage;
 import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.local.LocalCache;
+import org.nervousync.cache.local.OffHeapCache;
+import org.nervousync.cache.local.TinyLFUCache;
 import org.nervousync.cache.provider.ProviderManager;
 import org.nervousync.cache.provider.impl.AbstractProvider;
 import org.nervousync.commons.Globals;
@@ -26,7 +38,15 @@ import org.nervousync.utils.LoggerUtils;
 import org.nervousync.utils.ObjectUtils;
 import org.nervousync.utils.StringUtils;
 
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * <h2 class="en-US">Cache client implement class</h2>
@@ -42,12 +62,95 @@ public final class CacheClientImpl implements CacheClient {
      * <span class="zh-CN">日志实例</span>
      */
     private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
+    /**
+     * <span class="en-US">Stripe count of invalidation stamps</span>
+     * <span class="zh-CN">失效标记的分段数量</span>
+     */
+    private static final int INVALIDATION_STRIPES = 1024;
+    /**
+     * <span class="en-US">Minimum interval of sweeping passed expiry deadlines. Unit: millisecond</span>
+     * <span class="zh-CN">清理已过期时间点的最小间隔。单位：毫秒</span>
+     */
+    private static final long DEADLINE_SWEEP_INTERVAL = 1000L;
 
     /**
      * <span class="en-US">Current cache provider instance</span>
      * <span class="zh-CN">缓存适配器实例</span>
      */
     private final AbstractProvider cacheProvider;
+    /**
+     * <span class="en-US">Near cache instance, null if near cache was disabled</span>
+     * <span class="zh-CN">近端缓存实例，未启用近端缓存时为null</span>
+     */
+    private final LocalCache localCache;
+    /**
+     * <span class="en-US">Default expire time</span>
+     * <span class="zh-CN">默认过期时间</span>
+     */
+    private final int expireTime;
+    /**
+     * <span class="en-US">Asynchronous client instance</span>
+     * <span class="zh-CN">异步客户端实例</span>
+     */
+    private final AsyncCacheClientImpl asyncClient;
+    /**
+     * <span class="en-US">Reactive client instance</span>
+     * <span class="zh-CN">响应式客户端实例</span>
+     */
+    private final ReactiveCacheClientImpl reactiveClient;
+    /**
+     * <span class="en-US">Loading futures of cache keys, used for coalesce concurrent loads of the same cache key</span>
+     * <span class="zh-CN">缓存键值的加载任务，用于合并同一缓存键值的并发加载</span>
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<String>> loadingMap = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Percentage of expire time elapsed before loaded value was refreshed, 0 for disabled</span>
+     * <span class="zh-CN">已加载数据刷新前经过的过期时间百分比，0为禁用</span>
+     */
+    private final int refreshAheadRatio;
+    /**
+     * <span class="en-US">Bounded executor of refresh ahead, null if refresh ahead was disabled</span>
+     * <span class="zh-CN">提前刷新使用的有界线程池，未启用提前刷新时为null</span>
+     */
+    private final ThreadPoolExecutor refreshExecutor;
+    /**
+     * <span class="en-US">Cache keys which were refreshing in background</span>
+     * <span class="zh-CN">正在后台刷新的缓存键值</span>
+     */
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+    /**
+     * <span class="en-US">Expiry deadline of cache keys which were loaded or probed by loader reads of current client, unit: millisecond</span>
+     * <span class="zh-CN">当前客户端通过加载函数读取时加载或探测的缓存键值的过期时间点，单位：毫秒</span>
+     */
+    private final ConcurrentHashMap<String, Long> refreshDeadlines = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Last time of sweeping passed expiry deadlines, unit: millisecond</span>
+     * <span class="zh-CN">上次清理已过期时间点的时间，单位：毫秒</span>
+     */
+    private final AtomicLong sweepTime = new AtomicLong(0L);
+    /**
+     * <span class="en-US">Warning of too many tracked expiry deadlines was logged</span>
+     * <span class="zh-CN">已记录跟踪的过期时间点过多的警告</span>
+     */
+    private final AtomicBoolean trackedWarned = new AtomicBoolean(Boolean.FALSE);
+    /**
+     * <span class="en-US">Warning of unsupported remaining time to live was logged</span>
+     * <span class="zh-CN">已记录不支持剩余生存时间的警告</span>
+     */
+    private final AtomicBoolean ttlWarned = new AtomicBoolean(Boolean.FALSE);
+    /**
+     * <span class="en-US">
+     *     Invalidation stamps of cache keys, striped by hash code of cache key.
+     *     Stamp was increased before near cache was invalidated, so values read before were not cached.
+     * </span>
+     * <span class="zh-CN">缓存键值的失效标记，按缓存键值的哈希码分段。在近端缓存失效前增加标记，因此之前读取的数据不会被缓存</span>
+     */
+    private final AtomicLongArray invalidationStamps = new AtomicLongArray(INVALIDATION_STRIPES);
+    /**
+     * <span class="en-US">Codec of typed values which were not string, byte array or primitive values</span>
+     * <span class="zh-CN">非字符串、字节数组或基本类型的类型化数据所使用的编解码器</span>
+     */
+    private final CacheCodec<?> valueCodec;
 
     /**
      * Constructor for cache agent
@@ -62,7 +165,19 @@ public final class CacheClientImpl implements CacheClient {
                 .filter(AbstractProvider.class::isAssignableFrom)
                 .map(providerClass -> (AbstractProvider) ObjectUtils.newInstance(providerClass))
                 .orElseThrow(() -> new CacheException(0x000C00000003L));
+        this.expireTime = cacheConfig.getExpireTime();
+        this.localCache = newLocalCache(cacheConfig);
+        this.refreshAheadRatio = cacheConfig.getRefreshAheadRatio();
+        this.valueCodec = this.configCodec(cacheConfig);
+        this.refreshExecutor = (this.refreshAheadRatio > 0 && this.refreshAheadRatio < 100)
+                ? newRefreshExecutor(cacheConfig)
+                : null;
+        if (this.localCache != null) {
+            this.cacheProvider.invalidationListener(this::onInvalidate);
+        }
         this.cacheProvider.initialize(cacheConfig);
+        this.asyncClient = new AsyncCacheClientImpl(this.cacheProvider, this::invalidateLocal);
+        this.reactiveClient = new ReactiveCacheClientImpl(this.cacheProvider, this.asyncClient);
     }
 
     /**
@@ -77,6 +192,8 @@ public final class CacheClientImpl implements CacheClient {
     public void set(final String key, final String value) {
         this.logInfo(key, value);
         this.cacheProvider.set(key, value);
+        //  Near cache was filled by tracked reads only, server not push invalidation of keys which were never read
+        this.invalidateLocal(key);
     }
 
     /**
@@ -93,6 +210,42 @@ public final class CacheClientImpl implements CacheClient {
     public void set(final String key, final String value, final int expire) {
         this.logInfo(key, value);
         this.cacheProvider.set(key, value, expire);
+        this.invalidateLocal(key);
+    }
+
+    /**
+     * <h3 class="en-US">Set all key-values to cache server and set the same expire time</h3>
+     * <h3 class="zh-CN">使用相同的过期时间批量设置缓存信息</h3>
+     *
+     * @param dataMap <span class="en-US">Cache key-value map</span>
+     *                <span class="zh-CN">缓存键值与数据的映射表</span>
+     * @param expire  <span class="en-US">Expire time</span>
+     *                <span class="zh-CN">过期时间</span>
+     */
+    public void setAll(final Map<String, String> dataMap, final int expire) {
+        Optional.ofNullable(this.filterData(dataMap))
+                .ifPresent(filteredMap -> {
+                    this.cacheProvider.setAll(filteredMap, expire);
+                    filteredMap.keySet().forEach(this::invalidateLocal);
+                });
+    }
+
+    /**
+     * <h3 class="en-US">Set all key-values to cache server and set expire time for each cache key</h3>
+     * <h3 class="zh-CN">批量设置缓存信息并为每个缓存键值设置过期时间</h3>
+     *
+     * @param dataMap   <span class="en-US">Cache key-value map</span>
+     *                  <span class="zh-CN">缓存键值与数据的映射表</span>
+     * @param expireMap <span class="en-US">Cache key-expire time map</span>
+     *                  <span class="zh-CN">缓存键值与过期时间的映射表</span>
+     */
+    public void setAll(final Map<String, String> dataMap, final Map<String, Integer> expireMap) {
+        Optional.ofNullable(this.filterData(dataMap))
+                .ifPresent(filteredMap -> {
+                    Map<String, Integer> expiryMap = (expireMap == null) ? Collections.emptyMap() : expireMap;
+                    this.cacheProvider.setAll(filteredMap, expiryMap);
+                    filteredMap.keySet().forEach(this::invalidateLocal);
+                });
     }
 
     /**
@@ -107,6 +260,7 @@ public final class CacheClientImpl implements CacheClient {
     public void add(final String key, final String value) {
         this.logInfo(key, value);
         this.cacheProvider.add(key, value);
+        this.invalidateLocal(key);
     }
 
     /**
@@ -123,6 +277,7 @@ public final class CacheClientImpl implements CacheClient {
     public void add(final String key, final String value, final int expire) {
         this.logInfo(key, value);
         this.cacheProvider.add(key, value, expire);
+        this.invalidateLocal(key);
     }
 
     /**
@@ -137,6 +292,7 @@ public final class CacheClientImpl implements CacheClient {
     public void replace(final String key, final String value) {
         this.logInfo(key, value);
         this.cacheProvider.replace(key, value);
+        this.invalidateLocal(key);
     }
 
     /**
@@ -153,6 +309,7 @@ public final class CacheClientImpl implements CacheClient {
     public void replace(final String key, final String value, final int expire) {
         this.logInfo(key, value);
         this.cacheProvider.replace(key, value, expire);
+        this.invalidateLocal(key);
     }
 
     /**
@@ -166,6 +323,7 @@ public final class CacheClientImpl implements CacheClient {
      */
     public void expire(final String key, final int expire) {
         this.cacheProvider.expire(key, expire);
+        this.invalidateLocal(key);
     }
 
     /**
@@ -188,6 +346,7 @@ public final class CacheClientImpl implements CacheClient {
      */
     public void delete(final String key) {
         this.cacheProvider.delete(key);
+        this.invalidateLocal(key);
     }
 
     /**
@@ -203,7 +362,288 @@ public final class CacheClientImpl implements CacheClient {
         if (StringUtils.isEmpty(key)) {
             return null;
         }
-        return this.cacheProvider.get(key);
+        if (this.localCache == null) {
+            return this.cacheProvider.get(key);
+        }
+        String value = this.localCache.get(key);
+        if (value == null) {
+            long stamp = this.stamp(key);
+            value = this.cacheProvider.get(key);
+            this.cacheRead(key, value, stamp);
+        }
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Read cache value and set new expire time in one operation</h3>
+     * <h3 class="zh-CN">在一个操作中读取缓存数据并设置新的过期时间</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param expire <span class="en-US">New expire time</span>
+     *               <span class="zh-CN">新的过期时间</span>
+     * @return <span class="en-US">Cache value or null if cache key was not exists or it was expired</span>
+     * <span class="zh-CN">读取的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    public String getAndTouch(final String key, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return null;
+        }
+        //  Expire time must be updated in server, so near cache was not used for reading
+        long stamp = this.stamp(key);
+        String value = this.cacheProvider.getAndTouch(key, expire);
+        this.cacheRead(key, value, stamp);
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Read cache values of given cache keys in one operation</h3>
+     * <h3 class="zh-CN">批量读取给定缓存键值对应的缓存数据</h3>
+     *
+     * @param keys <span class="en-US">Cache keys collection</span>
+     *             <span class="zh-CN">缓存键值集合</span>
+     * @return <span class="en-US">Cache key-value map, not exists or expired keys were not contained</span>
+     * <span class="zh-CN">缓存键值与数据的映射表，不存在或已过期的缓存键值不包含在内</span>
+     */
+    public Map<String, String> getAll(final Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<String> keyList = keys.stream()
+                .filter(StringUtils::notBlank)
+                .distinct()
+                .collect(Collectors.toList());
+        if (keyList.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        if (this.localCache == null) {
+            return this.cacheProvider.getAll(keyList);
+        }
+        Map<String, String> resultMap = new HashMap<>(keyList.size());
+        List<String> missingKeys = new ArrayList<>();
+        keyList.forEach(key -> {
+            String value = this.localCache.get(key);
+            if (value == null) {
+                missingKeys.add(key);
+            } else {
+                resultMap.put(key, value);
+            }
+        });
+        if (!missingKeys.isEmpty()) {
+            Map<String, Long> stampMap = new HashMap<>(missingKeys.size());
+            missingKeys.forEach(key -> stampMap.put(key, this.stamp(key)));
+            Map<String, String> readMap = this.cacheProvider.getAll(missingKeys);
+            readMap.forEach((key, value) -> this.cacheRead(key, value, stampMap.get(key)));
+            resultMap.putAll(readMap);
+        }
+        return resultMap;
+    }
+
+    /**
+     * <h3 class="en-US">Set binary value to cache server and set expire time</h3>
+     * <span class="en-US">Binary values were not stored in near cache, the string value of cache key was invalidated</span>
+     * <h3 class="zh-CN">使用指定的过期时间设置二进制缓存数据</h3>
+     * <span class="zh-CN">二进制数据不存储在近端缓存中，缓存键值的字符串数据将失效</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param value  <span class="en-US">Binary cache value</span>
+     *               <span class="zh-CN">二进制缓存数据</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zh-CN">过期时间</span>
+     */
+    public void setBytes(final String key, final byte[] value, final int expire) {
+        if (StringUtils.isEmpty(key) || value == null) {
+            return;
+        }
+        this.logInfo(key, value.length);
+        this.cacheProvider.setBytes(key, value, expire);
+        this.invalidateLocal(key);
+    }
+
+    /**
+     * <h3 class="en-US">Read binary cache value from cache key which cache key was given</h3>
+     * <h3 class="zh-CN">读取指定缓存键值对应的二进制缓存数据</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Binary cache value or null if cache key was not exists or it was expired</span>
+     * <span class="zh-CN">读取的二进制缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    public byte[] getBytes(final String key) {
+        if (StringUtils.isEmpty(key)) {
+            return null;
+        }
+        return this.cacheProvider.getBytes(key);
+    }
+
+    /**
+     * <h3 class="en-US">Encode typed value by codec and set to cache server, using given expire time</h3>
+     * <span class="en-US">String values were written by string operation, so they were cached in near cache when read back</span>
+     * <h3 class="zh-CN">使用编解码器编码类型化数据并使用指定的过期时间设置缓存数据</h3>
+     * <span class="zh-CN">字符串数据通过字符串操作写入，因此读回时会缓存在近端缓存中</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param value  <span class="en-US">Typed cache value</span>
+     *               <span class="zh-CN">类型化缓存数据</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zh-CN">过期时间</span>
+     * @param <T>    <span class="en-US">Value type</span>
+     *               <span class="zh-CN">数据类型</span>
+     */
+    public <T> void set(final String key, final T value, final int expire) {
+        if (StringUtils.isEmpty(key) || value == null) {
+            return;
+        }
+        if (value instanceof String) {
+            this.set(key, (String) value, expire);
+            return;
+        }
+        CacheCodec<T> cacheCodec = CodecManager.codecFor(value.getClass(), this.valueCodec);
+        if (cacheCodec == null) {
+            this.logger.error("Codec_Not_Found_Cache_Error", value.getClass().getName());
+            return;
+        }
+        byte[] dataBytes;
+        try {
+            dataBytes = cacheCodec.encode(value);
+        } catch (IllegalArgumentException e) {
+            this.logger.error("Encode_Value_Cache_Error", key);
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Utils", "Stack_Message_Error", e);
+            }
+            return;
+        }
+        this.setBytes(key, dataBytes, expire);
+    }
+
+    /**
+     * <h3 class="en-US">Read cache value of given cache key and decode it to given type by codec</h3>
+     * <span class="en-US">String type was read by string operation, so the value was served from near cache if present</span>
+     * <h3 class="zh-CN">读取指定缓存键值对应的缓存数据并使用编解码器解码为给定类型</h3>
+     * <span class="zh-CN">字符串类型通过字符串操作读取，因此存在时从近端缓存中返回数据</span>
+     *
+     * @param key  <span class="en-US">Cache key</span>
+     *             <span class="zh-CN">缓存键值</span>
+     * @param type <span class="en-US">Value type</span>
+     *             <span class="zh-CN">数据类型</span>
+     * @param <T>  <span class="en-US">Value type</span>
+     *             <span class="zh-CN">数据类型</span>
+     * @return <span class="en-US">Decoded value or null if cache key was not exists, expired or can not be decoded</span>
+     * <span class="zh-CN">解码后的数据，如果缓存键值不存在、已过期或无法解码，则返回null</span>
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String key, final Class<T> type) {
+        if (StringUtils.isEmpty(key) || type == null) {
+            return null;
+        }
+        if (String.class.equals(type)) {
+            return (T) this.get(key);
+        }
+        CacheCodec<T> cacheCodec = CodecManager.codecFor(type, this.valueCodec);
+        if (cacheCodec == null) {
+            this.logger.error("Codec_Not_Found_Cache_Error", type.getName());
+            return null;
+        }
+        byte[] dataBytes = this.getBytes(key);
+        if (dataBytes == null) {
+            return null;
+        }
+        try {
+            return cacheCodec.decode(dataBytes, type);
+        } catch (IllegalArgumentException e) {
+            this.logger.error("Decode_Value_Cache_Error", key, type.getName());
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Utils", "Stack_Message_Error", e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Read cache value, load and write the value to cache server if cache key was not exists</h3>
+     * <span class="en-US">Concurrent misses of the same cache key in current JVM were coalesced into one load</span>
+     * <h3 class="zh-CN">读取缓存数据，如果缓存键值不存在则加载数据并写入缓存服务器</h3>
+     * <span class="zh-CN">当前JVM中同一缓存键值的并发未命中被合并为一次加载</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param loader <span class="en-US">Loader function, returns null if the value was not exists</span>
+     *               <span class="zh-CN">加载函数，数据不存在时返回null</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zh-CN">过期时间</span>
+     * @return <span class="en-US">Cache value or null if the loader returns null</span>
+     * <span class="zh-CN">缓存数据，如果加载函数返回null则返回null</span>
+     */
+    public String get(final String key, final Function<String, String> loader, final int expire) {
+        return this.get(key, loader, expire, Globals.INITIALIZE_INT_VALUE);
+    }
+
+    /**
+     * <h3 class="en-US">Read cache value, load and write the value to cache server if cache key was not exists</h3>
+     * <span class="en-US">
+     *     Concurrent misses of the same cache key in current JVM were coalesced into one load,
+     *     the node which added the lease key loads the value, other nodes wait for the value until the lease expired.
+     *     Values read from cache server were reloaded in background when refresh ahead was enabled
+     *     and the elapsed expire time passed the configured ratio.
+     * </span>
+     * <h3 class="zh-CN">读取缓存数据，如果缓存键值不存在则加载数据并写入缓存服务器</h3>
+     * <span class="zh-CN">
+     *     当前JVM中同一缓存键值的并发未命中被合并为一次加载，成功添加租约键值的节点加载数据，其他节点等待数据直到租约过期。
+     *     启用提前刷新且经过的过期时间超过配置比例时，从缓存服务器读取的数据在后台重新加载。
+     * </span>
+     *
+     * @param key       <span class="en-US">Cache key</span>
+     *                  <span class="zh-CN">缓存键值</span>
+     * @param loader    <span class="en-US">Loader function, returns null if the value was not exists</span>
+     *                  <span class="zh-CN">加载函数，数据不存在时返回null</span>
+     * @param expire    <span class="en-US">Expire time</span>
+     *                  <span class="zh-CN">过期时间</span>
+     * @param leaseTime <span class="en-US">Expire time of distributed lease, less than or equal to 0 for disable lease</span>
+     *                  <span class="zh-CN">分布式租约的过期时间，小于等于0为不使用租约</span>
+     * @return <span class="en-US">Cache value or null if the loader returns null</span>
+     * <span class="zh-CN">缓存数据，如果加载函数返回null则返回null</span>
+     */
+    public String get(final String key, final Function<String, String> loader, final int expire, final int leaseTime) {
+        if (loader == null || StringUtils.isEmpty(key)) {
+            return this.get(key);
+        }
+        String value = (this.localCache == null) ? null : this.localCache.get(key);
+        if (value != null) {
+            //  Hot keys were served by near cache, so refresh ahead was checked for near cache hits too
+            this.refreshAhead(key, loader, expire, leaseTime);
+            return value;
+        }
+        long stamp = this.stamp(key);
+        value = this.cacheProvider.get(key);
+        if (value != null) {
+            this.cacheRead(key, value, stamp);
+            this.refreshAhead(key, loader, expire, leaseTime);
+            return value;
+        }
+        CompletableFuture<String> loadFuture = new CompletableFuture<>();
+        CompletableFuture<String> existsFuture = this.loadingMap.putIfAbsent(key, loadFuture);
+        if (existsFuture != null) {
+            return await(existsFuture);
+        }
+        try {
+            //  Value may be written by the previous loader before current future was registered
+            stamp = this.stamp(key);
+            value = this.cacheProvider.get(key);
+            if (value == null) {
+                value = (leaseTime > 0) ? this.leaseLoad(key, loader, expire, leaseTime) : this.load(key, loader, expire);
+            } else {
+                this.cacheRead(key, value, stamp);
+            }
+            loadFuture.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            loadFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            this.loadingMap.remove(key, loadFuture);
+        }
     }
 
     /**
@@ -220,7 +660,9 @@ public final class CacheClientImpl implements CacheClient {
         if (StringUtils.isEmpty(key)) {
             return Globals.DEFAULT_VALUE_LONG;
         }
-        return this.cacheProvider.incr(key, step);
+        long result = this.cacheProvider.incr(key, step);
+        this.invalidateLocal(key);
+        return result;
     }
 
     /**
@@ -237,7 +679,64 @@ public final class CacheClientImpl implements CacheClient {
         if (StringUtils.isEmpty(key)) {
             return Globals.DEFAULT_VALUE_LONG;
         }
-        return this.cacheProvider.decr(key, step);
+        long result = this.cacheProvider.decr(key, step);
+        this.invalidateLocal(key);
+        return result;
+    }
+
+    /**
+     * <h3 class="en-US">Execute cache operations in one batch</h3>
+     * <span class="en-US">Near cache was not used by read operations, cache keys of write operations were invalidated from near cache</span>
+     * <h3 class="zh-CN">在一个批次中执行缓存操作</h3>
+     * <span class="zh-CN">读取操作不使用近端缓存，写操作的缓存键值从近端缓存中失效</span>
+     *
+     * @param operations <span class="en-US">Consumer which record cache operations</span>
+     *                   <span class="zh-CN">记录缓存操作的处理器</span>
+     * @return <span class="en-US">Result list of recorded operations</span>
+     * <span class="zh-CN">记录的操作的结果列表</span>
+     * @throws IllegalArgumentException <span class="en-US">If cache key of recorded operation was empty or write value was null</span>
+     *                                  <span class="zh-CN">如果记录的操作的缓存键值为空或写入数据为null</span>
+     */
+    public List<Object> batch(final Consumer<CacheBatch> operations) {
+        if (operations == null) {
+            return List.of();
+        }
+        BatchRecorder batchRecorder = new BatchRecorder();
+        operations.accept(batchRecorder);
+        List<BatchOperation> operationList = batchRecorder.operations();
+        if (operationList.isEmpty()) {
+            return List.of();
+        }
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Batch_Operations_Cache_Debug", operationList.size());
+        }
+        List<Object> resultList = this.cacheProvider.batch(operationList);
+        operationList.stream()
+                .filter(BatchOperation::isWrite)
+                .forEach(operation -> this.invalidateLocal(operation.getKey()));
+        return resultList;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve asynchronous client of current cache</h3>
+     * <h3 class="zh-CN">获取当前缓存的异步客户端</h3>
+     *
+     * @return <span class="en-US">Asynchronous cache client instance</span>
+     * <span class="zh-CN">异步缓存客户端实例</span>
+     */
+    public AsyncCacheClient async() {
+        return this.asyncClient;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve reactive client of current cache</h3>
+     * <h3 class="zh-CN">获取当前缓存的响应式客户端</h3>
+     *
+     * @return <span class="en-US">Reactive cache client instance</span>
+     * <span class="zh-CN">响应式缓存客户端实例</span>
+     */
+    public ReactiveCacheClient reactive() {
+        return this.reactiveClient;
     }
 
     /**
@@ -245,7 +744,489 @@ public final class CacheClientImpl implements CacheClient {
      * <h3 class="zh-CN">销毁缓存对象</h3>
      */
     public void destroy() {
-        this.cacheProvider.destroy();
+        if (this.refreshExecutor != null) {
+            this.refreshExecutor.shutdownNow();
+        }
+        if (this.localCache != null) {
+            this.localCache.invalidateAll();
+        }
+        this.cacheProvider.terminate();
+    }
+
+    /**
+     * <h3 class="en-US">Remove empty cache key and null value from given key-value map</h3>
+     * <h3 class="zh-CN">移除给定映射表中的空缓存键值和空数据</h3>
+     *
+     * @param dataMap <span class="en-US">Cache key-value map</span>
+     *                <span class="zh-CN">缓存键值与数据的映射表</span>
+     * @return <span class="en-US">Filtered key-value map or null if no data to write</span>
+     * <span class="zh-CN">过滤后的映射表，如果没有需要写入的数据则返回null</span>
+     */
+    private Map<String, String> filterData(final Map<String, String> dataMap) {
+        if (dataMap == null || dataMap.isEmpty()) {
+            return null;
+        }
+        Map<String, String> filteredMap = new HashMap<>(dataMap.size());
+        dataMap.forEach((key, value) -> {
+            if (StringUtils.notBlank(key) && value != null) {
+                filteredMap.put(key, value);
+            }
+        });
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Set_All_Cache_Debug", filteredMap.size());
+        }
+        return filteredMap.isEmpty() ? null : filteredMap;
+    }
+
+    /**
+     * <h3 class="en-US">Load value by given loader and write it to cache server</h3>
+     * <h3 class="zh-CN">使用给定的加载函数加载数据并写入缓存服务器</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param loader <span class="en-US">Loader function</span>
+     *               <span class="zh-CN">加载函数</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zh-CN">过期时间</span>
+     * @return <span class="en-US">Loaded value</span>
+     * <span class="zh-CN">加载的数据</span>
+     */
+    private String load(final String key, final Function<String, String> loader, final int expire) {
+        String value = loader.apply(key);
+        if (value != null) {
+            this.set(key, value, expire);
+            this.recordDeadline(key, expire);
+        }
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Record expiry deadline of cache key which was loaded by loader for refresh ahead</h3>
+     * <h3 class="zh-CN">为提前刷新记录通过加载函数加载的缓存键值的过期时间点</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zh-CN">过期时间</span>
+     */
+    private void recordDeadline(final String key, final int expire) {
+        if (this.refreshExecutor == null) {
+            return;
+        }
+        int expiry = (expire == Globals.DEFAULT_VALUE_INT) ? this.expireTime : expire;
+        if (expiry > 0 && this.trackable(key)) {
+            this.refreshDeadlines.put(key, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(expiry));
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Check the expiry deadline of given cache key can be tracked</h3>
+     * <span class="en-US">
+     *     Passed deadlines were swept at most once per sweep interval when the tracked keys reached the limit,
+     *     a warning was logged once if all tracked deadlines were still valid.
+     * </span>
+     * <h3 class="zh-CN">检查给定缓存键值的过期时间点是否可以跟踪</h3>
+     * <span class="zh-CN">跟踪的缓存键值达到上限时，每个清理间隔内最多清理一次已过期的时间点，如果所有跟踪的时间点仍然有效，则记录一次警告</span>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    private boolean trackable(final String key) {
+        if (this.refreshDeadlines.containsKey(key)
+                || this.refreshDeadlines.size() < CacheGlobals.REFRESH_AHEAD_TRACKED_KEYS) {
+            return Boolean.TRUE;
+        }
+        long currentTime = System.currentTimeMillis();
+        long lastTime = this.sweepTime.get();
+        if (currentTime - lastTime >= DEADLINE_SWEEP_INTERVAL && this.sweepTime.compareAndSet(lastTime, currentTime)) {
+            this.refreshDeadlines.values().removeIf(deadline -> deadline <= currentTime);
+        }
+        if (this.refreshDeadlines.size() < CacheGlobals.REFRESH_AHEAD_TRACKED_KEYS) {
+            return Boolean.TRUE;
+        }
+        if (this.trackedWarned.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+            this.logger.warn("Refresh_Ahead_Tracked_Cache_Warn", CacheGlobals.REFRESH_AHEAD_TRACKED_KEYS);
+        }
+        return Boolean.FALSE;
+    }
+
+    /**
+     * <h3 class="en-US">Probe expiry deadline of cache key which was written by others in background</h3>
+     * <span class="en-US">
+     *     Remaining time to live was read once for each cache key, not on every read.
+     *     If the provider can not report it, the deadline was estimated from current time and a warning was logged once.
+     * </span>
+     * <h3 class="zh-CN">在后台探测由其他客户端写入的缓存键值的过期时间点</h3>
+     * <span class="zh-CN">每个缓存键值仅读取一次剩余生存时间，而不是每次读取时都读取。如果缓存适配器无法报告剩余生存时间，则根据当前时间估算过期时间点并记录一次警告</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param expiry <span class="en-US">Expire time in seconds</span>
+     *               <span class="zh-CN">以秒为单位的过期时间</span>
+     */
+    private void probeDeadline(final String key, final int expiry) {
+        if (!this.trackable(key) || !this.refreshingKeys.add(key)) {
+            return;
+        }
+        try {
+            this.refreshExecutor.execute(() -> {
+                try {
+                    long ttl = this.cacheProvider.ttl(key);
+                    long currentTime = System.currentTimeMillis();
+                    if (ttl >= 0L) {
+                        this.refreshDeadlines.putIfAbsent(key, currentTime + ttl);
+                    } else if (ttl != -2L) {
+                        if (this.ttlWarned.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+                            this.logger.warn("TTL_Unsupported_Cache_Warn");
+                        }
+                        this.refreshDeadlines.putIfAbsent(key, currentTime + TimeUnit.SECONDS.toMillis(expiry));
+                    }
+                } finally {
+                    this.refreshingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            this.refreshingKeys.remove(key);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Load value when holding the distributed lease, or wait for the value loaded by lease owner</h3>
+     * <span class="en-US">Value was loaded by current node if it was still not exists when the lease expired</span>
+     * <h3 class="zh-CN">持有分布式租约时加载数据，或等待租约持有者加载的数据</h3>
+     * <span class="zh-CN">如果租约过期时数据仍不存在，则由当前节点加载数据</span>
+     *
+     * @param key       <span class="en-US">Cache key</span>
+     *                  <span class="zh-CN">缓存键值</span>
+     * @param loader    <span class="en-US">Loader function</span>
+     *                  <span class="zh-CN">加载函数</span>
+     * @param expire    <span class="en-US">Expire time</span>
+     *                  <span class="zh-CN">过期时间</span>
+     * @param leaseTime <span class="en-US">Expire time of distributed lease</span>
+     *                  <span class="zh-CN">分布式租约的过期时间</span>
+     * @return <span class="en-US">Loaded value</span>
+     * <span class="zh-CN">加载的数据</span>
+     */
+    private String leaseLoad(final String key, final Function<String, String> loader, final int expire,
+                             final int leaseTime) {
+        String leaseKey = key + CacheGlobals.LEASE_KEY_SUFFIX;
+        String leaseToken = this.acquireLease(leaseKey, leaseTime);
+        if (leaseToken != null) {
+            try {
+                return this.load(key, loader, expire);
+            } finally {
+                this.releaseLease(leaseKey, leaseToken);
+            }
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(leaseTime);
+        while (System.nanoTime() - deadline < 0L) {
+            try {
+                Thread.sleep(CacheGlobals.LEASE_WAIT_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            long stamp = this.stamp(key);
+            String value = this.cacheProvider.get(key);
+            if (value != null) {
+                this.cacheRead(key, value, stamp);
+                return value;
+            }
+        }
+        return this.load(key, loader, expire);
+    }
+
+    /**
+     * <h3 class="en-US">Add distributed lease key with a unique token</h3>
+     * <h3 class="zh-CN">使用唯一令牌添加分布式租约键值</h3>
+     *
+     * @param leaseKey  <span class="en-US">Lease key</span>
+     *                  <span class="zh-CN">租约键值</span>
+     * @param leaseTime <span class="en-US">Expire time of distributed lease</span>
+     *                  <span class="zh-CN">分布式租约的过期时间</span>
+     * @return <span class="en-US">Lease token or null if the lease was held by others</span>
+     * <span class="zh-CN">租约令牌，租约被其他节点持有时返回null</span>
+     */
+    private String acquireLease(final String leaseKey, final int leaseTime) {
+        String leaseToken = UUID.randomUUID().toString();
+        return this.cacheProvider.tryAdd(leaseKey, leaseToken, leaseTime) ? leaseToken : null;
+    }
+
+    /**
+     * <h3 class="en-US">Remove distributed lease key if it was still held by current node</h3>
+     * <span class="en-US">
+     *     Lease which was expired may be acquired by other node, so the token was compared and the lease key was removed
+     *     in one atomic operation on cache server.
+     * </span>
+     * <h3 class="zh-CN">如果分布式租约仍由当前节点持有，则移除租约键值</h3>
+     * <span class="zh-CN">已过期的租约可能被其他节点获取，因此在缓存服务器上以一个原子操作比较令牌并移除租约键值</span>
+     *
+     * @param leaseKey   <span class="en-US">Lease key</span>
+     *                   <span class="zh-CN">租约键值</span>
+     * @param leaseToken <span class="en-US">Lease token of current node</span>
+     *                   <span class="zh-CN">当前节点的租约令牌</span>
+     */
+    private void releaseLease(final String leaseKey, final String leaseToken) {
+        this.cacheProvider.deleteIfEquals(leaseKey, leaseToken);
+    }
+
+    /**
+     * <h3 class="en-US">Reload value in background if the elapsed expire time passed the refresh ahead ratio</h3>
+     * <span class="en-US">
+     *     Each cache key was refreshing by only one task in current JVM,
+     *     and only the node which added the lease key refresh the value when using distributed lease.
+     * </span>
+     * <h3 class="zh-CN">如果经过的过期时间超过提前刷新比例，则在后台重新加载数据</h3>
+     * <span class="zh-CN">当前JVM中每个缓存键值只由一个任务刷新，使用分布式租约时仅由成功添加租约键值的节点刷新数据</span>
+     *
+     * @param key       <span class="en-US">Cache key</span>
+     *                  <span class="zh-CN">缓存键值</span>
+     * @param loader    <span class="en-US">Loader function</span>
+     *                  <span class="zh-CN">加载函数</span>
+     * @param expire    <span class="en-US">Expire time</span>
+     *                  <span class="zh-CN">过期时间</span>
+     * @param leaseTime <span class="en-US">Expire time of distributed lease</span>
+     *                  <span class="zh-CN">分布式租约的过期时间</span>
+     */
+    private void refreshAhead(final String key, final Function<String, String> loader, final int expire,
+                              final int leaseTime) {
+        int expiry = (expire == Globals.DEFAULT_VALUE_INT) ? this.expireTime : expire;
+        if (this.refreshExecutor == null || expiry <= 0 || this.refreshingKeys.contains(key)) {
+            return;
+        }
+        //  Deadline was recorded locally, so no round trip was sent on the read path
+        Long deadline = this.refreshDeadlines.get(key);
+        if (deadline == null) {
+            this.probeDeadline(key, expiry);
+            return;
+        }
+        long remainTime = deadline - System.currentTimeMillis();
+        if (remainTime <= 0L) {
+            //  Value was written again after the recorded deadline passed, the deadline was probed again
+            this.refreshDeadlines.remove(key, deadline);
+            this.probeDeadline(key, expiry);
+            return;
+        }
+        if (remainTime > TimeUnit.SECONDS.toMillis(expiry) * (100 - this.refreshAheadRatio) / 100) {
+            return;
+        }
+        if (!this.refreshingKeys.add(key)) {
+            return;
+        }
+        try {
+            this.refreshExecutor.execute(() -> {
+                try {
+                    if (leaseTime > 0) {
+                        String leaseKey = key + CacheGlobals.LEASE_KEY_SUFFIX;
+                        String leaseToken = this.acquireLease(leaseKey, leaseTime);
+                        if (leaseToken != null) {
+                            try {
+                                this.load(key, loader, expire);
+                            } finally {
+                                this.releaseLease(leaseKey, leaseToken);
+                            }
+                        }
+                    } else {
+                        this.load(key, loader, expire);
+                    }
+                } catch (RuntimeException e) {
+                    this.logger.error("Refresh_Ahead_Cache_Error", key);
+                    if (this.logger.isDebugEnabled()) {
+                        this.logger.debug("Utils", "Stack_Message_Error", e);
+                    }
+                } finally {
+                    this.refreshingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            //  Too many refreshing tasks, current value will be loaded again after it expired
+            this.refreshingKeys.remove(key);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Wait for the result of loading future which registered by other thread</h3>
+     * <h3 class="zh-CN">等待其他线程注册的加载任务的结果</h3>
+     *
+     * @param loadFuture <span class="en-US">Loading future</span>
+     *                   <span class="zh-CN">加载任务</span>
+     * @return <span class="en-US">Loaded value</span>
+     * <span class="zh-CN">加载的数据</span>
+     */
+    private static String await(final CompletableFuture<String> loadFuture) {
+        try {
+            return loadFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve codec configured for current cache, the default binary codec was used if not registered</h3>
+     * <span class="en-US">Codec was restricted by the allow list of current cache</span>
+     * <h3 class="zh-CN">读取当前缓存配置的编解码器，未注册时使用默认的二进制编解码器</h3>
+     * <span class="zh-CN">编解码器受当前缓存的允许列表限制</span>
+     *
+     * @param cacheConfig <span class="en-US">System cache config instance</span>
+     *                    <span class="zh-CN">系统缓存配置实例</span>
+     * @return <span class="en-US">Codec instance</span>
+     * <span class="zh-CN">编解码器实例</span>
+     */
+    private CacheCodec<?> configCodec(final CacheConfig cacheConfig) {
+        CacheCodec<?> cacheCodec = Optional.ofNullable(CodecManager.codec(cacheConfig.getCodecName()))
+                .orElseGet(() -> {
+                    if (StringUtils.notBlank(cacheConfig.getCodecName())) {
+                        this.logger.warn("Codec_Not_Registered_Cache_Warn", cacheConfig.getCodecName());
+                    }
+                    return CodecManager.codec(CacheGlobals.DEFAULT_CODEC_NAME);
+                });
+        return (cacheCodec == null) ? null : cacheCodec.restrict(cacheConfig.getCodecAllowList());
+    }
+
+    /**
+     * <h3 class="en-US">Generate near cache instance by configured storage</h3>
+     * <h3 class="zh-CN">根据配置的存储方式生成近端缓存实例</h3>
+     *
+     * @param cacheConfig <span class="en-US">System cache config instance</span>
+     *                    <span class="zh-CN">系统缓存配置实例</span>
+     * @return <span class="en-US">Near cache instance or null if near cache was disabled</span>
+     * <span class="zh-CN">近端缓存实例，未启用近端缓存时返回null</span>
+     */
+    private static LocalCache newLocalCache(final CacheConfig cacheConfig) {
+        if (cacheConfig.getNearCacheEntries() <= 0) {
+            return null;
+        }
+        if (NearCacheStorage.OffHeap.toString().equalsIgnoreCase(cacheConfig.getNearCacheStorage())) {
+            return new OffHeapCache(cacheConfig.getNearCacheEntries(), cacheConfig.getNearCacheWeight(),
+                    cacheConfig.getNearCacheExpire());
+        }
+        return new TinyLFUCache(cacheConfig.getNearCacheEntries(), cacheConfig.getNearCacheWeight(),
+                cacheConfig.getNearCacheExpire());
+    }
+
+    /**
+     * <h3 class="en-US">Generate bounded executor of refresh ahead</h3>
+     * <span class="en-US">
+     *     Thread count is limited by client pool size and waiting queue is limited by maximum client,
+     *     refresh task was rejected when the queue was full.
+     * </span>
+     * <h3 class="zh-CN">生成提前刷新使用的有界线程池</h3>
+     * <span class="zh-CN">线程数量受连接池大小限制，等待队列受客户端实例阈值限制，队列已满时拒绝刷新任务</span>
+     *
+     * @param cacheConfig <span class="en-US">System cache config instance</span>
+     *                    <span class="zh-CN">系统缓存配置实例</span>
+     * @return <span class="en-US">Executor instance</span>
+     * <span class="zh-CN">线程池实例</span>
+     */
+    private static ThreadPoolExecutor newRefreshExecutor(final CacheConfig cacheConfig) {
+        final AtomicInteger threadIndex = new AtomicInteger(0);
+        final String threadPrefix = cacheConfig.getProviderName() + "-Refresh-";
+        int poolSize = Math.max(cacheConfig.getClientPoolSize(), 1);
+        ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(cacheConfig.getMaximumClient(), poolSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadPrefix + threadIndex.incrementAndGet());
+                    thread.setDaemon(Boolean.TRUE);
+                    return thread;
+                });
+        threadPoolExecutor.allowCoreThreadTimeOut(Boolean.TRUE);
+        return threadPoolExecutor;
+    }
+
+    /**
+     * <h3 class="en-US">Process invalidated cache keys which notified by cache provider</h3>
+     * <h3 class="zh-CN">处理缓存适配器通知的失效缓存键值</h3>
+     *
+     * @param keys <span class="en-US">Invalidated cache keys, null for all cache keys</span>
+     *             <span class="zh-CN">失效的缓存键值，null表示所有缓存键值</span>
+     */
+    private void onInvalidate(final Collection<String> keys) {
+        if (keys == null) {
+            for (int i = 0; i < INVALIDATION_STRIPES; i++) {
+                this.invalidationStamps.incrementAndGet(i);
+            }
+            this.localCache.invalidateAll();
+            this.refreshDeadlines.clear();
+        } else {
+            keys.forEach(key -> {
+                this.invalidationStamps.incrementAndGet(stripe(key));
+                this.localCache.invalidate(key);
+                //  Value was written by others, the deadline was probed again
+                this.refreshDeadlines.remove(key);
+            });
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Update near cache by value which was read from cache server</h3>
+     * <span class="en-US">
+     *     Value was not cached if the cache key was invalidated or written after the read started.
+     *     The stamp was checked again after writing to near cache, because the invalidation may arrive
+     *     between the check and the write, and it found nothing to remove at that time.
+     * </span>
+     * <h3 class="zh-CN">使用从缓存服务器读取的数据更新近端缓存</h3>
+     * <span class="zh-CN">
+     *     如果缓存键值在读取开始后失效或被写入，则不缓存数据。写入近端缓存后再次检查标记，因为失效通知可能在检查和写入之间到达，此时没有可移除的数据
+     * </span>
+     *
+     * @param key   <span class="en-US">Cache key</span>
+     *              <span class="zh-CN">缓存键值</span>
+     * @param value <span class="en-US">Cache value</span>
+     *              <span class="zh-CN">缓存数据</span>
+     * @param stamp <span class="en-US">Invalidation stamp of cache key before the read started</span>
+     *              <span class="zh-CN">读取开始前缓存键值的失效标记</span>
+     */
+    private void cacheRead(final String key, final String value, final long stamp) {
+        if (this.localCache == null || value == null) {
+            return;
+        }
+        int index = stripe(key);
+        if (this.invalidationStamps.get(index) != stamp) {
+            return;
+        }
+        this.localCache.put(key, value, Globals.DEFAULT_VALUE_INT);
+        if (this.invalidationStamps.get(index) != stamp) {
+            this.localCache.invalidate(key);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve invalidation stamp of given cache key</h3>
+     * <h3 class="zh-CN">读取给定缓存键值的失效标记</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Invalidation stamp</span>
+     * <span class="zh-CN">失效标记</span>
+     */
+    private long stamp(final String key) {
+        return this.invalidationStamps.get(stripe(key));
+    }
+
+    private static int stripe(final String key) {
+        return (key.hashCode() & Integer.MAX_VALUE) % INVALIDATION_STRIPES;
+    }
+
+    /**
+     * <h3 class="en-US">Remove cache key from near cache and clear the recorded expiry deadline</h3>
+     * <span class="en-US">Expire time may be changed by the write, so the deadline was recorded again by loader reads</span>
+     * <h3 class="zh-CN">从近端缓存中移除缓存键值并清除记录的过期时间点</h3>
+     * <span class="zh-CN">写入操作可能改变过期时间，因此由加载函数读取时重新记录过期时间点</span>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     */
+    private void invalidateLocal(final String key) {
+        if (this.localCache != null) {
+            this.invalidationStamps.incrementAndGet(stripe(key));
+            this.localCache.invalidate(key);
+        }
+        this.refreshDeadlines.remove(key);
     }
 
     /**
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.client.impl;
+
+import org.nervousync.cache.api.AsyncCacheClient;
+import org.nervousync.cache.api.ReactiveCacheClient;
+import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.cache.reactive.CompletionStagePublisher;
+import org.nervousync.utils.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+
+/**
+ * <h2 class="en-US">Reactive cache client implement class</h2>
+ * <span class="en-US">
+ *     Read operations use the publisher of cache provider,
+ *     write operations adapt the operations of asynchronous cache client.
+ * </span>
+ * <h2 class="zh-CN">响应式缓存客户端的实现类</h2>
+ * <span class="zh-CN">读操作使用缓存适配器提供的发布者，写操作适配异步缓存客户端的操作</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 06, 2024 17:14:08 $
+ */
+public final class ReactiveCacheClientImpl implements ReactiveCacheClient {
+
+    /**
+     * <span class="en-US">Current cache provider instance</span>
+     * <span class="zh-CN">缓存适配器实例</span>
+     */
+    private final AbstractProvider cacheProvider;
+    /**
+     * <span class="en-US">Asynchronous cache client instance</span>
+     * <span class="zh-CN">异步缓存客户端实例</span>
+     */
+    private final AsyncCacheClient asyncClient;
+
+    /**
+     * <h3 class="en-US">Constructor for reactive cache client</h3>
+     * <h3 class="zh-CN">响应式缓存客户端的构造方法</h3>
+     *
+     * @param cacheProvider <span class="en-US">Initialized cache provider instance</span>
+     *                      <span class="zh-CN">已初始化的缓存适配器实例</span>
+     * @param asyncClient   <span class="en-US">Asynchronous cache client instance</span>
+     *                      <span class="zh-CN">异步缓存客户端实例</span>
+     */
+    ReactiveCacheClientImpl(final AbstractProvider cacheProvider, final AsyncCacheClient asyncClient) {
+        this.cacheProvider = cacheProvider;
+        this.asyncClient = asyncClient;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#set(String, String, int)
+     */
+    @Override
+    public Flow.Publisher<Void> set(final String key, final String value, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return empty();
+        }
+        return new CompletionStagePublisher<>(() -> this.asyncClient.set(key, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#add(String, String, int)
+     */
+    @Override
+    public Flow.Publisher<Void> add(final String key, final String value, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return empty();
+        }
+        return new CompletionStagePublisher<>(() -> this.asyncClient.add(key, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#replace(String, String, int)
+     */
+    @Override
+    public Flow.Publisher<Void> replace(final String key, final String value, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return empty();
+        }
+        return new CompletionStagePublisher<>(() -> this.asyncClient.replace(key, value, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#expire(String, int)
+     */
+    @Override
+    public Flow.Publisher<Void> expire(final String key, final int expire) {
+        if (StringUtils.isEmpty(key)) {
+            return empty();
+        }
+        return new CompletionStagePublisher<>(() -> this.asyncClient.expire(key, expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#touch(String...)
+     */
+    @Override
+    public Flow.Publisher<Void> touch(final String... keys) {
+        if (keys == null || keys.length == 0) {
+            return empty();
+        }
+        return new CompletionStagePublisher<>(() -> this.asyncClient.touch(keys));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#delete(String)
+     */
+    @Override
+    public Flow.Publisher<Void> delete(final String key) {
+        if (StringUtils.isEmpty(key)) {
+            return empty();
+        }
+        return new CompletionStagePublisher<>(() -> this.asyncClient.delete(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#get(String)
+     */
+    @Override
+    public Flow.Publisher<String> get(final String key) {
+        if (StringUtils.isEmpty(key)) {
+            return empty();
+        }
+        return this.cacheProvider.getPublisher(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#getAll(Collection)
+     */
+    @Override
+    public Flow.Publisher<Map.Entry<String, String>> getAll(final Collection<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return empty();
+        }
+        List<String> keyList = keys.stream()
+                .filter(StringUtils::notBlank)
+                .distinct()
+                .collect(Collectors.toList());
+        if (keyList.isEmpty()) {
+            return empty();
+        }
+        return this.cacheProvider.getAllPublisher(keyList);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#incr(String, long)
+     */
+    @Override
+    public Flow.Publisher<Long> incr(final String key, final long step) {
+        if (StringUtils.isEmpty(key)) {
+            return empty();
+        }
+        return new CompletionStagePublisher<>(() -> this.asyncClient.incr(key, step));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see ReactiveCacheClient#decr(String, long)
+     */
+    @Override
+    public Flow.Publisher<Long> decr(final String key, final long step) {
+        if (StringUtils.isEmpty(key)) {
+            return empty();
+        }
+        return new CompletionStagePublisher<>(() -> this.asyncClient.decr(key, step));
+    }
+
+    /**
+     * <h3 class="en-US">Generate publisher which complete without data</h3>
+     * <h3 class="zh-CN">生成不发布数据直接完成的发布者</h3>
+     *
+     * @param <T> <span class="en-US">Data type</span>
+     *            <span class="zh-CN">数据类型</span>
+     * @return <span class="en-US">Empty publisher</span>
+     * <span class="zh-CN">空发布者</span>
+     */
+    private static <T> Flow.Publisher<T> empty() {
+        return new CompletionStagePublisher<>(() -> CompletableFuture.completedFuture(null));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.codec;
+
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Interface of cache value codec</h2>
+ * <span class="en-US">
+ *     Codec converts typed value to binary cache value and back. Implement class must be annotated by
+ *     org.nervousync.annotations.provider.Provider and registered by Java SPI, the provider name was used in
+ *     cache configure to select the codec of a cache.
+ * </span>
+ * <h2 class="zh-CN">缓存数据编解码器的接口</h2>
+ * <span class="zh-CN">
+ *     编解码器将类型化的数据转换为二进制缓存数据，并可转换回原类型。实现类必须使用org.nervousync.annotations.provider.Provider注解并通过Java SPI注册，
+ *     缓存配置使用适配器名称选择缓存的编解码器。
+ * </span>
+ *
+ * @param <T> <span class="en-US">Value type</span>
+ *            <span class="zh-CN">数据类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 18, 2024 10:26:52 $
+ */
+public interface CacheCodec<T> {
+
+    /**
+     * <h3 class="en-US">Check the given type was supported by current codec</h3>
+     * <h3 class="zh-CN">检查当前编解码器是否支持给定的类型</h3>
+     *
+     * @param type <span class="en-US">Value type</span>
+     *             <span class="zh-CN">数据类型</span>
+     * @return <span class="en-US">true if supported</span>
+     * <span class="zh-CN">支持时返回true</span>
+     */
+    boolean supports(final Class<?> type);
+
+    /**
+     * <h3 class="en-US">Encode value to binary cache value</h3>
+     * <h3 class="zh-CN">将数据编码为二进制缓存数据</h3>
+     *
+     * @param value <span class="en-US">Value instance, not null</span>
+     *              <span class="zh-CN">数据实例，不为null</span>
+     * @return <span class="en-US">Binary cache value</span>
+     * <span class="zh-CN">二进制缓存数据</span>
+     *
+     * @throws IllegalArgumentException <span class="en-US">If value can not be encoded</span>
+     *                                  <span class="zh-CN">数据无法编码时抛出异常</span>
+     */
+    byte[] encode(final T value);
+
+    /**
+     * <h3 class="en-US">Decode binary cache value to value of given type</h3>
+     * <h3 class="zh-CN">将二进制缓存数据解码为给定类型的数据</h3>
+     *
+     * @param dataBytes <span class="en-US">Binary cache value, not null</span>
+     *                  <span class="zh-CN">二进制缓存数据，不为null</span>
+     * @param type      <span class="en-US">Value type</span>
+     *                  <span class="zh-CN">数据类型</span>
+     * @return <span class="en-US">Decoded value</span>
+     * <span class="zh-CN">解码后的数据</span>
+     *
+     * @throws IllegalArgumentException <span class="en-US">If binary cache value can not be decoded to given type</span>
+     *                                  <span class="zh-CN">二进制缓存数据无法解码为给定类型时抛出异常</span>
+     */
+    T decode(final byte[] dataBytes, final Class<? extends T> type);
+
+    /**
+     * <h3 class="en-US">Retrieve codec instance which only loads the allowed classes named in binary data</h3>
+     * <span class="en-US">Codecs which never load classes by the names in binary data return current instance</span>
+     * <h3 class="zh-CN">读取仅加载二进制数据中指定的允许类的编解码器实例</h3>
+     * <span class="zh-CN">不根据二进制数据中的名称加载类的编解码器返回当前实例</span>
+     *
+     * @param allowList <span class="en-US">Allowed class names or package names</span>
+     *                  <span class="zh-CN">允许的类名或包名</span>
+     * @return <span class="en-US">Codec instance</span>
+     * <span class="zh-CN">编解码器实例</span>
+     */
+    default CacheCodec<T> restrict(final List<String> allowList) {
+        return this;
+    }
+}
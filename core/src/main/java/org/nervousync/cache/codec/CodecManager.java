@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.codec;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.codec.impl.BytesCodec;
+import org.nervousync.cache.codec.impl.PrimitiveCodec;
+import org.nervousync.cache.codec.impl.StringCodec;
+import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.StringUtils;
+
+import java.util.*;
+
+/**
+ * <h2 class="en-US">Cache value codec manager</h2>
+ * <h2 class="zhs">缓存数据编解码器管理器</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 18, 2024 11:02:37 $
+ */
+public final class CodecManager {
+
+	/**
+	 * <span class="en-US">Logger instance</span>
+	 * <span class="zhs">日志实例</span>
+	 */
+	private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(CodecManager.class);
+
+	/**
+	 * <span class="en-US">Registered codec map</span>
+	 * <span class="zhs">注册的编解码器与名称对应关系</span>
+	 */
+	private static final Hashtable<String, CacheCodec<?>> REGISTERED_CODECS = new Hashtable<>();
+	/**
+	 * <span class="en-US">Built-in codecs of string, byte array and primitive values, checked before configured codec</span>
+	 * <span class="zhs">字符串、字节数组和基本类型数据的内置编解码器，在配置的编解码器之前检查</span>
+	 */
+	private static final List<CacheCodec<?>> BUILT_IN_CODECS =
+			List.of(new StringCodec(), new BytesCodec(), new PrimitiveCodec());
+
+	static {
+		//  Register all codecs by Java SPI
+		ServiceLoader.load(CacheCodec.class).forEach(CodecManager::registerCodec);
+		if (LOGGER.isDebugEnabled()) {
+			LOGGER.debug("Registered_Codecs_Count_Cache_Debug", REGISTERED_CODECS.size());
+		}
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve registered codec name list</h3>
+	 * <h3 class="zhs">读取已注册的编解码器名称列表</h3>
+	 *
+	 * @return  <span class="en-US">Registered codec name list</span>
+	 *          <span class="zhs">已注册的编解码器名称列表</span>
+	 */
+	public static List<String> registeredCodecNames() {
+		return new ArrayList<>(REGISTERED_CODECS.keySet());
+	}
+
+	/**
+	 * <h3 class="en-US">Retrieve codec instance by given codec name</h3>
+	 * <h3 class="zhs">根据指定的编解码器名称获取注册的编解码器实例</h3>
+	 *
+	 * @param codecName <span class="en-US">Codec name</span>
+	 *                  <span class="zhs">编解码器名称</span>
+	 * @return  <span class="en-US">Registered codec instance or null if not registered</span>
+	 *          <span class="zhs">注册的编解码器实例，未注册时返回null</span>
+	 */
+	public static CacheCodec<?> codec(final String codecName) {
+		if (StringUtils.isEmpty(codecName)) {
+			return null;
+		}
+		return REGISTERED_CODECS.get(codecName);
+	}
+
+	/**
+	 * <h3 class="en-US">Find codec of given value type</h3>
+	 * <span class="en-US">Built-in codecs of string, byte array and primitive values were checked before configured codec</span>
+	 * <h3 class="zhs">查找给定数据类型的编解码器</h3>
+	 * <span class="zhs">字符串、字节数组和基本类型数据的内置编解码器在配置的编解码器之前检查</span>
+	 *
+	 * @param type          <span class="en-US">Value type</span>
+	 *                      <span class="zhs">数据类型</span>
+	 * @param configCodec   <span class="en-US">Codec configured for current cache</span>
+	 *                      <span class="zhs">当前缓存配置的编解码器</span>
+	 * @param <T>           <span class="en-US">Value type</span>
+	 *                      <span class="zhs">数据类型</span>
+	 * @return  <span class="en-US">Codec instance or null if the type was not supported</span>
+	 *          <span class="zhs">编解码器实例，不支持给定类型时返回null</span>
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> CacheCodec<T> codecFor(final Class<?> type, final CacheCodec<?> configCodec) {
+		for (CacheCodec<?> cacheCodec : BUILT_IN_CODECS) {
+			if (cacheCodec.supports(type)) {
+				return (CacheCodec<T>) cacheCodec;
+			}
+		}
+		if (configCodec != null && configCodec.supports(type)) {
+			return (CacheCodec<T>) configCodec;
+		}
+		return null;
+	}
+
+	/**
+	 * <h3 class="en-US">Register codec instance</h3>
+	 * <h3 class="zhs">注册编解码器实例</h3>
+	 *
+	 * @param cacheCodec    <span class="en-US">Codec instance</span>
+	 *                      <span class="zhs">编解码器实例</span>
+	 */
+	private static void registerCodec(final CacheCodec<?> cacheCodec) {
+		Optional.ofNullable(cacheCodec.getClass().getAnnotation(Provider.class))
+				.ifPresent(provider -> {
+					String codecName = provider.name();
+					if (REGISTERED_CODECS.containsKey(codecName)) {
+						LOGGER.warn("Override_Cache_Codec",
+								codecName, REGISTERED_CODECS.get(codecName).getClass().getName(),
+								cacheCodec.getClass().getName());
+					}
+					REGISTERED_CODECS.put(codecName, cacheCodec);
+				});
+	}
+}
@@ -0,0 +1,715 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.codec.impl;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.codec.CacheCodec;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * <h2 class="en-US">Compact binary codec of JavaBean values</h2>
+ * <span class="en-US">
+ *     Fields were written in name order without field names, integer values use zigzag variable length encoding.
+ *     Each reference value starts with a tag byte, class name was written only when the value type was different from
+ *     the declared type. Supported values are primitives, strings, byte arrays, big numbers, dates, enums, arrays,
+ *     lists, sets, maps and JavaBeans which have a no-argument constructor. Static and transient fields were ignored,
+ *     cyclic references were not supported. Lists, sets and maps were decoded as ArrayList, LinkedHashSet and
+ *     LinkedHashMap, JavaBean value must be decoded by the class which was encoded.
+ *     Classes named in binary data were instantiated, so only the classes in the package of the decode type and the
+ *     classes or packages of the allow list were loaded, the package of JDK decode types like Object and List was
+ *     not allowed implicitly.
+ * </span>
+ * <h2 class="zh-CN">JavaBean数据的紧凑二进制编解码器</h2>
+ * <span class="zh-CN">
+ *     属性按名称顺序写入且不写入属性名，整数使用zigzag变长编码。每个引用类型数据以标签字节开头，仅当数据类型与声明类型不同时写入类名。
+ *     支持基本类型、字符串、字节数组、大数、日期、枚举、数组、列表、集合、映射以及具有无参构造方法的JavaBean。忽略静态和瞬态属性，不支持循环引用。
+ *     列表、集合和映射分别解码为ArrayList、LinkedHashSet和LinkedHashMap，JavaBean数据必须使用编码时的类进行解码。
+ *     二进制数据中指定的类会被实例化，因此仅加载解码类型所在包中的类以及允许列表中的类或包，Object和List等JDK解码类型的包不会被隐式允许。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 18, 2024 13:52:21 $
+ */
+@Provider(name = "BinaryCodec", titleKey = "binary.cache.codec.name")
+public final class BinaryCodec implements CacheCodec<Object> {
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_BYTE = 3;
+    private static final byte TAG_SHORT = 4;
+    private static final byte TAG_CHAR = 5;
+    private static final byte TAG_INT = 6;
+    private static final byte TAG_LONG = 7;
+    private static final byte TAG_FLOAT = 8;
+    private static final byte TAG_DOUBLE = 9;
+    private static final byte TAG_STRING = 10;
+    private static final byte TAG_BYTES = 11;
+    private static final byte TAG_BIG_INTEGER = 12;
+    private static final byte TAG_BIG_DECIMAL = 13;
+    private static final byte TAG_DATE = 14;
+    private static final byte TAG_INSTANT = 15;
+    private static final byte TAG_UUID = 16;
+    private static final byte TAG_ENUM = 17;
+    private static final byte TAG_ARRAY = 18;
+    private static final byte TAG_LIST = 19;
+    private static final byte TAG_SET = 20;
+    private static final byte TAG_MAP = 21;
+    private static final byte TAG_OBJECT = 22;
+    /**
+     * <span class="en-US">Flag of tag byte means the class name of value was written after the tag</span>
+     * <span class="zh-CN">标签字节的标志位，表示标签之后写入了数据的类名</span>
+     */
+    private static final byte FLAG_TYPED = (byte) 0x80;
+    /**
+     * <span class="en-US">Maximum nesting depth, protects against cyclic references</span>
+     * <span class="zh-CN">最大嵌套深度，防止循环引用</span>
+     */
+    private static final int MAX_DEPTH = 64;
+    /**
+     * <span class="en-US">Cached field layouts of JavaBean classes</span>
+     * <span class="zh-CN">缓存的JavaBean类属性布局</span>
+     */
+    private static final Map<Class<?>, Layout> LAYOUTS = new ConcurrentHashMap<>();
+
+    /**
+     * <span class="en-US">Class names or package names which were allowed to be loaded from binary data</span>
+     * <span class="zh-CN">允许从二进制数据中加载的类名或包名</span>
+     */
+    private final List<String> allowList;
+
+    /**
+     * <h3 class="en-US">Constructor for binary codec</h3>
+     * <span class="en-US">Only the classes in the package of the decode type were loaded from binary data</span>
+     * <h3 class="zh-CN">二进制编解码器的构造方法</h3>
+     * <span class="zh-CN">仅从二进制数据中加载解码类型所在包中的类</span>
+     */
+    public BinaryCodec() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * <h3 class="en-US">Constructor for binary codec with allow list</h3>
+     * <h3 class="zh-CN">使用允许列表的二进制编解码器的构造方法</h3>
+     *
+     * @param allowList <span class="en-US">Allowed class names or package names, package name includes sub packages</span>
+     *                  <span class="zh-CN">允许的类名或包名，包名包含子包</span>
+     */
+    public BinaryCodec(final List<String> allowList) {
+        this.allowList = allowList.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(allowName -> !allowName.isEmpty())
+                .collect(Collectors.toUnmodifiableList());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#restrict(List)
+     */
+    @Override
+    public CacheCodec<Object> restrict(final List<String> allowList) {
+        if (allowList == null || allowList.isEmpty()) {
+            return this;
+        }
+        return new BinaryCodec(allowList);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#supports(Class)
+     */
+    @Override
+    public boolean supports(final Class<?> type) {
+        return type != null && !type.isPrimitive();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#encode(Object)
+     */
+    @Override
+    public byte[] encode(final Object value) {
+        Output output = new Output();
+        Class<?> valueType = (value instanceof Enum) ? ((Enum<?>) value).getDeclaringClass() : value.getClass();
+        this.writeValue(output, valueType, value, 0);
+        return output.toByteArray();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#decode(byte[], Class)
+     */
+    @Override
+    public Object decode(final byte[] dataBytes, final Class<?> type) {
+        Input input = new Input(dataBytes, type);
+        try {
+            Object value = this.readValue(input, type, 0);
+            if (input.position != dataBytes.length) {
+                throw new IllegalArgumentException("Unexpected data after value");
+            }
+            return value;
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Truncated binary data", e);
+        }
+    }
+
+    private void writeValue(final Output output, final Class<?> declaredType, final Object value, final int depth) {
+        if (value == null) {
+            output.write(TAG_NULL);
+            return;
+        }
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Nesting depth exceeds " + MAX_DEPTH + ", cyclic reference found?");
+        }
+        Class<?> valueType = value.getClass();
+        if (value instanceof Boolean) {
+            output.write(((Boolean) value) ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Byte) {
+            output.write(TAG_BYTE);
+            output.write((Byte) value);
+        } else if (value instanceof Short) {
+            output.write(TAG_SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Character) {
+            output.write(TAG_CHAR);
+            output.writeShort((Character) value);
+        } else if (value instanceof Integer) {
+            output.write(TAG_INT);
+            output.writeVarLong((Integer) value);
+        } else if (value instanceof Long) {
+            output.write(TAG_LONG);
+            output.writeVarLong((Long) value);
+        } else if (value instanceof Float) {
+            output.write(TAG_FLOAT);
+            output.writeInt(Float.floatToIntBits((Float) value));
+        } else if (value instanceof Double) {
+            output.write(TAG_DOUBLE);
+            output.writeLong(Double.doubleToLongBits((Double) value));
+        } else if (value instanceof String) {
+            output.write(TAG_STRING);
+            output.writeString((String) value);
+        } else if (value instanceof byte[]) {
+            output.write(TAG_BYTES);
+            output.writeBytes((byte[]) value);
+        } else if (valueType.equals(BigInteger.class)) {
+            output.write(TAG_BIG_INTEGER);
+            output.writeBytes(((BigInteger) value).toByteArray());
+        } else if (valueType.equals(BigDecimal.class)) {
+            output.write(TAG_BIG_DECIMAL);
+            output.writeVarLong(((BigDecimal) value).scale());
+            output.writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (valueType.equals(Date.class)) {
+            output.write(TAG_DATE);
+            output.writeVarLong(((Date) value).getTime());
+        } else if (value instanceof Instant) {
+            output.write(TAG_INSTANT);
+            output.writeVarLong(((Instant) value).getEpochSecond());
+            output.writeVarLong(((Instant) value).getNano());
+        } else if (value instanceof UUID) {
+            output.write(TAG_UUID);
+            output.writeLong(((UUID) value).getMostSignificantBits());
+            output.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value instanceof Enum) {
+            Class<?> enumType = ((Enum<?>) value).getDeclaringClass();
+            this.writeTag(output, TAG_ENUM, declaredType, enumType);
+            output.writeVarLong(((Enum<?>) value).ordinal());
+        } else if (valueType.isArray()) {
+            this.writeTag(output, TAG_ARRAY, declaredType, valueType);
+            int length = Array.getLength(value);
+            output.writeVarLong(length);
+            Class<?> componentType = valueType.getComponentType();
+            for (int i = 0; i < length; i++) {
+                this.writeElement(output, componentType, Array.get(value, i), depth + 1);
+            }
+        } else if (value instanceof List || value instanceof Set) {
+            output.write((value instanceof List) ? TAG_LIST : TAG_SET);
+            output.writeVarLong(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                this.writeValue(output, Object.class, element, depth + 1);
+            }
+        } else if (value instanceof Map) {
+            output.write(TAG_MAP);
+            output.writeVarLong(((Map<?, ?>) value).size());
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                this.writeValue(output, Object.class, entry.getKey(), depth + 1);
+                this.writeValue(output, Object.class, entry.getValue(), depth + 1);
+            }
+        } else {
+            Layout layout = layout(valueType);
+            this.writeTag(output, TAG_OBJECT, declaredType, valueType);
+            for (Field field : layout.fields) {
+                this.writeElement(output, field.getType(), layout.read(field, value), depth + 1);
+            }
+        }
+    }
+
+    private Object readValue(final Input input, final Class<?> declaredType, final int depth) {
+        byte tag = input.read();
+        if (tag == TAG_NULL) {
+            return null;
+        }
+        if (depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("Nesting depth exceeds " + MAX_DEPTH);
+        }
+        Class<?> valueType = declaredType;
+        if ((tag & FLAG_TYPED) != 0) {
+            valueType = this.loadClass(input.readString(), declaredType, input.rootType);
+            tag = (byte) (tag & ~FLAG_TYPED);
+        }
+        Object value;
+        switch (tag) {
+            case TAG_TRUE:
+                value = Boolean.TRUE;
+                break;
+            case TAG_FALSE:
+                value = Boolean.FALSE;
+                break;
+            case TAG_BYTE:
+                value = input.read();
+                break;
+            case TAG_SHORT:
+                value = input.readShort();
+                break;
+            case TAG_CHAR:
+                value = (char) input.readShort();
+                break;
+            case TAG_INT:
+                value = (int) input.readVarLong();
+                break;
+            case TAG_LONG:
+                value = input.readVarLong();
+                break;
+            case TAG_FLOAT:
+                value = Float.intBitsToFloat(input.readInt());
+                break;
+            case TAG_DOUBLE:
+                value = Double.longBitsToDouble(input.readLong());
+                break;
+            case TAG_STRING:
+                value = input.readString();
+                break;
+            case TAG_BYTES:
+                value = input.readBytes();
+                break;
+            case TAG_BIG_INTEGER:
+                value = new BigInteger(input.readBytes());
+                break;
+            case TAG_BIG_DECIMAL:
+                int scale = (int) input.readVarLong();
+                value = new BigDecimal(new BigInteger(input.readBytes()), scale);
+                break;
+            case TAG_DATE:
+                value = new Date(input.readVarLong());
+                break;
+            case TAG_INSTANT:
+                value = Instant.ofEpochSecond(input.readVarLong(), input.readVarLong());
+                break;
+            case TAG_UUID:
+                value = new UUID(input.readLong(), input.readLong());
+                break;
+            case TAG_ENUM:
+                Object[] constants = valueType.getEnumConstants();
+                if (constants == null) {
+                    throw new IllegalArgumentException("Not an enum type: " + valueType.getName());
+                }
+                value = constants[(int) input.readVarLong()];
+                break;
+            case TAG_ARRAY:
+                if (!valueType.isArray()) {
+                    throw new IllegalArgumentException("Not an array type: " + valueType.getName());
+                }
+                int length = input.readLength();
+                Class<?> componentType = valueType.getComponentType();
+                value = Array.newInstance(componentType, length);
+                for (int i = 0; i < length; i++) {
+                    Array.set(value, i, this.readElement(input, componentType, depth + 1));
+                }
+                break;
+            case TAG_LIST:
+            case TAG_SET:
+                int size = input.readLength();
+                Collection<Object> collection = (tag == TAG_LIST) ? new ArrayList<>(size) : new LinkedHashSet<>();
+                for (int i = 0; i < size; i++) {
+                    collection.add(this.readValue(input, Object.class, depth + 1));
+                }
+                value = collection;
+                break;
+            case TAG_MAP:
+                int count = input.readLength();
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < count; i++) {
+                    map.put(this.readValue(input, Object.class, depth + 1),
+                            this.readValue(input, Object.class, depth + 1));
+                }
+                value = map;
+                break;
+            case TAG_OBJECT:
+                Layout layout = layout(valueType);
+                value = layout.newInstance();
+                for (Field field : layout.fields) {
+                    layout.write(field, value, this.readElement(input, field.getType(), depth + 1));
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown tag: " + tag);
+        }
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Write value of array element or field, primitive values were written without tag</h3>
+     * <h3 class="zh-CN">写入数组元素或属性的数据，基本类型数据不写入标签</h3>
+     */
+    private void writeElement(final Output output, final Class<?> declaredType, final Object value, final int depth) {
+        if (!declaredType.isPrimitive()) {
+            this.writeValue(output, declaredType, value, depth);
+        } else if (boolean.class.equals(declaredType)) {
+            output.write(((Boolean) value) ? TAG_TRUE : TAG_FALSE);
+        } else if (byte.class.equals(declaredType)) {
+            output.write((Byte) value);
+        } else if (short.class.equals(declaredType)) {
+            output.writeShort((Short) value);
+        } else if (char.class.equals(declaredType)) {
+            output.writeShort((Character) value);
+        } else if (int.class.equals(declaredType)) {
+            output.writeVarLong((Integer) value);
+        } else if (long.class.equals(declaredType)) {
+            output.writeVarLong((Long) value);
+        } else if (float.class.equals(declaredType)) {
+            output.writeInt(Float.floatToIntBits((Float) value));
+        } else {
+            output.writeLong(Double.doubleToLongBits((Double) value));
+        }
+    }
+
+    private Object readElement(final Input input, final Class<?> declaredType, final int depth) {
+        if (!declaredType.isPrimitive()) {
+            return this.readValue(input, declaredType, depth);
+        } else if (boolean.class.equals(declaredType)) {
+            return input.read() == TAG_TRUE;
+        } else if (byte.class.equals(declaredType)) {
+            return input.read();
+        } else if (short.class.equals(declaredType)) {
+            return input.readShort();
+        } else if (char.class.equals(declaredType)) {
+            return (char) input.readShort();
+        } else if (int.class.equals(declaredType)) {
+            return (int) input.readVarLong();
+        } else if (long.class.equals(declaredType)) {
+            return input.readVarLong();
+        } else if (float.class.equals(declaredType)) {
+            return Float.intBitsToFloat(input.readInt());
+        } else {
+            return Double.longBitsToDouble(input.readLong());
+        }
+    }
+
+    private void writeTag(final Output output, final byte tag, final Class<?> declaredType, final Class<?> valueType) {
+        if (valueType.equals(declaredType)) {
+            output.write(tag);
+        } else {
+            output.write((byte) (tag | FLAG_TYPED));
+            output.writeString(valueType.getName());
+        }
+    }
+
+    private Class<?> loadClass(final String className, final Class<?> declaredType, final Class<?> rootType) {
+        if (!this.allowed(className, rootType)) {
+            throw new IllegalArgumentException("Class not allowed: " + className);
+        }
+        ClassLoader classLoader = Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElse(BinaryCodec.class.getClassLoader());
+        Class<?> valueType;
+        try {
+            valueType = Class.forName(className, Boolean.FALSE, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalArgumentException("Class not found: " + className, e);
+        }
+        if (!declaredType.isAssignableFrom(valueType)) {
+            throw new IllegalArgumentException(className + " is not assignable to " + declaredType.getName());
+        }
+        return valueType;
+    }
+
+    /**
+     * <h3 class="en-US">Check the class named in binary data was allowed to be loaded</h3>
+     * <span class="en-US">Arrays were checked by the element class name, arrays of primitive values were always allowed</span>
+     * <h3 class="zh-CN">检查二进制数据中指定的类是否允许加载</h3>
+     * <span class="zh-CN">数组按元素类名检查，基本类型数组总是允许</span>
+     *
+     * @param className <span class="en-US">Class name in binary data</span>
+     *                  <span class="zh-CN">二进制数据中的类名</span>
+     * @param rootType  <span class="en-US">Decode type</span>
+     *                  <span class="zh-CN">解码类型</span>
+     * @return <span class="en-US">true if allowed</span>
+     * <span class="zh-CN">允许时返回true</span>
+     */
+    private boolean allowed(final String className, final Class<?> rootType) {
+        String elementName = className;
+        if (elementName.startsWith("[")) {
+            elementName = elementName.substring(elementName.lastIndexOf('[') + 1);
+            if (elementName.length() == 1) {
+                return Boolean.TRUE;
+            }
+            if (!elementName.startsWith("L") || !elementName.endsWith(";")) {
+                return Boolean.FALSE;
+            }
+            elementName = elementName.substring(1, elementName.length() - 1);
+        }
+        int index = elementName.lastIndexOf('.');
+        String packageName = (index < 0) ? "" : elementName.substring(0, index);
+        //  Classes loaded by bootstrap class loader were JDK classes
+        if (rootType.getClassLoader() != null && packageName.equals(rootType.getPackageName())) {
+            return Boolean.TRUE;
+        }
+        for (String allowName : this.allowList) {
+            if (elementName.equals(allowName) || elementName.startsWith(allowName + ".")
+                    || elementName.startsWith(allowName + "$")) {
+                return Boolean.TRUE;
+            }
+        }
+        return Boolean.FALSE;
+    }
+
+    private static Layout layout(final Class<?> beanClass) {
+        return LAYOUTS.computeIfAbsent(beanClass, Layout::new);
+    }
+
+    /**
+     * <h2 class="en-US">Field layout of JavaBean class</h2>
+     * <h2 class="zh-CN">JavaBean类的属性布局</h2>
+     */
+    private static final class Layout {
+
+        private final Constructor<?> constructor;
+        private final Field[] fields;
+
+        Layout(final Class<?> beanClass) {
+            if (beanClass.isInterface() || Modifier.isAbstract(beanClass.getModifiers())) {
+                throw new IllegalArgumentException("Can not instantiate type: " + beanClass.getName());
+            }
+            try {
+                this.constructor = beanClass.getDeclaredConstructor();
+                this.constructor.setAccessible(Boolean.TRUE);
+                List<Field> fieldList = new ArrayList<>();
+                Class<?> currentClass = beanClass;
+                while (currentClass != null && !Object.class.equals(currentClass)) {
+                    for (Field field : currentClass.getDeclaredFields()) {
+                        int modifiers = field.getModifiers();
+                        if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && !field.isSynthetic()) {
+                            field.setAccessible(Boolean.TRUE);
+                            fieldList.add(field);
+                        }
+                    }
+                    currentClass = currentClass.getSuperclass();
+                }
+                //  Declaration order was not guaranteed by reflection, sort fields for a stable layout
+                fieldList.sort(Comparator.comparing(Field::getName)
+                        .thenComparing(field -> field.getDeclaringClass().getName()));
+                this.fields = fieldList.toArray(new Field[0]);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalArgumentException("No-argument constructor not found: " + beanClass.getName(), e);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Can not access type: " + beanClass.getName(), e);
+            }
+        }
+
+        Object newInstance() {
+            try {
+                return this.constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalArgumentException("Can not instantiate type: "
+                        + this.constructor.getDeclaringClass().getName(), e);
+            }
+        }
+
+        Object read(final Field field, final Object bean) {
+            try {
+                return field.get(bean);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Can not read field: " + field.getName(), e);
+            }
+        }
+
+        void write(final Field field, final Object bean, final Object value) {
+            try {
+                field.set(bean, value);
+            } catch (IllegalAccessException e) {
+                throw new IllegalArgumentException("Can not write field: " + field.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Growable output buffer</h2>
+     * <h2 class="zh-CN">可扩容的输出缓冲区</h2>
+     */
+    private static final class Output {
+
+        private byte[] buffer = new byte[64];
+        private int position = 0;
+
+        void write(final byte value) {
+            this.ensure(1);
+            this.buffer[this.position++] = value;
+        }
+
+        void writeShort(final int value) {
+            this.ensure(2);
+            this.buffer[this.position++] = (byte) (value >>> 8);
+            this.buffer[this.position++] = (byte) value;
+        }
+
+        void writeInt(final int value) {
+            this.ensure(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                this.buffer[this.position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeLong(final long value) {
+            this.ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                this.buffer[this.position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(final long value) {
+            this.ensure(10);
+            long current = (value << 1) ^ (value >> 63);
+            while ((current & ~0x7FL) != 0L) {
+                this.buffer[this.position++] = (byte) ((current & 0x7F) | 0x80);
+                current >>>= 7;
+            }
+            this.buffer[this.position++] = (byte) current;
+        }
+
+        void writeBytes(final byte[] value) {
+            this.writeVarLong(value.length);
+            this.ensure(value.length);
+            System.arraycopy(value, 0, this.buffer, this.position, value.length);
+            this.position += value.length;
+        }
+
+        void writeString(final String value) {
+            this.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(this.buffer, this.position);
+        }
+
+        private void ensure(final int length) {
+            if (this.position + length > this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.position + length));
+            }
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Input reader of binary data</h2>
+     * <h2 class="zh-CN">二进制数据的输入读取器</h2>
+     */
+    private static final class Input {
+
+        private final byte[] buffer;
+        /**
+         * <span class="en-US">Decode type, classes in its package were allowed to be loaded</span>
+         * <span class="zh-CN">解码类型，其所在包中的类允许加载</span>
+         */
+        private final Class<?> rootType;
+        private int position = 0;
+
+        Input(final byte[] buffer, final Class<?> rootType) {
+            this.buffer = buffer;
+            this.rootType = rootType;
+        }
+
+        byte read() {
+            if (this.position >= this.buffer.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            return this.buffer[this.position++];
+        }
+
+        short readShort() {
+            return (short) (((this.read() & 0xFF) << 8) | (this.read() & 0xFF));
+        }
+
+        int readInt() {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                value = (value << 8) | (this.read() & 0xFF);
+            }
+            return value;
+        }
+
+        long readLong() {
+            long value = 0L;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (this.read() & 0xFF);
+            }
+            return value;
+        }
+
+        long readVarLong() {
+            long current = 0L;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte value = this.read();
+                current |= (long) (value & 0x7F) << shift;
+                if ((value & 0x80) == 0) {
+                    return (current >>> 1) ^ -(current & 1L);
+                }
+            }
+            throw new IllegalArgumentException("Malformed variable length number");
+        }
+
+        int readLength() {
+            long length = this.readVarLong();
+            if (length < 0L || length > this.buffer.length - this.position) {
+                throw new IllegalArgumentException("Invalid length: " + length);
+            }
+            return (int) length;
+        }
+
+        byte[] readBytes() {
+            int length = this.readLength();
+            byte[] value = Arrays.copyOfRange(this.buffer, this.position, this.position + length);
+            this.position += length;
+            return value;
+        }
+
+        String readString() {
+            int length = this.readLength();
+            String value = new String(this.buffer, this.position, length, StandardCharsets.UTF_8);
+            this.position += length;
+            return value;
+        }
+    }
+}
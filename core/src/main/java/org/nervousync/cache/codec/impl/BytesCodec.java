@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.codec.impl;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.codec.CacheCodec;
+
+/**
+ * <h2 class="en-US">Codec of byte array values, the binary cache value was the byte array itself</h2>
+ * <h2 class="zh-CN">字节数组数据的编解码器，二进制缓存数据即为字节数组本身</h2>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 18, 2024 11:31:08 $
+ */
+@Provider(name = "BytesCodec", titleKey = "bytes.cache.codec.name")
+public final class BytesCodec implements CacheCodec<byte[]> {
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#supports(Class)
+     */
+    @Override
+    public boolean supports(final Class<?> type) {
+        return byte[].class.equals(type);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#encode(Object)
+     */
+    @Override
+    public byte[] encode(final byte[] value) {
+        return value;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#decode(byte[], Class)
+     */
+    @Override
+    public byte[] decode(final byte[] dataBytes, final Class<? extends byte[]> type) {
+        return dataBytes;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.codec.impl;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.codec.CacheCodec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * <h2 class="en-US">Codec of primitive values and their wrapper types</h2>
+ * <span class="en-US">
+ *     Values were encoded as UTF-8 text, so numbers written by this codec can be increased or decreased by cache server,
+ *     and values written by string operations can be read as primitive values.
+ * </span>
+ * <h2 class="zh-CN">基本类型数据及其包装类型的编解码器</h2>
+ * <span class="zh-CN">数据编码为UTF-8文本，因此使用此编解码器写入的数值可以由缓存服务器增减，使用字符串操作写入的数据也可以读取为基本类型数据</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 18, 2024 11:38:46 $
+ */
+@Provider(name = "PrimitiveCodec", titleKey = "primitive.cache.codec.name")
+public final class PrimitiveCodec implements CacheCodec<Object> {
+
+    /**
+     * <span class="en-US">Mapping of primitive types and their wrapper types</span>
+     * <span class="zh-CN">基本类型与其包装类型的对应关系</span>
+     */
+    private static final Map<Class<?>, Class<?>> WRAPPER_TYPES = Map.of(
+            boolean.class, Boolean.class, byte.class, Byte.class, short.class, Short.class,
+            char.class, Character.class, int.class, Integer.class, long.class, Long.class,
+            float.class, Float.class, double.class, Double.class);
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#supports(Class)
+     */
+    @Override
+    public boolean supports(final Class<?> type) {
+        return WRAPPER_TYPES.containsKey(type) || WRAPPER_TYPES.containsValue(type);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#encode(Object)
+     */
+    @Override
+    public byte[] encode(final Object value) {
+        if (!this.supports(value.getClass())) {
+            throw new IllegalArgumentException("Unsupported primitive type: " + value.getClass().getName());
+        }
+        return value.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheCodec#decode(byte[], Class)
+     */
+    @Override
+    public Object decode(final byte[] dataBytes, final Class<?> type) {
+        String value = new String(dataBytes, StandardCharsets.UTF_8);
+        Class<?> wrapperType = WRAPPER_TYPES.getOrDefault(type, type);
+        if (Long.class.equals(wrapperType)) {
+            return Long.valueOf(value);
+        } else if (Integer.class.equals(wrapperType)) {
+            return Integer.valueOf(value);
+        } else if (Boolean.class.equals(wrapperType)) {
+            return Boolean.valueOf(value);
+        } else if (Double.class.equals(wrapperType)) {
+            return Double.valueOf(value);
+        } else if (Float.class.equals(wrapperType)) {
+            return Float.valueOf(value);
+        } else if (Short.class.equals(wrapperType)) {
+            return Short.valueOf(value);
+        } else if (Byte.class.equals(wrapperType)) {
+            return Byte.valueOf(value);
+        } else if (Character.class.equals(wrapperType) && value.length() == 1) {
+            return value.charAt(0);
+        }
+        throw new IllegalArgumentException("Can not decode value to type: " + type.getName());
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.compress;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.nervousync.cache.enumeration.Compression;
+import org.nervousync.utils.LoggerUtils;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * <h2 class="en-US">Compressor of cache values</h2>
+ * <span class="en-US">
+ *     Values which size was greater than or equal to the threshold were compressed and written with a frame header:
+ *     4 bytes magic starts with 0xFF, algorithm identify byte, original length in 4 bytes and CRC32 of original value.
+ *     Values were written uncompressed if the compressed data was not smaller than the original data.
+ *     UTF-8 strings never start with 0xFF, but raw binary values may, so values were decompressed only if the magic
+ *     matched, and the decompressed value was returned only if the checksum matched. Values which written before
+ *     compression was enabled, or written by setBytes, were returned as they were.
+ *     Frames of all algorithms were decompressed whatever the configured compression algorithm.
+ * </span>
+ * <h2 class="zh-CN">缓存数据的压缩器</h2>
+ * <span class="zh-CN">
+ *     长度大于等于阈值的数据压缩后带有帧头写入：以0xFF开头的4字节魔数、算法识别字节、4字节的原始长度和原始数据的CRC32校验值。
+ *     压缩后的数据不小于原始数据时不压缩直接写入。UTF-8字符串不会以0xFF开头，但原始二进制数据可能以0xFF开头，
+ *     因此仅当魔数匹配时解压数据，且仅当校验值匹配时返回解压后的数据。启用压缩前写入的数据或通过setBytes写入的数据按原样返回。
+ *     无论配置的压缩算法是什么，所有算法的压缩帧都会被解压。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 19, 2024 10:26:51 $
+ */
+public final class ValueCompressor {
+
+    /**
+     * <span class="en-US">Logger instance</span>
+     * <span class="zh-CN">日志实例</span>
+     */
+    private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(ValueCompressor.class);
+    /**
+     * <span class="en-US">Magic of compressed frame, 0xFF and "NSZ"</span>
+     * <span class="zh-CN">压缩帧的魔数，0xFF和"NSZ"</span>
+     */
+    private static final int FRAME_MAGIC = 0xFF4E535A;
+    private static final byte ALGORITHM_DEFLATE = 1;
+    private static final byte ALGORITHM_LZ4 = 2;
+    private static final int ALGORITHM_OFFSET = 4;
+    private static final int LENGTH_OFFSET = 5;
+    private static final int CHECKSUM_OFFSET = 9;
+    /**
+     * <span class="en-US">Frame header length: magic, algorithm, original length and checksum</span>
+     * <span class="zh-CN">帧头长度：魔数、算法、原始长度和校验值</span>
+     */
+    private static final int HEADER_LENGTH = 13;
+    /**
+     * <span class="en-US">Maximum original length, same as the maximum value size of Redis</span>
+     * <span class="zh-CN">最大原始长度，与Redis的最大数据长度相同</span>
+     */
+    private static final int MAXIMUM_LENGTH = 512 * 1024 * 1024;
+    /**
+     * <span class="en-US">Library lz4-java was present in classpath</span>
+     * <span class="zh-CN">类路径中存在lz4-java</span>
+     */
+    private static final boolean LZ4_PRESENT = lz4Present();
+
+    /**
+     * <span class="en-US">Compression algorithm</span>
+     * <span class="zh-CN">压缩算法</span>
+     */
+    private final Compression compression;
+    /**
+     * <span class="en-US">Minimum size of compressed value</span>
+     * <span class="zh-CN">压缩数据的最小长度</span>
+     */
+    private final int threshold;
+
+    /**
+     * <h3 class="en-US">Constructor for value compressor</h3>
+     * <span class="en-US">Using deflate compression if LZ4 was configured but lz4-java not found in classpath</span>
+     * <h3 class="zh-CN">数据压缩器的构造方法</h3>
+     * <span class="zh-CN">配置为LZ4但类路径中未找到lz4-java时使用deflate压缩</span>
+     *
+     * @param compression <span class="en-US">Compression algorithm</span>
+     *                    <span class="zh-CN">压缩算法</span>
+     * @param threshold   <span class="en-US">Minimum size of compressed value. Unit: byte</span>
+     *                    <span class="zh-CN">压缩数据的最小长度。单位：字节</span>
+     */
+    public ValueCompressor(final Compression compression, final int threshold) {
+        if (Compression.LZ4.equals(compression) && !LZ4_PRESENT) {
+            LOGGER.warn("LZ4_Not_Found_Cache_Warn");
+            this.compression = Compression.Deflate;
+        } else {
+            this.compression = (compression == null) ? Compression.None : compression;
+        }
+        this.threshold = Math.max(threshold, HEADER_LENGTH + 1);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve compression algorithm</h3>
+     * <h3 class="zh-CN">读取压缩算法</h3>
+     *
+     * @return  <span class="en-US">Compression algorithm</span>
+     *          <span class="zh-CN">压缩算法</span>
+     */
+    public Compression getCompression() {
+        return compression;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve minimum size of compressed value</h3>
+     * <h3 class="zh-CN">读取压缩数据的最小长度</h3>
+     *
+     * @return  <span class="en-US">Minimum size in bytes</span>
+     *          <span class="zh-CN">以字节为单位的最小长度</span>
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * <h3 class="en-US">Compress given value</h3>
+     * <h3 class="zh-CN">压缩给定的数据</h3>
+     *
+     * @param data <span class="en-US">Value bytes</span>
+     *             <span class="zh-CN">数据字节数组</span>
+     * @return <span class="en-US">Compressed frame, or the given bytes if value was not compressed</span>
+     * <span class="zh-CN">压缩帧，数据未压缩时返回给定的字节数组</span>
+     */
+    public byte[] compress(final byte[] data) {
+        if (data == null || data.length < this.threshold || data.length > MAXIMUM_LENGTH) {
+            return data;
+        }
+        switch (this.compression) {
+            case Deflate:
+                return deflate(data);
+            case LZ4:
+                return LZ4Holder.compress(data);
+            default:
+                return data;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Decompress given value</h3>
+     * <h3 class="zh-CN">解压给定的数据</h3>
+     *
+     * @param data <span class="en-US">Value bytes which read from cache server</span>
+     *             <span class="zh-CN">从缓存服务器读取的数据字节数组</span>
+     * @return <span class="en-US">Original value bytes, or the given bytes if value was not a compressed frame</span>
+     * <span class="zh-CN">原始数据字节数组，数据不是压缩帧时返回给定的字节数组</span>
+     */
+    public byte[] decompress(final byte[] data) {
+        if (data == null || data.length <= HEADER_LENGTH || readInt(data, 0) != FRAME_MAGIC) {
+            return data;
+        }
+        int length = readInt(data, LENGTH_OFFSET);
+        if (length <= 0 || length > MAXIMUM_LENGTH) {
+            return data;
+        }
+        try {
+            byte[] result;
+            switch (data[ALGORITHM_OFFSET]) {
+                case ALGORITHM_DEFLATE:
+                    result = inflate(data, length);
+                    break;
+                case ALGORITHM_LZ4:
+                    if (!LZ4_PRESENT) {
+                        LOGGER.warn("LZ4_Not_Found_Cache_Warn");
+                        return data;
+                    }
+                    result = LZ4Holder.decompress(data, length);
+                    break;
+                default:
+                    return data;
+            }
+            if (checksum(result) != readInt(data, CHECKSUM_OFFSET)) {
+                throw new DataFormatException("Checksum mismatch");
+            }
+            return result;
+        } catch (DataFormatException | RuntimeException e) {
+            LOGGER.warn("Decompress_Value_Cache_Warn");
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Utils", "Stack_Message_Error", e);
+            }
+            return data;
+        }
+    }
+
+    private static byte[] deflate(final byte[] data) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            //  Only keep compressed data which smaller than the original data
+            byte[] buffer = new byte[data.length];
+            int length = HEADER_LENGTH;
+            while (!deflater.finished() && length < buffer.length) {
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            if (!deflater.finished()) {
+                return data;
+            }
+            writeHeader(buffer, ALGORITHM_DEFLATE, data);
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] data, final int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+            byte[] result = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int count = inflater.inflate(result, offset, length - offset);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += count;
+            }
+            if (offset != length || !inflater.finished()) {
+                throw new DataFormatException("Decompressed length mismatch");
+            }
+            return result;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeHeader(final byte[] buffer, final byte algorithm, final byte[] data) {
+        writeInt(buffer, 0, FRAME_MAGIC);
+        buffer[ALGORITHM_OFFSET] = algorithm;
+        writeInt(buffer, LENGTH_OFFSET, data.length);
+        writeInt(buffer, CHECKSUM_OFFSET, checksum(data));
+    }
+
+    private static int checksum(final byte[] data) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(data, 0, data.length);
+        return (int) crc32.getValue();
+    }
+
+    private static int readInt(final byte[] buffer, final int offset) {
+        return ((buffer[offset] & 0xFF) << 24) | ((buffer[offset + 1] & 0xFF) << 16)
+                | ((buffer[offset + 2] & 0xFF) << 8) | (buffer[offset + 3] & 0xFF);
+    }
+
+    private static void writeInt(final byte[] buffer, final int offset, final int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    private static boolean lz4Present() {
+        try {
+            Class.forName("net.jpountz.lz4.LZ4Factory", Boolean.FALSE, ValueCompressor.class.getClassLoader());
+            return Boolean.TRUE;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return Boolean.FALSE;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Holder of LZ4 compressor instances, loaded only if lz4-java was present in classpath</h2>
+     * <h2 class="zh-CN">LZ4压缩器实例的持有类，仅在类路径中存在lz4-java时加载</h2>
+     */
+    private static final class LZ4Holder {
+
+        private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+        private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+
+        static byte[] compress(final byte[] data) {
+            //  Only keep compressed data which smaller than the original data
+            int maxLength = data.length - HEADER_LENGTH - 1;
+            byte[] buffer = new byte[HEADER_LENGTH + COMPRESSOR.maxCompressedLength(data.length)];
+            int length = COMPRESSOR.compress(data, 0, data.length, buffer, HEADER_LENGTH);
+            if (length > maxLength) {
+                return data;
+            }
+            writeHeader(buffer, ALGORITHM_LZ4, data);
+            return Arrays.copyOf(buffer, HEADER_LENGTH + length);
+        }
+
+        static byte[] decompress(final byte[] data, final int length) {
+            byte[] result = new byte[length];
+            int count = DECOMPRESSOR.decompress(data, HEADER_LENGTH, data.length - HEADER_LENGTH, result, 0, length);
+            if (count != length) {
+                throw new IllegalStateException("Decompressed length mismatch");
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.local;
+
+/**
+ * <h2 class="en-US">Frequency sketch of cache keys</h2>
+ * <span class="en-US">
+ *     Count-Min sketch with four 4-bit counters of each key, all counters were halved
+ *     when the sample size was reached, so the history frequency was aged.
+ *     Not thread safe, the caller must guard the sketch by lock.
+ * </span>
+ * <h2 class="zh-CN">缓存键值的访问频率草图</h2>
+ * <span class="zh-CN">每个键值使用4个4位计数器的Count-Min草图，达到采样数量时所有计数器减半以淘汰历史频率。非线程安全，调用者必须加锁保护</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 08, 2024 10:02:17 $
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAXIMUM_TABLE_SIZE = 1 << 30;
+
+    /**
+     * <span class="en-US">Counter table, each element contains sixteen 4-bit counters</span>
+     * <span class="zh-CN">计数器表，每个元素包含16个4位计数器</span>
+     */
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions = 0;
+
+    /**
+     * <h3 class="en-US">Constructor for frequency sketch</h3>
+     * <h3 class="zh-CN">访问频率草图的构造方法</h3>
+     *
+     * @param maximumSize <span class="en-US">Maximum entries of cache</span>
+     *                    <span class="zh-CN">缓存的最大条目数</span>
+     */
+    FrequencySketch(final int maximumSize) {
+        int tableSize = ceilingPowerOfTwo(Math.max(maximumSize, 8));
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = (maximumSize > MAXIMUM_TABLE_SIZE / 10) ? Integer.MAX_VALUE : 10 * Math.max(maximumSize, 1);
+    }
+
+    /**
+     * <h3 class="en-US">Estimate access frequency of given hash code, maximum value is 15</h3>
+     * <h3 class="zh-CN">估算给定哈希值的访问频率，最大值为15</h3>
+     *
+     * @param hashCode <span class="en-US">Hash code of cache key</span>
+     *                 <span class="zh-CN">缓存键值的哈希值</span>
+     * @return <span class="en-US">Estimated frequency</span>
+     * <span class="zh-CN">估算的访问频率</span>
+     */
+    int frequency(final int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = this.indexOf(hash, i);
+            int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xFL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * <h3 class="en-US">Increment access frequency of given hash code</h3>
+     * <h3 class="zh-CN">增加给定哈希值的访问频率</h3>
+     *
+     * @param hashCode <span class="en-US">Hash code of cache key</span>
+     *                 <span class="zh-CN">缓存键值的哈希值</span>
+     */
+    void increment(final int hashCode) {
+        int hash = spread(hashCode);
+        int start = (hash & 3) << 2;
+        boolean added = Boolean.FALSE;
+        for (int i = 0; i < 4; i++) {
+            added |= this.incrementAt(this.indexOf(hash, i), start + i);
+        }
+        if (added && ++this.additions >= this.sampleSize) {
+            this.reset();
+        }
+    }
+
+    private boolean incrementAt(final int index, final int counter) {
+        int offset = counter << 2;
+        long mask = 0xFL << offset;
+        if ((this.table[index] & mask) != mask) {
+            this.table[index] += 1L << offset;
+            return Boolean.TRUE;
+        }
+        return Boolean.FALSE;
+    }
+
+    private void reset() {
+        int oddCount = 0;
+        for (int i = 0; i < this.table.length; i++) {
+            oddCount += Long.bitCount(this.table[i] & ONE_MASK);
+            this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+        }
+        this.additions = (this.additions >>> 1) - (oddCount >>> 2);
+    }
+
+    private int indexOf(final int hash, final int depth) {
+        long value = (hash + SEEDS[depth]) * SEEDS[depth];
+        value += (value >>> 32);
+        return ((int) value) & this.tableMask;
+    }
+
+    private static int spread(final int hashCode) {
+        int hash = ((hashCode >>> 16) ^ hashCode) * 0x45D9F3B;
+        hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+        return (hash >>> 16) ^ hash;
+    }
+
+    private static int ceilingPowerOfTwo(final int value) {
+        if (value >= MAXIMUM_TABLE_SIZE) {
+            return MAXIMUM_TABLE_SIZE;
+        }
+        return 1 << -Integer.numberOfLeadingZeros(value - 1);
+    }
+}
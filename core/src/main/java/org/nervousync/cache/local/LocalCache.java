@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.local;
+
+/**
+ * <h2 class="en-US">Local cache interface</h2>
+ * <span class="en-US">In-process cache tier in front of the cache server, all implements must be thread safe</span>
+ * <h2 class="zh-CN">本地缓存接口</h2>
+ * <span class="zh-CN">位于缓存服务器前的进程内缓存层，所有实现类必须是线程安全的</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 08, 2024 09:26:41 $
+ */
+public interface LocalCache {
+
+    /**
+     * <h3 class="en-US">Read cache value from local cache</h3>
+     * <h3 class="zh-CN">从本地缓存读取缓存数据</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     * @return <span class="en-US">Cache value or null if cache key was not exists or it was expired</span>
+     * <span class="zh-CN">读取的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    String get(final String key);
+
+    /**
+     * <h3 class="en-US">Write cache value to local cache</h3>
+     * <span class="en-US">The expire time will not greater than the maximum expire time of local cache</span>
+     * <h3 class="zh-CN">将缓存数据写入本地缓存</h3>
+     * <span class="zh-CN">过期时间不会超过本地缓存的最大过期时间</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param value  <span class="en-US">Cache value</span>
+     *               <span class="zh-CN">缓存数据</span>
+     * @param expire <span class="en-US">Expire time, less than or equal to 0 means using the maximum expire time</span>
+     *               <span class="zh-CN">过期时间，小于等于0表示使用最大过期时间</span>
+     */
+    void put(final String key, final String value, final int expire);
+
+    /**
+     * <h3 class="en-US">Remove cache key from local cache</h3>
+     * <h3 class="zh-CN">从本地缓存中移除缓存键值</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zh-CN">缓存键值</span>
+     */
+    void invalidate(final String key);
+
+    /**
+     * <h3 class="en-US">Remove all cache keys from local cache</h3>
+     * <h3 class="zh-CN">移除本地缓存中的所有缓存键值</h3>
+     */
+    void invalidateAll();
+
+    /**
+     * <h3 class="en-US">Retrieve current entries count of local cache</h3>
+     * <h3 class="zh-CN">获取本地缓存的当前条目数</h3>
+     *
+     * @return <span class="en-US">Entries count</span>
+     * <span class="zh-CN">条目数</span>
+     */
+    long size();
+}
@@ -0,0 +1,395 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.local;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <h2 class="en-US">Local cache storing entries outside the Java heap</h2>
+ * <span class="en-US">
+ *     Keys were hashed to segments, each segment appends the serialized entries to a ring of direct buffer slabs
+ *     and locates them using an open addressing index of primitive arrays. When the writing slab was full or the
+ *     entries count reached the limit, the oldest slab was recycled and all entries stored in it were evicted.
+ *     Only the index arrays live in the Java heap, so large hot sets do not add garbage collection pressure.
+ * </span>
+ * <h2 class="zh-CN">在Java堆外存储条目的本地缓存</h2>
+ * <span class="zh-CN">
+ *     键值被散列到分段，每个分段将序列化的条目追加写入直接内存缓冲区块组成的环中，并使用基本类型数组实现的开放寻址索引定位条目。
+ *     当写入块已满或条目数达到上限时，回收最早的块并淘汰其中存储的所有条目。
+ *     仅索引数组位于Java堆中，因此大量热点数据不会增加垃圾回收的压力。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 12, 2024 10:07:26 $
+ */
+public final class OffHeapCache implements LocalCache {
+
+    /**
+     * <span class="en-US">Default memory capacity when maximum capacity was not configured. Unit: byte</span>
+     * <span class="zh-CN">未配置最大容量时的默认内存容量。单位：字节</span>
+     */
+    public static final long DEFAULT_CAPACITY = 64L * 1024 * 1024;
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int SEGMENT_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(SEGMENT_COUNT);
+    private static final int SLAB_COUNT = 8;
+    private static final int MINIMUM_SLAB_SIZE = 64 * 1024;
+    private static final int MAXIMUM_SLAB_SIZE = 1 << 30;
+    /**
+     * <span class="en-US">Entry header: key length, value length and expire time</span>
+     * <span class="zh-CN">条目头：键值长度、数据长度和过期时间</span>
+     */
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final long NEVER_EXPIRE = Long.MAX_VALUE >> 1;
+
+    private final Segment[] segments = new Segment[SEGMENT_COUNT];
+    /**
+     * <span class="en-US">Maximum expire time. Unit: nanosecond</span>
+     * <span class="zh-CN">最大过期时间。单位：纳秒</span>
+     */
+    private final long maximumExpire;
+
+    /**
+     * <h3 class="en-US">Constructor for off-heap local cache</h3>
+     * <span class="en-US">The direct buffer slabs were allocated when first used</span>
+     * <h3 class="zh-CN">堆外本地缓存的构造方法</h3>
+     * <span class="zh-CN">直接内存缓冲区块在首次使用时分配</span>
+     *
+     * @param maximumEntries  <span class="en-US">Maximum entries</span>
+     *                        <span class="zh-CN">最大条目数</span>
+     * @param maximumCapacity <span class="en-US">Maximum memory capacity, 0 for default capacity. Unit: byte</span>
+     *                        <span class="zh-CN">最大内存容量，0为使用默认容量。单位：字节</span>
+     * @param expireTime      <span class="en-US">Maximum expire time, 0 for never expire</span>
+     *                        <span class="zh-CN">最大过期时间，0为永不过期</span>
+     */
+    public OffHeapCache(final int maximumEntries, final long maximumCapacity, final int expireTime) {
+        long capacity = (maximumCapacity > 0L) ? maximumCapacity : DEFAULT_CAPACITY;
+        int slabSize = (int) Math.min(Math.max(capacity / (SEGMENT_COUNT * SLAB_COUNT), MINIMUM_SLAB_SIZE),
+                MAXIMUM_SLAB_SIZE);
+        int segmentEntries = Math.max((Math.max(maximumEntries, 1) + SEGMENT_COUNT - 1) / SEGMENT_COUNT, 1);
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            this.segments[i] = new Segment(segmentEntries, slabSize);
+        }
+        this.maximumExpire = (expireTime > 0) ? TimeUnit.SECONDS.toNanos(expireTime) : NEVER_EXPIRE;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#get(String)
+     */
+    @Override
+    public String get(final String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+        byte[] valueBytes = this.segmentFor(hash).get(keyBytes, hash, System.nanoTime());
+        return (valueBytes == null) ? null : new String(valueBytes, StandardCharsets.UTF_8);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#put(String, String, int)
+     */
+    @Override
+    public void put(final String key, final String value, final int expire) {
+        if (value == null) {
+            this.invalidate(key);
+            return;
+        }
+        long expireNanos = (expire > 0) ? Math.min(TimeUnit.SECONDS.toNanos(expire), this.maximumExpire) : this.maximumExpire;
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+        this.segmentFor(hash).put(keyBytes, value.getBytes(StandardCharsets.UTF_8), hash, System.nanoTime() + expireNanos);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#invalidate(String)
+     */
+    @Override
+    public void invalidate(final String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+        this.segmentFor(hash).remove(keyBytes, hash);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#invalidateAll()
+     */
+    @Override
+    public void invalidateAll() {
+        for (Segment segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#size()
+     */
+    @Override
+    public long size() {
+        long size = 0L;
+        for (Segment segment : this.segments) {
+            size += segment.count();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(final long hash) {
+        return this.segments[(int) (hash >>> SEGMENT_SHIFT)];
+    }
+
+    /**
+     * <h3 class="en-US">Calculate 64 bits hash code of key bytes, the result never be 0</h3>
+     * <h3 class="zh-CN">计算键值字节数组的64位散列值，结果不会为0</h3>
+     *
+     * @param keyBytes <span class="en-US">Key bytes</span>
+     *                 <span class="zh-CN">键值字节数组</span>
+     * @return <span class="en-US">Hash code</span>
+     * <span class="zh-CN">散列值</span>
+     */
+    private static long hash(final byte[] keyBytes) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : keyBytes) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return (hash == 0L) ? 1L : hash;
+    }
+
+    /**
+     * <h2 class="en-US">Cache segment</h2>
+     * <span class="en-US">
+     *     The address of each entry was the slab index in the high 32 bits and the offset in the low 32 bits,
+     *     a 0 hash code marks an empty slot of the linear probing index.
+     * </span>
+     * <h2 class="zh-CN">缓存分段</h2>
+     * <span class="zh-CN">每个条目的地址高32位为块索引，低32位为偏移量，散列值为0表示线性探测索引的空槽位</span>
+     */
+    private static final class Segment {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final ByteBuffer[] slabs = new ByteBuffer[SLAB_COUNT];
+        private final int slabSize;
+        private final int maximumEntries;
+        /**
+         * <span class="en-US">Maximum entries written to each slab, recycle one slab evicts no more than 1/8 entries</span>
+         * <span class="zh-CN">每个块写入的最大条目数，回收一个块淘汰的条目不超过1/8</span>
+         */
+        private final int slabEntryLimit;
+        private final long[] hashes;
+        private final long[] addresses;
+        private final int mask;
+        private int count = 0;
+        private int writeSlab = 0;
+        private int writeOffset = 0;
+        private int slabEntries = 0;
+
+        Segment(final int maximumEntries, final int slabSize) {
+            this.slabSize = slabSize;
+            this.maximumEntries = maximumEntries;
+            this.slabEntryLimit = Math.max((maximumEntries + SLAB_COUNT - 1) / SLAB_COUNT, 1);
+            //  Keep the load factor of index less than or equal to 0.5
+            int capacity = Integer.highestOneBit(Math.max(maximumEntries, 2) * 2 - 1) << 1;
+            this.hashes = new long[capacity];
+            this.addresses = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        byte[] get(final byte[] keyBytes, final long hash, final long currentTime) {
+            this.lock.readLock().lock();
+            try {
+                int index = this.find(keyBytes, hash);
+                if (index < 0) {
+                    return null;
+                }
+                ByteBuffer slab = this.slabs[(int) (this.addresses[index] >>> 32)];
+                int offset = (int) this.addresses[index];
+                if (currentTime - slab.getLong(offset + Integer.BYTES * 2) >= 0L) {
+                    return null;
+                }
+                byte[] valueBytes = new byte[slab.getInt(offset + Integer.BYTES)];
+                ByteBuffer readBuffer = slab.duplicate();
+                readBuffer.position(offset + HEADER_SIZE + keyBytes.length);
+                readBuffer.get(valueBytes);
+                return valueBytes;
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        }
+
+        void put(final byte[] keyBytes, final byte[] valueBytes, final long hash, final long expireAt) {
+            int entrySize = HEADER_SIZE + keyBytes.length + valueBytes.length;
+            this.lock.writeLock().lock();
+            try {
+                if (entrySize > this.slabSize) {
+                    //  Entry was too large to store, remove the previous value
+                    int index = this.find(keyBytes, hash);
+                    if (index >= 0) {
+                        this.delete(index);
+                    }
+                    return;
+                }
+                int recycleCount = 0;
+                while (this.writeOffset + entrySize > this.slabSize || this.slabEntries >= this.slabEntryLimit
+                        || (this.count >= this.maximumEntries && recycleCount < SLAB_COUNT
+                        && this.find(keyBytes, hash) < 0)) {
+                    this.recycle();
+                    recycleCount++;
+                }
+                if (this.slabs[this.writeSlab] == null) {
+                    this.slabs[this.writeSlab] = ByteBuffer.allocateDirect(this.slabSize);
+                }
+                ByteBuffer writeBuffer = this.slabs[this.writeSlab].duplicate();
+                writeBuffer.position(this.writeOffset);
+                writeBuffer.putInt(keyBytes.length).putInt(valueBytes.length).putLong(expireAt)
+                        .put(keyBytes).put(valueBytes);
+                long address = ((long) this.writeSlab << 32) | this.writeOffset;
+                this.writeOffset += entrySize;
+                this.slabEntries++;
+
+                int index = this.find(keyBytes, hash);
+                if (index < 0) {
+                    index = (int) hash & this.mask;
+                    while (this.hashes[index] != 0L) {
+                        index = (index + 1) & this.mask;
+                    }
+                    this.hashes[index] = hash;
+                    this.count++;
+                }
+                //  Space of the previous value was reclaimed when its slab was recycled
+                this.addresses[index] = address;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+
+        void remove(final byte[] keyBytes, final long hash) {
+            this.lock.writeLock().lock();
+            try {
+                int index = this.find(keyBytes, hash);
+                if (index >= 0) {
+                    this.delete(index);
+                }
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+
+        void clear() {
+            this.lock.writeLock().lock();
+            try {
+                Arrays.fill(this.hashes, 0L);
+                Arrays.fill(this.addresses, 0L);
+                this.count = 0;
+                this.writeSlab = 0;
+                this.writeOffset = 0;
+                this.slabEntries = 0;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+        }
+
+        int count() {
+            this.lock.readLock().lock();
+            try {
+                return this.count;
+            } finally {
+                this.lock.readLock().unlock();
+            }
+        }
+
+        private int find(final byte[] keyBytes, final long hash) {
+            int index = (int) hash & this.mask;
+            while (this.hashes[index] != 0L) {
+                if (this.hashes[index] == hash && this.matches(this.addresses[index], keyBytes)) {
+                    return index;
+                }
+                index = (index + 1) & this.mask;
+            }
+            return -1;
+        }
+
+        private boolean matches(final long address, final byte[] keyBytes) {
+            ByteBuffer slab = this.slabs[(int) (address >>> 32)];
+            int offset = (int) address;
+            if (slab.getInt(offset) != keyBytes.length) {
+                return false;
+            }
+            offset += HEADER_SIZE;
+            for (int i = 0; i < keyBytes.length; i++) {
+                if (slab.get(offset + i) != keyBytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * <h3 class="en-US">Move writing position to the next slab and evict all entries stored in it</h3>
+         * <h3 class="zh-CN">将写入位置移动到下一个块并淘汰其中存储的所有条目</h3>
+         */
+        private void recycle() {
+            this.writeSlab = (this.writeSlab + 1) % SLAB_COUNT;
+            this.writeOffset = 0;
+            this.slabEntries = 0;
+            int index = 0;
+            while (index <= this.mask) {
+                if (this.hashes[index] != 0L && (int) (this.addresses[index] >>> 32) == this.writeSlab) {
+                    //  Slot was filled by the following entry, check it again
+                    this.delete(index);
+                } else {
+                    index++;
+                }
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Remove index slot using backward shift deletion</h3>
+         * <h3 class="zh-CN">使用后移删除法移除索引槽位</h3>
+         *
+         * @param index <span class="en-US">Slot index</span>
+         *              <span class="zh-CN">槽位索引</span>
+         */
+        private void delete(final int index) {
+            int hole = index;
+            int next = (hole + 1) & this.mask;
+            while (this.hashes[next] != 0L) {
+                int home = (int) this.hashes[next] & this.mask;
+                if (((next - home) & this.mask) >= ((next - hole) & this.mask)) {
+                    this.hashes[hole] = this.hashes[next];
+                    this.addresses[hole] = this.addresses[next];
+                    hole = next;
+                }
+                next = (next + 1) & this.mask;
+            }
+            this.hashes[hole] = 0L;
+            this.addresses[hole] = 0L;
+            this.count--;
+        }
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.local;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <h2 class="en-US">Local cache using W-TinyLFU eviction policy</h2>
+ * <span class="en-US">
+ *     New entries were admitted to a small LRU window, entries evicted from the window compete with the
+ *     least recently used entry of the segmented LRU main space, the entry with lower estimated frequency was evicted.
+ *     Read operations were lock free, the access records were buffered and replayed under the eviction lock.
+ * </span>
+ * <h2 class="zh-CN">使用W-TinyLFU淘汰策略的本地缓存</h2>
+ * <span class="zh-CN">
+ *     新条目进入小型LRU窗口，从窗口移出的条目与分段LRU主空间中最近最少使用的条目竞争，估算访问频率较低的条目被淘汰。
+ *     读操作无锁，访问记录被缓冲后在淘汰锁内重放。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 08, 2024 11:18:53 $
+ */
+public final class TinyLFUCache implements LocalCache {
+
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int DRAIN_THRESHOLD_MASK = 31;
+    private static final long NEVER_EXPIRE = Long.MAX_VALUE >> 1;
+    private static final int QUEUE_WINDOW = 0;
+    private static final int QUEUE_PROBATION = 1;
+    private static final int QUEUE_PROTECTED = 2;
+
+    private final ConcurrentHashMap<String, Node> dataMap;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicReferenceArray<Node> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readCounter = new AtomicLong(0L);
+    private final FrequencySketch frequencySketch;
+    private final AccessQueue windowQueue = new AccessQueue();
+    private final AccessQueue probationQueue = new AccessQueue();
+    private final AccessQueue protectedQueue = new AccessQueue();
+    /**
+     * <span class="en-US">Maximum entries</span>
+     * <span class="zh-CN">最大条目数</span>
+     */
+    private final int maximumEntries;
+    /**
+     * <span class="en-US">Maximum weight, 0 for not limited</span>
+     * <span class="zh-CN">最大权重，0为不限制</span>
+     */
+    private final long maximumWeight;
+    /**
+     * <span class="en-US">Maximum expire time. Unit: nanosecond</span>
+     * <span class="zh-CN">最大过期时间。单位：纳秒</span>
+     */
+    private final long maximumExpire;
+    private final int windowMaximum;
+    private final int protectedMaximum;
+    private long totalWeight = 0L;
+
+    /**
+     * <h3 class="en-US">Constructor for W-TinyLFU local cache</h3>
+     * <h3 class="zh-CN">W-TinyLFU本地缓存的构造方法</h3>
+     *
+     * @param maximumEntries <span class="en-US">Maximum entries</span>
+     *                       <span class="zh-CN">最大条目数</span>
+     * @param maximumWeight  <span class="en-US">Maximum weight, 0 for not limited</span>
+     *                       <span class="zh-CN">最大权重，0为不限制</span>
+     * @param expireTime     <span class="en-US">Maximum expire time, 0 for never expire</span>
+     *                       <span class="zh-CN">最大过期时间，0为永不过期</span>
+     */
+    public TinyLFUCache(final int maximumEntries, final long maximumWeight, final int expireTime) {
+        this.maximumEntries = Math.max(maximumEntries, 1);
+        this.maximumWeight = Math.max(maximumWeight, 0L);
+        this.maximumExpire = (expireTime > 0) ? TimeUnit.SECONDS.toNanos(expireTime) : NEVER_EXPIRE;
+        this.windowMaximum = Math.max(this.maximumEntries / 100, 1);
+        this.protectedMaximum = (this.maximumEntries - this.windowMaximum) * 4 / 5;
+        this.dataMap = new ConcurrentHashMap<>(Math.min(this.maximumEntries, 1 << 16));
+        this.frequencySketch = new FrequencySketch(this.maximumEntries);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#get(String)
+     */
+    @Override
+    public String get(final String key) {
+        Node node = this.dataMap.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (System.nanoTime() - node.expireAt >= 0L) {
+            this.evictionLock.lock();
+            try {
+                if (this.dataMap.remove(key, node)) {
+                    this.unlink(node);
+                }
+            } finally {
+                this.evictionLock.unlock();
+            }
+            return null;
+        }
+        this.afterRead(node);
+        return node.value;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#put(String, String, int)
+     */
+    @Override
+    public void put(final String key, final String value, final int expire) {
+        if (value == null) {
+            this.invalidate(key);
+            return;
+        }
+        long expireNanos = (expire > 0) ? Math.min(TimeUnit.SECONDS.toNanos(expire), this.maximumExpire) : this.maximumExpire;
+        Node node = new Node(key, value, System.nanoTime() + expireNanos);
+        if (this.maximumWeight > 0L && node.weight > this.maximumWeight) {
+            this.invalidate(key);
+            return;
+        }
+        this.evictionLock.lock();
+        try {
+            this.drainReadBuffer();
+            Node previous = this.dataMap.put(key, node);
+            if (previous != null) {
+                this.unlink(previous);
+            }
+            this.frequencySketch.increment(key.hashCode());
+            node.queue = QUEUE_WINDOW;
+            this.windowQueue.addLast(node);
+            this.totalWeight += node.weight;
+            this.evict();
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#invalidate(String)
+     */
+    @Override
+    public void invalidate(final String key) {
+        if (!this.dataMap.containsKey(key)) {
+            return;
+        }
+        this.evictionLock.lock();
+        try {
+            Node node = this.dataMap.remove(key);
+            if (node != null) {
+                this.unlink(node);
+            }
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#invalidateAll()
+     */
+    @Override
+    public void invalidateAll() {
+        this.evictionLock.lock();
+        try {
+            for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+                this.readBuffer.set(i, null);
+            }
+            this.dataMap.values().forEach(node -> node.removed = Boolean.TRUE);
+            this.dataMap.clear();
+            this.windowQueue.clear();
+            this.probationQueue.clear();
+            this.protectedQueue.clear();
+            this.totalWeight = 0L;
+        } finally {
+            this.evictionLock.unlock();
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see LocalCache#size()
+     */
+    @Override
+    public long size() {
+        return this.dataMap.size();
+    }
+
+    /**
+     * <h3 class="en-US">Record access of given node, drain the read buffer when threshold was reached and the lock was free</h3>
+     * <h3 class="zh-CN">记录给定节点的访问，达到阈值并且锁空闲时排空读缓冲区</h3>
+     *
+     * @param node <span class="en-US">Accessed node</span>
+     *             <span class="zh-CN">被访问的节点</span>
+     */
+    private void afterRead(final Node node) {
+        long index = this.readCounter.getAndIncrement();
+        this.readBuffer.lazySet((int) (index & READ_BUFFER_MASK), node);
+        if ((index & DRAIN_THRESHOLD_MASK) == 0L && this.evictionLock.tryLock()) {
+            try {
+                this.drainReadBuffer();
+            } finally {
+                this.evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            Node node = this.readBuffer.getAndSet(i, null);
+            if (node != null && !node.removed) {
+                this.frequencySketch.increment(node.key.hashCode());
+                this.onAccess(node);
+            }
+        }
+    }
+
+    private void onAccess(final Node node) {
+        switch (node.queue) {
+            case QUEUE_WINDOW:
+                this.windowQueue.moveToLast(node);
+                break;
+            case QUEUE_PROBATION:
+                this.probationQueue.remove(node);
+                node.queue = QUEUE_PROTECTED;
+                this.protectedQueue.addLast(node);
+                if (this.protectedQueue.size > this.protectedMaximum) {
+                    Node demoted = this.protectedQueue.pollFirst();
+                    demoted.queue = QUEUE_PROBATION;
+                    this.probationQueue.addLast(demoted);
+                }
+                break;
+            default:
+                this.protectedQueue.moveToLast(node);
+                break;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Move overflowed window entries to probation space and evict until the limits were satisfied</h3>
+     * <span class="en-US">
+     *     The newest probation entry was the candidate and the oldest probation entry was the victim,
+     *     the candidate was admitted only if its estimated frequency was greater than the victim
+     * </span>
+     * <h3 class="zh-CN">将窗口中溢出的条目移入试用空间，并淘汰条目直至满足限制</h3>
+     * <span class="zh-CN">最新的试用条目为候选者，最旧的试用条目为牺牲者，仅当候选者的估算频率大于牺牲者时才接纳候选者</span>
+     */
+    private void evict() {
+        while (this.windowQueue.size > this.windowMaximum) {
+            Node candidate = this.windowQueue.pollFirst();
+            candidate.queue = QUEUE_PROBATION;
+            this.probationQueue.addLast(candidate);
+        }
+        while (this.overflow()) {
+            Node victim = this.probationQueue.peekFirst();
+            if (victim == null) {
+                victim = (this.protectedQueue.size > 0)
+                        ? this.protectedQueue.peekFirst()
+                        : this.windowQueue.peekFirst();
+                if (victim == null) {
+                    break;
+                }
+                this.evictNode(victim);
+                continue;
+            }
+            Node candidate = this.probationQueue.peekLast();
+            if (victim != candidate
+                    && this.frequencySketch.frequency(candidate.key.hashCode())
+                    > this.frequencySketch.frequency(victim.key.hashCode())) {
+                this.evictNode(victim);
+            } else {
+                this.evictNode(candidate);
+            }
+        }
+    }
+
+    private boolean overflow() {
+        return this.dataMap.size() > this.maximumEntries
+                || (this.maximumWeight > 0L && this.totalWeight > this.maximumWeight);
+    }
+
+    private void evictNode(final Node node) {
+        this.dataMap.remove(node.key, node);
+        this.unlink(node);
+    }
+
+    private void unlink(final Node node) {
+        if (node.removed) {
+            return;
+        }
+        switch (node.queue) {
+            case QUEUE_WINDOW:
+                this.windowQueue.remove(node);
+                break;
+            case QUEUE_PROBATION:
+                this.probationQueue.remove(node);
+                break;
+            default:
+                this.protectedQueue.remove(node);
+                break;
+        }
+        node.removed = Boolean.TRUE;
+        this.totalWeight -= node.weight;
+    }
+
+    /**
+     * <h2 class="en-US">Cache entry node</h2>
+     * <span class="en-US">Queue links and status were guarded by the eviction lock</span>
+     * <h2 class="zh-CN">缓存条目节点</h2>
+     * <span class="zh-CN">队列链接与状态由淘汰锁保护</span>
+     */
+    private static final class Node {
+
+        private final String key;
+        private final String value;
+        private final int weight;
+        private final long expireAt;
+        private Node previous;
+        private Node next;
+        private int queue;
+        private volatile boolean removed = Boolean.FALSE;
+
+        Node(final String key, final String value, final long expireAt) {
+            this.key = key;
+            this.value = value;
+            this.weight = key.length() + value.length();
+            this.expireAt = expireAt;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Access ordered doubly linked queue</h2>
+     * <h2 class="zh-CN">按访问顺序排列的双向链表队列</h2>
+     */
+    private static final class AccessQueue {
+
+        private Node head = null;
+        private Node tail = null;
+        private int size = 0;
+
+        Node peekFirst() {
+            return this.head;
+        }
+
+        Node peekLast() {
+            return this.tail;
+        }
+
+        Node pollFirst() {
+            Node node = this.head;
+            if (node != null) {
+                this.remove(node);
+            }
+            return node;
+        }
+
+        void addLast(final Node node) {
+            node.previous = this.tail;
+            node.next = null;
+            if (this.tail == null) {
+                this.head = node;
+            } else {
+                this.tail.next = node;
+            }
+            this.tail = node;
+            this.size++;
+        }
+
+        void moveToLast(final Node node) {
+            if (this.tail != node) {
+                this.remove(node);
+                this.addLast(node);
+            }
+        }
+
+        void remove(final Node node) {
+            if (node.previous == null) {
+                this.head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                this.tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            this.size--;
+        }
+
+        void clear() {
+            this.head = null;
+            this.tail = null;
+            this.size = 0;
+        }
+    }
+}
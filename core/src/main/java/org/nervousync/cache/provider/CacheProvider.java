@@ -16,6 +16,14 @@
  */
 package org.nervousync.cache.provider;
 
+import org.nervousync.cache.batch.BatchOperation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
 /**
  * <h2 class="en-US">Cache provider interface</h2>
  * <h2 class="zh-CN">缓存适配器接口</h2>
@@ -47,6 +55,28 @@ public interface CacheProvider {
      */
     void set(final String key, final String value, final int expiry);
 
+    /**
+     * <h3 class="en-US">Set all key-values to cache server and set the same expire time</h3>
+     * <h3 class="zhs">使用相同的过期时间批量设置缓存信息</h3>
+     *
+     * @param dataMap <span class="en-US">Cache key-value map</span>
+     *                <span class="zhs">缓存键值与数据的映射表</span>
+     * @param expire  <span class="en-US">Expire time</span>
+     *                <span class="zhs">过期时间</span>
+     */
+    void setAll(final Map<String, String> dataMap, final int expire);
+
+    /**
+     * <h3 class="en-US">Set all key-values to cache server and set expire time for each cache key</h3>
+     * <h3 class="zhs">批量设置缓存信息并为每个缓存键值设置过期时间</h3>
+     *
+     * @param dataMap   <span class="en-US">Cache key-value map</span>
+     *                  <span class="zhs">缓存键值与数据的映射表</span>
+     * @param expireMap <span class="en-US">Cache key-expire time map</span>
+     *                  <span class="zhs">缓存键值与过期时间的映射表</span>
+     */
+    void setAll(final Map<String, String> dataMap, final Map<String, Integer> expireMap);
+
     /**
      * <h3 class="en-US">Add a new key-value to cache server and set expire time</h3>
      * <h3 class="zhs">使用指定的过期时间添加缓存信息</h3>
@@ -60,6 +90,51 @@ public interface CacheProvider {
      */
     void add(final String key, final String value, final int expire);
 
+    /**
+     * <h3 class="en-US">Add a new key-value to cache server only if the cache key was not exists</h3>
+     * <span class="en-US">Operate was atomic on cache server, so it can be used as distributed lease</span>
+     * <h3 class="zhs">仅当缓存键值不存在时添加缓存信息</h3>
+     * <span class="zhs">操作在缓存服务器上是原子的，因此可用作分布式租约</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param value  <span class="en-US">Cache value</span>
+     *               <span class="zhs">缓存数据</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zhs">过期时间</span>
+     * @return <span class="en-US">true if added, false if cache key was exists or operate failed</span>
+     * <span class="zhs">添加成功返回true，缓存键值已存在或操作失败返回false</span>
+     */
+    boolean tryAdd(final String key, final String value, final int expire);
+
+    /**
+     * <h3 class="en-US">Remove cache key-value from cache server only if current value equals to the given value</h3>
+     * <span class="en-US">Compare and remove was atomic on cache server, so it can be used to release distributed lease</span>
+     * <h3 class="zhs">仅当当前数据等于给定数据时从缓存服务器移除缓存键值</h3>
+     * <span class="zhs">比较和移除在缓存服务器上是原子的，因此可用于释放分布式租约</span>
+     *
+     * @param key   <span class="en-US">Cache key</span>
+     *              <span class="zhs">缓存键值</span>
+     * @param value <span class="en-US">Expected cache value</span>
+     *              <span class="zhs">预期的缓存数据</span>
+     * @return <span class="en-US">true if removed, false if cache key was not exists, value was changed or operate failed</span>
+     * <span class="zhs">移除成功返回true，缓存键值不存在、数据已改变或操作失败返回false</span>
+     */
+    boolean deleteIfEquals(final String key, final String value);
+
+    /**
+     * <h3 class="en-US">Retrieve remaining time to live of given cache key</h3>
+     * <h3 class="zhs">读取给定缓存键值的剩余生存时间</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zhs">缓存键值</span>
+     * @return <span class="en-US">
+     * Remaining time to live in milliseconds, -1 if cache key never expire or not supported, -2 if cache key was not exists
+     * </span>
+     * <span class="zhs">以毫秒为单位的剩余生存时间，缓存键值永不过期或不支持时返回-1，缓存键值不存在时返回-2</span>
+     */
+    long ttl(final String key);
+
     /**
      * <h3 class="en-US">Replace exists value of given key by given value and set expire time</h3>
      * <h3 class="zhs">使用指定的过期时间替换已存在的缓存信息</h3>
@@ -102,6 +177,54 @@ public interface CacheProvider {
      */
     String get(final String key);
 
+    /**
+     * <h3 class="en-US">Read cache value and set new expire time in one operation</h3>
+     * <h3 class="zhs">在一个操作中读取缓存数据并设置新的过期时间</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param expire <span class="en-US">New expire time</span>
+     *               <span class="zhs">新的过期时间</span>
+     * @return <span class="en-US">Cache value or null if cache key was not exists or it was expired</span>
+     * <span class="zhs">读取的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    String getAndTouch(final String key, final int expire);
+
+    /**
+     * <h3 class="en-US">Set binary value to cache server and set expire time</h3>
+     * <h3 class="zhs">使用指定的过期时间设置二进制缓存数据</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param value  <span class="en-US">Binary cache value</span>
+     *               <span class="zhs">二进制缓存数据</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zhs">过期时间</span>
+     */
+    void setBytes(final String key, final byte[] value, final int expire);
+
+    /**
+     * <h3 class="en-US">Read binary cache value from cache key which cache key was given</h3>
+     * <h3 class="zhs">读取指定缓存键值对应的二进制缓存数据</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zhs">缓存键值</span>
+     * @return <span class="en-US">Binary cache value or null if cache key was not exists or it was expired</span>
+     * <span class="zhs">读取的二进制缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    byte[] getBytes(final String key);
+
+    /**
+     * <h3 class="en-US">Read cache values of given cache keys in one operation</h3>
+     * <h3 class="zhs">批量读取给定缓存键值对应的缓存数据</h3>
+     *
+     * @param keys <span class="en-US">Cache keys collection</span>
+     *             <span class="zhs">缓存键值集合</span>
+     * @return <span class="en-US">Cache key-value map, not exists or expired keys were not contained</span>
+     * <span class="zhs">缓存键值与数据的映射表，不存在或已过期的缓存键值不包含在内</span>
+     */
+    Map<String, String> getAll(final Collection<String> keys);
+
     /**
      * <h3 class="en-US">Increment data by given cache key and value</h3>
      *
@@ -126,6 +249,167 @@ public interface CacheProvider {
      */
     long decr(final String key, final long step);
 
+    /**
+     * <h3 class="en-US">Execute recorded operations in one batch</h3>
+     * <h3 class="zhs">在一个批次中执行记录的操作</h3>
+     *
+     * @param operations <span class="en-US">Recorded operation list</span>
+     *                   <span class="zhs">记录的操作列表</span>
+     * @return <span class="en-US">Result list of operations in order</span>
+     * <span class="zhs">按顺序排列的操作结果列表</span>
+     */
+    List<Object> batch(final List<BatchOperation> operations);
+
+    /**
+     * <h3 class="en-US">Asynchronous set key-value to cache server and set expire time</h3>
+     * <h3 class="zhs">异步使用指定的过期时间设置缓存信息</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param value  <span class="en-US">Cache value</span>
+     *               <span class="zhs">缓存数据</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zhs">过期时间</span>
+     * @return <span class="en-US">Operate future</span>
+     * <span class="zhs">操作结果</span>
+     */
+    CompletableFuture<Void> setAsync(final String key, final String value, final int expire);
+
+    /**
+     * <h3 class="en-US">Asynchronous add a new key-value to cache server and set expire time</h3>
+     * <h3 class="zhs">异步使用指定的过期时间添加缓存信息</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param value  <span class="en-US">Cache value</span>
+     *               <span class="zhs">缓存数据</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zhs">过期时间</span>
+     * @return <span class="en-US">Operate future</span>
+     * <span class="zhs">操作结果</span>
+     */
+    CompletableFuture<Void> addAsync(final String key, final String value, final int expire);
+
+    /**
+     * <h3 class="en-US">Asynchronous replace exists value of given key by given value and set expire time</h3>
+     * <h3 class="zhs">异步使用指定的过期时间替换已存在的缓存信息</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param value  <span class="en-US">Cache value</span>
+     *               <span class="zhs">缓存数据</span>
+     * @param expire <span class="en-US">Expire time</span>
+     *               <span class="zhs">过期时间</span>
+     * @return <span class="en-US">Operate future</span>
+     * <span class="zhs">操作结果</span>
+     */
+    CompletableFuture<Void> replaceAsync(final String key, final String value, final int expire);
+
+    /**
+     * <h3 class="en-US">Asynchronous set expire time to new given expire value which cache key was given</h3>
+     * <h3 class="zhs">异步将指定的缓存键值过期时间设置为指定的新值</h3>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zhs">缓存键值</span>
+     * @param expire <span class="en-US">New expire time</span>
+     *               <span class="zhs">新的过期时间</span>
+     * @return <span class="en-US">Operate future</span>
+     * <span class="zhs">操作结果</span>
+     */
+    CompletableFuture<Void> expireAsync(final String key, final int expire);
+
+    /**
+     * <h3 class="en-US">Asynchronous execute touch operate by given keys</h3>
+     * <h3 class="zhs">异步根据给定的缓存键执行touch操作</h3>
+     *
+     * @param keys <span class="en-US">Cache key array</span>
+     *             <span class="zhs">缓存键数组</span>
+     * @return <span class="en-US">Operate future</span>
+     * <span class="zhs">操作结果</span>
+     */
+    CompletableFuture<Void> touchAsync(final String... keys);
+
+    /**
+     * <h3 class="en-US">Asynchronous remove cache key-value from cache server</h3>
+     * <h3 class="zhs">异步移除指定的缓存键值</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zhs">缓存键值</span>
+     * @return <span class="en-US">Operate future</span>
+     * <span class="zhs">操作结果</span>
+     */
+    CompletableFuture<Void> deleteAsync(final String key);
+
+    /**
+     * <h3 class="en-US">Asynchronous read cache value from cache key which cache key was given</h3>
+     * <h3 class="zhs">异步读取指定缓存键值对应的缓存数据</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zhs">缓存键值</span>
+     * @return <span class="en-US">Future of cache value</span>
+     * <span class="zhs">缓存数据的异步结果</span>
+     */
+    CompletableFuture<String> getAsync(final String key);
+
+    /**
+     * <h3 class="en-US">Asynchronous read cache values of given cache keys in one operation</h3>
+     * <h3 class="zhs">异步批量读取给定缓存键值对应的缓存数据</h3>
+     *
+     * @param keys <span class="en-US">Cache keys collection</span>
+     *             <span class="zhs">缓存键值集合</span>
+     * @return <span class="en-US">Future of cache key-value map</span>
+     * <span class="zhs">缓存键值与数据映射表的异步结果</span>
+     */
+    CompletableFuture<Map<String, String>> getAllAsync(final Collection<String> keys);
+
+    /**
+     * <h3 class="en-US">Asynchronous increment data by given cache key and value</h3>
+     * <h3 class="zhs">异步对给定的缓存键值执行自增操作</h3>
+     *
+     * @param key  <span class="en-US">Cache key</span>
+     *             <span class="zhs">缓存键值</span>
+     * @param step <span class="en-US">Increment step value</span>
+     *             <span class="zhs">自增步进值</span>
+     * @return <span class="en-US">Future of operate result</span>
+     * <span class="zhs">操作结果的异步结果</span>
+     */
+    CompletableFuture<Long> incrAsync(final String key, final long step);
+
+    /**
+     * <h3 class="en-US">Asynchronous decrement data by given cache key and value</h3>
+     * <h3 class="zhs">异步对给定的缓存键值执行自减操作</h3>
+     *
+     * @param key  <span class="en-US">Cache key</span>
+     *             <span class="zhs">缓存键值</span>
+     * @param step <span class="en-US">Decrement step value</span>
+     *             <span class="zhs">自减步进值</span>
+     * @return <span class="en-US">Future of operate result</span>
+     * <span class="zhs">操作结果的异步结果</span>
+     */
+    CompletableFuture<Long> decrAsync(final String key, final long step);
+
+    /**
+     * <h3 class="en-US">Read cache value as publisher</h3>
+     * <h3 class="zhs">以发布者的方式读取缓存数据</h3>
+     *
+     * @param key <span class="en-US">Cache key</span>
+     *            <span class="zhs">缓存键值</span>
+     * @return <span class="en-US">Publisher of cache value</span>
+     * <span class="zhs">缓存数据的发布者</span>
+     */
+    Flow.Publisher<String> getPublisher(final String key);
+
+    /**
+     * <h3 class="en-US">Stream cache values of given cache keys as publisher</h3>
+     * <h3 class="zhs">以发布者的方式流式读取给定缓存键值对应的缓存数据</h3>
+     *
+     * @param keys <span class="en-US">Cache keys collection</span>
+     *             <span class="zhs">缓存键值集合</span>
+     * @return <span class="en-US">Publisher of cache key-value entries</span>
+     * <span class="zhs">缓存键值与数据的发布者</span>
+     */
+    Flow.Publisher<Map.Entry<String, String>> getAllPublisher(final Collection<String> keys);
+
     /**
      * <h3 class="en-US">Destroy agent instance</h3>
      * <h3 class="zhs">销毁缓存对象</h3>
@@ -16,14 +16,30 @@
  */
 package org.nervousync.cache.provider.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 
 import jakarta.xml.bind.annotation.XmlElement;
+import org.nervousync.cache.batch.BatchOperation;
 import org.nervousync.cache.commons.CacheGlobals;
+import org.nervousync.cache.compress.ValueCompressor;
 import org.nervousync.cache.enumeration.ClusterMode;
+import org.nervousync.cache.enumeration.Compression;
+import org.nervousync.cache.enumeration.ReadPolicy;
+import org.nervousync.cache.enumeration.TrackingMode;
 import org.nervousync.cache.exceptions.CacheException;
 import org.nervousync.cache.provider.CacheProvider;
+import org.nervousync.cache.reactive.BatchReadPublisher;
+import org.nervousync.cache.reactive.CompletionStagePublisher;
 import org.nervousync.utils.LoggerUtils;
+import org.nervousync.utils.StringUtils;
 
 import org.nervousync.cache.config.CacheConfig;
 import org.nervousync.cache.config.CacheConfig.ServerConfig;
@@ -65,12 +81,127 @@ public abstract class AbstractProvider implements CacheProvider {
      * <span class="zh-CN">客户端实例阈值</span>
      */
     private int maximumClient = Globals.DEFAULT_VALUE_INT;
+    /**
+     * <span class="en-US">Minimum idle connections of connection pool</span>
+     * <span class="zh-CN">连接池最小空闲连接数</span>
+     */
+    private int minimumIdle = CacheGlobals.DEFAULT_MINIMUM_IDLE;
+    /**
+     * <span class="en-US">Interval of validating idle connections, 0 means disabled. Unit: second</span>
+     * <span class="zh-CN">空闲连接校验间隔，0为禁用。单位：秒</span>
+     */
+    private int evictionInterval = CacheGlobals.DEFAULT_EVICTION_INTERVAL;
+    /**
+     * <span class="en-US">Connection pool borrows the most recently returned connection first</span>
+     * <span class="zh-CN">连接池优先借用最近归还的连接</span>
+     */
+    private boolean poolLifo = Boolean.TRUE;
+    /**
+     * <span class="en-US">Each thread uses a dedicated connection instead of borrowing connections from pool</span>
+     * <span class="zh-CN">每个线程使用专用连接，代替从连接池借用连接</span>
+     */
+    private boolean threadConfined = Boolean.FALSE;
+    /**
+     * <span class="en-US">Read routing policy of replicated servers</span>
+     * <span class="zh-CN">复制服务器的读操作路由策略</span>
+     */
+    private ReadPolicy readPolicy = ReadPolicy.Master;
+    /**
+     * <span class="en-US">Flush window of command batching, 0 means disabled. Unit: microsecond</span>
+     * <span class="zh-CN">命令合并发送窗口，0为禁用。单位：微秒</span>
+     */
+    private int flushWindow = CacheGlobals.DEFAULT_FLUSH_WINDOW;
+    /**
+     * <span class="en-US">Maximum command count of each flush</span>
+     * <span class="zh-CN">每次发送的最大命令数量</span>
+     */
+    private int maxBatchSize = CacheGlobals.DEFAULT_MAX_BATCH_SIZE;
+    /**
+     * <span class="en-US">Bulk reads use a dedicated connection</span>
+     * <span class="zh-CN">批量读取使用专用连接</span>
+     */
+    private boolean bulkReadConnection = Boolean.FALSE;
+    /**
+     * <span class="en-US">I/O thread count of shared client resources, 0 means the number of available processors</span>
+     * <span class="zh-CN">共享客户端资源的I/O线程数，0表示可用处理器数量</span>
+     */
+    private int ioThreads = CacheGlobals.DEFAULT_IO_THREADS;
+    /**
+     * <span class="en-US">Publish interval of command latency metrics, 0 means disabled. Unit: second</span>
+     * <span class="zh-CN">命令延迟指标的发布间隔，0为禁用。单位：秒</span>
+     */
+    private int latencyMetricsInterval = CacheGlobals.DEFAULT_LATENCY_METRICS_INTERVAL;
+    /**
+     * <span class="en-US">Map name of local cached map mode, empty means disabled</span>
+     * <span class="zh-CN">本地缓存映射表模式的映射表名称，为空表示禁用</span>
+     */
+    private String localMapName = Globals.DEFAULT_VALUE_STRING;
+    /**
+     * <span class="en-US">Local cache size of local cached map, 0 means unlimited</span>
+     * <span class="zh-CN">本地缓存映射表的本地缓存大小，0表示不限制</span>
+     */
+    private int localMapSize = CacheGlobals.DEFAULT_LOCAL_MAP_SIZE;
+    /**
+     * <span class="en-US">Eviction policy of local cached map</span>
+     * <span class="zh-CN">本地缓存映射表的淘汰策略</span>
+     */
+    private String localMapEviction = CacheGlobals.DEFAULT_LOCAL_MAP_EVICTION;
+    /**
+     * <span class="en-US">Reconnection strategy of local cached map</span>
+     * <span class="zh-CN">本地缓存映射表的重连策略</span>
+     */
+    private String localMapReconnection = CacheGlobals.DEFAULT_LOCAL_MAP_RECONNECTION;
+    /**
+     * <span class="en-US">Synchronization strategy of local cached map</span>
+     * <span class="zh-CN">本地缓存映射表的同步策略</span>
+     */
+    private String localMapSync = CacheGlobals.DEFAULT_LOCAL_MAP_SYNC;
+    /**
+     * <span class="en-US">Slot count of new created shared memory store file</span>
+     * <span class="zh-CN">新建共享内存存储文件的槽位数量</span>
+     */
+    private int storeSlotCount = CacheGlobals.DEFAULT_STORE_SLOT_COUNT;
+    /**
+     * <span class="en-US">Slot size of new created shared memory store file. Unit: byte</span>
+     * <span class="zh-CN">新建共享内存存储文件的槽位大小。单位：字节</span>
+     */
+    private int storeSlotSize = CacheGlobals.DEFAULT_STORE_SLOT_SIZE;
+    /**
+     * <span class="en-US">Write operations not wait for acknowledge of server</span>
+     * <span class="zh-CN">写操作不等待服务器确认</span>
+     */
+    private boolean noReply = Boolean.FALSE;
     /**
      * <span class="en-US">Default expire time</span>
      * <span class="zh-CN">默认过期时间</span>
      */
     private int expireTime = Globals.DEFAULT_VALUE_INT;
     private ClusterMode clusterMode = ClusterMode.Singleton;
+    /**
+     * <span class="en-US">Server assisted client side caching mode, disabled if near cache was not enabled</span>
+     * <span class="zh-CN">服务器辅助客户端缓存模式，未启用近端缓存时为禁用</span>
+     */
+    private TrackingMode trackingMode = TrackingMode.Disabled;
+    /**
+     * <span class="en-US">Key prefix list of broadcast tracking mode</span>
+     * <span class="zh-CN">广播跟踪模式的键值前缀列表</span>
+     */
+    private List<String> trackingPrefixList = List.of();
+    /**
+     * <span class="en-US">Compressor of cache values</span>
+     * <span class="zh-CN">缓存数据的压缩器</span>
+     */
+    private ValueCompressor valueCompressor = new ValueCompressor(Compression.None, CacheGlobals.DEFAULT_COMPRESS_THRESHOLD);
+    /**
+     * <span class="en-US">Listener of invalidated cache keys, null collection means all cache keys were invalidated</span>
+     * <span class="zh-CN">缓存键值失效监听器，集合为null表示所有缓存键值均已失效</span>
+     */
+    private volatile Consumer<Collection<String>> invalidationListener = null;
+    /**
+     * <span class="en-US">Bounded executor for asynchronous operations of blocking clients, initialized on first use</span>
+     * <span class="zh-CN">阻塞式客户端执行异步操作使用的有界线程池，首次使用时初始化</span>
+     */
+    private volatile ExecutorService asyncExecutor = null;
 
     /**
      * <h3 class="en-US">Initialize cache agent</h3>
@@ -87,12 +218,56 @@ public abstract class AbstractProvider implements CacheProvider {
         this.clientPoolSize = cacheConfig.getClientPoolSize();
         this.retryCount = cacheConfig.getRetryCount();
         this.maximumClient = cacheConfig.getMaximumClient();
+        this.minimumIdle = cacheConfig.getMinimumIdle();
+        this.evictionInterval = cacheConfig.getEvictionInterval();
+        this.poolLifo = cacheConfig.isPoolLifo();
+        this.threadConfined = cacheConfig.isThreadConfined();
+        this.flushWindow = Math.max(cacheConfig.getFlushWindow(), 0);
+        this.maxBatchSize = (cacheConfig.getMaxBatchSize() > 0)
+                ? cacheConfig.getMaxBatchSize()
+                : CacheGlobals.DEFAULT_MAX_BATCH_SIZE;
+        this.bulkReadConnection = cacheConfig.isBulkReadConnection();
+        this.noReply = cacheConfig.isNoReply();
+        this.ioThreads = Math.max(cacheConfig.getIoThreads(), 0);
+        this.latencyMetricsInterval = Math.max(cacheConfig.getLatencyMetricsInterval(), 0);
+        this.localMapName = Optional.ofNullable(cacheConfig.getLocalMapName()).orElse(Globals.DEFAULT_VALUE_STRING);
+        this.localMapSize = Math.max(cacheConfig.getLocalMapSize(), 0);
+        if (StringUtils.notBlank(cacheConfig.getLocalMapEviction())) {
+            this.localMapEviction = cacheConfig.getLocalMapEviction();
+        }
+        if (StringUtils.notBlank(cacheConfig.getLocalMapReconnection())) {
+            this.localMapReconnection = cacheConfig.getLocalMapReconnection();
+        }
+        if (StringUtils.notBlank(cacheConfig.getLocalMapSync())) {
+            this.localMapSync = cacheConfig.getLocalMapSync();
+        }
+        if (cacheConfig.getStoreSlotCount() > 0) {
+            this.storeSlotCount = cacheConfig.getStoreSlotCount();
+        }
+        if (cacheConfig.getStoreSlotSize() > 0) {
+            this.storeSlotSize = cacheConfig.getStoreSlotSize();
+        }
+        if (StringUtils.notBlank(cacheConfig.getReadPolicy())) {
+            this.readPolicy = ReadPolicy.valueOf(cacheConfig.getReadPolicy());
+        }
         this.expireTime = cacheConfig.getExpireTime();
         this.clusterMode = ClusterMode.valueOf(cacheConfig.getClusterMode());
+        if (cacheConfig.getNearCacheEntries() > 0 && StringUtils.notBlank(cacheConfig.getTrackingMode())) {
+            this.trackingMode = TrackingMode.valueOf(cacheConfig.getTrackingMode());
+            this.trackingPrefixList = Optional.ofNullable(cacheConfig.getTrackingPrefixList())
+                    .map(List::copyOf)
+                    .orElse(List.of());
+        }
+        this.valueCompressor = new ValueCompressor(
+                StringUtils.isEmpty(cacheConfig.getCompression())
+                        ? Compression.None
+                        : Compression.valueOf(cacheConfig.getCompression()),
+                cacheConfig.getCompressThreshold());
         List<ServerConfig> serverConfigList = cacheConfig.getServerConfigList();
         switch (serverConfigList.size()) {
             case 0:
-                throw new CacheException(0x000C00000005L);
+                this.embeddedMode();
+                break;
             case 1:
                 this.singletonMode(serverConfigList.get(0), cacheConfig.getUserName(), cacheConfig.getPassWord());
                 break;
@@ -157,6 +332,312 @@ public abstract class AbstractProvider implements CacheProvider {
         return clusterMode;
     }
 
+    /**
+     * <h3 class="en-US">Cache configure tracking mode</h3>
+     * <h3 class="zh-CN">缓存配置的跟踪模式</h3>
+     *
+     * @return  <span class="en-US">Tracking mode instance</span>
+     *          <span class="zh-CN">跟踪模式实例</span>
+     */
+    protected TrackingMode getTrackingMode() {
+        return trackingMode;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure key prefix list of broadcast tracking mode</h3>
+     * <h3 class="zh-CN">缓存配置的广播跟踪模式键值前缀列表</h3>
+     *
+     * @return  <span class="en-US">Key prefix list</span>
+     *          <span class="zh-CN">键值前缀列表</span>
+     */
+    protected List<String> getTrackingPrefixList() {
+        return trackingPrefixList;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure minimum idle connections of connection pool</h3>
+     * <h3 class="zh-CN">缓存配置的连接池最小空闲连接数</h3>
+     *
+     * @return  <span class="en-US">Minimum idle connections</span>
+     *          <span class="zh-CN">最小空闲连接数</span>
+     */
+    protected int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure interval of validating idle connections</h3>
+     * <h3 class="zh-CN">缓存配置的空闲连接校验间隔</h3>
+     *
+     * @return  <span class="en-US">Interval in seconds, 0 means disabled</span>
+     *          <span class="zh-CN">以秒为单位的间隔，0为禁用</span>
+     */
+    protected int getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure the connection pool borrows the most recently returned connection first</h3>
+     * <h3 class="zh-CN">缓存配置的连接池是否优先借用最近归还的连接</h3>
+     *
+     * @return  <span class="en-US">true for LIFO, false for FIFO</span>
+     *          <span class="zh-CN">true为后进先出，false为先进先出</span>
+     */
+    protected boolean isPoolLifo() {
+        return poolLifo;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure each thread uses a dedicated connection</h3>
+     * <h3 class="zh-CN">缓存配置的每个线程是否使用专用连接</h3>
+     *
+     * @return  <span class="en-US">true for thread confined connections</span>
+     *          <span class="zh-CN">线程专用连接返回true</span>
+     */
+    protected boolean isThreadConfined() {
+        return threadConfined;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure read routing policy of replicated servers</h3>
+     * <h3 class="zh-CN">缓存配置的复制服务器读操作路由策略</h3>
+     *
+     * @return  <span class="en-US">Read policy instance</span>
+     *          <span class="zh-CN">读操作路由策略实例</span>
+     */
+    protected ReadPolicy getReadPolicy() {
+        return readPolicy;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure flush window of command batching</h3>
+     * <h3 class="zh-CN">缓存配置的命令合并发送窗口</h3>
+     *
+     * @return  <span class="en-US">Flush window, 0 means disabled. Unit: microsecond</span>
+     *          <span class="zh-CN">合并发送窗口，0为禁用。单位：微秒</span>
+     */
+    protected int getFlushWindow() {
+        return flushWindow;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure maximum command count of each flush</h3>
+     * <h3 class="zh-CN">缓存配置的每次发送最大命令数量</h3>
+     *
+     * @return  <span class="en-US">Maximum command count</span>
+     *          <span class="zh-CN">最大命令数量</span>
+     */
+    protected int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure bulk reads use a dedicated connection</h3>
+     * <h3 class="zh-CN">缓存配置的批量读取是否使用专用连接</h3>
+     *
+     * @return  <span class="en-US">true for dedicated connection of bulk reads</span>
+     *          <span class="zh-CN">批量读取使用专用连接返回true</span>
+     */
+    protected boolean isBulkReadConnection() {
+        return bulkReadConnection;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure I/O thread count of shared client resources</h3>
+     * <h3 class="zh-CN">缓存配置的共享客户端资源I/O线程数</h3>
+     *
+     * @return  <span class="en-US">I/O thread count, 0 means the number of available processors</span>
+     *          <span class="zh-CN">I/O线程数，0表示可用处理器数量</span>
+     */
+    protected int getIoThreads() {
+        return ioThreads;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure publish interval of command latency metrics</h3>
+     * <h3 class="zh-CN">缓存配置的命令延迟指标发布间隔</h3>
+     *
+     * @return  <span class="en-US">Publish interval, 0 means disabled. Unit: second</span>
+     *          <span class="zh-CN">发布间隔，0为禁用。单位：秒</span>
+     */
+    protected int getLatencyMetricsInterval() {
+        return latencyMetricsInterval;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure map name of local cached map mode</h3>
+     * <h3 class="zh-CN">缓存配置的本地缓存映射表模式的映射表名称</h3>
+     *
+     * @return  <span class="en-US">Map name, empty means disabled</span>
+     *          <span class="zh-CN">映射表名称，为空表示禁用</span>
+     */
+    protected String getLocalMapName() {
+        return localMapName;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure local cache size of local cached map</h3>
+     * <h3 class="zh-CN">缓存配置的本地缓存映射表的本地缓存大小</h3>
+     *
+     * @return  <span class="en-US">Local cache size, 0 means unlimited</span>
+     *          <span class="zh-CN">本地缓存大小，0表示不限制</span>
+     */
+    protected int getLocalMapSize() {
+        return localMapSize;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure eviction policy of local cached map</h3>
+     * <h3 class="zh-CN">缓存配置的本地缓存映射表的淘汰策略</h3>
+     *
+     * @return  <span class="en-US">Eviction policy name</span>
+     *          <span class="zh-CN">淘汰策略名称</span>
+     */
+    protected String getLocalMapEviction() {
+        return localMapEviction;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure reconnection strategy of local cached map</h3>
+     * <h3 class="zh-CN">缓存配置的本地缓存映射表的重连策略</h3>
+     *
+     * @return  <span class="en-US">Reconnection strategy name</span>
+     *          <span class="zh-CN">重连策略名称</span>
+     */
+    protected String getLocalMapReconnection() {
+        return localMapReconnection;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure synchronization strategy of local cached map</h3>
+     * <h3 class="zh-CN">缓存配置的本地缓存映射表的同步策略</h3>
+     *
+     * @return  <span class="en-US">Synchronization strategy name</span>
+     *          <span class="zh-CN">同步策略名称</span>
+     */
+    protected String getLocalMapSync() {
+        return localMapSync;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure slot count of new created shared memory store file</h3>
+     * <h3 class="zh-CN">缓存配置的新建共享内存存储文件的槽位数量</h3>
+     *
+     * @return  <span class="en-US">Slot count</span>
+     *          <span class="zh-CN">槽位数量</span>
+     */
+    protected int getStoreSlotCount() {
+        return storeSlotCount;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure slot size of new created shared memory store file</h3>
+     * <h3 class="zh-CN">缓存配置的新建共享内存存储文件的槽位大小</h3>
+     *
+     * @return  <span class="en-US">Slot size in bytes</span>
+     *          <span class="zh-CN">以字节为单位的槽位大小</span>
+     */
+    protected int getStoreSlotSize() {
+        return storeSlotSize;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure write operations not wait for acknowledge of server</h3>
+     * <h3 class="zh-CN">缓存配置的写操作是否不等待服务器确认</h3>
+     *
+     * @return  <span class="en-US">true for not wait for acknowledge</span>
+     *          <span class="zh-CN">不等待服务器确认返回true</span>
+     */
+    protected boolean isNoReply() {
+        return noReply;
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure compression algorithm</h3>
+     * <span class="en-US">Providers which support native compression use the algorithm instead of compressed frames</span>
+     * <h3 class="zh-CN">缓存配置的压缩算法</h3>
+     * <span class="zh-CN">支持原生压缩的缓存适配器使用此算法代替压缩帧</span>
+     *
+     * @return  <span class="en-US">Compression algorithm</span>
+     *          <span class="zh-CN">压缩算法</span>
+     */
+    protected Compression getCompression() {
+        return this.valueCompressor.getCompression();
+    }
+
+    /**
+     * <h3 class="en-US">Cache configure minimum size of compressed value</h3>
+     * <h3 class="zh-CN">缓存配置的压缩数据最小长度</h3>
+     *
+     * @return  <span class="en-US">Minimum size in bytes</span>
+     *          <span class="zh-CN">以字节为单位的最小长度</span>
+     */
+    protected int getCompressThreshold() {
+        return this.valueCompressor.getThreshold();
+    }
+
+    /**
+     * <h3 class="en-US">Compress value bytes before written to cache server</h3>
+     * <h3 class="zh-CN">在写入缓存服务器前压缩数据</h3>
+     *
+     * @param data <span class="en-US">Value bytes</span>
+     *             <span class="zh-CN">数据字节数组</span>
+     * @return <span class="en-US">Compressed frame, or the given bytes if value was not compressed</span>
+     * <span class="zh-CN">压缩帧，数据未压缩时返回给定的字节数组</span>
+     */
+    protected final byte[] compress(final byte[] data) {
+        return this.valueCompressor.compress(data);
+    }
+
+    /**
+     * <h3 class="en-US">Decompress value bytes which read from cache server</h3>
+     * <h3 class="zh-CN">解压从缓存服务器读取的数据</h3>
+     *
+     * @param data <span class="en-US">Value bytes which read from cache server</span>
+     *             <span class="zh-CN">从缓存服务器读取的数据字节数组</span>
+     * @return <span class="en-US">Original value bytes, or the given bytes if value was not a compressed frame</span>
+     * <span class="zh-CN">原始数据字节数组，数据不是压缩帧时返回给定的字节数组</span>
+     */
+    protected final byte[] decompress(final byte[] data) {
+        return this.valueCompressor.decompress(data);
+    }
+
+    /**
+     * <h3 class="en-US">Register listener of invalidated cache keys</h3>
+     * <h3 class="zh-CN">注册缓存键值失效监听器</h3>
+     *
+     * @param invalidationListener <span class="en-US">Listener instance, null collection means all cache keys were invalidated</span>
+     *                             <span class="zh-CN">监听器实例，集合为null表示所有缓存键值均已失效</span>
+     */
+    public final void invalidationListener(final Consumer<Collection<String>> invalidationListener) {
+        this.invalidationListener = invalidationListener;
+    }
+
+    /**
+     * <h3 class="en-US">Notify invalidated cache keys which received from cache server</h3>
+     * <h3 class="zh-CN">通知从缓存服务器接收到的失效缓存键值</h3>
+     *
+     * @param keys <span class="en-US">Invalidated cache keys, null for all cache keys</span>
+     *             <span class="zh-CN">失效的缓存键值，null表示所有缓存键值</span>
+     */
+    protected final void invalidate(final Collection<String> keys) {
+        Optional.ofNullable(this.invalidationListener)
+                .ifPresent(listener -> listener.accept(keys));
+    }
+
+    /**
+     * <h3 class="en-US">Initialize provider without cache server</h3>
+     * <span class="en-US">Providers which store data in current process override this method, others require at least one server</span>
+     * <h3 class="zh-CN">在没有缓存服务器的情况下初始化缓存适配器</h3>
+     * <span class="zh-CN">在当前进程中存储数据的缓存适配器覆盖此方法，其他缓存适配器至少需要一个缓存服务器</span>
+     *
+     * @throws CacheException <span class="en-US">If provider requires cache server</span>
+     *                        <span class="zh-CN">缓存适配器需要缓存服务器时抛出异常</span>
+     */
+    protected void embeddedMode() throws CacheException {
+        throw new CacheException(0x000C00000005L);
+    }
+
     /**
      * <h3 class="en-US">Initialize cache server connections</h3>
      * <h3 class="zh-CN">初始化缓存服务器连接池</h3>
@@ -206,6 +687,118 @@ public abstract class AbstractProvider implements CacheProvider {
         this.set(key, value, this.expireTime);
     }
 
+    /**
+     * <h3 class="en-US">Set all key-values to cache server and set the same expire time</h3>
+     * <h3 class="zh-CN">使用相同的过期时间批量设置缓存信息</h3>
+     *
+     * @param dataMap <span class="en-US">Cache key-value map</span>
+     *                <span class="zh-CN">缓存键值与数据的映射表</span>
+     * @param expire  <span class="en-US">Expire time</span>
+     *                <span class="zh-CN">过期时间</span>
+     */
+    @Override
+    public final void setAll(final Map<String, String> dataMap, final int expire) {
+        final int expiry = this.expiryTime(expire);
+        this.processAll(dataMap, key -> expiry);
+    }
+
+    /**
+     * <h3 class="en-US">Set all key-values to cache server and set expire time for each cache key</h3>
+     * <h3 class="zh-CN">批量设置缓存信息并为每个缓存键值设置过期时间</h3>
+     *
+     * @param dataMap   <span class="en-US">Cache key-value map</span>
+     *                  <span class="zh-CN">缓存键值与数据的映射表</span>
+     * @param expireMap <span class="en-US">Cache key-expire time map</span>
+     *                  <span class="zh-CN">缓存键值与过期时间的映射表</span>
+     */
+    @Override
+    public final void setAll(final Map<String, String> dataMap, final Map<String, Integer> expireMap) {
+        this.processAll(dataMap,
+                key -> this.expiryTime(expireMap.getOrDefault(key, Globals.DEFAULT_VALUE_INT)));
+    }
+
+    /**
+     * <h3 class="en-US">Write all key-values to cache server in as few round trips as the client allows</h3>
+     * <span class="en-US">Expire time returned by expiry function was already resolved, less than or equal to 0 means never expire</span>
+     * <h3 class="zh-CN">以客户端允许的最少网络往返次数写入所有缓存信息</h3>
+     * <span class="zh-CN">过期时间函数返回的过期时间已经过处理，小于等于0表示永不过期</span>
+     *
+     * @param dataMap        <span class="en-US">Cache key-value map</span>
+     *                       <span class="zh-CN">缓存键值与数据的映射表</span>
+     * @param expiryFunction <span class="en-US">Function for retrieve expire time of cache key</span>
+     *                       <span class="zh-CN">获取缓存键值过期时间的函数</span>
+     */
+    protected abstract void processAll(final Map<String, String> dataMap, final ToIntFunction<String> expiryFunction);
+
+    /**
+     * <h3 class="en-US">Read cache value and set new expire time in one operation</h3>
+     * <span class="en-US">Default implementation reads value and then sets expire time, providers which support GAT command override this method</span>
+     * <h3 class="zh-CN">在一个操作中读取缓存数据并设置新的过期时间</h3>
+     * <span class="zh-CN">默认实现读取数据后设置过期时间，支持GAT命令的缓存适配器覆盖此方法</span>
+     *
+     * @param key    <span class="en-US">Cache key</span>
+     *               <span class="zh-CN">缓存键值</span>
+     * @param expire <span class="en-US">New expire time</span>
+     *               <span class="zh-CN">新的过期时间</span>
+     * @return <span class="en-US">Cache value or null if cache key was not exists or it was expired</span>
+     * <span class="zh-CN">读取的缓存数据，如果缓存键值不存在或已过期，则返回null</span>
+     */
+    @Override
+    public String getAndTouch(final String key, final int expire) {
+        String value = this.get(key);
+        if (value != null) {
+            this.expire(key, expire);
+        }
+        return value;
+    }
+
+    /**
+     * <h3 class="en-US">Execute recorded operations in one batch</h3>
+     * <span class="en-US">Default implementation executes operations one by one, providers which support pipelining override this method</span>
+     * <h3 class="zh-CN">在一个批次中执行记录的操作</h3>
+     * <span class="zh-CN">默认实现逐个执行操作，支持管道的缓存适配器覆盖此方法</span>
+     *
+     * @param operations <span class="en-US">Recorded operation list</span>
+     *                   <span class="zh-CN">记录的操作列表</span>
+     * @return <span class="en-US">Result list of operations in order</span>
+     * <span class="zh-CN">按顺序排列的操作结果列表</span>
+     */
+    @Override
+    public List<Object> batch(final List<BatchOperation> operations) {
+        List<Object> resultList = new ArrayList<>(operations.size());
+        for (BatchOperation operation : operations) {
+            Object result = null;
+            switch (operation.getOperationType()) {
+                case Set:
+                    this.set(operation.getKey(), operation.getValue(), operation.getExpire());
+                    break;
+                case Add:
+                    this.add(operation.getKey(), operation.getValue(), operation.getExpire());
+                    break;
+                case Replace:
+                    this.replace(operation.getKey(), operation.getValue(), operation.getExpire());
+                    break;
+                case Expire:
+                    this.expire(operation.getKey(), operation.getExpire());
+                    break;
+                case Delete:
+                    this.delete(operation.getKey());
+                    break;
+                case Get:
+                    result = this.get(operation.getKey());
+                    break;
+                case Incr:
+                    result = this.incr(operation.getKey(), operation.getStep());
+                    break;
+                case Decr:
+                    result = this.decr(operation.getKey(), operation.getStep());
+                    break;
+            }
+            resultList.add(result);
+        }
+        return resultList;
+    }
+
     /**
      * <h3 class="en-US">Add a new key-value to cache server by default expire time</h3>
      * <h3 class="zh-CN">使用默认的过期时间添加缓存信息</h3>
@@ -232,6 +825,166 @@ public abstract class AbstractProvider implements CacheProvider {
         this.replace(key, value, this.expireTime);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#setAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> setAsync(final String key, final String value, final int expire) {
+        return CompletableFuture.runAsync(() -> this.set(key, value, expire), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#addAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> addAsync(final String key, final String value, final int expire) {
+        return CompletableFuture.runAsync(() -> this.add(key, value, expire), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#replaceAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> replaceAsync(final String key, final String value, final int expire) {
+        return CompletableFuture.runAsync(() -> this.replace(key, value, expire), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#expireAsync(String, int)
+     */
+    @Override
+    public CompletableFuture<Void> expireAsync(final String key, final int expire) {
+        return CompletableFuture.runAsync(() -> this.expire(key, expire), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#touchAsync(String...)
+     */
+    @Override
+    public CompletableFuture<Void> touchAsync(final String... keys) {
+        return CompletableFuture.runAsync(() -> this.touch(keys), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#deleteAsync(String)
+     */
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String key) {
+        return CompletableFuture.runAsync(() -> this.delete(key), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#getAsync(String)
+     */
+    @Override
+    public CompletableFuture<String> getAsync(final String key) {
+        return CompletableFuture.supplyAsync(() -> this.get(key), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#getAllAsync(Collection)
+     */
+    @Override
+    public CompletableFuture<Map<String, String>> getAllAsync(final Collection<String> keys) {
+        return CompletableFuture.supplyAsync(() -> this.getAll(keys), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#incrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> incrAsync(final String key, final long step) {
+        return CompletableFuture.supplyAsync(() -> this.incr(key, step), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#decrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> decrAsync(final String key, final long step) {
+        return CompletableFuture.supplyAsync(() -> this.decr(key, step), this.asyncExecutor());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#getPublisher(String)
+     */
+    @Override
+    public Flow.Publisher<String> getPublisher(final String key) {
+        return new CompletionStagePublisher<>(() -> this.getAsync(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see CacheProvider#getAllPublisher(Collection)
+     */
+    @Override
+    public Flow.Publisher<Map.Entry<String, String>> getAllPublisher(final Collection<String> keys) {
+        return new BatchReadPublisher(keys, CacheGlobals.DEFAULT_BATCH_SIZE, this::getAllAsync);
+    }
+
+    /**
+     * <h3 class="en-US">Terminate provider, waiting for submitted asynchronous operations and destroy the client</h3>
+     * <h3 class="zh-CN">终止缓存适配器，等待已提交的异步操作完成后销毁客户端</h3>
+     */
+    public final void terminate() {
+        Optional.ofNullable(this.asyncExecutor)
+                .ifPresent(executorService -> {
+                    executorService.shutdown();
+                    try {
+                        if (!executorService.awaitTermination(this.connectTimeout, TimeUnit.SECONDS)) {
+                            executorService.shutdownNow();
+                        }
+                    } catch (InterruptedException e) {
+                        executorService.shutdownNow();
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        this.destroy();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve bounded executor for asynchronous operations</h3>
+     * <span class="en-US">
+     *     Thread count is limited by client pool size and waiting queue is limited by maximum client,
+     *     caller thread will execute the operation when the queue was full.
+     * </span>
+     * <h3 class="zh-CN">获取执行异步操作的有界线程池</h3>
+     * <span class="zh-CN">线程数量受连接池大小限制，等待队列受客户端实例阈值限制，队列已满时由调用线程执行操作</span>
+     *
+     * @return  <span class="en-US">Executor instance</span>
+     *          <span class="zh-CN">线程池实例</span>
+     */
+    protected final Executor asyncExecutor() {
+        if (this.asyncExecutor == null) {
+            synchronized (this) {
+                if (this.asyncExecutor == null) {
+                    final AtomicInteger threadIndex = new AtomicInteger(0);
+                    final String threadPrefix = this.getClass().getSimpleName() + "-Async-";
+                    int poolSize = Math.max(this.clientPoolSize, 1);
+                    this.asyncExecutor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                            new ArrayBlockingQueue<>(Math.max(this.maximumClient, poolSize)),
+                            runnable -> {
+                                Thread thread = new Thread(runnable, threadPrefix + threadIndex.incrementAndGet());
+                                thread.setDaemon(Boolean.TRUE);
+                                return thread;
+                            }, new ThreadPoolExecutor.CallerRunsPolicy());
+                }
+            }
+        }
+        return this.asyncExecutor;
+    }
+
     protected final int serverPort(final int serverPort) {
         return serverPort == Globals.DEFAULT_VALUE_INT ? this.defaultPort() : serverPort;
     }
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.reactive;
+
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <h2 class="en-US">Publisher of batch read cache values</h2>
+ * <span class="en-US">
+ *     Cache keys were split into batches, the next batch was read only when the subscriber requested more data
+ *     and all entries of previous batch were published.
+ * </span>
+ * <h2 class="zh-CN">分批读取缓存数据的发布者</h2>
+ * <span class="zh-CN">缓存键值被拆分为多个批次，仅当订阅者请求更多数据并且上一批次的数据已全部发布时，才读取下一批次</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 06, 2024 16:32:15 $
+ */
+public final class BatchReadPublisher implements Flow.Publisher<Map.Entry<String, String>> {
+
+    /**
+     * <span class="en-US">Cache keys list</span>
+     * <span class="zh-CN">缓存键值列表</span>
+     */
+    private final List<String> keys;
+    /**
+     * <span class="en-US">Cache keys count of each batch</span>
+     * <span class="zh-CN">每个批次的缓存键值数量</span>
+     */
+    private final int batchSize;
+    /**
+     * <span class="en-US">Batch read function</span>
+     * <span class="zh-CN">批量读取函数</span>
+     */
+    private final Function<List<String>, ? extends CompletionStage<Map<String, String>>> batchReader;
+
+    /**
+     * <h3 class="en-US">Constructor for batch read publisher</h3>
+     * <h3 class="zh-CN">分批读取发布者的构造方法</h3>
+     *
+     * @param keys        <span class="en-US">Cache keys collection</span>
+     *                    <span class="zh-CN">缓存键值集合</span>
+     * @param batchSize   <span class="en-US">Cache keys count of each batch</span>
+     *                    <span class="zh-CN">每个批次的缓存键值数量</span>
+     * @param batchReader <span class="en-US">Batch read function</span>
+     *                    <span class="zh-CN">批量读取函数</span>
+     */
+    public BatchReadPublisher(final Collection<String> keys, final int batchSize,
+                              final Function<List<String>, ? extends CompletionStage<Map<String, String>>> batchReader) {
+        this.keys = List.copyOf(keys);
+        this.batchSize = Math.max(batchSize, 1);
+        this.batchReader = Objects.requireNonNull(batchReader);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.Flow.Publisher#subscribe(Flow.Subscriber)
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Map.Entry<String, String>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new BatchSubscription(subscriber));
+    }
+
+    /**
+     * <h2 class="en-US">Subscription of batch read</h2>
+     * <span class="en-US">All signals were emitted in the drain loop, so the subscriber was invoked serially</span>
+     * <h2 class="zh-CN">分批读取的订阅</h2>
+     * <span class="zh-CN">所有信号均在排空循环中发出，保证订阅者被串行调用</span>
+     */
+    private final class BatchSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super Map.Entry<String, String>> subscriber;
+        private final Queue<Map.Entry<String, String>> buffer = new ConcurrentLinkedQueue<>();
+        private final AtomicLong demand = new AtomicLong(0L);
+        private final AtomicInteger workInProgress = new AtomicInteger(0);
+        private volatile boolean reading = Boolean.FALSE;
+        private volatile boolean cancelled = Boolean.FALSE;
+        private volatile Throwable error = null;
+        private boolean terminated = Boolean.FALSE;
+        private int offset = 0;
+
+        BatchSubscription(final Flow.Subscriber<? super Map.Entry<String, String>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long count) {
+            if (count <= 0L) {
+                this.error = new IllegalArgumentException("Request count must be positive: " + count);
+            } else {
+                this.demand.getAndUpdate(current ->
+                        (Long.MAX_VALUE - current < count) ? Long.MAX_VALUE : current + count);
+            }
+            this.drain();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = Boolean.TRUE;
+            this.drain();
+        }
+
+        private void drain() {
+            if (this.workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (!this.terminated) {
+                    this.emit();
+                }
+                missed = this.workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            while (!this.cancelled && this.error == null && this.demand.get() > 0L) {
+                Map.Entry<String, String> entry = this.buffer.poll();
+                if (entry == null) {
+                    break;
+                }
+                this.subscriber.onNext(entry);
+                if (this.demand.get() != Long.MAX_VALUE) {
+                    this.demand.decrementAndGet();
+                }
+            }
+            if (this.cancelled) {
+                this.terminated = Boolean.TRUE;
+                this.buffer.clear();
+                return;
+            }
+            if (this.error != null) {
+                this.terminated = Boolean.TRUE;
+                this.buffer.clear();
+                this.subscriber.onError(this.error);
+                return;
+            }
+            if (this.reading || !this.buffer.isEmpty()) {
+                return;
+            }
+            if (this.offset >= keys.size()) {
+                this.terminated = Boolean.TRUE;
+                this.subscriber.onComplete();
+                return;
+            }
+            if (this.demand.get() > 0L) {
+                List<String> batchKeys = keys.subList(this.offset, Math.min(this.offset + batchSize, keys.size()));
+                this.offset += batchKeys.size();
+                this.reading = Boolean.TRUE;
+                final CompletionStage<Map<String, String>> completionStage;
+                try {
+                    completionStage = batchReader.apply(batchKeys);
+                } catch (Throwable e) {
+                    this.error = e;
+                    this.reading = Boolean.FALSE;
+                    this.workInProgress.incrementAndGet();
+                    return;
+                }
+                completionStage.whenComplete((resultMap, throwable) -> {
+                    if (throwable != null) {
+                        this.error = (throwable instanceof CompletionException && throwable.getCause() != null)
+                                ? throwable.getCause()
+                                : throwable;
+                    } else if (resultMap != null) {
+                        this.buffer.addAll(resultMap.entrySet());
+                    }
+                    this.reading = Boolean.FALSE;
+                    this.drain();
+                });
+            }
+        }
+    }
+}
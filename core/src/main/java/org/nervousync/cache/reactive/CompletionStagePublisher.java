@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.reactive;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * <h2 class="en-US">Publisher adapter of completion stage</h2>
+ * <span class="en-US">
+ *     The completion stage was created when the subscriber requested data at the first time,
+ *     publish the result if not null and complete the subscriber.
+ * </span>
+ * <h2 class="zh-CN">异步结果的发布者适配器</h2>
+ * <span class="zh-CN">订阅者首次请求数据时创建异步操作，结果不为null时发布结果并完成订阅</span>
+ *
+ * @param <T> <span class="en-US">Result type</span>
+ *            <span class="zh-CN">结果类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 06, 2024 16:05:38 $
+ */
+public final class CompletionStagePublisher<T> implements Flow.Publisher<T> {
+
+    /**
+     * <span class="en-US">Completion stage supplier</span>
+     * <span class="zh-CN">异步操作的提供者</span>
+     */
+    private final Supplier<? extends CompletionStage<T>> stageSupplier;
+
+    /**
+     * <h3 class="en-US">Constructor for completion stage publisher</h3>
+     * <h3 class="zh-CN">异步结果发布者的构造方法</h3>
+     *
+     * @param stageSupplier <span class="en-US">Completion stage supplier</span>
+     *                      <span class="zh-CN">异步操作的提供者</span>
+     */
+    public CompletionStagePublisher(final Supplier<? extends CompletionStage<T>> stageSupplier) {
+        this.stageSupplier = Objects.requireNonNull(stageSupplier);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see java.util.concurrent.Flow.Publisher#subscribe(Flow.Subscriber)
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber);
+        subscriber.onSubscribe(new StageSubscription<>(subscriber, this.stageSupplier));
+    }
+
+    /**
+     * <h2 class="en-US">Subscription of completion stage</h2>
+     * <h2 class="zh-CN">异步结果的订阅</h2>
+     *
+     * @param <T> <span class="en-US">Result type</span>
+     *            <span class="zh-CN">结果类型</span>
+     */
+    private static final class StageSubscription<T> implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+        private final Supplier<? extends CompletionStage<T>> stageSupplier;
+        private final AtomicBoolean requested = new AtomicBoolean(Boolean.FALSE);
+        private final AtomicBoolean terminated = new AtomicBoolean(Boolean.FALSE);
+
+        StageSubscription(final Flow.Subscriber<? super T> subscriber,
+                          final Supplier<? extends CompletionStage<T>> stageSupplier) {
+            this.subscriber = subscriber;
+            this.stageSupplier = stageSupplier;
+        }
+
+        @Override
+        public void request(final long count) {
+            if (count <= 0L) {
+                if (this.terminated.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+                    this.subscriber.onError(
+                            new IllegalArgumentException("Request count must be positive: " + count));
+                }
+                return;
+            }
+            if (this.requested.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+                final CompletionStage<T> completionStage;
+                try {
+                    completionStage = this.stageSupplier.get();
+                } catch (Throwable e) {
+                    this.error(e);
+                    return;
+                }
+                completionStage.whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        this.error(throwable);
+                    } else if (this.terminated.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+                        if (result != null) {
+                            this.subscriber.onNext(result);
+                        }
+                        this.subscriber.onComplete();
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void cancel() {
+            this.terminated.set(Boolean.TRUE);
+        }
+
+        private void error(final Throwable throwable) {
+            if (this.terminated.compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+                this.subscriber.onError((throwable instanceof CompletionException && throwable.getCause() != null)
+                        ? throwable.getCause()
+                        : throwable);
+            }
+        }
+    }
+}
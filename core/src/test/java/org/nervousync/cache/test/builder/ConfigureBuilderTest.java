@@ -22,6 +22,8 @@ import org.nervousync.cache.builder.CacheConfigBuilder;
 import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig;
 import org.nervousync.cache.enumeration.ClusterMode;
+import org.nervousync.cache.enumeration.NearCacheStorage;
+import org.nervousync.cache.enumeration.TrackingMode;
 import org.nervousync.commons.Globals;
 import org.nervousync.configs.ConfigureManager;
 import org.nervousync.exceptions.builder.BuilderException;
@@ -56,6 +58,10 @@ public final class ConfigureBuilderTest {
                     .clientPoolSize(CacheGlobals.DEFAULT_CLIENT_POOL_SIZE)
                     .maximumClient(CacheGlobals.DEFAULT_MAXIMUM_CLIENT)
                     .masterName("ServerAddress")
+                    .nearCache(10000, 16L * 1024 * 1024, 30)
+                    .nearCacheStorage(NearCacheStorage.OffHeap)
+                    .refreshAhead(80)
+                    .clientTracking(TrackingMode.Broadcast, "config:", "flag:")
                     .serverBuilder()
                     .serverConfig("onlyAddress")
                     .confirm()
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.codec;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.codec.CacheCodec;
+import org.nervousync.cache.codec.CodecManager;
+import org.nervousync.cache.codec.impl.BinaryCodec;
+import org.nervousync.cache.codec.impl.PrimitiveCodec;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class CacheCodecTest {
+
+    @Test
+    @Order(10)
+    public void test000Resolve() {
+        CacheCodec<?> binaryCodec = CodecManager.codec("BinaryCodec");
+        Assertions.assertNotNull(binaryCodec);
+        Assertions.assertEquals("StringCodec", codecName(CodecManager.codecFor(String.class, binaryCodec)));
+        Assertions.assertEquals("BytesCodec", codecName(CodecManager.codecFor(byte[].class, binaryCodec)));
+        Assertions.assertEquals("PrimitiveCodec", codecName(CodecManager.codecFor(long.class, binaryCodec)));
+        Assertions.assertEquals("BinaryCodec", codecName(CodecManager.codecFor(TestBean.class, binaryCodec)));
+        Assertions.assertNull(CodecManager.codecFor(TestBean.class, null));
+    }
+
+    @Test
+    @Order(20)
+    public void test010Primitive() {
+        PrimitiveCodec primitiveCodec = new PrimitiveCodec();
+        Assertions.assertArrayEquals("42".getBytes(StandardCharsets.UTF_8), primitiveCodec.encode(42L));
+        Assertions.assertEquals(42L, primitiveCodec.decode("42".getBytes(StandardCharsets.UTF_8), long.class));
+        Assertions.assertEquals(Boolean.TRUE, primitiveCodec.decode("true".getBytes(StandardCharsets.UTF_8), Boolean.class));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> primitiveCodec.decode("value".getBytes(StandardCharsets.UTF_8), Integer.class));
+    }
+
+    @Test
+    @Order(30)
+    public void test020Binary() {
+        BinaryCodec binaryCodec = new BinaryCodec();
+        TestBean testBean = new TestBean();
+        testBean.identify = -1L;
+        testBean.name = "Test name";
+        testBean.amount = new BigDecimal("12.34");
+        testBean.status = TestStatus.ENABLED;
+        testBean.tags = new ArrayList<>(List.of("tag", 1, TestStatus.DISABLED));
+        testBean.attributes = new HashMap<>(Map.of("key", "value"));
+        testBean.scores = new int[]{1, -1, Integer.MAX_VALUE};
+        testBean.child = new TestBean();
+        testBean.child.name = "Child name";
+        testBean.ignored = "Ignored";
+
+        TestBean decodeBean = (TestBean) binaryCodec.decode(binaryCodec.encode(testBean), TestBean.class);
+        Assertions.assertEquals(-1L, decodeBean.identify);
+        Assertions.assertEquals("Test name", decodeBean.name);
+        Assertions.assertEquals(new BigDecimal("12.34"), decodeBean.amount);
+        Assertions.assertEquals(TestStatus.ENABLED, decodeBean.status);
+        Assertions.assertEquals(List.of("tag", 1, TestStatus.DISABLED), decodeBean.tags);
+        Assertions.assertEquals(Map.of("key", "value"), decodeBean.attributes);
+        Assertions.assertArrayEquals(new int[]{1, -1, Integer.MAX_VALUE}, decodeBean.scores);
+        Assertions.assertEquals("Child name", decodeBean.child.name);
+        Assertions.assertNull(decodeBean.child.child);
+        Assertions.assertNull(decodeBean.ignored);
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> binaryCodec.decode(new byte[]{22, 1}, TestBean.class));
+        TestBean cyclicBean = new TestBean();
+        cyclicBean.child = cyclicBean;
+        Assertions.assertThrows(IllegalArgumentException.class, () -> binaryCodec.encode(cyclicBean));
+    }
+
+    @Test
+    @Order(40)
+    public void test030Restricted() {
+        BinaryCodec binaryCodec = new BinaryCodec();
+        TestBean testBean = new TestBean();
+        testBean.name = "Test name";
+        byte[] dataBytes = binaryCodec.encode(new ArrayList<>(List.of(testBean)));
+        //  Package of JDK decode type was not allowed implicitly
+        Assertions.assertThrows(IllegalArgumentException.class, () -> binaryCodec.decode(dataBytes, List.class));
+        CacheCodec<Object> restrictCodec = binaryCodec.restrict(List.of(TestBean.class.getPackageName()));
+        List<?> decodeList = (List<?>) restrictCodec.decode(dataBytes, List.class);
+        Assertions.assertEquals("Test name", ((TestBean) decodeList.get(0)).name);
+        Assertions.assertSame(binaryCodec, binaryCodec.restrict(List.of()));
+    }
+
+    private static String codecName(final CacheCodec<?> cacheCodec) {
+        return (cacheCodec == null) ? null : cacheCodec.getClass().getSimpleName();
+    }
+
+    public enum TestStatus {
+        ENABLED, DISABLED
+    }
+
+    public static final class TestBean {
+        private long identify;
+        private String name;
+        private BigDecimal amount;
+        private TestStatus status;
+        private List<Object> tags;
+        private Map<String, String> attributes;
+        private int[] scores;
+        private TestBean child;
+        private transient String ignored;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.compress;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.compress.ValueCompressor;
+import org.nervousync.cache.enumeration.Compression;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class ValueCompressorTest {
+
+    private static final byte[] LARGE_VALUE = "Compressed cache value ".repeat(512).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @Order(10)
+    public void test000Deflate() {
+        ValueCompressor valueCompressor = new ValueCompressor(Compression.Deflate, 1024);
+        byte[] compressed = valueCompressor.compress(LARGE_VALUE);
+        Assertions.assertTrue(compressed.length < LARGE_VALUE.length);
+        Assertions.assertArrayEquals(LARGE_VALUE, valueCompressor.decompress(compressed));
+        //  Values which written before compression was enabled
+        byte[] smallValue = "value".getBytes(StandardCharsets.UTF_8);
+        Assertions.assertSame(smallValue, valueCompressor.compress(smallValue));
+        Assertions.assertSame(smallValue, valueCompressor.decompress(smallValue));
+    }
+
+    @Test
+    @Order(20)
+    public void test010LZ4() {
+        ValueCompressor valueCompressor = new ValueCompressor(Compression.LZ4, 1024);
+        Assertions.assertEquals(Compression.LZ4, valueCompressor.getCompression());
+        byte[] compressed = valueCompressor.compress(LARGE_VALUE);
+        Assertions.assertTrue(compressed.length < LARGE_VALUE.length);
+        Assertions.assertArrayEquals(LARGE_VALUE, valueCompressor.decompress(compressed));
+        //  Compressed frames were read whatever the configured algorithm
+        Assertions.assertArrayEquals(LARGE_VALUE,
+                new ValueCompressor(Compression.None, 1024).decompress(compressed));
+    }
+
+    @Test
+    @Order(30)
+    public void test020Incompressible() {
+        byte[] randomValue = new byte[4096];
+        new Random(17L).nextBytes(randomValue);
+        randomValue[0] = (byte) 0xFF;
+        randomValue[1] = 1;
+        ValueCompressor valueCompressor = new ValueCompressor(Compression.Deflate, 1024);
+        Assertions.assertSame(randomValue, valueCompressor.compress(randomValue));
+        Assertions.assertSame(randomValue, valueCompressor.decompress(randomValue));
+    }
+
+    @Test
+    @Order(40)
+    public void test030Corrupted() {
+        ValueCompressor valueCompressor = new ValueCompressor(Compression.Deflate, 1024);
+        byte[] compressed = valueCompressor.compress(LARGE_VALUE);
+        //  Checksum in frame header was not matched with the decompressed value
+        compressed[9] ^= 0x01;
+        byte[] decompressed = valueCompressor.decompress(compressed);
+        Assertions.assertSame(compressed, decompressed);
+    }
+}
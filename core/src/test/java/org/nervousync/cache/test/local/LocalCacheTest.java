@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.local;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.local.LocalCache;
+import org.nervousync.cache.local.OffHeapCache;
+import org.nervousync.cache.local.TinyLFUCache;
+
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class LocalCacheTest {
+
+    @Test
+    @Order(10)
+    public void test000ReadWrite() {
+        LocalCache localCache = new TinyLFUCache(100, 0L, 60);
+        localCache.put("key", "value", 0);
+        Assertions.assertEquals("value", localCache.get("key"));
+        localCache.put("key", "newValue", 0);
+        Assertions.assertEquals("newValue", localCache.get("key"));
+        localCache.invalidate("key");
+        Assertions.assertNull(localCache.get("key"));
+        localCache.put("key", "value", 0);
+        localCache.invalidateAll();
+        Assertions.assertEquals(0L, localCache.size());
+    }
+
+    @Test
+    @Order(20)
+    public void test010Eviction() {
+        LocalCache localCache = new TinyLFUCache(100, 0L, 60);
+        for (int i = 0; i < 50; i++) {
+            for (int j = 0; j < 10; j++) {
+                if (localCache.get("hot" + j) == null) {
+                    localCache.put("hot" + j, "value", 0);
+                }
+            }
+        }
+        for (int i = 0; i < 10000; i++) {
+            localCache.put("cold" + i, "value", 0);
+        }
+        Assertions.assertEquals(100L, localCache.size());
+        int hitCount = 0;
+        for (int j = 0; j < 10; j++) {
+            if (localCache.get("hot" + j) != null) {
+                hitCount++;
+            }
+        }
+        Assertions.assertTrue(hitCount >= 8);
+    }
+
+    @Test
+    @Order(30)
+    public void test020Weight() {
+        LocalCache localCache = new TinyLFUCache(100, 64L, 60);
+        for (int i = 0; i < 10; i++) {
+            localCache.put("key" + i, "0123456789", 0);
+        }
+        Assertions.assertTrue(localCache.size() <= 4L);
+        localCache.put("large", "0123456789012345678901234567890123456789012345678901234567890123", 0);
+        Assertions.assertNull(localCache.get("large"));
+    }
+
+    @Test
+    @Order(40)
+    public void test030OffHeap() {
+        LocalCache localCache = new OffHeapCache(1000, 0L, 60);
+        localCache.put("key", "value", 0);
+        Assertions.assertEquals("value", localCache.get("key"));
+        localCache.put("key", "newValue", 0);
+        Assertions.assertEquals("newValue", localCache.get("key"));
+        Assertions.assertEquals(1L, localCache.size());
+        localCache.invalidate("key");
+        Assertions.assertNull(localCache.get("key"));
+        for (int i = 0; i < 100000; i++) {
+            localCache.put("key" + i, "value" + i, 0);
+        }
+        Assertions.assertTrue(localCache.size() <= 1000L);
+        Assertions.assertEquals("value99999", localCache.get("key99999"));
+        localCache.invalidateAll();
+        Assertions.assertEquals(0L, localCache.size());
+        Assertions.assertNull(localCache.get("key99999"));
+    }
+}
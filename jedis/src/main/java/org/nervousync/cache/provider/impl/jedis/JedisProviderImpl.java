@@ -18,24 +18,42 @@ package org.nervousync.cache.provider.impl.jedis;
 
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.batch.BatchOperation;
+import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig.ServerConfig;
-import org.nervousync.cache.enumeration.ClusterMode;
+import org.nervousync.cache.enumeration.ReadPolicy;
+import org.nervousync.cache.enumeration.TrackingMode;
 import org.nervousync.cache.provider.impl.AbstractProvider;
-import org.nervousync.commons.Globals;
 import org.nervousync.utils.ConvertUtils;
 import org.nervousync.utils.StringUtils;
 import redis.clients.jedis.*;
-import redis.clients.jedis.util.Pool;
+import redis.clients.jedis.commands.PipelineBinaryCommands;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.params.SetParams;
+import redis.clients.jedis.providers.SentineledConnectionProvider;
+import redis.clients.jedis.util.JedisClusterCRC16;
 
+import java.lang.ref.WeakReference;
 import java.time.Duration;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 /**
  * <h2 class="en-US">Redis cache provider using Jedis</h2>
+ * <span class="en-US">
+ *     Commands were executed by UnifiedJedis clients using RESP3 protocol, each client manages its own connection pool.
+ *     Thread confined mode creates a dedicated connection for each thread instead of borrowing connections from pool.
+ * </span>
  * <h2 class="zh-CN">缓存客户端适配器，使用 Jedis 实现</h2>
+ * <span class="zh-CN">
+ *     命令由使用RESP3协议的UnifiedJedis客户端执行，每个客户端管理自身的连接池。线程专用模式为每个线程创建专用连接，代替从连接池借用连接。
+ * </span>
  *
  * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
  * @version $Revision: 1.0.0 $ $Date: Apr 25, 2017 16:36:52 $
@@ -44,21 +62,53 @@ import java.util.Set;
 public final class JedisProviderImpl extends AbstractProvider {
 
     /**
-     * Is single server mode
+     * <span class="en-US">Script of deleting cache key only if current value equals to the given value</span>
+     * <span class="zh-CN">仅当当前数据等于给定数据时删除缓存键值的脚本</span>
      */
-    private boolean singleMode = Boolean.FALSE;
+    private static final String DELETE_IF_EQUALS_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end";
     /**
-     * Jedis pool object
+     * <span class="en-US">Client instance for write operations, JedisPooled, JedisSentineled or JedisCluster</span>
+     * <span class="zh-CN">写操作的客户端实例，JedisPooled、JedisSentineled或JedisCluster</span>
      */
-    private Pool<Jedis> jedisPool = null;
+    private UnifiedJedis jedisClient = null;
     /**
-     * Write jedis cluster
+     * <span class="en-US">Client instance for read operations, replica client in master-slave mode, otherwise same as write client</span>
+     * <span class="zh-CN">读操作的客户端实例，主从模式下为从节点客户端，否则与写操作客户端相同</span>
      */
-    private JedisCluster writeCluster = null;
+    private UnifiedJedis readClient = null;
     /**
-     * Read jedis cluster
+     * <span class="en-US">Client configure of connections</span>
+     * <span class="zh-CN">连接的客户端配置</span>
      */
-    private JedisCluster readCluster = null;
+    private JedisClientConfig clientConfig = null;
+    /**
+     * <span class="en-US">Supplier of current master server address</span>
+     * <span class="zh-CN">当前主服务器地址的提供者</span>
+     */
+    private Supplier<HostAndPort> masterSupplier = null;
+    /**
+     * <span class="en-US">Dedicated connection of current thread, null if thread confined mode was disabled</span>
+     * <span class="zh-CN">当前线程的专用连接，未启用线程专用模式时为null</span>
+     */
+    private ThreadLocal<ConfinedConnection> confinedConnection = null;
+    /**
+     * <span class="en-US">
+     *     All opened dedicated connections, connections of terminated threads were closed when new connection was created,
+     *     others were closed when the provider was destroyed
+     * </span>
+     * <span class="zh-CN">所有已打开的专用连接，已终止线程的连接在创建新连接时关闭，其他连接在销毁适配器时关闭</span>
+     */
+    private final Set<ConfinedConnection> confinedConnections = ConcurrentHashMap.newKeySet();
+    /**
+     * Subscriber of client side caching invalidation messages
+     */
+    private TrackingSubscriber trackingSubscriber = null;
+    /**
+     * <span class="en-US">Slot aware read router of cluster replica servers, null if reads were sent to master servers</span>
+     * <span class="zh-CN">集群从服务器的槽位感知读操作路由器，读操作发送到主服务器时为null</span>
+     */
+    private ReplicaRouter replicaRouter = null;
 
     /*
      * (non-Javadoc)
@@ -90,6 +140,40 @@ public final class JedisProviderImpl extends AbstractProvider {
         this.process(key, value, expiry);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#tryAdd(String, String, int)
+     */
+    @Override
+    public boolean tryAdd(final String key, final String value, final int expire) {
+        SetParams setParams = setParams(SetParams.setParams().nx(), super.expiryTime(expire));
+        byte[] valueBytes = super.compress(ConvertUtils.toByteArray(value));
+        String result = this.execute(jedis -> jedis.set(key.getBytes(), valueBytes, setParams), Boolean.TRUE);
+        return "OK".equalsIgnoreCase(result);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#deleteIfEquals(String, String)
+     */
+    @Override
+    public boolean deleteIfEquals(final String key, final String value) {
+        //  Value was compared with the stored bytes, which were compressed in the same way as writing
+        byte[] valueBytes = super.compress(ConvertUtils.toByteArray(value));
+        Object result = this.execute(jedis -> jedis.eval(ConvertUtils.toByteArray(DELETE_IF_EQUALS_SCRIPT),
+                List.of(key.getBytes()), List.of(valueBytes)), Boolean.TRUE);
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#ttl(String)
+     */
+    @Override
+    public long ttl(final String key) {
+        return this.read(key, jedis -> jedis.pttl(key));
+    }
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#replace(String, String, int)
@@ -99,21 +183,25 @@ public final class JedisProviderImpl extends AbstractProvider {
         this.process(key, value, expiry);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#processAll(Map, ToIntFunction)
+     */
+    @Override
+    protected void processAll(final Map<String, String> dataMap, final ToIntFunction<String> expiryFunction) {
+        this.pipelined(pipeline -> {
+            this.pipelineWrite(pipeline, pipeline::sync, dataMap, expiryFunction);
+            return null;
+        }, Boolean.TRUE);
+    }
+
     /*
      * (non-Javadoc)
      * @see AbstractProvider#expire(String, int)
      */
     @Override
     public void expire(String key, int expire) {
-        if (this.singleMode) {
-            Optional.ofNullable(this.singleClient())
-                    .ifPresent(jedis -> {
-                        jedis.expire(key, expire);
-                        jedis.close();
-                    });
-        } else {
-            this.writeCluster.expire(key, expire);
-        }
+        this.execute(jedis -> jedis.expire(key, expire));
     }
 
     /*
@@ -122,15 +210,7 @@ public final class JedisProviderImpl extends AbstractProvider {
      */
     @Override
     public void touch(String... keys) {
-        if (this.singleMode) {
-            Optional.ofNullable(this.singleClient())
-                    .ifPresent(jedis -> {
-                        jedis.touch(keys);
-                        jedis.close();
-                    });
-        } else {
-            this.writeCluster.touch(keys);
-        }
+        this.execute(jedis -> jedis.touch(keys));
     }
 
     /*
@@ -139,15 +219,7 @@ public final class JedisProviderImpl extends AbstractProvider {
      */
     @Override
     public void delete(String key) {
-        if (this.singleMode) {
-            Optional.ofNullable(this.singleClient())
-                    .ifPresent(jedis -> {
-                        jedis.del(key);
-                        jedis.close();
-                    });
-        } else {
-            this.writeCluster.del(key);
-        }
+        this.execute(jedis -> jedis.del(key));
     }
 
     /*
@@ -156,19 +228,64 @@ public final class JedisProviderImpl extends AbstractProvider {
      */
     @Override
     public String get(String key) {
-        byte[] objectData;
-        if (this.singleMode) {
-            objectData = Optional.ofNullable(this.singleClient())
-                    .map(jedis -> {
-                        byte[] readData = jedis.get(key.getBytes());
-                        jedis.close();
-                        return readData;
-                    })
-                    .orElse(null);
+        byte[] objectData = this.read(key, jedis -> jedis.get(key.getBytes()));
+        //  Missing key returns null as other providers, so loaders of cache client were executed
+        return objectData == null ? null : ConvertUtils.toString(super.decompress(objectData));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#setBytes(String, byte[], int)
+     */
+    @Override
+    public void setBytes(final String key, final byte[] value, final int expire) {
+        this.write(key, super.compress(value), super.expiryTime(expire));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#getBytes(String)
+     */
+    @Override
+    public byte[] getBytes(final String key) {
+        return super.decompress(this.read(key, jedis -> jedis.get(key.getBytes())));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAll(Collection)
+     */
+    @Override
+    public Map<String, String> getAll(final Collection<String> keys) {
+        Map<String, String> resultMap = new HashMap<>(keys.size());
+        if (this.replicaRouter != null) {
+            //  MGET in cluster mode only accept keys in same slot, group keys by slot and route each slot by read policy
+            keys.stream()
+                    .collect(Collectors.groupingBy(JedisClusterCRC16::getSlot))
+                    .forEach((slot, keyList) -> {
+                        String[] keyArray = keyList.toArray(new String[0]);
+                        this.mergeResult(resultMap, keyArray,
+                                this.replicaRouter.read(slot, jedis -> jedis.mget(binaryKeys(keyArray))));
+                    });
+        } else if (this.readClient instanceof JedisCluster && this.confinedConnection == null) {
+            //  MGET in cluster mode only accept keys in same slot, group keys by slot and pipeline the commands
+            Map<Integer, List<String>> slotKeys =
+                    keys.stream().collect(Collectors.groupingBy(JedisClusterCRC16::getSlot));
+            Map<String[], Response<List<byte[]>>> responseMap = new HashMap<>(slotKeys.size());
+            this.pipelined(pipeline -> {
+                slotKeys.values().forEach(keyList -> {
+                    String[] keyArray = keyList.toArray(new String[0]);
+                    responseMap.put(keyArray, pipeline.mget(binaryKeys(keyArray)));
+                });
+                pipeline.sync();
+                return null;
+            }, Boolean.FALSE);
+            responseMap.forEach((keyArray, response) -> this.mergeResult(resultMap, keyArray, response.get()));
         } else {
-            objectData = this.readCluster.get(key.getBytes());
+            String[] keyArray = keys.toArray(new String[0]);
+            this.mergeResult(resultMap, keyArray, this.execute(jedis -> jedis.mget(binaryKeys(keyArray)), Boolean.FALSE));
         }
-        return objectData == null ? Globals.DEFAULT_VALUE_STRING : ConvertUtils.toString(objectData);
+        return resultMap;
     }
 
     /*
@@ -177,19 +294,7 @@ public final class JedisProviderImpl extends AbstractProvider {
      */
     @Override
     public long incr(String key, long step) {
-        long result;
-        if (this.singleMode) {
-            result = Optional.ofNullable(this.singleClient())
-                    .map(jedis -> {
-                        long operateResult = jedis.incrBy(key, step);
-                        jedis.close();
-                        return operateResult;
-                    })
-                    .orElse(Globals.DEFAULT_VALUE_LONG);
-        } else {
-            result = this.readCluster.incrBy(key, step);
-        }
-        return result;
+        return this.execute(jedis -> jedis.incrBy(key, step), Boolean.TRUE);
     }
 
     /*
@@ -198,19 +303,46 @@ public final class JedisProviderImpl extends AbstractProvider {
      */
     @Override
     public long decr(String key, long step) {
-        long result;
-        if (this.singleMode) {
-            result = Optional.ofNullable(this.singleClient())
-                    .map(jedis -> {
-                        long operateResult = jedis.decrBy(key, step);
-                        jedis.close();
-                        return operateResult;
-                    })
-                    .orElse(Globals.DEFAULT_VALUE_LONG);
-        } else {
-            result = this.readCluster.decrBy(key, step);
+        return this.execute(jedis -> jedis.decrBy(key, step), Boolean.TRUE);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#batch(List)
+     */
+    @Override
+    public List<Object> batch(final List<BatchOperation> operations) {
+        List<Response<?>> responseList = new ArrayList<>(operations.size());
+        //  Read only batch could be executed by the read client
+        this.pipelined(pipeline -> {
+            this.pipelineBatch(pipeline, pipeline::sync, operations, responseList);
+            return null;
+        }, operations.stream().anyMatch(BatchOperation::isWrite));
+        List<Object> resultList = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            Object result = null;
+            if (i < responseList.size()) {
+                BatchOperation operation = operations.get(i);
+                Response<?> response = responseList.get(i);
+                switch (operation.getOperationType()) {
+                    case Get:
+                        result = Optional.ofNullable((byte[]) response.get())
+                                .map(objectData -> ConvertUtils.toString(super.decompress(objectData)))
+                                .orElse(null);
+                        break;
+                    case Incr:
+                    case Decr:
+                        result = response.get();
+                        break;
+                    default:
+                        //  Read response for throwing the exception of failed operation
+                        response.get();
+                        break;
+                }
+            }
+            resultList.add(result);
         }
-        return result;
+        return resultList;
     }
 
     /*
@@ -219,16 +351,27 @@ public final class JedisProviderImpl extends AbstractProvider {
      */
     @Override
     public void destroy() {
-        if (this.jedisPool != null && !this.jedisPool.isClosed()) {
-            this.jedisPool.close();
+        if (this.trackingSubscriber != null) {
+            this.trackingSubscriber.stop();
+            this.trackingSubscriber = null;
+        }
+
+        if (this.replicaRouter != null) {
+            this.replicaRouter.close();
+            this.replicaRouter = null;
         }
 
-        if (this.readCluster != null) {
-            this.readCluster.close();
+        this.confinedConnections.forEach(ConfinedConnection::close);
+        this.confinedConnections.clear();
+
+        if (this.readClient != null && this.readClient != this.jedisClient) {
+            this.readClient.close();
         }
+        this.readClient = null;
 
-        if (this.writeCluster != null) {
-            this.writeCluster.close();
+        if (this.jedisClient != null) {
+            this.jedisClient.close();
+            this.jedisClient = null;
         }
     }
 
@@ -237,126 +380,526 @@ public final class JedisProviderImpl extends AbstractProvider {
      * @see AbstractProvider#singletonMode(ServerConfig, String, String)
      */
     protected void singletonMode(final ServerConfig cachedServer, final String userName, final String passWord) {
-        GenericObjectPoolConfig<Jedis> jedisPoolConfig = new GenericObjectPoolConfig<>();
+        this.clientConfig = this.clientConfig(userName, passWord, RedisProtocol.RESP3);
+        HostAndPort serverAddress = this.hostAndPort(cachedServer);
+        this.jedisClient = new JedisPooled(serverAddress, this.clientConfig, this.poolConfig());
+        this.readClient = this.jedisClient;
+        this.masterSupplier = () -> serverAddress;
+        this.initConfined();
+        this.startTracking(userName, passWord);
+    }
 
-        jedisPoolConfig.setMaxTotal(this.getMaximumClient());
-        jedisPoolConfig.setMaxIdle(this.getClientPoolSize());
-        jedisPoolConfig.setMaxWait(Duration.ofMillis(this.getConnectTimeout() * 1000L));
-        jedisPoolConfig.setTestOnBorrow(Boolean.TRUE);
-        jedisPoolConfig.setTestWhileIdle(Boolean.TRUE);
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#clusterMode(List, String, String, String)
+     */
+    protected void clusterMode(final List<ServerConfig> serverConfigList, final String masterName,
+                             final String userName, final String passWord) {
+        this.clientConfig = this.clientConfig(userName, passWord, RedisProtocol.RESP3);
+        switch (this.getClusterMode()) {
+            case Sentinel:
+                Set<HostAndPort> sentinelServers =
+                        serverConfigList.stream().map(this::hostAndPort).collect(Collectors.toSet());
+                SentineledConnectionProvider connectionProvider =
+                        new SentineledConnectionProvider(masterName, this.clientConfig, this.poolConfig(),
+                                sentinelServers, this.clientConfig(null, null, RedisProtocol.RESP3));
+                this.jedisClient = new JedisSentineled(connectionProvider);
+                this.readClient = this.jedisClient;
+                this.masterSupplier = connectionProvider::getCurrentMaster;
+                this.initConfined();
+                this.startTracking(userName, passWord);
+                break;
+            case Master_Slave:
+                HostAndPort masterServer = serverConfigList.stream()
+                        .filter(serverConfig -> serverConfig.getServerAddress().equalsIgnoreCase(masterName))
+                        .findFirst()
+                        .map(this::hostAndPort)
+                        .orElseGet(() -> this.hostAndPort(serverConfigList.get(0)));
+                this.jedisClient = new JedisPooled(masterServer, this.clientConfig, this.poolConfig());
+                this.readClient = serverConfigList.stream()
+                        .map(this::hostAndPort)
+                        .filter(serverAddress ->
+                                !ReadPolicy.Master.equals(this.getReadPolicy()) && !serverAddress.equals(masterServer))
+                        .findFirst()
+                        .map(serverAddress ->
+                                (UnifiedJedis) new JedisPooled(serverAddress, this.clientConfig, this.poolConfig()))
+                        .orElse(this.jedisClient);
+                this.masterSupplier = () -> masterServer;
+                this.initConfined();
+                this.trackingNotSupported();
+                break;
+            default:
+                Set<HostAndPort> clusterServers =
+                        serverConfigList.stream().map(this::hostAndPort).collect(Collectors.toSet());
+                this.jedisClient =
+                        new JedisCluster(clusterServers, this.clientConfig, this.getRetryCount(), this.poolConfig());
+                this.readClient = this.jedisClient;
+                if (!ReadPolicy.Master.equals(this.getReadPolicy())) {
+                    this.replicaRouter = new ReplicaRouter((JedisCluster) this.jedisClient, this.getReadPolicy(),
+                            this.clientConfig, this.poolConfig());
+                }
+                if (this.isThreadConfined()) {
+                    this.logger.warn("Thread_Confined_Not_Supported_Jedis_Cache_Warn", this.getClusterMode());
+                }
+                this.trackingNotSupported();
+                break;
+        }
+    }
 
-        int connectTimeout = this.getConnectTimeout() * 1000;
+    /**
+     * <h3 class="en-US">Start subscriber of client side caching invalidation messages</h3>
+     * <span class="en-US">
+     *     Pooled connections can not share the tracking table of one connection,
+     *     so the default tracking mode was processed as broadcast tracking mode.
+     *     The subscriber uses RESP2 protocol connection to the current master server, invalidation messages were redirected to it.
+     * </span>
+     * <h3 class="zh-CN">启动客户端缓存失效消息的订阅者</h3>
+     * <span class="zh-CN">
+     *     连接池中的连接无法共享单一连接的跟踪表，默认跟踪模式按照广播跟踪模式处理。订阅者使用RESP2协议连接到当前主服务器，失效消息重定向至此连接。
+     * </span>
+     *
+     * @param userName <span class="en-US">Authenticate username</span>
+     *                 <span class="zh-CN">认证用户名</span>
+     * @param passWord <span class="en-US">Authenticate password</span>
+     *                 <span class="zh-CN">认证密码</span>
+     */
+    private void startTracking(final String userName, final String passWord) {
+        if (TrackingMode.Disabled.equals(this.getTrackingMode())) {
+            return;
+        }
+        JedisClientConfig trackingConfig = this.clientConfig(userName, passWord, RedisProtocol.RESP2);
+        this.trackingSubscriber =
+                new TrackingSubscriber(() -> new Jedis(this.masterSupplier.get(), trackingConfig),
+                        this.getTrackingPrefixList(), this::invalidate, this.getConnectTimeout() * 1000L);
+        this.trackingSubscriber.start();
+    }
+
+    private void trackingNotSupported() {
+        if (!TrackingMode.Disabled.equals(this.getTrackingMode())) {
+            this.logger.warn("Tracking_Not_Supported_Jedis_Cache_Warn", this.getClusterMode());
+        }
+    }
+
+    private void initConfined() {
+        if (this.isThreadConfined()) {
+            this.confinedConnection = new ThreadLocal<>();
+        }
+    }
 
-        if (StringUtils.isEmpty(passWord)) {
-            this.jedisPool = new JedisPool(jedisPoolConfig, cachedServer.getServerAddress(),
-                    super.serverPort(cachedServer.getServerPort()), connectTimeout);
+    /**
+     * <h3 class="en-US">Execute operation by client</h3>
+     * <span class="en-US">
+     *     Operation was executed by the dedicated connection of current thread if thread confined mode was enabled,
+     *     otherwise by the write or read client. If the connection was broken, the dedicated connection was closed
+     *     or idle connections of pool were cleared, because the idle connections were likely broken too,
+     *     e.g. the cache server was restarted.
+     * </span>
+     * <h3 class="zh-CN">使用客户端执行操作</h3>
+     * <span class="zh-CN">
+     *     启用线程专用模式时使用当前线程的专用连接执行操作，否则使用写操作或读操作客户端执行。
+     *     连接断开时关闭专用连接或清除连接池中的空闲连接，因为空闲连接很可能也已断开，例如缓存服务器已重启
+     * </span>
+     *
+     * @param operator <span class="en-US">Operation function</span>
+     *                 <span class="zh-CN">操作函数</span>
+     * @param write    <span class="en-US">Operation is write operation</span>
+     *                 <span class="zh-CN">操作为写操作</span>
+     * @param <T>      <span class="en-US">Result type</span>
+     *                 <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operation result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    private <T> T execute(final Function<UnifiedJedis, T> operator, final boolean write) {
+        ConfinedConnection connection = this.confined();
+        UnifiedJedis client;
+        if (connection != null) {
+            client = connection.client;
         } else {
-            if (StringUtils.isEmpty(userName)) {
-                this.jedisPool = new JedisPool(jedisPoolConfig, cachedServer.getServerAddress(),
-                        super.serverPort(cachedServer.getServerPort()), connectTimeout, passWord);
-            } else {
-                this.jedisPool = new JedisPool(jedisPoolConfig, cachedServer.getServerAddress(),
-                        super.serverPort(cachedServer.getServerPort()), connectTimeout, userName, passWord);
+            client = write ? this.jedisClient : this.readClient;
+        }
+        try {
+            return operator.apply(client);
+        } catch (JedisConnectionException e) {
+            this.revalidate(connection, client);
+            throw e;
+        } catch (JedisDataException e) {
+            this.failover(connection, e);
+            throw e;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Execute write operation without result by client</h3>
+     * <h3 class="zh-CN">使用客户端执行无结果的写操作</h3>
+     *
+     * @param operator <span class="en-US">Operation consumer</span>
+     *                 <span class="zh-CN">操作处理器</span>
+     */
+    private void execute(final Consumer<UnifiedJedis> operator) {
+        this.execute(jedis -> {
+            operator.accept(jedis);
+            return null;
+        }, Boolean.TRUE);
+    }
+
+    /**
+     * <h3 class="en-US">Execute read operation of given key</h3>
+     * <span class="en-US">Operation was routed by replica router in cluster mode if read policy was not master</span>
+     * <h3 class="zh-CN">执行给定键值的读操作</h3>
+     * <span class="zh-CN">集群模式下读操作路由策略不是主服务器时，操作由从服务器路由器进行路由</span>
+     *
+     * @param key      <span class="en-US">Cache key</span>
+     *                 <span class="zh-CN">缓存键值</span>
+     * @param operator <span class="en-US">Operation function</span>
+     *                 <span class="zh-CN">操作函数</span>
+     * @param <T>      <span class="en-US">Result type</span>
+     *                 <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operation result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    private <T> T read(final String key, final Function<UnifiedJedis, T> operator) {
+        if (this.replicaRouter == null) {
+            return this.execute(operator, Boolean.FALSE);
+        }
+        return this.replicaRouter.read(key, operator);
+    }
+
+    /**
+     * <h3 class="en-US">Execute operation by pipeline</h3>
+     * <span class="en-US">Pipeline of dedicated connection was used if thread confined mode was enabled</span>
+     * <h3 class="zh-CN">使用管道执行操作</h3>
+     * <span class="zh-CN">启用线程专用模式时使用专用连接的管道</span>
+     *
+     * @param operator <span class="en-US">Operation function</span>
+     *                 <span class="zh-CN">操作函数</span>
+     * @param write    <span class="en-US">Operation contains write operation</span>
+     *                 <span class="zh-CN">操作包含写操作</span>
+     * @param <T>      <span class="en-US">Result type</span>
+     *                 <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operation result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    private <T> T pipelined(final Function<AbstractPipeline, T> operator, final boolean write) {
+        ConfinedConnection connection = this.confined();
+        UnifiedJedis client = write ? this.jedisClient : this.readClient;
+        try (AbstractPipeline pipeline = (connection == null) ? client.pipelined() : new Pipeline(connection.connection)) {
+            return operator.apply(pipeline);
+        } catch (JedisConnectionException e) {
+            this.revalidate(connection, client);
+            throw e;
+        } catch (JedisDataException e) {
+            this.failover(connection, e);
+            throw e;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve dedicated connection of current thread</h3>
+     * <span class="en-US">
+     *     Connection was created to current master server when the thread executes the first operation,
+     *     and was recreated if the master server was changed by failover.
+     *     Connections of terminated threads were closed before creating new connection, and the thread uses pooled
+     *     connections if the count of dedicated connections reached the maximum client.
+     * </span>
+     * <h3 class="zh-CN">获取当前线程的专用连接</h3>
+     * <span class="zh-CN">
+     *     线程执行首个操作时创建到当前主服务器的连接，主服务器因故障转移改变时重新创建连接。
+     *     创建新连接前关闭已终止线程的连接，专用连接数量达到客户端实例阈值时线程使用连接池中的连接
+     * </span>
+     *
+     * @return  <span class="en-US">Connection instance or null if thread confined mode was disabled or the limit was reached</span>
+     *          <span class="zh-CN">连接实例，未启用线程专用模式或达到数量限制时返回null</span>
+     */
+    private ConfinedConnection confined() {
+        if (this.confinedConnection == null) {
+            return null;
+        }
+        HostAndPort masterServer = this.masterSupplier.get();
+        ConfinedConnection connection = this.confinedConnection.get();
+        if (connection != null && !connection.masterServer.equals(masterServer)) {
+            this.revalidate(connection, null);
+            connection = null;
+        }
+        if (connection == null) {
+            this.confinedConnections.removeIf(ConfinedConnection::reap);
+            if (this.confinedConnections.size() >= Math.max(this.getMaximumClient(), 1)) {
+                return null;
             }
+            connection = new ConfinedConnection(new Connection(masterServer, this.clientConfig), masterServer);
+            this.confinedConnections.add(connection);
+            this.confinedConnection.set(connection);
         }
-        this.singleMode = Boolean.TRUE;
+        return connection;
     }
 
-    /*
-     * (non-Javadoc)
-     * @see AbstractProvider#clusterMode(List, String, String, String)
+    /**
+     * <h3 class="en-US">Close dedicated connection which was connected to a replica after failover</h3>
+     * <span class="en-US">Commands of connected server were rejected by READONLY error, the next operation connects to the current master</span>
+     * <h3 class="zh-CN">关闭故障转移后连接到从服务器的专用连接</h3>
+     * <span class="zh-CN">已连接服务器以READONLY错误拒绝命令，下一个操作连接到当前主服务器</span>
+     *
+     * @param connection <span class="en-US">Dedicated connection of current thread</span>
+     *                   <span class="zh-CN">当前线程的专用连接</span>
+     * @param e          <span class="en-US">Error of command</span>
+     *                   <span class="zh-CN">命令的错误</span>
      */
-    protected void clusterMode(final List<ServerConfig> serverConfigList, final String masterName,
-                             final String userName, final String passWord) {
-        int connectTimeout = this.getConnectTimeout() * 1000;
-        if (ClusterMode.Sentinel.equals(this.getClusterMode())) {
-            JedisPoolConfig jedisPoolConfig = new JedisPoolConfig();
-            this.configPool(jedisPoolConfig);
-
-            Set<String> sentinelServers = new HashSet<>();
-            serverConfigList.forEach(serverConfig ->
-                    sentinelServers.add(new HostAndPort(serverConfig.getServerAddress(),
-                            serverConfig.getServerPort()).toString()));
-            if (StringUtils.isEmpty(passWord)) {
-                this.jedisPool = new JedisSentinelPool(masterName, sentinelServers, jedisPoolConfig, connectTimeout);
+    private void failover(final ConfinedConnection connection, final JedisDataException e) {
+        if (connection != null && e.getMessage() != null && e.getMessage().startsWith("READONLY")) {
+            this.revalidate(connection, null);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Release resources after connection failure</h3>
+     * <span class="en-US">
+     *     Broken dedicated connection was closed, the next operation of current thread creates a new one.
+     *     Idle connections of pooled client were cleared, new connections were created by following borrowing
+     *     and the evictor keeps minimum idle connections.
+     * </span>
+     * <h3 class="zh-CN">连接失败后释放资源</h3>
+     * <span class="zh-CN">
+     *     关闭已断开的专用连接，当前线程的下一个操作创建新的连接。清除连接池客户端的空闲连接，后续借用时创建新的连接，清理线程保持最小空闲连接数
+     * </span>
+     *
+     * @param connection <span class="en-US">Dedicated connection of current thread</span>
+     *                   <span class="zh-CN">当前线程的专用连接</span>
+     * @param client     <span class="en-US">Client instance which executed the operation</span>
+     *                   <span class="zh-CN">执行操作的客户端实例</span>
+     */
+    private void revalidate(final ConfinedConnection connection, final UnifiedJedis client) {
+        if (connection != null) {
+            this.confinedConnection.remove();
+            this.confinedConnections.remove(connection);
+            connection.close();
+        } else if (client instanceof JedisPooled && !((JedisPooled) client).getPool().isClosed()) {
+            this.logger.warn("Revalidate_Pool_Jedis_Cache_Warn");
+            ((JedisPooled) client).getPool().clear();
+        }
+    }
+
+    private void process(String key, String value, int expiry) {
+        this.write(key, super.compress(ConvertUtils.toByteArray(value)), super.expiryTime(expiry));
+    }
+
+    private void write(final String key, final byte[] valueBytes, final int expiry) {
+        this.execute(jedis -> {
+            if (expiry > 0) {
+                jedis.setex(key.getBytes(), expiry, valueBytes);
             } else {
-                if (StringUtils.isEmpty(userName)) {
-                    this.jedisPool = new JedisSentinelPool(masterName, sentinelServers, jedisPoolConfig,
-                            connectTimeout, userName, passWord, Globals.INITIALIZE_INT_VALUE);
-                } else {
-                    this.jedisPool = new JedisSentinelPool(masterName, sentinelServers, jedisPoolConfig,
-                            connectTimeout, passWord);
-                }
+                jedis.set(key.getBytes(), valueBytes);
             }
-        } else {
-            GenericObjectPoolConfig<Connection> clusterConfig = new GenericObjectPoolConfig<>();
-            this.configPool(clusterConfig);
-            Set<HostAndPort> readServers = new HashSet<>();
-            serverConfigList.stream()
-                    .filter(serverConfig -> !serverConfig.getServerAddress().equalsIgnoreCase(masterName))
-                    .forEach(serverConfig -> {
-                        HostAndPort server = new HostAndPort(serverConfig.getServerAddress(), serverConfig.getServerPort());
-                        readServers.add(server);
-                    });
-            HostAndPort masterServer =
-                    serverConfigList.stream()
-                            .filter(serverConfig -> serverConfig.getServerAddress().equalsIgnoreCase(masterName))
-                            .findFirst()
-                            .map(serverConfig ->
-                                    new HostAndPort(serverConfig.getServerAddress(), serverConfig.getServerPort()))
-                            .orElse(null);
-            if (StringUtils.notBlank(passWord)) {
-                DefaultJedisClientConfig.Builder clientBuilder =
-                        DefaultJedisClientConfig.builder().password(passWord)
-                                .connectionTimeoutMillis(connectTimeout);
-                if (StringUtils.notBlank(userName)) {
-                    clientBuilder.clientName(userName);
-                }
-                this.readCluster =
-                        new JedisCluster(readServers, clientBuilder.build(), this.getRetryCount(), clusterConfig);
-                this.writeCluster =
-                        new JedisCluster(masterServer, clientBuilder.build(), this.getRetryCount(), clusterConfig);
+        });
+    }
+
+    private void pipelineWrite(final PipelineBinaryCommands pipeline, final Runnable syncOperator,
+                               final Map<String, String> dataMap, final ToIntFunction<String> expiryFunction) {
+        int count = 0;
+        for (Map.Entry<String, String> entry : dataMap.entrySet()) {
+            byte[] key = entry.getKey().getBytes();
+            byte[] value = super.compress(ConvertUtils.toByteArray(entry.getValue()));
+            int expiry = expiryFunction.applyAsInt(entry.getKey());
+            if (expiry > 0) {
+                pipeline.setex(key, expiry, value);
             } else {
-                this.readCluster =
-                        new JedisCluster(readServers, connectTimeout, this.getRetryCount(), clusterConfig);
-                this.writeCluster =
-                        new JedisCluster(masterServer, connectTimeout, this.getRetryCount(), clusterConfig);
+                pipeline.set(key, value);
+            }
+            //  Synchronize pipeline in batches to avoid buffering all responses in memory
+            if (++count % CacheGlobals.DEFAULT_BATCH_SIZE == 0) {
+                syncOperator.run();
             }
         }
-        this.singleMode = Boolean.FALSE;
+        syncOperator.run();
     }
 
-    private Jedis singleClient() {
-        Jedis jedis = this.jedisPool.getResource();
-        int retryCount = 0;
-        while (jedis == null || !jedis.isConnected()) {
-            if (retryCount >= this.getRetryCount()) {
-                break;
+    private void pipelineBatch(final PipelineBinaryCommands pipeline, final Runnable syncOperator,
+                               final List<BatchOperation> operations, final List<Response<?>> responseList) {
+        for (BatchOperation operation : operations) {
+            byte[] key = operation.getKey().getBytes();
+            int expiry = super.expiryTime(operation.getExpire());
+            switch (operation.getOperationType()) {
+                case Set:
+                    byte[] value = super.compress(ConvertUtils.toByteArray(operation.getValue()));
+                    responseList.add((expiry > 0) ? pipeline.setex(key, expiry, value) : pipeline.set(key, value));
+                    break;
+                case Add:
+                    responseList.add(pipeline.set(key, super.compress(ConvertUtils.toByteArray(operation.getValue())),
+                            setParams(SetParams.setParams().nx(), expiry)));
+                    break;
+                case Replace:
+                    responseList.add(pipeline.set(key, super.compress(ConvertUtils.toByteArray(operation.getValue())),
+                            setParams(SetParams.setParams().xx(), expiry)));
+                    break;
+                case Expire:
+                    responseList.add(pipeline.expire(key, operation.getExpire()));
+                    break;
+                case Delete:
+                    responseList.add(pipeline.del(key));
+                    break;
+                case Get:
+                    responseList.add(pipeline.get(key));
+                    break;
+                case Incr:
+                    responseList.add(pipeline.incrBy(key, operation.getStep()));
+                    break;
+                case Decr:
+                    responseList.add(pipeline.decrBy(key, operation.getStep()));
+                    break;
+            }
+            //  Synchronize pipeline in batches to avoid buffering all responses in memory
+            if (responseList.size() % CacheGlobals.DEFAULT_BATCH_SIZE == 0) {
+                syncOperator.run();
             }
-            retryCount++;
-            jedis = this.jedisPool.getResource();
         }
-        return jedis;
+        syncOperator.run();
     }
 
-    private void process(String key, String value, int expiry) {
-        if (this.singleMode) {
-            Optional.ofNullable(this.singleClient())
-                    .ifPresent(jedis -> {
-                        jedis.setex(key.getBytes(), expiry, ConvertUtils.toByteArray(value));
-                        jedis.close();
-                    });
-        } else {
-            this.writeCluster.setex(key.getBytes(), expiry, ConvertUtils.toByteArray(value));
+    private static SetParams setParams(final SetParams setParams, final int expiry) {
+        if (expiry > 0) {
+            setParams.ex(expiry);
+        }
+        return setParams;
+    }
+
+    private void mergeResult(final Map<String, String> resultMap, final String[] keys, final List<byte[]> values) {
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < keys.length && i < values.size(); i++) {
+            if (values.get(i) != null) {
+                resultMap.put(keys[i], ConvertUtils.toString(super.decompress(values.get(i))));
+            }
+        }
+    }
+
+    private static byte[][] binaryKeys(final String[] keys) {
+        byte[][] binaryKeys = new byte[keys.length][];
+        for (int i = 0; i < keys.length; i++) {
+            binaryKeys[i] = keys[i].getBytes();
         }
+        return binaryKeys;
     }
 
-    private void configPool(final GenericObjectPoolConfig<?> poolConfig) {
+    private HostAndPort hostAndPort(final ServerConfig serverConfig) {
+        return new HostAndPort(serverConfig.getServerAddress(), super.serverPort(serverConfig.getServerPort()));
+    }
+
+    /**
+     * <h3 class="en-US">Generate client configure of connections</h3>
+     * <h3 class="zh-CN">生成连接的客户端配置</h3>
+     *
+     * @param userName <span class="en-US">Authenticate username</span>
+     *                 <span class="zh-CN">认证用户名</span>
+     * @param passWord <span class="en-US">Authenticate password</span>
+     *                 <span class="zh-CN">认证密码</span>
+     * @param protocol <span class="en-US">Redis serialization protocol version</span>
+     *                 <span class="zh-CN">Redis序列化协议版本</span>
+     * @return <span class="en-US">Client configure instance</span>
+     * <span class="zh-CN">客户端配置实例</span>
+     */
+    private JedisClientConfig clientConfig(final String userName, final String passWord,
+                                           final RedisProtocol protocol) {
+        DefaultJedisClientConfig.Builder clientBuilder =
+                DefaultJedisClientConfig.builder()
+                        .timeoutMillis(this.getConnectTimeout() * 1000)
+                        .protocol(protocol);
+        if (StringUtils.notBlank(passWord)) {
+            clientBuilder.password(passWord);
+            if (StringUtils.notBlank(userName)) {
+                clientBuilder.user(userName);
+            }
+        }
+        return clientBuilder.build();
+    }
+
+    /**
+     * <h3 class="en-US">Generate connection pool configure</h3>
+     * <span class="en-US">
+     *     Connections were not tested when borrowing or returning, which doubles the round trips of each operation.
+     *     The evictor validates idle connections in background, evicts connections which idle for more than twice the interval,
+     *     and keeps minimum idle connections.
+     * </span>
+     * <h3 class="zh-CN">生成连接池配置</h3>
+     * <span class="zh-CN">
+     *     借用或归还连接时不进行测试，测试会使每个操作的网络往返次数翻倍。清理线程在后台校验空闲连接，清除空闲时间超过两倍间隔的连接，并保持最小空闲连接数。
+     * </span>
+     *
+     * @return <span class="en-US">Pool configure instance</span>
+     * <span class="zh-CN">连接池配置实例</span>
+     */
+    private GenericObjectPoolConfig<Connection> poolConfig() {
+        GenericObjectPoolConfig<Connection> poolConfig = new GenericObjectPoolConfig<>();
         int connectTimeout = this.getConnectTimeout() * 1000;
         poolConfig.setMaxTotal(this.getMaximumClient());
         poolConfig.setMaxIdle(this.getClientPoolSize());
+        poolConfig.setMinIdle(Math.min(this.getMinimumIdle(), this.getClientPoolSize()));
         poolConfig.setMaxWait(Duration.ofMillis(connectTimeout));
-        poolConfig.setTestOnBorrow(Boolean.TRUE);
-        poolConfig.setTestWhileIdle(Boolean.TRUE);
+        poolConfig.setLifo(this.isPoolLifo());
+        poolConfig.setTestOnCreate(Boolean.FALSE);
+        poolConfig.setTestOnBorrow(Boolean.FALSE);
+        poolConfig.setTestOnReturn(Boolean.FALSE);
+        if (this.getEvictionInterval() > 0) {
+            Duration evictionInterval = Duration.ofSeconds(this.getEvictionInterval());
+            poolConfig.setTestWhileIdle(Boolean.TRUE);
+            poolConfig.setTimeBetweenEvictionRuns(evictionInterval);
+            poolConfig.setMinEvictableIdleTime(evictionInterval.multipliedBy(2L));
+            //  Validate all idle connections in each eviction run
+            poolConfig.setNumTestsPerEvictionRun(-1);
+        }
+        return poolConfig;
+    }
+
+    /**
+     * <h2 class="en-US">Dedicated connection of thread</h2>
+     * <h2 class="zh-CN">线程的专用连接</h2>
+     */
+    private static final class ConfinedConnection {
+
+        /**
+         * <span class="en-US">Connection instance</span>
+         * <span class="zh-CN">连接实例</span>
+         */
+        private final Connection connection;
+        /**
+         * <span class="en-US">Client instance which executes commands by the connection</span>
+         * <span class="zh-CN">使用此连接执行命令的客户端实例</span>
+         */
+        private final UnifiedJedis client;
+        /**
+         * <span class="en-US">Master server address when the connection was created</span>
+         * <span class="zh-CN">创建连接时的主服务器地址</span>
+         */
+        private final HostAndPort masterServer;
+        /**
+         * <span class="en-US">Owner thread, weak referenced so terminated threads were not retained</span>
+         * <span class="zh-CN">所属线程，使用弱引用因此不会保留已终止的线程</span>
+         */
+        private final WeakReference<Thread> ownerThread;
+
+        ConfinedConnection(final Connection connection, final HostAndPort masterServer) {
+            this.connection = connection;
+            this.client = new UnifiedJedis(connection);
+            this.masterServer = masterServer;
+            this.ownerThread = new WeakReference<>(Thread.currentThread());
+        }
+
+        /**
+         * <h3 class="en-US">Close connection if the owner thread was terminated</h3>
+         * <h3 class="zh-CN">如果所属线程已终止则关闭连接</h3>
+         *
+         * @return  <span class="en-US">true if the connection was closed</span>
+         *          <span class="zh-CN">连接已关闭时返回true</span>
+         */
+        boolean reap() {
+            Thread thread = this.ownerThread.get();
+            if (thread != null && thread.isAlive()) {
+                return Boolean.FALSE;
+            }
+            this.close();
+            return Boolean.TRUE;
+        }
+
+        void close() {
+            this.client.close();
+        }
     }
 }
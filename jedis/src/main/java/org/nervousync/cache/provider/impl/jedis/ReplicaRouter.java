@@ -0,0 +1,471 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.jedis;
+
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.nervousync.cache.enumeration.ReadPolicy;
+import org.nervousync.utils.LoggerUtils;
+import redis.clients.jedis.*;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
+import redis.clients.jedis.util.JedisClusterCRC16;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * <h2 class="en-US">Slot aware read router of cluster replica servers</h2>
+ * <span class="en-US">
+ *     Router loads the slot owners from cluster topology, read operations were sent to the master or replica servers
+ *     of the owning slot by read policy, operations which routed to master servers were executed by the cluster client.
+ *     Each replica server has a dedicated connection pool, connections were switched to read only mode when created.
+ *     Topology was reloaded when the replica server redirected the operation or the connection was broken,
+ *     the operation was retried by the cluster client. For nearest policy, topology was also reloaded periodically
+ *     in background, so the latency of servers was measured again and smoothed over the measurements.
+ * </span>
+ * <h2 class="zh-CN">集群从服务器的槽位感知读操作路由器</h2>
+ * <span class="zh-CN">
+ *     路由器从集群拓扑加载槽位的所有者，读操作按照读操作路由策略发送到所属槽位的主服务器或从服务器，路由到主服务器的操作由集群客户端执行。
+ *     每个从服务器拥有专用的连接池，连接在创建时切换为只读模式。从服务器重定向操作或连接断开时重新加载拓扑，并使用集群客户端重试操作。
+ *     最近策略还会在后台定期重新加载拓扑，从而重新测量服务器延迟并对多次测量结果进行平滑处理。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 19, 2024 11:02:15 $
+ */
+final class ReplicaRouter {
+
+    /**
+     * <span class="en-US">Minimum interval of topology reloading. Unit: millisecond</span>
+     * <span class="zh-CN">拓扑重新加载的最小间隔。单位：毫秒</span>
+     */
+    private static final long REFRESH_INTERVAL = 1000L;
+    /**
+     * <span class="en-US">Interval of latency measuring for nearest policy. Unit: millisecond</span>
+     * <span class="zh-CN">最近策略的延迟测量间隔。单位：毫秒</span>
+     */
+    private static final long MEASURE_INTERVAL = 30000L;
+
+    private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
+    /**
+     * <span class="en-US">Cluster client instance, executes write operations and read operations routed to master servers</span>
+     * <span class="zh-CN">集群客户端实例，执行写操作和路由到主服务器的读操作</span>
+     */
+    private final JedisCluster jedisCluster;
+    /**
+     * <span class="en-US">Read routing policy</span>
+     * <span class="zh-CN">读操作路由策略</span>
+     */
+    private final ReadPolicy readPolicy;
+    /**
+     * <span class="en-US">Client configure of replica connections</span>
+     * <span class="zh-CN">从服务器连接的客户端配置</span>
+     */
+    private final JedisClientConfig clientConfig;
+    /**
+     * <span class="en-US">Pool configure of replica connections</span>
+     * <span class="zh-CN">从服务器连接的连接池配置</span>
+     */
+    private final GenericObjectPoolConfig<Connection> poolConfig;
+    /**
+     * <span class="en-US">Connection pools of replica servers</span>
+     * <span class="zh-CN">从服务器的连接池</span>
+     */
+    private final Map<HostAndPort, ConnectionPool> replicaPools = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Round-robin counter</span>
+     * <span class="zh-CN">轮询计数器</span>
+     */
+    private final AtomicInteger counter = new AtomicInteger(0);
+    /**
+     * <span class="en-US">Last topology reloading time. Unit: millisecond</span>
+     * <span class="zh-CN">上次重新加载拓扑的时间。单位：毫秒</span>
+     */
+    private final AtomicLong refreshTime = new AtomicLong(0L);
+    /**
+     * <span class="en-US">Server nodes of each slot, null element means the slot owner was unknown</span>
+     * <span class="zh-CN">每个槽位的服务器节点，元素为null表示槽位所有者未知</span>
+     */
+    private volatile SlotNodes[] slotTable = new SlotNodes[JedisCluster.HASHSLOTS];
+    /**
+     * <span class="en-US">Smoothed latency of servers for nearest policy. Unit: nanosecond</span>
+     * <span class="zh-CN">最近策略使用的服务器平滑延迟。单位：纳秒</span>
+     */
+    private final Map<HostAndPort, Long> latencies = new ConcurrentHashMap<>();
+    /**
+     * <span class="en-US">Executor of periodic latency measuring, null if read policy was not nearest</span>
+     * <span class="zh-CN">定期测量延迟的执行器，读操作路由策略不是最近策略时为null</span>
+     */
+    private final ScheduledExecutorService measureExecutor;
+
+    /**
+     * <h3 class="en-US">Constructor for replica router</h3>
+     * <h3 class="zh-CN">从服务器路由器的构造方法</h3>
+     *
+     * @param jedisCluster <span class="en-US">Cluster client instance</span>
+     *                     <span class="zh-CN">集群客户端实例</span>
+     * @param readPolicy   <span class="en-US">Read routing policy</span>
+     *                     <span class="zh-CN">读操作路由策略</span>
+     * @param clientConfig <span class="en-US">Client configure of replica connections</span>
+     *                     <span class="zh-CN">从服务器连接的客户端配置</span>
+     * @param poolConfig   <span class="en-US">Pool configure of replica connections</span>
+     *                     <span class="zh-CN">从服务器连接的连接池配置</span>
+     */
+    ReplicaRouter(final JedisCluster jedisCluster, final ReadPolicy readPolicy,
+                  final JedisClientConfig clientConfig, final GenericObjectPoolConfig<Connection> poolConfig) {
+        this.jedisCluster = jedisCluster;
+        this.readPolicy = readPolicy;
+        this.clientConfig = clientConfig;
+        this.poolConfig = poolConfig;
+        this.refresh();
+        if (ReadPolicy.Nearest.equals(readPolicy)) {
+            this.measureExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "JedisProvider-Measure");
+                thread.setDaemon(Boolean.TRUE);
+                return thread;
+            });
+            this.measureExecutor.scheduleWithFixedDelay(this::measure,
+                    MEASURE_INTERVAL, MEASURE_INTERVAL, TimeUnit.MILLISECONDS);
+        } else {
+            this.measureExecutor = null;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Execute read operation of given key</h3>
+     * <h3 class="zh-CN">执行给定键值的读操作</h3>
+     *
+     * @param key      <span class="en-US">Cache key</span>
+     *                 <span class="zh-CN">缓存键值</span>
+     * @param operator <span class="en-US">Operation function</span>
+     *                 <span class="zh-CN">操作函数</span>
+     * @param <T>      <span class="en-US">Result type</span>
+     *                 <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operation result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    <T> T read(final String key, final Function<UnifiedJedis, T> operator) {
+        return this.read(JedisClusterCRC16.getSlot(key), operator);
+    }
+
+    /**
+     * <h3 class="en-US">Execute read operation of given slot</h3>
+     * <span class="en-US">All keys of the operation must belong to the given slot</span>
+     * <h3 class="zh-CN">执行给定槽位的读操作</h3>
+     * <span class="zh-CN">操作的所有键值必须属于给定槽位</span>
+     *
+     * @param slot     <span class="en-US">Slot number</span>
+     *                 <span class="zh-CN">槽位编号</span>
+     * @param operator <span class="en-US">Operation function</span>
+     *                 <span class="zh-CN">操作函数</span>
+     * @param <T>      <span class="en-US">Result type</span>
+     *                 <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Operation result</span>
+     * <span class="zh-CN">操作结果</span>
+     */
+    <T> T read(final int slot, final Function<UnifiedJedis, T> operator) {
+        HostAndPort replicaNode = this.select(slot);
+        if (replicaNode == null) {
+            return operator.apply(this.jedisCluster);
+        }
+        Connection connection;
+        try {
+            connection = this.replicaPool(replicaNode).getResource();
+        } catch (JedisException e) {
+            this.refresh();
+            return operator.apply(this.jedisCluster);
+        }
+        //  Closing the client returns the connection to the replica pool
+        try (UnifiedJedis replicaClient = new UnifiedJedis(connection)) {
+            return operator.apply(replicaClient);
+        } catch (JedisRedirectionException | JedisConnectionException e) {
+            this.refresh();
+            return operator.apply(this.jedisCluster);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Reload slot owners from cluster topology</h3>
+     * <span class="en-US">
+     *     Reloading was skipped if the topology was reloaded in last second.
+     *     Latency of each server was measured for nearest policy, pools of removed replica servers were closed.
+     * </span>
+     * <h3 class="zh-CN">从集群拓扑重新加载槽位所有者</h3>
+     * <span class="zh-CN">最近一秒内已重新加载拓扑时跳过。最近策略需测量每个服务器的延迟，关闭已移除从服务器的连接池。</span>
+     */
+    void refresh() {
+        long lastTime = this.refreshTime.get();
+        long currentTime = System.currentTimeMillis();
+        if (currentTime - lastTime < REFRESH_INTERVAL || !this.refreshTime.compareAndSet(lastTime, currentTime)) {
+            return;
+        }
+        List<Object> slotList = null;
+        for (ConnectionPool connectionPool : this.jedisCluster.getClusterNodes().values()) {
+            try (Jedis jedis = new Jedis(connectionPool.getResource())) {
+                slotList = jedis.clusterSlots();
+                break;
+            } catch (JedisException e) {
+                if (this.logger.isDebugEnabled()) {
+                    this.logger.debug("Utils", "Stack_Message_Error", e);
+                }
+            }
+        }
+        if (slotList == null) {
+            this.logger.warn("Refresh_Topology_Jedis_Cache_Warn");
+            return;
+        }
+        SlotNodes[] newTable = new SlotNodes[JedisCluster.HASHSLOTS];
+        Set<HostAndPort> replicaNodes = new HashSet<>();
+        Map<HostAndPort, Long> latencyMap = new HashMap<>();
+        for (Object slotInfo : slotList) {
+            List<?> slotRange = (List<?>) slotInfo;
+            if (slotRange.size() < 3) {
+                continue;
+            }
+            HostAndPort masterNode = hostAndPort((List<?>) slotRange.get(2));
+            List<HostAndPort> replicaList = new ArrayList<>();
+            for (int i = 3; i < slotRange.size(); i++) {
+                HostAndPort replicaNode = hostAndPort((List<?>) slotRange.get(i));
+                if (replicaNode != null) {
+                    replicaList.add(replicaNode);
+                }
+            }
+            replicaNodes.addAll(replicaList);
+            HostAndPort nearestNode = null;
+            if (ReadPolicy.Nearest.equals(this.readPolicy)) {
+                nearestNode = this.nearest(masterNode, replicaList, latencyMap);
+            }
+            SlotNodes slotNodes = new SlotNodes(replicaList.toArray(new HostAndPort[0]), nearestNode);
+            int endSlot = Math.min(((Long) slotRange.get(1)).intValue(), JedisCluster.HASHSLOTS - 1);
+            for (int slot = ((Long) slotRange.get(0)).intValue(); slot <= endSlot; slot++) {
+                newTable[slot] = slotNodes;
+            }
+        }
+        this.slotTable = newTable;
+        this.latencies.keySet().retainAll(latencyMap.keySet());
+        this.replicaPools.entrySet().removeIf(entry -> {
+            if (replicaNodes.contains(entry.getKey())) {
+                return Boolean.FALSE;
+            }
+            entry.getValue().close();
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Close connection pools of replica servers</h3>
+     * <h3 class="zh-CN">关闭从服务器的连接池</h3>
+     */
+    void close() {
+        if (this.measureExecutor != null) {
+            this.measureExecutor.shutdownNow();
+        }
+        this.replicaPools.values().forEach(ConnectionPool::close);
+        this.replicaPools.clear();
+    }
+
+    /**
+     * <h3 class="en-US">Select replica server of given slot by read policy</h3>
+     * <h3 class="zh-CN">按照读操作路由策略选择给定槽位的从服务器</h3>
+     *
+     * @param slot <span class="en-US">Slot number</span>
+     *             <span class="zh-CN">槽位编号</span>
+     * @return <span class="en-US">Replica server address, null for master server</span>
+     * <span class="zh-CN">从服务器地址，主服务器返回null</span>
+     */
+    private HostAndPort select(final int slot) {
+        SlotNodes slotNodes = this.slotTable[slot];
+        if (slotNodes == null || slotNodes.replicas.length == 0) {
+            return null;
+        }
+        int index = this.counter.getAndIncrement() & Integer.MAX_VALUE;
+        switch (this.readPolicy) {
+            case ReplicaPreferred:
+                return slotNodes.replicas[index % slotNodes.replicas.length];
+            case RoundRobin:
+                //  The last index represents the master server
+                index %= (slotNodes.replicas.length + 1);
+                return (index == slotNodes.replicas.length) ? null : slotNodes.replicas[index];
+            case Nearest:
+                return slotNodes.nearest;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Reload topology in background to measure latency of servers again</h3>
+     * <span class="en-US">Exception was caught, otherwise the following executions were cancelled</span>
+     * <h3 class="zh-CN">在后台重新加载拓扑以再次测量服务器延迟</h3>
+     * <span class="zh-CN">捕获异常，否则后续执行将被取消</span>
+     */
+    private void measure() {
+        try {
+            this.refresh();
+        } catch (RuntimeException e) {
+            this.logger.warn("Refresh_Topology_Jedis_Cache_Warn");
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Utils", "Stack_Message_Error", e);
+            }
+        }
+    }
+
+    private ConnectionPool replicaPool(final HostAndPort replicaNode) {
+        return this.replicaPools.computeIfAbsent(replicaNode, hostAndPort ->
+                new ConnectionPool(new ReadOnlyConnectionFactory(hostAndPort, this.clientConfig), this.poolConfig));
+    }
+
+    /**
+     * <h3 class="en-US">Find the lowest latency server of master server and replica servers</h3>
+     * <h3 class="zh-CN">查找主服务器和从服务器中延迟最低的服务器</h3>
+     *
+     * @param masterNode  <span class="en-US">Master server address</span>
+     *                    <span class="zh-CN">主服务器地址</span>
+     * @param replicaList <span class="en-US">Replica server address list</span>
+     *                    <span class="zh-CN">从服务器地址列表</span>
+     * @param latencyMap  <span class="en-US">Measured latency of servers</span>
+     *                    <span class="zh-CN">已测量的服务器延迟</span>
+     * @return <span class="en-US">Lowest latency replica server address, null for master server</span>
+     * <span class="zh-CN">延迟最低的从服务器地址，主服务器返回null</span>
+     */
+    private HostAndPort nearest(final HostAndPort masterNode, final List<HostAndPort> replicaList,
+                                final Map<HostAndPort, Long> latencyMap) {
+        HostAndPort nearestNode = null;
+        long minLatency = (masterNode == null)
+                ? Long.MAX_VALUE
+                : latencyMap.computeIfAbsent(masterNode, hostAndPort -> this.smooth(hostAndPort,
+                Optional.ofNullable(this.jedisCluster.getClusterNodes().get(hostAndPort.toString()))
+                        .map(ReplicaRouter::latency)
+                        .orElse(Long.MAX_VALUE)));
+        for (HostAndPort replicaNode : replicaList) {
+            long latency = latencyMap.computeIfAbsent(replicaNode,
+                    hostAndPort -> this.smooth(hostAndPort, latency(this.replicaPool(hostAndPort))));
+            if (latency < minLatency) {
+                minLatency = latency;
+                nearestNode = replicaNode;
+            }
+        }
+        return nearestNode;
+    }
+
+    /**
+     * <h3 class="en-US">Merge measured latency into smoothed latency of given server</h3>
+     * <span class="en-US">
+     *     New measurement takes a quarter weight, so a single slow ping not switches the nearest server.
+     *     Unreachable server was not smoothed, and was measured from scratch after it recovered.
+     * </span>
+     * <h3 class="zh-CN">将测量的延迟合并到给定服务器的平滑延迟中</h3>
+     * <span class="zh-CN">新的测量值占四分之一权重，因此单次较慢的PING不会切换最近服务器。不可达的服务器不做平滑处理，恢复后重新开始测量。</span>
+     *
+     * @param hostAndPort <span class="en-US">Server address</span>
+     *                    <span class="zh-CN">服务器地址</span>
+     * @param latency     <span class="en-US">Measured latency in nanoseconds</span>
+     *                    <span class="zh-CN">以纳秒为单位的测量延迟</span>
+     * @return <span class="en-US">Smoothed latency in nanoseconds</span>
+     * <span class="zh-CN">以纳秒为单位的平滑延迟</span>
+     */
+    private long smooth(final HostAndPort hostAndPort, final long latency) {
+        if (latency == Long.MAX_VALUE) {
+            this.latencies.remove(hostAndPort);
+            return latency;
+        }
+        return this.latencies.merge(hostAndPort, latency, (previous, current) -> (previous * 3L + current) / 4L);
+    }
+
+    private static long latency(final ConnectionPool connectionPool) {
+        try (Connection connection = connectionPool.getResource()) {
+            long beginTime = System.nanoTime();
+            return connection.ping() ? System.nanoTime() - beginTime : Long.MAX_VALUE;
+        } catch (JedisException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Parse server address from node information of CLUSTER SLOTS</h3>
+     * <h3 class="zh-CN">从 CLUSTER SLOTS 的节点信息中解析服务器地址</h3>
+     *
+     * @param nodeInfo <span class="en-US">Node information, host, port and node id</span>
+     *                 <span class="zh-CN">节点信息，主机地址、端口号和节点ID</span>
+     * @return <span class="en-US">Server address or null if the endpoint was unknown</span>
+     * <span class="zh-CN">服务器地址，端点未知时返回null</span>
+     */
+    private static HostAndPort hostAndPort(final List<?> nodeInfo) {
+        if (nodeInfo.size() < 2 || !(nodeInfo.get(0) instanceof byte[])) {
+            return null;
+        }
+        String host = SafeEncoder.encode((byte[]) nodeInfo.get(0));
+        if (host.isEmpty() || "?".equals(host)) {
+            return null;
+        }
+        return new HostAndPort(host, ((Long) nodeInfo.get(1)).intValue());
+    }
+
+    /**
+     * <h2 class="en-US">Server nodes of slot range</h2>
+     * <h2 class="zh-CN">槽位范围的服务器节点</h2>
+     */
+    private static final class SlotNodes {
+
+        /**
+         * <span class="en-US">Replica server addresses</span>
+         * <span class="zh-CN">从服务器地址</span>
+         */
+        private final HostAndPort[] replicas;
+        /**
+         * <span class="en-US">Lowest latency replica server address, null for master server</span>
+         * <span class="zh-CN">延迟最低的从服务器地址，主服务器为null</span>
+         */
+        private final HostAndPort nearest;
+
+        SlotNodes(final HostAndPort[] replicas, final HostAndPort nearest) {
+            this.replicas = replicas;
+            this.nearest = nearest;
+        }
+    }
+
+    /**
+     * <h2 class="en-US">Factory of read only connections</h2>
+     * <span class="en-US">Replica servers reject commands of cluster slots without READONLY</span>
+     * <h2 class="zh-CN">只读连接的工厂</h2>
+     * <span class="zh-CN">未执行 READONLY 时从服务器拒绝集群槽位的命令</span>
+     */
+    private static final class ReadOnlyConnectionFactory extends ConnectionFactory {
+
+        ReadOnlyConnectionFactory(final HostAndPort hostAndPort, final JedisClientConfig clientConfig) {
+            super(hostAndPort, clientConfig);
+        }
+
+        @Override
+        public PooledObject<Connection> makeObject() throws Exception {
+            PooledObject<Connection> pooledObject = super.makeObject();
+            Connection connection = pooledObject.getObject();
+            connection.sendCommand(Protocol.Command.READONLY);
+            connection.getStatusCodeReply();
+            return pooledObject;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.jedis;
+
+import org.nervousync.utils.LoggerUtils;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * <h2 class="en-US">Subscriber of client side caching invalidation messages</h2>
+ * <span class="en-US">
+ *     A dedicated RESP2 connection enables broadcast tracking which redirect to itself and subscribes the invalidation channel,
+ *     pooled connections do not need to enable tracking. All cache keys were invalidated when the connection was broken,
+ *     the subscriber reconnects and enables tracking again.
+ * </span>
+ * <h2 class="zh-CN">客户端缓存失效消息的订阅者</h2>
+ * <span class="zh-CN">
+ *     专用的RESP2连接启用重定向至自身的广播跟踪并订阅失效频道，连接池中的连接无需启用跟踪。连接断开时所有缓存键值失效，订阅者重新连接并再次启用跟踪。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 11, 2024 16:42:09 $
+ */
+final class TrackingSubscriber extends JedisPubSub implements Runnable {
+
+    private static final String INVALIDATE_CHANNEL = "__redis__:invalidate";
+
+    private final LoggerUtils.Logger logger = LoggerUtils.getLogger(this.getClass());
+    /**
+     * <span class="en-US">Factory of dedicated connection to current master server</span>
+     * <span class="zh-CN">当前主服务器专用连接的工厂</span>
+     */
+    private final Supplier<Jedis> connectionFactory;
+    /**
+     * <span class="en-US">Key prefix list of broadcast tracking</span>
+     * <span class="zh-CN">广播跟踪的键值前缀列表</span>
+     */
+    private final List<String> prefixList;
+    /**
+     * <span class="en-US">Invalidated cache keys consumer, null collection means all cache keys</span>
+     * <span class="zh-CN">失效缓存键值的处理器，集合为null表示所有缓存键值</span>
+     */
+    private final Consumer<Collection<String>> invalidator;
+    /**
+     * <span class="en-US">Reconnect interval. Unit: millisecond</span>
+     * <span class="zh-CN">重新连接的间隔时间。单位：毫秒</span>
+     */
+    private final long retryInterval;
+    private volatile boolean running = Boolean.FALSE;
+    private Thread subscribeThread = null;
+
+    /**
+     * <h3 class="en-US">Constructor for tracking subscriber</h3>
+     * <h3 class="zh-CN">跟踪订阅者的构造方法</h3>
+     *
+     * @param connectionFactory <span class="en-US">Factory of dedicated connection to current master server</span>
+     *                          <span class="zh-CN">当前主服务器专用连接的工厂</span>
+     * @param prefixList    <span class="en-US">Key prefix list of broadcast tracking</span>
+     *                      <span class="zh-CN">广播跟踪的键值前缀列表</span>
+     * @param invalidator   <span class="en-US">Invalidated cache keys consumer</span>
+     *                      <span class="zh-CN">失效缓存键值的处理器</span>
+     * @param retryInterval <span class="en-US">Reconnect interval. Unit: millisecond</span>
+     *                      <span class="zh-CN">重新连接的间隔时间。单位：毫秒</span>
+     */
+    TrackingSubscriber(final Supplier<Jedis> connectionFactory, final List<String> prefixList,
+                       final Consumer<Collection<String>> invalidator, final long retryInterval) {
+        this.connectionFactory = connectionFactory;
+        this.prefixList = prefixList;
+        this.invalidator = invalidator;
+        this.retryInterval = Math.max(retryInterval, 100L);
+    }
+
+    /**
+     * <h3 class="en-US">Start subscribe thread</h3>
+     * <h3 class="zh-CN">启动订阅线程</h3>
+     */
+    void start() {
+        this.running = Boolean.TRUE;
+        this.subscribeThread = new Thread(this, "JedisProvider-Tracking");
+        this.subscribeThread.setDaemon(Boolean.TRUE);
+        this.subscribeThread.start();
+    }
+
+    /**
+     * <h3 class="en-US">Stop subscribe thread and disable tracking</h3>
+     * <h3 class="zh-CN">停止订阅线程并禁用跟踪</h3>
+     */
+    void stop() {
+        this.running = Boolean.FALSE;
+        if (this.isSubscribed()) {
+            this.unsubscribe();
+        }
+        if (this.subscribeThread != null) {
+            this.subscribeThread.interrupt();
+            this.subscribeThread = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        while (this.running) {
+            try (Jedis jedis = this.connectionFactory.get()) {
+                jedis.sendCommand(Protocol.Command.CLIENT, this.trackingArguments(jedis.clientId()));
+                this.invalidator.accept(null);
+                jedis.subscribe(this, INVALIDATE_CHANNEL);
+                jedis.sendCommand(Protocol.Command.CLIENT, "TRACKING", "OFF");
+            } catch (JedisException e) {
+                this.invalidator.accept(null);
+                if (this.running) {
+                    this.logger.error("Tracking_Jedis_Cache_Error", this.retryInterval);
+                    if (this.logger.isDebugEnabled()) {
+                        this.logger.debug("Utils", "Stack_Message_Error", e);
+                    }
+                    try {
+                        Thread.sleep(this.retryInterval);
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(final String channel, final String message) {
+        if (message == null) {
+            //  Null message was sent when the server flushed the database
+            this.invalidator.accept(null);
+        } else {
+            this.invalidator.accept(List.of(message));
+        }
+    }
+
+    private String[] trackingArguments(final long clientId) {
+        List<String> arguments = new ArrayList<>();
+        arguments.add("TRACKING");
+        arguments.add("ON");
+        arguments.add("REDIRECT");
+        arguments.add(Long.toString(clientId));
+        arguments.add("BCAST");
+        this.prefixList.forEach(prefix -> {
+            arguments.add("PREFIX");
+            arguments.add(prefix);
+        });
+        return arguments.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.lettuce;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <h2 class="en-US">Command batcher on a dedicated connection</h2>
+ * <span class="en-US">
+ *     Automatic flushing of the dedicated connection was disabled, commands from all threads were buffered
+ *     and written to the server together when the flush window elapsed or the maximum command count was reached,
+ *     so many small socket writes were merged into a few large ones.
+ * </span>
+ * <h2 class="zh-CN">专用连接上的命令合并器</h2>
+ * <span class="zh-CN">
+ *     专用连接禁用自动发送，所有线程的命令被缓存，在发送窗口结束或达到最大命令数量时一并写入服务器，将多次小的套接字写入合并为少量大的写入。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 20, 2024 10:18:26 $
+ */
+final class CommandBatcher {
+
+    /**
+     * <span class="en-US">Dedicated connection instance</span>
+     * <span class="zh-CN">专用连接实例</span>
+     */
+    private final StatefulConnection<String, String> connection;
+    /**
+     * <span class="en-US">Asynchronous commands of dedicated connection</span>
+     * <span class="zh-CN">专用连接的异步命令</span>
+     */
+    private final RedisClusterAsyncCommands<String, String> asyncCommands;
+    /**
+     * <span class="en-US">Executor group of scheduling flush task</span>
+     * <span class="zh-CN">调度发送任务的执行器组</span>
+     */
+    private final EventExecutorGroup executorGroup;
+    /**
+     * <span class="en-US">Flush window. Unit: microsecond</span>
+     * <span class="zh-CN">合并发送窗口。单位：微秒</span>
+     */
+    private final long flushWindow;
+    /**
+     * <span class="en-US">Maximum command count of each flush</span>
+     * <span class="zh-CN">每次发送的最大命令数量</span>
+     */
+    private final int maxBatchSize;
+    /**
+     * <span class="en-US">Count of buffered commands</span>
+     * <span class="zh-CN">已缓存的命令数量</span>
+     */
+    private final AtomicInteger pendingCount = new AtomicInteger(0);
+
+    /**
+     * <h3 class="en-US">Constructor for command batcher</h3>
+     * <h3 class="zh-CN">命令合并器的构造方法</h3>
+     *
+     * @param connection    <span class="en-US">Dedicated connection instance</span>
+     *                      <span class="zh-CN">专用连接实例</span>
+     * @param asyncCommands <span class="en-US">Asynchronous commands of dedicated connection</span>
+     *                      <span class="zh-CN">专用连接的异步命令</span>
+     * @param executorGroup <span class="en-US">Executor group of scheduling flush task</span>
+     *                      <span class="zh-CN">调度发送任务的执行器组</span>
+     * @param flushWindow   <span class="en-US">Flush window. Unit: microsecond</span>
+     *                      <span class="zh-CN">合并发送窗口。单位：微秒</span>
+     * @param maxBatchSize  <span class="en-US">Maximum command count of each flush</span>
+     *                      <span class="zh-CN">每次发送的最大命令数量</span>
+     */
+    CommandBatcher(final StatefulConnection<String, String> connection,
+                   final RedisClusterAsyncCommands<String, String> asyncCommands,
+                   final EventExecutorGroup executorGroup, final long flushWindow, final int maxBatchSize) {
+        this.connection = connection;
+        this.asyncCommands = asyncCommands;
+        this.executorGroup = executorGroup;
+        this.flushWindow = flushWindow;
+        this.maxBatchSize = maxBatchSize;
+        this.connection.setAutoFlushCommands(Boolean.FALSE);
+    }
+
+    /**
+     * <h3 class="en-US">Submit command to current batch</h3>
+     * <span class="en-US">
+     *     The first command of batch schedules the flush task, the command which reached the maximum count flushes immediately.
+     * </span>
+     * <h3 class="zh-CN">提交命令到当前批次</h3>
+     * <span class="zh-CN">批次的首个命令调度发送任务，达到最大数量的命令立即发送</span>
+     *
+     * @param command <span class="en-US">Command function</span>
+     *                <span class="zh-CN">命令函数</span>
+     * @param <T>     <span class="en-US">Result type</span>
+     *                <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Future of command result</span>
+     * <span class="zh-CN">命令结果的异步对象</span>
+     */
+    <T> RedisFuture<T> submit(final Function<RedisClusterAsyncCommands<String, String>, RedisFuture<T>> command) {
+        //  Command was buffered before counting, so any flush triggered after counting covers it
+        RedisFuture<T> future = command.apply(this.asyncCommands);
+        int count = this.pendingCount.incrementAndGet();
+        if (count >= this.maxBatchSize) {
+            this.flush();
+        } else if (count == 1) {
+            this.executorGroup.schedule(this::flush, this.flushWindow, TimeUnit.MICROSECONDS);
+        }
+        return future;
+    }
+
+    /**
+     * <h3 class="en-US">Flush buffered commands and close dedicated connection</h3>
+     * <h3 class="zh-CN">发送已缓存的命令并关闭专用连接</h3>
+     */
+    void close() {
+        this.flush();
+        this.connection.close();
+    }
+
+    private void flush() {
+        if (this.pendingCount.getAndSet(0) > 0) {
+            this.connection.flushCommands();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.lettuce;
+
+import io.lettuce.core.codec.RedisCodec;
+
+import java.nio.ByteBuffer;
+import java.util.function.UnaryOperator;
+
+/**
+ * <h2 class="en-US">Codec which compress values of delegate codec</h2>
+ * <span class="en-US">Cache keys were encoded by delegate codec as is, value bytes were compressed and decompressed by the provider</span>
+ * <h2 class="zh-CN">压缩代理编解码器数据的编解码器</h2>
+ * <span class="zh-CN">缓存键值按原样使用代理编解码器编码，数据字节由缓存适配器压缩和解压</span>
+ *
+ * @param <V> <span class="en-US">Value type</span>
+ *            <span class="zh-CN">数据类型</span>
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 19, 2024 14:12:40 $
+ */
+final class CompressionCodec<V> implements RedisCodec<String, V> {
+
+    /**
+     * <span class="en-US">Delegate codec instance</span>
+     * <span class="zh-CN">代理编解码器实例</span>
+     */
+    private final RedisCodec<String, V> delegate;
+    /**
+     * <span class="en-US">Compress operator of value bytes</span>
+     * <span class="zh-CN">数据字节的压缩操作</span>
+     */
+    private final UnaryOperator<byte[]> compressor;
+    /**
+     * <span class="en-US">Decompress operator of value bytes</span>
+     * <span class="zh-CN">数据字节的解压操作</span>
+     */
+    private final UnaryOperator<byte[]> decompressor;
+
+    /**
+     * <h3 class="en-US">Constructor for compression codec</h3>
+     * <h3 class="zh-CN">压缩编解码器的构造方法</h3>
+     *
+     * @param delegate     <span class="en-US">Delegate codec instance</span>
+     *                     <span class="zh-CN">代理编解码器实例</span>
+     * @param compressor   <span class="en-US">Compress operator of value bytes</span>
+     *                     <span class="zh-CN">数据字节的压缩操作</span>
+     * @param decompressor <span class="en-US">Decompress operator of value bytes</span>
+     *                     <span class="zh-CN">数据字节的解压操作</span>
+     */
+    CompressionCodec(final RedisCodec<String, V> delegate,
+                     final UnaryOperator<byte[]> compressor, final UnaryOperator<byte[]> decompressor) {
+        this.delegate = delegate;
+        this.compressor = compressor;
+        this.decompressor = decompressor;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.lettuce.core.codec.RedisCodec#decodeKey(ByteBuffer)
+     */
+    @Override
+    public String decodeKey(final ByteBuffer bytes) {
+        return this.delegate.decodeKey(bytes);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.lettuce.core.codec.RedisCodec#decodeValue(ByteBuffer)
+     */
+    @Override
+    public V decodeValue(final ByteBuffer bytes) {
+        byte[] data = new byte[bytes.remaining()];
+        bytes.get(data);
+        return this.delegate.decodeValue(ByteBuffer.wrap(this.decompressor.apply(data)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.lettuce.core.codec.RedisCodec#encodeKey(Object)
+     */
+    @Override
+    public ByteBuffer encodeKey(final String key) {
+        return this.delegate.encodeKey(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.lettuce.core.codec.RedisCodec#encodeValue(Object)
+     */
+    @Override
+    public ByteBuffer encodeValue(final V value) {
+        ByteBuffer buffer = this.delegate.encodeValue(value);
+        if (buffer == null) {
+            return null;
+        }
+        byte[] data = new byte[buffer.remaining()];
+        buffer.get(data);
+        return ByteBuffer.wrap(this.compressor.apply(data));
+    }
+}
@@ -18,25 +18,55 @@
 package org.nervousync.cache.provider.impl.lettuce;
 
 import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.LettuceFutures;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.RedisChannelHandler;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
 import io.lettuce.core.cluster.ClusterClientOptions;
 import io.lettuce.core.cluster.RedisClusterClient;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands;
 import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.masterreplica.MasterReplica;
 import io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.ClientResources;
 import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig.ServerConfig;
+import org.nervousync.cache.enumeration.TrackingMode;
 import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.commons.Globals;
 import org.nervousync.utils.StringUtils;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
 
+import java.net.SocketAddress;
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 /**
  * <h2 class="en-US">Redis cache provider using Lettuce</h2>
@@ -48,12 +78,61 @@ import java.util.List;
 @Provider(name = "LettuceProvider", titleKey = "lettuce.cache.provider.name")
 public final class LettuceProviderImpl extends AbstractProvider {
 
+    /**
+     * <span class="en-US">Script of deleting cache key only if current value equals to the given value</span>
+     * <span class="zh-CN">仅当当前数据等于给定数据时删除缓存键值的脚本</span>
+     */
+    private static final String DELETE_IF_EQUALS_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end";
+    /**
+     * <span class="en-US">Codec of string values, cache keys and values were encoded by UTF-8, large values were compressed</span>
+     * <span class="zh-CN">字符串数据的编解码器，缓存键值和数据使用UTF-8编码，大数据被压缩</span>
+     */
+    private final RedisCodec<String, String> stringCodec =
+            new CompressionCodec<>(StringCodec.UTF8, this::compress, this::decompress);
+    /**
+     * <span class="en-US">Codec of binary values, cache keys were encoded by UTF-8, large values were compressed</span>
+     * <span class="zh-CN">二进制数据的编解码器，缓存键值使用UTF-8编码，大数据被压缩</span>
+     */
+    private final RedisCodec<String, byte[]> binaryCodec =
+            new CompressionCodec<>(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE),
+                    this::compress, this::decompress);
+
     private AbstractRedisClient redisClient;
+    /**
+     * <span class="en-US">Shared client resources, event loop and computation threads were shared with other Lettuce providers</span>
+     * <span class="zh-CN">共享客户端资源，事件循环线程和计算线程与其他Lettuce缓存适配器共享</span>
+     */
+    private SharedResources sharedResources = null;
 
     private StatefulRedisClusterConnection<String, String> clusterConnection = null;
 
     private StatefulRedisConnection<String, String> redisConnection = null;
     private RedisClusterCommands<String, String> redisCommands = null;
+    private RedisClusterAsyncCommands<String, String> asyncCommands = null;
+    private RedisClusterReactiveCommands<String, String> reactiveCommands = null;
+
+    private StatefulConnection<String, byte[]> binaryConnection = null;
+    private RedisClusterCommands<String, byte[]> binaryCommands = null;
+
+    /**
+     * <span class="en-US">Command batcher of string values, null if command batching was disabled</span>
+     * <span class="zh-CN">字符串数据的命令合并器，未启用命令合并发送时为null</span>
+     */
+    private CommandBatcher commandBatcher = null;
+
+    /**
+     * <span class="en-US">Factory of string value connections, read policy was applied to created connections</span>
+     * <span class="zh-CN">字符串数据连接的工厂，创建的连接已应用读操作路由策略</span>
+     */
+    private Supplier<StatefulConnection<String, String>> connectionFactory = null;
+    /**
+     * <span class="en-US">Dedicated connection of bulk reads, null if bulk reads use the shared connection</span>
+     * <span class="zh-CN">批量读取的专用连接，批量读取使用共享连接时为null</span>
+     */
+    private StatefulConnection<String, String> bulkConnection = null;
+    private RedisClusterAsyncCommands<String, String> bulkCommands = null;
+    private RedisClusterReactiveCommands<String, String> bulkReactiveCommands = null;
 
     /**
      * Instantiates a new Lettuce provider.
@@ -84,6 +163,41 @@ public final class LettuceProviderImpl extends AbstractProvider {
         this.process(key, value, expire);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#tryAdd(String, String, int)
+     */
+    @Override
+    public boolean tryAdd(final String key, final String value, final int expire) {
+        SetArgs setArgs = SetArgs.Builder.nx();
+        int expiry = super.expiryTime(expire);
+        if (expiry > 0) {
+            setArgs.ex(expiry);
+        }
+        return "OK".equalsIgnoreCase(this.execute(commands -> commands.set(key, value, setArgs)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#deleteIfEquals(String, String)
+     */
+    @Override
+    public boolean deleteIfEquals(final String key, final String value) {
+        //  Script argument was encoded by the value codec, same as the stored value
+        Long result = this.execute(commands ->
+                commands.eval(DELETE_IF_EQUALS_SCRIPT, ScriptOutputType.INTEGER, new String[]{key}, value));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#ttl(String)
+     */
+    @Override
+    public long ttl(final String key) {
+        return Optional.ofNullable(this.execute(commands -> commands.pttl(key))).orElse((long) Globals.DEFAULT_VALUE_INT);
+    }
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#replace(String, String, int)
@@ -93,6 +207,30 @@ public final class LettuceProviderImpl extends AbstractProvider {
         this.process(key, value, expire);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#processAll(Map, ToIntFunction)
+     */
+    @Override
+    protected void processAll(final Map<String, String> dataMap, final ToIntFunction<String> expiryFunction) {
+        //  Asynchronous commands were written to the connection without waiting for the reply,
+        //  so the whole batch was pipelined and only wait for the replies once
+        List<RedisFuture<String>> futureList =
+                new ArrayList<>(Math.min(dataMap.size(), CacheGlobals.DEFAULT_BATCH_SIZE));
+        for (Map.Entry<String, String> entry : dataMap.entrySet()) {
+            int expiry = expiryFunction.applyAsInt(entry.getKey());
+            if (expiry > 0) {
+                futureList.add(this.dispatch(commands -> commands.setex(entry.getKey(), expiry, entry.getValue())));
+            } else {
+                futureList.add(this.dispatch(commands -> commands.set(entry.getKey(), entry.getValue())));
+            }
+            if (futureList.size() >= CacheGlobals.DEFAULT_BATCH_SIZE) {
+                this.awaitAll(futureList);
+            }
+        }
+        this.awaitAll(futureList);
+    }
+
     /*
      * (non-Javadoc)
      * @see AbstractProvider#expire(String, int)
@@ -102,7 +240,7 @@ public final class LettuceProviderImpl extends AbstractProvider {
         if (this.logger.isDebugEnabled()) {
             this.logger.debug("TTL_Lettuce_Cache_Debug", this.redisCommands.ttl(key));
         }
-        this.redisCommands.expire(key, expire);
+        this.execute(commands -> commands.expire(key, expire));
     }
 
     /*
@@ -111,7 +249,7 @@ public final class LettuceProviderImpl extends AbstractProvider {
      */
     @Override
     public void touch(final String... keys) {
-        this.redisCommands.touch(keys);
+        this.execute(commands -> commands.touch(keys));
     }
 
     /*
@@ -120,7 +258,7 @@ public final class LettuceProviderImpl extends AbstractProvider {
      */
     @Override
     public void delete(final String key) {
-        this.redisCommands.del(key);
+        this.execute(commands -> commands.del(key));
     }
 
     /*
@@ -129,7 +267,45 @@ public final class LettuceProviderImpl extends AbstractProvider {
      */
     @Override
     public String get(final String key) {
-        return this.redisCommands.get(key);
+        return this.execute(commands -> commands.get(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#setBytes(String, byte[], int)
+     */
+    @Override
+    public void setBytes(final String key, final byte[] value, final int expire) {
+        int expiry = super.expiryTime(expire);
+        if (expiry > 0) {
+            this.binaryCommands.setex(key, expiry, value);
+        } else {
+            this.binaryCommands.set(key, value);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#getBytes(String)
+     */
+    @Override
+    public byte[] getBytes(final String key) {
+        return this.binaryCommands.get(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAll(Collection)
+     */
+    @Override
+    public Map<String, String> getAll(final Collection<String> keys) {
+        Map<String, String> resultMap = new HashMap<>(keys.size());
+        LettuceFutures.awaitOrCancel(this.bulkCommands.mget(keys.toArray(new String[0])),
+                this.getConnectTimeout() * 1000L, TimeUnit.MILLISECONDS)
+                .stream()
+                .filter(KeyValue::hasValue)
+                .forEach(keyValue -> resultMap.put(keyValue.getKey(), keyValue.getValue()));
+        return resultMap;
     }
 
     /*
@@ -138,7 +314,7 @@ public final class LettuceProviderImpl extends AbstractProvider {
      */
     @Override
     public long incr(final String key, final long step) {
-        return this.redisCommands.incrby(key, step);
+        return this.execute(commands -> commands.incrby(key, step));
     }
 
     /*
@@ -147,7 +323,128 @@ public final class LettuceProviderImpl extends AbstractProvider {
      */
     @Override
     public long decr(final String key, final long step) {
-        return this.redisCommands.decrby(key, step);
+        return this.execute(commands -> commands.decrby(key, step));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#setAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> setAsync(final String key, final String value, final int expire) {
+        return this.processAsync(key, value, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#addAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> addAsync(final String key, final String value, final int expire) {
+        return this.processAsync(key, value, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#replaceAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> replaceAsync(final String key, final String value, final int expire) {
+        return this.processAsync(key, value, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#expireAsync(String, int)
+     */
+    @Override
+    public CompletableFuture<Void> expireAsync(final String key, final int expire) {
+        return toVoid(this.dispatch(commands -> commands.expire(key, expire)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#touchAsync(String...)
+     */
+    @Override
+    public CompletableFuture<Void> touchAsync(final String... keys) {
+        return toVoid(this.dispatch(commands -> commands.touch(keys)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#deleteAsync(String)
+     */
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String key) {
+        return toVoid(this.dispatch(commands -> commands.del(key)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAsync(String)
+     */
+    @Override
+    public CompletableFuture<String> getAsync(final String key) {
+        return this.dispatch(commands -> commands.get(key)).toCompletableFuture();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAllAsync(Collection)
+     */
+    @Override
+    public CompletableFuture<Map<String, String>> getAllAsync(final Collection<String> keys) {
+        return this.bulkCommands.mget(keys.toArray(new String[0]))
+                .toCompletableFuture()
+                .thenApply(keyValues -> {
+                    Map<String, String> resultMap = new HashMap<>(keyValues.size());
+                    keyValues.stream()
+                            .filter(KeyValue::hasValue)
+                            .forEach(keyValue -> resultMap.put(keyValue.getKey(), keyValue.getValue()));
+                    return resultMap;
+                });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#incrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> incrAsync(final String key, final long step) {
+        return this.dispatch(commands -> commands.incrby(key, step)).toCompletableFuture();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#decrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> decrAsync(final String key, final long step) {
+        return this.dispatch(commands -> commands.decrby(key, step)).toCompletableFuture();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getPublisher(String)
+     */
+    @Override
+    public Flow.Publisher<String> getPublisher(final String key) {
+        return JdkFlowAdapter.publisherToFlowPublisher(this.reactiveCommands.get(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAllPublisher(Collection)
+     */
+    @Override
+    public Flow.Publisher<Map.Entry<String, String>> getAllPublisher(final Collection<String> keys) {
+        return JdkFlowAdapter.publisherToFlowPublisher(
+                Flux.fromIterable(keys)
+                        .buffer(CacheGlobals.DEFAULT_BATCH_SIZE)
+                        .concatMap(batchKeys -> this.bulkReactiveCommands.mget(batchKeys.toArray(new String[0])))
+                        .filter(KeyValue::hasValue)
+                        .map(keyValue -> Map.entry(keyValue.getKey(), keyValue.getValue())));
     }
 
     /*
@@ -156,6 +453,18 @@ public final class LettuceProviderImpl extends AbstractProvider {
      */
     @Override
     public void destroy() {
+        if (this.commandBatcher != null) {
+            this.commandBatcher.close();
+            this.commandBatcher = null;
+        }
+        if (this.bulkConnection != null) {
+            this.bulkConnection.close();
+            this.bulkConnection = null;
+        }
+        if (this.binaryConnection != null) {
+            this.binaryConnection.close();
+            this.binaryConnection = null;
+        }
         if (this.redisConnection != null) {
             this.redisConnection.close();
             this.redisConnection = null;
@@ -166,6 +475,10 @@ public final class LettuceProviderImpl extends AbstractProvider {
         }
         this.redisClient.close();
         this.redisClient.shutdown();
+        if (this.sharedResources != null) {
+            this.sharedResources.release();
+            this.sharedResources = null;
+        }
     }
 
     /*
@@ -173,9 +486,14 @@ public final class LettuceProviderImpl extends AbstractProvider {
      * @see AbstractProvider#singletonMode(ServerConfig, String, String)
      */
     protected void singletonMode(final ServerConfig serverConfig, final String userName, final String passWord) {
-        this.redisClient = RedisClient.create(this.create(serverConfig, userName, passWord));
-        this.redisConnection = ((RedisClient) this.redisClient).connect(StringCodec.UTF8);
-        this.redisCommands = this.redisConnection.sync();
+        this.redisClient = RedisClient.create(this.clientResources(), this.create(serverConfig, userName, passWord));
+        this.configTracking();
+        this.connectionFactory = () -> ((RedisClient) this.redisClient).connect(this.stringCodec);
+        this.stringConnection(this.connectionFactory.get());
+        this.binaryConnection(((RedisClient) this.redisClient).connect(this.binaryCodec));
+        this.startTracking();
+        this.startBatching();
+        this.startBulkRead();
     }
 
     /*
@@ -192,16 +510,39 @@ public final class LettuceProviderImpl extends AbstractProvider {
             return;
         }
 
+        ReadFrom readFrom = this.readFrom();
         switch (this.getClusterMode()) {
             case Sentinel:
                 RedisURI.Builder sentinelBuilder = this.newBuilder().withSentinelMasterId(masterName);
                 serverConfigList.forEach(serverConfig ->
                         sentinelBuilder.withSentinel(this.create(serverConfig, userName, passWord)));
-                this.redisClient = RedisClient.create(sentinelBuilder.build());
-                this.redisConnection = ((RedisClient) this.redisClient).connect(StringCodec.UTF8);
-                this.redisCommands = this.redisConnection.sync();
+                RedisURI sentinelURI = sentinelBuilder.build();
+                this.redisClient = RedisClient.create(this.clientResources(), sentinelURI);
+                if (ReadFrom.UPSTREAM.equals(readFrom)) {
+                    this.configTracking();
+                    this.connectionFactory = () -> ((RedisClient) this.redisClient).connect(this.stringCodec);
+                    this.stringConnection(this.connectionFactory.get());
+                    this.binaryConnection(((RedisClient) this.redisClient).connect(this.binaryCodec));
+                    this.startTracking();
+                } else {
+                    //  Read from replicas, tracking table of the master connection can not cover the read keys
+                    this.trackingUnsupported();
+                    this.connectionFactory = () -> {
+                        StatefulRedisMasterReplicaConnection<String, String> connection =
+                                MasterReplica.connect((RedisClient) this.redisClient, this.stringCodec, sentinelURI);
+                        connection.setReadFrom(readFrom);
+                        return connection;
+                    };
+                    this.stringConnection(this.connectionFactory.get());
+                    StatefulRedisMasterReplicaConnection<String, byte[]> binaryReplica =
+                            MasterReplica.connect((RedisClient) this.redisClient, this.binaryCodec, sentinelURI);
+                    binaryReplica.setReadFrom(readFrom);
+                    this.binaryConnection(binaryReplica);
+                }
                 break;
             case Master_Slave:
+                //  Tracking table of the master connection can not cover the keys read from replicas
+                this.trackingUnsupported();
                 List<RedisURI> masterList = new ArrayList<>(serverConfigList.size());
                 List<RedisURI> slaveList = new ArrayList<>(serverConfigList.size());
                 serverConfigList.forEach(serverConfig -> {
@@ -214,25 +555,324 @@ public final class LettuceProviderImpl extends AbstractProvider {
                 List<RedisURI> serverList = new ArrayList<>();
                 serverList.addAll(masterList);
                 serverList.addAll(slaveList);
-                this.redisClient = RedisClient.create();
-                this.redisConnection = MasterReplica.connect((RedisClient) this.redisClient, StringCodec.UTF8, serverList);
-                ((StatefulRedisMasterReplicaConnection<String, String>) this.redisConnection).setReadFrom(ReadFrom.REPLICA);
-                this.redisCommands = this.redisConnection.sync();
+                this.redisClient = RedisClient.create(this.clientResources());
+                this.connectionFactory = () -> {
+                    StatefulRedisMasterReplicaConnection<String, String> connection =
+                            MasterReplica.connect((RedisClient) this.redisClient, this.stringCodec, serverList);
+                    connection.setReadFrom(readFrom);
+                    return connection;
+                };
+                this.stringConnection(this.connectionFactory.get());
+                StatefulRedisMasterReplicaConnection<String, byte[]> binaryReplica =
+                        MasterReplica.connect((RedisClient) this.redisClient, this.binaryCodec, serverList);
+                binaryReplica.setReadFrom(readFrom);
+                this.binaryConnection(binaryReplica);
                 break;
             case Cluster:
+                this.trackingUnsupported();
                 List<RedisURI> clusterList = new ArrayList<>(serverConfigList.size());
                 serverConfigList.forEach(serverConfig -> clusterList.add(this.create(serverConfig, userName, passWord)));
-                this.redisClient = RedisClusterClient.create(clusterList);
+                this.redisClient = RedisClusterClient.create(this.clientResources(), clusterList);
                 ((RedisClusterClient) this.redisClient)
                         .setOptions(ClusterClientOptions.builder().autoReconnect(Boolean.TRUE).maxRedirects(1).build());
-                this.clusterConnection = ((RedisClusterClient) this.redisClient).connect(StringCodec.UTF8);
-                this.redisCommands = this.clusterConnection.sync();
+                this.connectionFactory = () -> {
+                    StatefulRedisClusterConnection<String, String> connection =
+                            ((RedisClusterClient) this.redisClient).connect(this.stringCodec);
+                    connection.setReadFrom(readFrom);
+                    return connection;
+                };
+                this.stringConnection(this.connectionFactory.get());
+                StatefulRedisClusterConnection<String, byte[]> binaryCluster =
+                        ((RedisClusterClient) this.redisClient).connect(this.binaryCodec);
+                binaryCluster.setReadFrom(readFrom);
+                this.binaryConnection = binaryCluster;
+                this.binaryCommands = binaryCluster.sync();
                 break;
+            default:
+                return;
+        }
+        this.startBatching();
+        this.startBulkRead();
+    }
+
+    /**
+     * <h3 class="en-US">Register connection of string values</h3>
+     * <h3 class="zh-CN">注册字符串数据的连接</h3>
+     *
+     * @param connection <span class="en-US">Connection of string values</span>
+     *                   <span class="zh-CN">字符串数据的连接</span>
+     */
+    @SuppressWarnings("unchecked")
+    private void stringConnection(final StatefulConnection<String, String> connection) {
+        if (connection instanceof StatefulRedisClusterConnection) {
+            this.clusterConnection = (StatefulRedisClusterConnection<String, String>) connection;
+            this.redisCommands = this.clusterConnection.sync();
+        } else {
+            this.redisConnection = (StatefulRedisConnection<String, String>) connection;
+            this.redisCommands = this.redisConnection.sync();
+        }
+        this.asyncCommands = asyncCommands(connection);
+        this.reactiveCommands = reactiveCommands(connection);
+    }
+
+    /**
+     * <h3 class="en-US">Acquire shared client resources of current configure</h3>
+     * <h3 class="zh-CN">获取当前配置的共享客户端资源</h3>
+     *
+     * @return <span class="en-US">Shared client resources instance</span>
+     * <span class="zh-CN">共享客户端资源实例</span>
+     */
+    private ClientResources clientResources() {
+        if (this.sharedResources == null) {
+            this.sharedResources = SharedResources.acquire(this.getIoThreads(), this.getLatencyMetricsInterval());
+        }
+        return this.sharedResources.getClientResources();
+    }
+
+    /**
+     * <h3 class="en-US">Map read policy to read from setting of Lettuce</h3>
+     * <h3 class="zh-CN">将读操作路由策略映射为Lettuce的读取设置</h3>
+     *
+     * @return <span class="en-US">Read from setting</span>
+     * <span class="zh-CN">读取设置</span>
+     */
+    private ReadFrom readFrom() {
+        switch (this.getReadPolicy()) {
+            case ReplicaPreferred:
+                return ReadFrom.REPLICA_PREFERRED;
+            case Nearest:
+                return ReadFrom.LOWEST_LATENCY;
+            case RoundRobin:
+                return ReadFrom.ANY;
+            default:
+                return ReadFrom.UPSTREAM;
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Register connection of binary values</h3>
+     * <span class="en-US">Binary values use a dedicated connection, so string values and binary values were not converted to each other</span>
+     * <h3 class="zh-CN">注册二进制数据的连接</h3>
+     * <span class="zh-CN">二进制数据使用专用连接，字符串数据与二进制数据之间无需相互转换</span>
+     *
+     * @param connection <span class="en-US">Connection of binary values</span>
+     *                   <span class="zh-CN">二进制数据的连接</span>
+     */
+    private void binaryConnection(final StatefulRedisConnection<String, byte[]> connection) {
+        this.binaryConnection = connection;
+        this.binaryCommands = connection.sync();
+    }
+
+    /**
+     * <h3 class="en-US">Switch client protocol to RESP3 which required by client tracking</h3>
+     * <h3 class="zh-CN">将客户端协议切换为客户端跟踪所需的RESP3</h3>
+     */
+    private void configTracking() {
+        if (TrackingMode.Disabled.equals(this.getTrackingMode())) {
+            return;
+        }
+        ((RedisClient) this.redisClient).setOptions(ClientOptions.builder()
+                .protocolVersion(ProtocolVersion.RESP3)
+                .build());
+    }
+
+    /**
+     * <h3 class="en-US">Enable client tracking and listen invalidation push messages</h3>
+     * <span class="en-US">
+     *     All cache keys were invalidated when the tracking connection was broken,
+     *     tracking was enabled again after the tracking connection reconnected.
+     *     State changes of other connections created by the same client were ignored.
+     * </span>
+     * <h3 class="zh-CN">启用客户端跟踪并监听失效推送消息</h3>
+     * <span class="zh-CN">跟踪连接断开时所有缓存键值失效，跟踪连接重新连接后再次启用跟踪。忽略同一客户端创建的其他连接的状态变化</span>
+     */
+    private void startTracking() {
+        if (TrackingMode.Disabled.equals(this.getTrackingMode())) {
+            return;
+        }
+        this.redisConnection.addListener(this::onPushMessage);
+        this.redisClient.addListener(new RedisConnectionStateListener() {
+            @Override
+            public void onRedisConnected(final RedisChannelHandler<?, ?> connection,
+                                         final SocketAddress socketAddress) {
+                //  Listener was registered on the client, other connections (batching, bulk read, binary) were ignored
+                if (connection != redisConnection) {
+                    return;
+                }
+                invalidate(null);
+                asyncCommands.clientTracking(trackingArgs());
+            }
+
+            @Override
+            public void onRedisDisconnected(final RedisChannelHandler<?, ?> connection) {
+                if (connection == redisConnection) {
+                    invalidate(null);
+                }
+            }
+        });
+        this.redisCommands.clientTracking(this.trackingArgs());
+    }
+
+    /**
+     * <h3 class="en-US">Create command batcher if command batching was enabled</h3>
+     * <span class="en-US">
+     *     Default tracking mode only tracks the keys read by the tracking connection,
+     *     keys read by the batching connection will never be invalidated, so command batching was disabled.
+     * </span>
+     * <h3 class="zh-CN">启用命令合并发送时创建命令合并器</h3>
+     * <span class="zh-CN">默认跟踪模式仅跟踪跟踪连接读取的键值，合并连接读取的键值永远不会失效，因此禁用命令合并发送</span>
+     */
+    private void startBatching() {
+        if (this.getFlushWindow() <= 0) {
+            return;
+        }
+        if (TrackingMode.Default.equals(this.getTrackingMode())) {
+            this.logger.warn("Batching_Not_Supported_Lettuce_Cache_Warn");
+            return;
+        }
+        StatefulConnection<String, String> connection = this.connectionFactory.get();
+        this.commandBatcher = new CommandBatcher(connection, asyncCommands(connection),
+                this.redisClient.getResources().eventExecutorGroup(), this.getFlushWindow(), this.getMaxBatchSize());
+    }
+
+    /**
+     * <h3 class="en-US">Open dedicated connection of bulk reads if configured</h3>
+     * <span class="en-US">
+     *     Bulk reads on the dedicated connection were not queued behind small commands on the multiplexed connection.
+     *     Default tracking mode can not cover the keys read by the dedicated connection, so bulk reads use the shared connection.
+     * </span>
+     * <h3 class="zh-CN">按配置打开批量读取的专用连接</h3>
+     * <span class="zh-CN">
+     *     专用连接上的批量读取无需在多路复用连接上排在小命令之后。默认跟踪模式无法覆盖专用连接读取的键值，因此批量读取使用共享连接。
+     * </span>
+     */
+    private void startBulkRead() {
+        if (this.isBulkReadConnection() && !TrackingMode.Default.equals(this.getTrackingMode())) {
+            this.bulkConnection = this.connectionFactory.get();
+            this.bulkCommands = asyncCommands(this.bulkConnection);
+            this.bulkReactiveCommands = reactiveCommands(this.bulkConnection);
+        } else {
+            this.bulkCommands = this.asyncCommands;
+            this.bulkReactiveCommands = this.reactiveCommands;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisClusterAsyncCommands<String, String> asyncCommands(
+            final StatefulConnection<String, String> connection) {
+        if (connection instanceof StatefulRedisClusterConnection) {
+            return ((StatefulRedisClusterConnection<String, String>) connection).async();
+        }
+        return ((StatefulRedisConnection<String, String>) connection).async();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisClusterReactiveCommands<String, String> reactiveCommands(
+            final StatefulConnection<String, String> connection) {
+        if (connection instanceof StatefulRedisClusterConnection) {
+            return ((StatefulRedisClusterConnection<String, String>) connection).reactive();
+        }
+        return ((StatefulRedisConnection<String, String>) connection).reactive();
+    }
+
+    /**
+     * <h3 class="en-US">Dispatch asynchronous command of string values</h3>
+     * <span class="en-US">Command was submitted to command batcher if command batching was enabled</span>
+     * <h3 class="zh-CN">分发字符串数据的异步命令</h3>
+     * <span class="zh-CN">启用命令合并发送时命令提交到命令合并器</span>
+     *
+     * @param command <span class="en-US">Command function</span>
+     *                <span class="zh-CN">命令函数</span>
+     * @param <T>     <span class="en-US">Result type</span>
+     *                <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Future of command result</span>
+     * <span class="zh-CN">命令结果的异步对象</span>
+     */
+    private <T> RedisFuture<T> dispatch(final Function<RedisClusterAsyncCommands<String, String>, RedisFuture<T>> command) {
+        if (this.commandBatcher == null) {
+            return command.apply(this.asyncCommands);
+        }
+        return this.commandBatcher.submit(command);
+    }
+
+    /**
+     * <h3 class="en-US">Execute command of string values and wait for the result</h3>
+     * <h3 class="zh-CN">执行字符串数据的命令并等待结果</h3>
+     *
+     * @param command <span class="en-US">Command function</span>
+     *                <span class="zh-CN">命令函数</span>
+     * @param <T>     <span class="en-US">Result type</span>
+     *                <span class="zh-CN">结果类型</span>
+     * @return <span class="en-US">Command result</span>
+     * <span class="zh-CN">命令结果</span>
+     */
+    private <T> T execute(final Function<RedisClusterAsyncCommands<String, String>, RedisFuture<T>> command) {
+        return LettuceFutures.awaitOrCancel(this.dispatch(command),
+                this.getConnectTimeout() * 1000L, TimeUnit.MILLISECONDS);
+    }
+
+    private void trackingUnsupported() {
+        if (!TrackingMode.Disabled.equals(this.getTrackingMode())) {
+            this.logger.warn("Tracking_Not_Supported_Lettuce_Cache_Warn", this.getClusterMode());
+        }
+    }
+
+    private TrackingArgs trackingArgs() {
+        TrackingArgs trackingArgs = TrackingArgs.Builder.enabled().noloop();
+        if (TrackingMode.Broadcast.equals(this.getTrackingMode())) {
+            trackingArgs.bcast();
+            if (!this.getTrackingPrefixList().isEmpty()) {
+                trackingArgs.prefixes(this.getTrackingPrefixList().toArray(new String[0]));
+            }
+        }
+        return trackingArgs;
+    }
+
+    private void onPushMessage(final PushMessage pushMessage) {
+        if (!"invalidate".equals(pushMessage.getType())) {
+            return;
+        }
+        List<Object> content = pushMessage.getContent(StringCodec.UTF8::decodeKey);
+        if (content.size() > 1 && content.get(1) instanceof List) {
+            super.invalidate(((List<?>) content.get(1)).stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.toList()));
+        } else {
+            //  Null key list was sent when the server flushed the database
+            super.invalidate(null);
         }
     }
 
     private void process(final String key, final String value, final int expire) {
-        this.redisCommands.setex(key, super.expiryTime(expire), value);
+        int expiry = super.expiryTime(expire);
+        if (expiry > 0) {
+            this.execute(commands -> commands.setex(key, expiry, value));
+        } else {
+            this.execute(commands -> commands.set(key, value));
+        }
+    }
+
+    private CompletableFuture<Void> processAsync(final String key, final String value, final int expire) {
+        int expiry = super.expiryTime(expire);
+        if (expiry > 0) {
+            return toVoid(this.dispatch(commands -> commands.setex(key, expiry, value)));
+        }
+        return toVoid(this.dispatch(commands -> commands.set(key, value)));
+    }
+
+    private static CompletableFuture<Void> toVoid(final CompletionStage<?> completionStage) {
+        return completionStage.toCompletableFuture().thenApply(result -> null);
+    }
+
+    private void awaitAll(final List<RedisFuture<String>> futureList) {
+        if (futureList.isEmpty()) {
+            return;
+        }
+        if (!LettuceFutures.awaitAll(Duration.ofMillis(this.getConnectTimeout() * 1000L),
+                futureList.toArray(new RedisFuture[0]))) {
+            this.logger.warn("Batch_Timeout_Lettuce_Cache_Warn", futureList.size());
+        }
+        futureList.clear();
     }
 
     private RedisURI.Builder newBuilder() {
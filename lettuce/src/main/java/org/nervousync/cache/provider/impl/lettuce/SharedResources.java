@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.lettuce;
+
+import io.lettuce.core.event.DefaultEventPublisherOptions;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import io.lettuce.core.resource.EpollProvider;
+import org.nervousync.utils.LoggerUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <h2 class="en-US">Shared client resources of Lettuce providers</h2>
+ * <span class="en-US">
+ *     Providers which have the same I/O thread count and latency metrics interval share one client resources instance,
+ *     so event loop and computation threads were not created for each cache. Native epoll transport was used
+ *     automatically when it was present in classpath. Client resources were shut down when the last provider released it.
+ * </span>
+ * <h2 class="zh-CN">Lettuce缓存适配器的共享客户端资源</h2>
+ * <span class="zh-CN">
+ *     I/O线程数和延迟指标发布间隔相同的缓存适配器共享同一个客户端资源实例，不再为每个缓存创建事件循环线程和计算线程。
+ *     类路径中存在原生epoll传输时自动使用。最后一个缓存适配器释放时关闭客户端资源。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 20, 2024 15:36:08 $
+ */
+final class SharedResources {
+
+    private static final LoggerUtils.Logger LOGGER = LoggerUtils.getLogger(SharedResources.class);
+    /**
+     * <span class="en-US">Registered client resources, mapping key is the configure of resources</span>
+     * <span class="zh-CN">已注册的客户端资源，映射键为资源的配置</span>
+     */
+    private static final Map<String, SharedResources> REGISTERED_RESOURCES = new HashMap<>();
+
+    /**
+     * <span class="en-US">Configure key of client resources</span>
+     * <span class="zh-CN">客户端资源的配置键</span>
+     */
+    private final String resourceKey;
+    /**
+     * <span class="en-US">Client resources instance</span>
+     * <span class="zh-CN">客户端资源实例</span>
+     */
+    private final ClientResources clientResources;
+    /**
+     * <span class="en-US">Count of providers using the client resources</span>
+     * <span class="zh-CN">使用此客户端资源的缓存适配器数量</span>
+     */
+    private int referenceCount = 0;
+
+    private SharedResources(final String resourceKey, final ClientResources clientResources) {
+        this.resourceKey = resourceKey;
+        this.clientResources = clientResources;
+    }
+
+    /**
+     * <h3 class="en-US">Acquire shared client resources of given configure</h3>
+     * <h3 class="zh-CN">获取给定配置的共享客户端资源</h3>
+     *
+     * @param ioThreads              <span class="en-US">I/O thread count, 0 means the number of available processors</span>
+     *                               <span class="zh-CN">I/O线程数，0表示可用处理器数量</span>
+     * @param latencyMetricsInterval <span class="en-US">Publish interval of command latency metrics, 0 means disabled. Unit: second</span>
+     *                               <span class="zh-CN">命令延迟指标的发布间隔，0为禁用。单位：秒</span>
+     * @return <span class="en-US">Shared client resources instance</span>
+     * <span class="zh-CN">共享客户端资源实例</span>
+     */
+    static synchronized SharedResources acquire(final int ioThreads, final int latencyMetricsInterval) {
+        String resourceKey = ioThreads + ":" + latencyMetricsInterval;
+        SharedResources sharedResources = REGISTERED_RESOURCES.computeIfAbsent(resourceKey, key ->
+                new SharedResources(key, createResources(ioThreads, latencyMetricsInterval)));
+        sharedResources.referenceCount++;
+        return sharedResources;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve client resources instance</h3>
+     * <h3 class="zh-CN">读取客户端资源实例</h3>
+     *
+     * @return <span class="en-US">Client resources instance</span>
+     * <span class="zh-CN">客户端资源实例</span>
+     */
+    ClientResources getClientResources() {
+        return clientResources;
+    }
+
+    /**
+     * <h3 class="en-US">Release shared client resources, shut down if no provider uses it</h3>
+     * <h3 class="zh-CN">释放共享客户端资源，没有缓存适配器使用时关闭</h3>
+     */
+    void release() {
+        synchronized (SharedResources.class) {
+            if (--this.referenceCount > 0) {
+                return;
+            }
+            REGISTERED_RESOURCES.remove(this.resourceKey);
+        }
+        this.clientResources.shutdown();
+    }
+
+    private static ClientResources createResources(final int ioThreads, final int latencyMetricsInterval) {
+        DefaultClientResources.Builder resourcesBuilder = DefaultClientResources.builder();
+        if (ioThreads > 0) {
+            resourcesBuilder.ioThreadPoolSize(ioThreads).computationThreadPoolSize(ioThreads);
+        }
+        if (latencyMetricsInterval > 0) {
+            resourcesBuilder.commandLatencyPublisherOptions(DefaultEventPublisherOptions.builder()
+                    .eventEmitInterval(Duration.ofSeconds(latencyMetricsInterval))
+                    .build());
+        } else {
+            //  Recording latency of each command costs CPU and memory which nobody consumes
+            resourcesBuilder.commandLatencyRecorder(CommandLatencyRecorder.disabled())
+                    .commandLatencyPublisherOptions(DefaultEventPublisherOptions.disabled());
+        }
+        ClientResources clientResources = resourcesBuilder.build();
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Client_Resources_Lettuce_Cache_Debug", clientResources.ioThreadPoolSize(),
+                    EpollProvider.isAvailable() ? "epoll" : "nio");
+        }
+        return clientResources;
+    }
+}
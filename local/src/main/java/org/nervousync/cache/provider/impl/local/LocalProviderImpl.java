@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.local;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.config.CacheConfig.ServerConfig;
+import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.commons.Globals;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * <h2 class="en-US">Embedded cache provider which stores data in current process</h2>
+ * <span class="en-US">
+ *     No cache server was required, configured servers were ignored. Expire time has the same meaning as other providers,
+ *     a background thread advances the timing wheels to remove expired entries.
+ *     Asynchronous operations were completed by the caller thread because no network round trip was needed.
+ * </span>
+ * <h2 class="zh-CN">在当前进程中存储数据的嵌入式缓存适配器</h2>
+ * <span class="zh-CN">
+ *     不需要缓存服务器，配置的缓存服务器将被忽略。过期时间与其他缓存适配器含义相同，后台线程推进时间轮以移除已过期的条目。
+ *     由于不需要网络往返，异步操作由调用线程完成。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 14, 2024 14:08:31 $
+ */
+@Provider(name = "LocalProvider", titleKey = "local.cache.provider.name")
+public final class LocalProviderImpl extends AbstractProvider {
+
+    /**
+     * <span class="en-US">Cache store instance</span>
+     * <span class="zh-CN">缓存存储实例</span>
+     */
+    private LocalStore localStore = null;
+    /**
+     * <span class="en-US">Executor of removing expired entries</span>
+     * <span class="zh-CN">移除已过期条目的线程池</span>
+     */
+    private ScheduledExecutorService expiryExecutor = null;
+
+    /**
+     * <h3 class="en-US">Constructor for local cache provider</h3>
+     * <h3 class="zh-CN">本地缓存适配器的构造方法</h3>
+     */
+    public LocalProviderImpl() {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#defaultPort()
+     */
+    @Override
+    public int defaultPort() {
+        return Globals.DEFAULT_VALUE_INT;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#embeddedMode()
+     */
+    @Override
+    protected void embeddedMode() {
+        if (this.localStore != null) {
+            return;
+        }
+        final LocalStore store = new LocalStore(System.currentTimeMillis());
+        this.localStore = store;
+        this.expiryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LocalProvider-Expiry");
+            thread.setDaemon(Boolean.TRUE);
+            return thread;
+        });
+        this.expiryExecutor.scheduleAtFixedRate(() -> store.evictExpired(System.currentTimeMillis()),
+                TimingWheel.TICK_DURATION, TimingWheel.TICK_DURATION, TimeUnit.MILLISECONDS);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#singletonMode(ServerConfig, String, String)
+     */
+    @Override
+    protected void singletonMode(final ServerConfig serverConfig, final String userName, final String passWord)
+            throws CacheException {
+        this.logger.warn("Server_Ignored_Local_Cache_Warn");
+        this.embeddedMode();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#clusterMode(List, String, String, String)
+     */
+    @Override
+    protected void clusterMode(final List<ServerConfig> serverConfigList, final String masterName,
+                               final String userName, final String passWord) throws CacheException {
+        this.logger.warn("Server_Ignored_Local_Cache_Warn");
+        this.embeddedMode();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#set(String, String, int)
+     */
+    @Override
+    public void set(final String key, final String value, final int expire) {
+        long currentTime = System.currentTimeMillis();
+        this.localStore.set(key, value, this.expireAt(super.expiryTime(expire), currentTime), currentTime);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#processAll(Map, ToIntFunction)
+     */
+    @Override
+    protected void processAll(final Map<String, String> dataMap, final ToIntFunction<String> expiryFunction) {
+        long currentTime = System.currentTimeMillis();
+        dataMap.forEach((key, value) ->
+                this.localStore.set(key, value, this.expireAt(expiryFunction.applyAsInt(key), currentTime), currentTime));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#add(String, String, int)
+     */
+    @Override
+    public void add(final String key, final String value, final int expire) {
+        this.tryAdd(key, value, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#tryAdd(String, String, int)
+     */
+    @Override
+    public boolean tryAdd(final String key, final String value, final int expire) {
+        long currentTime = System.currentTimeMillis();
+        return this.localStore.add(key, value, this.expireAt(super.expiryTime(expire), currentTime), currentTime);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#deleteIfEquals(String, String)
+     */
+    @Override
+    public boolean deleteIfEquals(final String key, final String value) {
+        return this.localStore.deleteIfEquals(key, value, System.currentTimeMillis());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#ttl(String)
+     */
+    @Override
+    public long ttl(final String key) {
+        return this.localStore.ttl(key, System.currentTimeMillis());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#replace(String, String, int)
+     */
+    @Override
+    public void replace(final String key, final String value, final int expire) {
+        long currentTime = System.currentTimeMillis();
+        this.localStore.replace(key, value, this.expireAt(super.expiryTime(expire), currentTime), currentTime);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#expire(String, int)
+     */
+    @Override
+    public void expire(final String key, final int expire) {
+        long currentTime = System.currentTimeMillis();
+        this.localStore.expire(key, this.expireAt(super.expiryTime(expire), currentTime), currentTime);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#touch(String...)
+     */
+    @Override
+    public void touch(final String... keys) {
+        //  Same as memcached, touch resets the expire time of cache keys to default expire time
+        long currentTime = System.currentTimeMillis();
+        long expireAt = this.expireAt(super.expiryTime(Globals.DEFAULT_VALUE_INT), currentTime);
+        for (String key : keys) {
+            this.localStore.expire(key, expireAt, currentTime);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#delete(String)
+     */
+    @Override
+    public void delete(final String key) {
+        this.localStore.delete(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#get(String)
+     */
+    @Override
+    public String get(final String key) {
+        return stringValue(this.localStore.get(key, System.currentTimeMillis()));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#setBytes(String, byte[], int)
+     */
+    @Override
+    public void setBytes(final String key, final byte[] value, final int expire) {
+        long currentTime = System.currentTimeMillis();
+        //  Stored array was shared by all readers, so it must not be modified by the caller
+        this.localStore.set(key, value.clone(), this.expireAt(super.expiryTime(expire), currentTime), currentTime);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#getBytes(String)
+     */
+    @Override
+    public byte[] getBytes(final String key) {
+        Object value = this.localStore.get(key, System.currentTimeMillis());
+        if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+        return (value == null) ? null : ((byte[]) value).clone();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#getAll(Collection)
+     */
+    @Override
+    public Map<String, String> getAll(final Collection<String> keys) {
+        long currentTime = System.currentTimeMillis();
+        Map<String, String> resultMap = new HashMap<>(keys.size());
+        for (String key : keys) {
+            String value = stringValue(this.localStore.get(key, currentTime));
+            if (value != null) {
+                resultMap.put(key, value);
+            }
+        }
+        return resultMap;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#incr(String, long)
+     */
+    @Override
+    public long incr(final String key, final long step) {
+        try {
+            return this.localStore.increment(key, step, System.currentTimeMillis());
+        } catch (NumberFormatException e) {
+            this.logger.error("Data_Operate_Cache_Error", "incr");
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Utils", "Stack_Message_Error", e);
+            }
+            return Globals.DEFAULT_VALUE_LONG;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#decr(String, long)
+     */
+    @Override
+    public long decr(final String key, final long step) {
+        return this.incr(key, -step);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#setAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> setAsync(final String key, final String value, final int expire) {
+        this.set(key, value, expire);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#addAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> addAsync(final String key, final String value, final int expire) {
+        this.add(key, value, expire);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#replaceAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> replaceAsync(final String key, final String value, final int expire) {
+        this.replace(key, value, expire);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#expireAsync(String, int)
+     */
+    @Override
+    public CompletableFuture<Void> expireAsync(final String key, final int expire) {
+        this.expire(key, expire);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#touchAsync(String...)
+     */
+    @Override
+    public CompletableFuture<Void> touchAsync(final String... keys) {
+        this.touch(keys);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#deleteAsync(String)
+     */
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String key) {
+        this.delete(key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAsync(String)
+     */
+    @Override
+    public CompletableFuture<String> getAsync(final String key) {
+        return CompletableFuture.completedFuture(this.get(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAllAsync(Collection)
+     */
+    @Override
+    public CompletableFuture<Map<String, String>> getAllAsync(final Collection<String> keys) {
+        return CompletableFuture.completedFuture(this.getAll(keys));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#incrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> incrAsync(final String key, final long step) {
+        return CompletableFuture.completedFuture(this.incr(key, step));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#decrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> decrAsync(final String key, final long step) {
+        return CompletableFuture.completedFuture(this.decr(key, step));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#destroy()
+     */
+    @Override
+    public void destroy() {
+        Optional.ofNullable(this.expiryExecutor).ifPresent(ScheduledExecutorService::shutdownNow);
+        Optional.ofNullable(this.localStore).ifPresent(LocalStore::clear);
+    }
+
+    /**
+     * <h3 class="en-US">Convert expire time in seconds to the time of expiration</h3>
+     * <h3 class="zh-CN">将以秒为单位的过期时间转换为过期的时间点</h3>
+     *
+     * @param expiry      <span class="en-US">Resolved expire time, less than or equal to 0 means never expire</span>
+     *                    <span class="zh-CN">已处理的过期时间，小于等于0表示永不过期</span>
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @return <span class="en-US">Time of expiration in milliseconds</span>
+     * <span class="zh-CN">以毫秒为单位的过期时间点</span>
+     */
+    private long expireAt(final int expiry, final long currentTime) {
+        return (expiry > 0) ? currentTime + TimeUnit.SECONDS.toMillis(expiry) : LocalStore.NEVER_EXPIRE;
+    }
+
+    /**
+     * <h3 class="en-US">Convert stored value to string, binary value was decoded by UTF-8</h3>
+     * <h3 class="zh-CN">将存储的数据转换为字符串，二进制数据使用UTF-8解码</h3>
+     *
+     * @param value <span class="en-US">Stored value</span>
+     *              <span class="zh-CN">存储的数据</span>
+     * @return <span class="en-US">String value or null if value was null</span>
+     * <span class="zh-CN">字符串数据，如果数据为null则返回null</span>
+     */
+    private static String stringValue(final Object value) {
+        if (value instanceof byte[]) {
+            return new String((byte[]) value, StandardCharsets.UTF_8);
+        }
+        return (String) value;
+    }
+}
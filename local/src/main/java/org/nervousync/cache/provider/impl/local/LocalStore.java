@@ -0,0 +1,547 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.local;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * <h2 class="en-US">Lock striped in-process cache store</h2>
+ * <span class="en-US">
+ *     Cache keys were distributed to segments by the high bits of hash code, each segment owns a linear probing table
+ *     and a hierarchical timing wheel guarded by a stamped lock. Read operations use optimistic read and do not allocate,
+ *     write operations hold the write lock of one segment only. Expired entries were never returned and were removed
+ *     when the timing wheel fired them. Values were stored as string or byte array without conversion.
+ * </span>
+ * <h2 class="zh-CN">锁分段的进程内缓存存储</h2>
+ * <span class="zh-CN">
+ *     缓存键值根据散列值的高位分配至各分段，每个分段拥有由StampedLock保护的线性探测表和分层时间轮。
+ *     读操作使用乐观读且不分配内存，写操作只持有一个分段的写锁。已过期的条目不会被返回，并在时间轮触发时移除。数据以字符串或字节数组的形式存储，不进行转换。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 14, 2024 10:37:45 $
+ */
+final class LocalStore {
+
+    /**
+     * <span class="en-US">Value of expire time means never expire</span>
+     * <span class="zh-CN">表示永不过期的过期时间值</span>
+     */
+    static final long NEVER_EXPIRE = 0L;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Segment[] segments;
+    private final int segmentShift;
+
+    /**
+     * <h3 class="en-US">Constructor for cache store</h3>
+     * <h3 class="zh-CN">缓存存储的构造方法</h3>
+     *
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     */
+    LocalStore(final long currentTime) {
+        //  Four segments for each processor, rounded up to power of two
+        int segmentCount = Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() * 4, 16) * 2 - 1);
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            this.segments[i] = new Segment(currentTime);
+        }
+        this.segmentShift = Integer.SIZE - Integer.numberOfTrailingZeros(segmentCount);
+    }
+
+    Object get(final String key, final long currentTime) {
+        int hash = hash(key);
+        return this.segmentFor(hash).get(key, hash, currentTime);
+    }
+
+    void set(final String key, final Object value, final long expireAt, final long currentTime) {
+        int hash = hash(key);
+        this.segmentFor(hash).put(key, hash, value, expireAt, currentTime, Mode.SET);
+    }
+
+    boolean add(final String key, final Object value, final long expireAt, final long currentTime) {
+        int hash = hash(key);
+        return this.segmentFor(hash).put(key, hash, value, expireAt, currentTime, Mode.ADD);
+    }
+
+    boolean replace(final String key, final Object value, final long expireAt, final long currentTime) {
+        int hash = hash(key);
+        return this.segmentFor(hash).put(key, hash, value, expireAt, currentTime, Mode.REPLACE);
+    }
+
+    boolean expire(final String key, final long expireAt, final long currentTime) {
+        int hash = hash(key);
+        return this.segmentFor(hash).expire(key, hash, expireAt, currentTime);
+    }
+
+    void delete(final String key) {
+        int hash = hash(key);
+        this.segmentFor(hash).remove(key, hash);
+    }
+
+    /**
+     * <h3 class="en-US">Remove given cache key only if current value equals to the given value</h3>
+     * <h3 class="zh-CN">仅当当前数据等于给定数据时移除给定的缓存键值</h3>
+     *
+     * @param key         <span class="en-US">Cache key</span>
+     *                    <span class="zh-CN">缓存键值</span>
+     * @param value       <span class="en-US">Expected cache value</span>
+     *                    <span class="zh-CN">预期的缓存数据</span>
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @return <span class="en-US">true if removed</span>
+     * <span class="zh-CN">移除成功返回true</span>
+     */
+    boolean deleteIfEquals(final String key, final Object value, final long currentTime) {
+        int hash = hash(key);
+        return this.segmentFor(hash).removeIfEquals(key, hash, value, currentTime);
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve remaining time to live of given cache key</h3>
+     * <h3 class="zh-CN">读取给定缓存键值的剩余生存时间</h3>
+     *
+     * @param key         <span class="en-US">Cache key</span>
+     *                    <span class="zh-CN">缓存键值</span>
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @return <span class="en-US">Remaining time to live in milliseconds, -1 if never expire, -2 if not exists</span>
+     * <span class="zh-CN">以毫秒为单位的剩余生存时间，永不过期时返回-1，不存在时返回-2</span>
+     */
+    long ttl(final String key, final long currentTime) {
+        int hash = hash(key);
+        return this.segmentFor(hash).ttl(key, hash, currentTime);
+    }
+
+    /**
+     * <h3 class="en-US">Add step to the number value of given cache key atomically</h3>
+     * <span class="en-US">Missing or expired key was initialized as 0 and never expire, existing key keeps its expire time</span>
+     * <h3 class="zh-CN">以原子操作为给定缓存键值的数值加上步进值</h3>
+     * <span class="zh-CN">不存在或已过期的键值初始化为0且永不过期，已存在的键值保持原有的过期时间</span>
+     *
+     * @param key         <span class="en-US">Cache key</span>
+     *                    <span class="zh-CN">缓存键值</span>
+     * @param step        <span class="en-US">Step value</span>
+     *                    <span class="zh-CN">步进值</span>
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @return <span class="en-US">Value after increment</span>
+     * <span class="zh-CN">增加后的数值</span>
+     *
+     * @throws NumberFormatException <span class="en-US">If current value was not a number</span>
+     *                               <span class="zh-CN">当前值不是数值时抛出异常</span>
+     */
+    long increment(final String key, final long step, final long currentTime) {
+        int hash = hash(key);
+        return this.segmentFor(hash).increment(key, hash, step, currentTime);
+    }
+
+    /**
+     * <h3 class="en-US">Advance timing wheels of all segments and remove expired entries</h3>
+     * <h3 class="zh-CN">推进所有分段的时间轮并移除已过期的条目</h3>
+     *
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     */
+    void evictExpired(final long currentTime) {
+        for (Segment segment : this.segments) {
+            segment.advance(currentTime);
+        }
+    }
+
+    void clear() {
+        for (Segment segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve entry count, expired entries not yet removed were included</h3>
+     * <h3 class="zh-CN">读取条目数量，包含尚未移除的已过期条目</h3>
+     *
+     * @return <span class="en-US">Entry count</span>
+     * <span class="zh-CN">条目数量</span>
+     */
+    long size() {
+        long size = 0L;
+        for (Segment segment : this.segments) {
+            size += segment.count();
+        }
+        return size;
+    }
+
+    private Segment segmentFor(final int hash) {
+        return this.segments[hash >>> this.segmentShift];
+    }
+
+    private static int hash(final String key) {
+        int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean expired(final long expireAt, final long currentTime) {
+        return expireAt != NEVER_EXPIRE && expireAt <= currentTime;
+    }
+
+    /**
+     * <h3 class="en-US">Parse number from string value or UTF-8 encoded binary value</h3>
+     * <h3 class="zh-CN">从字符串数据或UTF-8编码的二进制数据中解析数值</h3>
+     *
+     * @param value <span class="en-US">Stored value</span>
+     *              <span class="zh-CN">存储的数据</span>
+     * @return <span class="en-US">Number value</span>
+     * <span class="zh-CN">数值</span>
+     *
+     * @throws NumberFormatException <span class="en-US">If stored value was not a number</span>
+     *                               <span class="zh-CN">存储的数据不是数值时抛出异常</span>
+     */
+    private static long numberValue(final Object value) {
+        if (value instanceof byte[]) {
+            return Long.parseLong(new String((byte[]) value, StandardCharsets.UTF_8));
+        }
+        return Long.parseLong((String) value);
+    }
+
+    private enum Mode {
+        SET, ADD, REPLACE
+    }
+
+    /**
+     * <h2 class="en-US">Hash table of segment</h2>
+     * <span class="en-US">
+     *     Arrays were replaced together when the table was resized, a null key marks an empty slot.
+     *     The deadline was the tick which the key was scheduled in timing wheel, 0 means not scheduled.
+     * </span>
+     * <h2 class="zh-CN">分段的散列表</h2>
+     * <span class="zh-CN">散列表扩容时所有数组一同替换，键值为null表示空槽位。截止刻度为键值在时间轮中调度的刻度，0表示未调度</span>
+     */
+    private static final class Table {
+
+        private final int[] hashes;
+        private final String[] keys;
+        private final Object[] values;
+        private final long[] expires;
+        private final long[] deadlines;
+        private final int mask;
+
+        Table(final int capacity) {
+            this.hashes = new int[capacity];
+            this.keys = new String[capacity];
+            this.values = new Object[capacity];
+            this.expires = new long[capacity];
+            this.deadlines = new long[capacity];
+            this.mask = capacity - 1;
+        }
+
+        int find(final String key, final int hash) {
+            int index = hash & this.mask;
+            //  Bounded probing, optimistic readers may observe the table during a concurrent write
+            for (int i = 0; i <= this.mask; i++) {
+                String current = this.keys[index];
+                if (current == null) {
+                    return -1;
+                }
+                if (this.hashes[index] == hash && current.equals(key)) {
+                    return index;
+                }
+                index = (index + 1) & this.mask;
+            }
+            return -1;
+        }
+    }
+
+    private static final class Segment implements TimingWheel.Handler {
+
+        private final StampedLock lock = new StampedLock();
+        private final TimingWheel timingWheel;
+        private Table table = new Table(INITIAL_CAPACITY);
+        private int count = 0;
+        /**
+         * <span class="en-US">Current time of processing timing wheel</span>
+         * <span class="zh-CN">处理时间轮时的当前时间</span>
+         */
+        private long advanceTime = 0L;
+
+        Segment(final long currentTime) {
+            this.timingWheel = new TimingWheel(currentTime);
+        }
+
+        Object get(final String key, final int hash, final long currentTime) {
+            long stamp = this.lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                Table current = this.table;
+                int index = current.find(key, hash);
+                Object value = (index < 0) ? null : current.values[index];
+                long expireAt = (index < 0) ? NEVER_EXPIRE : current.expires[index];
+                if (this.lock.validate(stamp)) {
+                    return expired(expireAt, currentTime) ? null : value;
+                }
+            }
+            stamp = this.lock.readLock();
+            try {
+                int index = this.table.find(key, hash);
+                if (index < 0 || expired(this.table.expires[index], currentTime)) {
+                    return null;
+                }
+                return this.table.values[index];
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        long ttl(final String key, final int hash, final long currentTime) {
+            long stamp = this.lock.readLock();
+            try {
+                int index = this.table.find(key, hash);
+                if (index < 0 || expired(this.table.expires[index], currentTime)) {
+                    return -2L;
+                }
+                long expireAt = this.table.expires[index];
+                return (expireAt == NEVER_EXPIRE) ? -1L : expireAt - currentTime;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        boolean put(final String key, final int hash, final Object value, final long expireAt,
+                    final long currentTime, final Mode mode) {
+            long stamp = this.lock.writeLock();
+            try {
+                int index = this.table.find(key, hash);
+                if (index >= 0 && expired(this.table.expires[index], currentTime)) {
+                    this.delete(index);
+                    index = -1;
+                }
+                if ((index < 0 && mode == Mode.REPLACE) || (index >= 0 && mode == Mode.ADD)) {
+                    return Boolean.FALSE;
+                }
+                if (index < 0) {
+                    index = this.insert(key, hash);
+                }
+                this.table.values[index] = value;
+                this.updateExpire(index, expireAt);
+                return Boolean.TRUE;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean expire(final String key, final int hash, final long expireAt, final long currentTime) {
+            long stamp = this.lock.writeLock();
+            try {
+                int index = this.table.find(key, hash);
+                if (index < 0 || expired(this.table.expires[index], currentTime)) {
+                    return Boolean.FALSE;
+                }
+                this.updateExpire(index, expireAt);
+                return Boolean.TRUE;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        void remove(final String key, final int hash) {
+            long stamp = this.lock.writeLock();
+            try {
+                int index = this.table.find(key, hash);
+                if (index >= 0) {
+                    this.delete(index);
+                }
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        boolean removeIfEquals(final String key, final int hash, final Object value, final long currentTime) {
+            long stamp = this.lock.writeLock();
+            try {
+                int index = this.table.find(key, hash);
+                if (index < 0 || expired(this.table.expires[index], currentTime)
+                        || !value.equals(this.table.values[index])) {
+                    return Boolean.FALSE;
+                }
+                this.delete(index);
+                return Boolean.TRUE;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        long increment(final String key, final int hash, final long step, final long currentTime) {
+            long stamp = this.lock.writeLock();
+            try {
+                int index = this.table.find(key, hash);
+                long result;
+                if (index < 0 || expired(this.table.expires[index], currentTime)) {
+                    result = step;
+                    if (index < 0) {
+                        index = this.insert(key, hash);
+                    }
+                    this.updateExpire(index, NEVER_EXPIRE);
+                } else {
+                    result = numberValue(this.table.values[index]) + step;
+                }
+                this.table.values[index] = Long.toString(result);
+                return result;
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        void advance(final long currentTime) {
+            long stamp = this.lock.writeLock();
+            try {
+                this.advanceTime = currentTime;
+                this.timingWheel.advance(currentTime, this);
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        /*
+         * (non-Javadoc)
+         * @see TimingWheel.Handler#fire(String, long)
+         */
+        @Override
+        public void fire(final String key, final long deadline) {
+            int index = this.table.find(key, hash(key));
+            if (index < 0 || this.table.deadlines[index] != deadline) {
+                //  Key was removed or scheduled again by an earlier deadline
+                return;
+            }
+            long expireAt = this.table.expires[index];
+            if (expireAt == NEVER_EXPIRE) {
+                this.table.deadlines[index] = 0L;
+            } else if (expireAt <= this.advanceTime) {
+                this.delete(index);
+            } else {
+                //  Expire time was extended after the key was scheduled
+                long tick = TimingWheel.tickOf(expireAt);
+                this.table.deadlines[index] = tick;
+                this.timingWheel.schedule(key, tick);
+            }
+        }
+
+        void clear() {
+            long stamp = this.lock.writeLock();
+            try {
+                this.table = new Table(INITIAL_CAPACITY);
+                this.count = 0;
+                this.timingWheel.clear();
+            } finally {
+                this.lock.unlockWrite(stamp);
+            }
+        }
+
+        int count() {
+            long stamp = this.lock.readLock();
+            try {
+                return this.count;
+            } finally {
+                this.lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * <h3 class="en-US">Update expire time and schedule the key if the deadline was earlier than the scheduled one</h3>
+         * <span class="en-US">A later deadline was scheduled again when the current schedule was fired</span>
+         * <h3 class="zh-CN">更新过期时间，如果截止刻度早于已调度的截止刻度则调度键值</h3>
+         * <span class="zh-CN">较晚的截止刻度在当前调度触发时重新调度</span>
+         *
+         * @param index    <span class="en-US">Slot index</span>
+         *                 <span class="zh-CN">槽位索引</span>
+         * @param expireAt <span class="en-US">Expire time in milliseconds</span>
+         *                 <span class="zh-CN">以毫秒为单位的过期时间</span>
+         */
+        private void updateExpire(final int index, final long expireAt) {
+            this.table.expires[index] = expireAt;
+            if (expireAt != NEVER_EXPIRE) {
+                long tick = TimingWheel.tickOf(expireAt);
+                long scheduled = this.table.deadlines[index];
+                if (scheduled == 0L || tick < scheduled) {
+                    this.table.deadlines[index] = tick;
+                    this.timingWheel.schedule(this.table.keys[index], tick);
+                }
+            }
+        }
+
+        private int insert(final String key, final int hash) {
+            Table current = this.table;
+            if ((this.count + 1) > (current.mask + 1) * 3 / 4) {
+                current = this.resize(current);
+            }
+            int index = hash & current.mask;
+            while (current.keys[index] != null) {
+                index = (index + 1) & current.mask;
+            }
+            current.hashes[index] = hash;
+            current.keys[index] = key;
+            current.deadlines[index] = 0L;
+            this.count++;
+            return index;
+        }
+
+        private Table resize(final Table current) {
+            Table resized = new Table((current.mask + 1) << 1);
+            for (int i = 0; i <= current.mask; i++) {
+                if (current.keys[i] != null) {
+                    int index = current.hashes[i] & resized.mask;
+                    while (resized.keys[index] != null) {
+                        index = (index + 1) & resized.mask;
+                    }
+                    resized.hashes[index] = current.hashes[i];
+                    resized.keys[index] = current.keys[i];
+                    resized.values[index] = current.values[i];
+                    resized.expires[index] = current.expires[i];
+                    resized.deadlines[index] = current.deadlines[i];
+                }
+            }
+            this.table = resized;
+            return resized;
+        }
+
+        /**
+         * <h3 class="en-US">Remove slot using backward shift deletion</h3>
+         * <h3 class="zh-CN">使用后移删除法移除槽位</h3>
+         *
+         * @param index <span class="en-US">Slot index</span>
+         *              <span class="zh-CN">槽位索引</span>
+         */
+        private void delete(final int index) {
+            Table current = this.table;
+            int hole = index;
+            int next = (hole + 1) & current.mask;
+            while (current.keys[next] != null) {
+                int home = current.hashes[next] & current.mask;
+                if (((next - home) & current.mask) >= ((next - hole) & current.mask)) {
+                    current.hashes[hole] = current.hashes[next];
+                    current.values[hole] = current.values[next];
+                    current.expires[hole] = current.expires[next];
+                    current.deadlines[hole] = current.deadlines[next];
+                    current.keys[hole] = current.keys[next];
+                    hole = next;
+                }
+                next = (next + 1) & current.mask;
+            }
+            current.keys[hole] = null;
+            current.values[hole] = null;
+            this.count--;
+        }
+    }
+}
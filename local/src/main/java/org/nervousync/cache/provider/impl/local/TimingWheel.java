@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.local;
+
+/**
+ * <h2 class="en-US">Hierarchical timing wheel of cache keys expiration</h2>
+ * <span class="en-US">
+ *     Four levels of 64 buckets, the tick duration of level 0 is 100 milliseconds and each upper level covers the whole
+ *     range of the lower level, so scheduling and firing cost O(1) regardless how many keys were waiting.
+ *     Deadlines beyond the range of the wheel were parked in the top level and placed again when it was cascaded.
+ *     The wheel was not thread safe, the owner segment accesses it while holding the write lock.
+ * </span>
+ * <h2 class="zh-CN">缓存键值过期的分层时间轮</h2>
+ * <span class="zh-CN">
+ *     共四层，每层64个桶，第0层的刻度时长为100毫秒，每个上层覆盖下层的完整范围，因此无论等待的键值数量多少，调度与触发的开销均为O(1)。
+ *     超出时间轮范围的截止时间暂存于顶层，在顶层降级时重新放置。时间轮不是线程安全的，所属分段在持有写锁时访问。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 14, 2024 09:52:16 $
+ */
+final class TimingWheel {
+
+    /**
+     * <span class="en-US">Tick duration of level 0. Unit: millisecond</span>
+     * <span class="zh-CN">第0层的刻度时长。单位：毫秒</span>
+     */
+    static final long TICK_DURATION = 100L;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    /**
+     * <span class="en-US">Tick count covered by the whole wheel</span>
+     * <span class="zh-CN">整个时间轮覆盖的刻度数</span>
+     */
+    private static final long HORIZON = 1L << (WHEEL_BITS * LEVELS);
+
+    private final Bucket[][] buckets = new Bucket[LEVELS][WHEEL_SIZE];
+    /**
+     * <span class="en-US">Empty bucket swapped with the bucket in processing</span>
+     * <span class="zh-CN">与正在处理的桶交换的空桶</span>
+     */
+    private Bucket spare = new Bucket();
+    private long currentTick;
+
+    /**
+     * <h3 class="en-US">Constructor for timing wheel</h3>
+     * <h3 class="zh-CN">时间轮的构造方法</h3>
+     *
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     */
+    TimingWheel(final long currentTime) {
+        this.currentTick = currentTime / TICK_DURATION;
+    }
+
+    /**
+     * <h3 class="en-US">Convert expire time to deadline tick, the key was fired at or after the expire time</h3>
+     * <h3 class="zh-CN">将过期时间转换为截止刻度，键值在过期时间当时或之后触发</h3>
+     *
+     * @param expireAt <span class="en-US">Expire time in milliseconds</span>
+     *                 <span class="zh-CN">以毫秒为单位的过期时间</span>
+     * @return <span class="en-US">Deadline tick</span>
+     * <span class="zh-CN">截止刻度</span>
+     */
+    static long tickOf(final long expireAt) {
+        return (expireAt + TICK_DURATION - 1L) / TICK_DURATION;
+    }
+
+    /**
+     * <h3 class="en-US">Schedule cache key, passed deadline was fired by the next tick</h3>
+     * <h3 class="zh-CN">调度缓存键值，已过去的截止刻度在下一个刻度触发</h3>
+     *
+     * @param key      <span class="en-US">Cache key</span>
+     *                 <span class="zh-CN">缓存键值</span>
+     * @param deadline <span class="en-US">Deadline tick</span>
+     *                 <span class="zh-CN">截止刻度</span>
+     */
+    void schedule(final String key, final long deadline) {
+        this.place(key, deadline, Math.max(deadline - this.currentTick, 1L));
+    }
+
+    /**
+     * <h3 class="en-US">Advance the wheel to given time and fire the keys which deadline was reached</h3>
+     * <h3 class="zh-CN">将时间轮推进到给定的时间并触发到达截止刻度的键值</h3>
+     *
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @param handler     <span class="en-US">Handler of fired keys</span>
+     *                    <span class="zh-CN">触发键值的处理器</span>
+     */
+    void advance(final long currentTime, final Handler handler) {
+        final long targetTick = currentTime / TICK_DURATION;
+        while (this.currentTick < targetTick) {
+            this.currentTick++;
+            //  Cascade from the top level, keys dropped to the lower level may be cascaded again in the same tick
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((this.currentTick & ((1L << (WHEEL_BITS * level)) - 1L)) == 0L) {
+                    this.process(level, null);
+                }
+            }
+            this.process(0, handler);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Remove all scheduled keys</h3>
+     * <h3 class="zh-CN">移除所有已调度的键值</h3>
+     */
+    void clear() {
+        for (Bucket[] wheel : this.buckets) {
+            for (Bucket bucket : wheel) {
+                if (bucket != null) {
+                    bucket.clear();
+                }
+            }
+        }
+    }
+
+    private void process(final int level, final Handler handler) {
+        int index = (int) ((this.currentTick >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        Bucket bucket = this.buckets[level][index];
+        if (bucket == null || bucket.size == 0) {
+            return;
+        }
+        //  Keys placed during processing go into the swapped empty bucket
+        this.buckets[level][index] = this.spare;
+        this.spare = bucket;
+        for (int i = 0; i < bucket.size; i++) {
+            String key = bucket.keys[i];
+            long deadline = bucket.deadlines[i];
+            if (handler != null && deadline <= this.currentTick) {
+                handler.fire(key, deadline);
+            } else {
+                this.place(key, deadline, Math.max(deadline - this.currentTick, 0L));
+            }
+        }
+        bucket.clear();
+    }
+
+    private void place(final String key, final long deadline, final long delay) {
+        //  Deadline beyond the horizon was parked in the top level
+        long ticks = Math.min(delay, HORIZON - 1L);
+        int level = 0;
+        while (ticks >= (1L << (WHEEL_BITS * (level + 1)))) {
+            level++;
+        }
+        int index = (int) (((this.currentTick + ticks) >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        Bucket bucket = this.buckets[level][index];
+        if (bucket == null) {
+            bucket = new Bucket();
+            this.buckets[level][index] = bucket;
+        }
+        bucket.add(key, deadline);
+    }
+
+    /**
+     * <h2 class="en-US">Handler of fired keys</h2>
+     * <h2 class="zh-CN">触发键值的处理器</h2>
+     */
+    interface Handler {
+
+        /**
+         * <h3 class="en-US">Deadline of scheduled key was reached</h3>
+         * <h3 class="zh-CN">已调度键值到达截止刻度</h3>
+         *
+         * @param key      <span class="en-US">Cache key</span>
+         *                 <span class="zh-CN">缓存键值</span>
+         * @param deadline <span class="en-US">Scheduled deadline tick</span>
+         *                 <span class="zh-CN">调度的截止刻度</span>
+         */
+        void fire(final String key, final long deadline);
+    }
+
+    private static final class Bucket {
+
+        private String[] keys = new String[8];
+        private long[] deadlines = new long[8];
+        private int size = 0;
+
+        void add(final String key, final long deadline) {
+            if (this.size == this.keys.length) {
+                int capacity = this.size << 1;
+                String[] newKeys = new String[capacity];
+                long[] newDeadlines = new long[capacity];
+                System.arraycopy(this.keys, 0, newKeys, 0, this.size);
+                System.arraycopy(this.deadlines, 0, newDeadlines, 0, this.size);
+                this.keys = newKeys;
+                this.deadlines = newDeadlines;
+            }
+            this.keys[this.size] = key;
+            this.deadlines[this.size] = deadline;
+            this.size++;
+        }
+
+        void clear() {
+            for (int i = 0; i < this.size; i++) {
+                this.keys[i] = null;
+            }
+            this.size = 0;
+        }
+    }
+}
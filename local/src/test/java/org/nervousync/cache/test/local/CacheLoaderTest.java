@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.local;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.client.impl.CacheClientImpl;
+import org.nervousync.cache.commons.CacheGlobals;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.exceptions.CacheException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class CacheLoaderTest {
+
+    private static final long AWAIT_TIMEOUT = 5000L;
+    private static final long POLL_INTERVAL = 20L;
+
+    private CacheClientImpl cacheClient;
+
+    @BeforeAll
+    public void initialize() throws CacheException {
+        CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setProviderName("LocalProvider");
+        cacheConfig.setExpireTime(60);
+        this.cacheClient = new CacheClientImpl(cacheConfig);
+    }
+
+    @AfterAll
+    public void destroy() {
+        this.cacheClient.destroy();
+    }
+
+    @Test
+    @Order(10)
+    public void test000SingleFlight() {
+        AtomicInteger loadCount = new AtomicInteger(0);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<CompletableFuture<String>> futureList = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futureList.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return this.cacheClient.get("testFlight", key -> {
+                    loadCount.incrementAndGet();
+                    sleep(200L);
+                    return "Test flight";
+                }, 60, 0);
+            }));
+        }
+        startLatch.countDown();
+        futureList.forEach(future -> Assertions.assertEquals("Test flight", future.join()));
+        Assertions.assertEquals(1, loadCount.get());
+        Assertions.assertEquals("Test flight", this.cacheClient.get("testFlight"));
+    }
+
+    @Test
+    @Order(20)
+    public void test010LoaderReturnsNull() {
+        AtomicInteger loadCount = new AtomicInteger(0);
+        Assertions.assertNull(this.cacheClient.get("testNull", key -> {
+            loadCount.incrementAndGet();
+            return null;
+        }, 60, 0));
+        Assertions.assertNull(this.cacheClient.get("testNull"));
+        Assertions.assertNull(this.cacheClient.get("testNull", key -> {
+            loadCount.incrementAndGet();
+            return null;
+        }, 60, 1));
+        Assertions.assertEquals(2, loadCount.get());
+        Assertions.assertNull(this.cacheClient.get("testNull" + CacheGlobals.LEASE_KEY_SUFFIX));
+    }
+
+    @Test
+    @Order(30)
+    public void test020LeaseReleased() {
+        Assertions.assertEquals("Test lease", this.cacheClient.get("testLease", key -> "Test lease", 60, 5));
+        Assertions.assertNull(this.cacheClient.get("testLease" + CacheGlobals.LEASE_KEY_SUFFIX));
+    }
+
+    @Test
+    @Order(40)
+    public void test030LeaseWait() {
+        String leaseKey = "testWait" + CacheGlobals.LEASE_KEY_SUFFIX;
+        this.cacheClient.set(leaseKey, "Other node", 5);
+        AtomicInteger loadCount = new AtomicInteger(0);
+        CompletableFuture.runAsync(() -> {
+            sleep(200L);
+            this.cacheClient.set("testWait", "Loaded by other node", 60);
+        });
+        Assertions.assertEquals("Loaded by other node", this.cacheClient.get("testWait", key -> {
+            loadCount.incrementAndGet();
+            return "Test wait";
+        }, 60, 5));
+        Assertions.assertEquals(0, loadCount.get());
+        Assertions.assertEquals("Other node", this.cacheClient.get(leaseKey));
+    }
+
+    @Test
+    @Order(50)
+    public void test040LeaseNotOwned() {
+        String leaseKey = "testOwner" + CacheGlobals.LEASE_KEY_SUFFIX;
+        //  Lease expired while loading and was acquired by other node before loader returned
+        Assertions.assertEquals("Test owner", this.cacheClient.get("testOwner", key -> {
+            this.cacheClient.set(leaseKey, "Other node", 5);
+            return "Test owner";
+        }, 60, 1));
+        Assertions.assertEquals("Other node", this.cacheClient.get(leaseKey));
+    }
+
+    @Test
+    @Order(60)
+    public void test050RefreshAhead() throws CacheException {
+        CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setProviderName("LocalProvider");
+        cacheConfig.setExpireTime(60);
+        cacheConfig.setNearCacheEntries(100);
+        cacheConfig.setRefreshAheadRatio(50);
+        CacheClientImpl refreshClient = new CacheClientImpl(cacheConfig);
+        try {
+            AtomicInteger loadCount = new AtomicInteger(0);
+            Assertions.assertEquals("Test refresh 1", refreshClient.get("testRefresh",
+                    key -> "Test refresh " + loadCount.incrementAndGet(), 2, 0));
+            //  Refresh was started in background by the deadline which was recorded locally when loading,
+            //  once half of the expire time elapsed
+            Assertions.assertTrue(await(() -> {
+                refreshClient.get("testRefresh", key -> "Test refresh " + loadCount.incrementAndGet(), 2, 0);
+                return loadCount.get() > 1;
+            }));
+            Assertions.assertTrue(await(() -> "Test refresh 2".equals(refreshClient.get("testRefresh"))));
+            Assertions.assertEquals(2, loadCount.get());
+        } finally {
+            refreshClient.destroy();
+        }
+    }
+
+    private static boolean await(final BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(AWAIT_TIMEOUT);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return Boolean.FALSE;
+            }
+            sleep(POLL_INTERVAL);
+        }
+        return Boolean.TRUE;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
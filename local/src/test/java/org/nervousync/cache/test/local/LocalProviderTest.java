@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.local;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.batch.BatchRecorder;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.provider.impl.local.LocalProviderImpl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class LocalProviderTest {
+
+    private static final long AWAIT_TIMEOUT = 5000L;
+    private static final long POLL_INTERVAL = 20L;
+
+    private final LocalProviderImpl cacheProvider = new LocalProviderImpl();
+
+    @BeforeAll
+    public void initialize() throws CacheException {
+        CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setProviderName("LocalProvider");
+        cacheConfig.setExpireTime(60);
+        this.cacheProvider.initialize(cacheConfig);
+    }
+
+    @AfterAll
+    public void destroy() {
+        this.cacheProvider.terminate();
+    }
+
+    @Test
+    @Order(10)
+    public void test000ReadWrite() {
+        this.cacheProvider.set("test", "Test set", 60);
+        Assertions.assertEquals("Test set", this.cacheProvider.get("test"));
+        this.cacheProvider.add("test", "Test add", 60);
+        Assertions.assertEquals("Test set", this.cacheProvider.get("test"));
+        this.cacheProvider.replace("test", "Test replace", 60);
+        Assertions.assertEquals("Test replace", this.cacheProvider.get("test"));
+        this.cacheProvider.replace("notExists", "Test replace", 60);
+        Assertions.assertNull(this.cacheProvider.get("notExists"));
+        Assertions.assertTrue(this.cacheProvider.tryAdd("testAdd", "Test add", 60));
+        Assertions.assertFalse(this.cacheProvider.tryAdd("testAdd", "Test add", 60));
+        Assertions.assertFalse(this.cacheProvider.deleteIfEquals("testAdd", "Other value"));
+        Assertions.assertTrue(this.cacheProvider.deleteIfEquals("testAdd", "Test add"));
+        Assertions.assertNull(this.cacheProvider.get("testAdd"));
+        this.cacheProvider.setAll(Map.of("test", "Test setAll", "testAll", "Test setAll"), 60);
+        Assertions.assertEquals(Map.of("test", "Test setAll", "testAll", "Test setAll"),
+                this.cacheProvider.getAll(List.of("test", "testAll", "notExists")));
+        this.cacheProvider.delete("test");
+        Assertions.assertNull(this.cacheProvider.get("test"));
+        Assertions.assertEquals(-2L, this.cacheProvider.ttl("test"));
+        byte[] binaryValue = new byte[]{0x00, (byte) 0xFF, 0x7F};
+        this.cacheProvider.setBytes("testBytes", binaryValue, 60);
+        binaryValue[0] = 0x01;
+        this.cacheProvider.getBytes("testBytes")[1] = 0x01;
+        Assertions.assertArrayEquals(new byte[]{0x00, (byte) 0xFF, 0x7F}, this.cacheProvider.getBytes("testBytes"));
+        Assertions.assertNull(this.cacheProvider.getBytes("notExists"));
+    }
+
+    @Test
+    @Order(20)
+    public void test010Counter() {
+        Assertions.assertEquals(10L, this.cacheProvider.incr("testNum", 10L));
+        Assertions.assertEquals(12L, this.cacheProvider.incr("testNum", 2L));
+        Assertions.assertEquals(9L, this.cacheProvider.decr("testNum", 3L));
+        Assertions.assertEquals(-1L, this.cacheProvider.ttl("testNum"));
+        this.cacheProvider.set("testString", "Test string", 60);
+        Assertions.assertEquals(-1L, this.cacheProvider.incr("testString", 1L));
+    }
+
+    @Test
+    @Order(30)
+    public void test020Expire() {
+        this.cacheProvider.set("testExpire", "Test expire", 1);
+        long ttl = this.cacheProvider.ttl("testExpire");
+        Assertions.assertTrue(ttl > 0L && ttl <= 1000L);
+        this.cacheProvider.expire("testTouch", 1);
+        this.cacheProvider.set("testTouch", "Test touch", 1);
+        this.cacheProvider.touch("testTouch");
+        Assertions.assertTrue(this.cacheProvider.ttl("testTouch") > 1000L);
+        Assertions.assertTrue(await(() -> this.cacheProvider.get("testExpire") == null));
+        Assertions.assertEquals("Test touch", this.cacheProvider.get("testTouch"));
+        Assertions.assertTrue(this.cacheProvider.tryAdd("testExpire", "Test add", 1));
+    }
+
+    @Test
+    @Order(40)
+    public void test030Async() {
+        Assertions.assertEquals("Test async",
+                this.cacheProvider.setAsync("testAsync", "Test async", 60)
+                        .thenCompose(result -> this.cacheProvider.getAsync("testAsync"))
+                        .join());
+    }
+
+    @Test
+    @Order(50)
+    public void test040Batch() {
+        BatchRecorder batchRecorder = new BatchRecorder();
+        batchRecorder.set("testBatch", "Test batch", 60)
+                .get("testBatch")
+                .incr("testBatchNum", 5L)
+                .decr("testBatchNum", 2L)
+                .delete("testBatch")
+                .get("testBatch");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> batchRecorder.get(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> batchRecorder.set("testBatch", null, 60));
+        Assertions.assertEquals(6, batchRecorder.operations().size());
+        Assertions.assertEquals(Arrays.asList(null, "Test batch", 5L, 3L, null, null),
+                this.cacheProvider.batch(batchRecorder.operations()));
+    }
+
+    private static boolean await(final BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(AWAIT_TIMEOUT);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline >= 0L) {
+                return Boolean.FALSE;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(POLL_INTERVAL));
+        }
+        return Boolean.TRUE;
+    }
+}
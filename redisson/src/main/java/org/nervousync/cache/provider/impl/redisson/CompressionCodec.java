@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.redisson;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * <h2 class="en-US">Codec which compress values of delegate codec</h2>
+ * <span class="en-US">Value bytes of delegate codec were compressed and decompressed by the provider</span>
+ * <h2 class="zh-CN">压缩代理编解码器数据的编解码器</h2>
+ * <span class="zh-CN">代理编解码器的数据字节由缓存适配器压缩和解压</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 19, 2024 15:03:18 $
+ */
+final class CompressionCodec extends BaseCodec {
+
+    /**
+     * <span class="en-US">Delegate codec instance</span>
+     * <span class="zh-CN">代理编解码器实例</span>
+     */
+    private final Codec delegate;
+    /**
+     * <span class="en-US">Value encoder</span>
+     * <span class="zh-CN">数据编码器</span>
+     */
+    private final Encoder encoder;
+    /**
+     * <span class="en-US">Value decoder</span>
+     * <span class="zh-CN">数据解码器</span>
+     */
+    private final Decoder<Object> decoder;
+
+    /**
+     * <h3 class="en-US">Constructor for compression codec</h3>
+     * <h3 class="zh-CN">压缩编解码器的构造方法</h3>
+     *
+     * @param delegate     <span class="en-US">Delegate codec instance</span>
+     *                     <span class="zh-CN">代理编解码器实例</span>
+     * @param compressor   <span class="en-US">Compress operator of value bytes</span>
+     *                     <span class="zh-CN">数据字节的压缩操作</span>
+     * @param decompressor <span class="en-US">Decompress operator of value bytes</span>
+     *                     <span class="zh-CN">数据字节的解压操作</span>
+     */
+    CompressionCodec(final Codec delegate,
+                     final UnaryOperator<byte[]> compressor, final UnaryOperator<byte[]> decompressor) {
+        this.delegate = delegate;
+        this.encoder = in -> {
+            ByteBuf encoded = delegate.getValueEncoder().encode(in);
+            try {
+                return Unpooled.wrappedBuffer(compressor.apply(ByteBufUtil.getBytes(encoded)));
+            } finally {
+                encoded.release();
+            }
+        };
+        this.decoder = (buf, state) -> {
+            byte[] data = new byte[buf.readableBytes()];
+            buf.readBytes(data);
+            return delegate.getValueDecoder().decode(Unpooled.wrappedBuffer(decompressor.apply(data)), state);
+        };
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.redisson.client.codec.Codec#getValueDecoder()
+     */
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return this.decoder;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.redisson.client.codec.Codec#getValueEncoder()
+     */
+    @Override
+    public Encoder getValueEncoder() {
+        return this.encoder;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.redisson.client.codec.BaseCodec#getClassLoader()
+     */
+    @Override
+    public ClassLoader getClassLoader() {
+        return this.delegate.getClassLoader();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.redisson;
+
+/**
+ * <h2 class="en-US">Value of local cached map with expiry deadline</h2>
+ * <span class="en-US">
+ *     Entries of map not support time-to-live, so the deadline was stored in front of the value
+ *     as "deadline:value", deadline 0 means never expire.
+ * </span>
+ * <h2 class="zh-CN">带有过期时间的本地缓存映射表数据</h2>
+ * <span class="zh-CN">映射表的条目不支持过期时间，因此过期时间以"过期时间:数据"的格式存储在数据之前，过期时间为0表示永不过期。</span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 25, 2024 10:27:46 $
+ */
+final class LocalMapValue {
+
+    /**
+     * <span class="en-US">Separator between deadline and value</span>
+     * <span class="zh-CN">过期时间和数据之间的分隔符</span>
+     */
+    private static final char SEPARATOR = ':';
+
+    private LocalMapValue() {
+    }
+
+    /**
+     * <h3 class="en-US">Wrap value with expiry deadline</h3>
+     * <h3 class="zh-CN">使用过期时间包装数据</h3>
+     *
+     * @param value  <span class="en-US">Cache value</span>
+     *               <span class="zh-CN">缓存数据</span>
+     * @param expiry <span class="en-US">Expiry time, 0 means never expire. Unit: second</span>
+     *               <span class="zh-CN">过期时间，0为永不过期。单位：秒</span>
+     *
+     * @return <span class="en-US">Stored value</span>
+     * <span class="zh-CN">存储的数据</span>
+     */
+    static String wrap(final String value, final int expiry) {
+        long deadline = (expiry > 0) ? System.currentTimeMillis() + expiry * 1000L : 0L;
+        return deadline + String.valueOf(SEPARATOR) + value;
+    }
+
+    /**
+     * <h3 class="en-US">Replace expiry deadline of stored value</h3>
+     * <h3 class="zh-CN">替换存储数据的过期时间</h3>
+     *
+     * @param storedValue <span class="en-US">Stored value</span>
+     *                    <span class="zh-CN">存储的数据</span>
+     * @param expiry      <span class="en-US">Expiry time, 0 means never expire. Unit: second</span>
+     *                    <span class="zh-CN">过期时间，0为永不过期。单位：秒</span>
+     *
+     * @return <span class="en-US">Stored value with new deadline</span>
+     * <span class="zh-CN">使用新过期时间的存储数据</span>
+     */
+    static String rewrap(final String storedValue, final int expiry) {
+        return wrap(storedValue.substring(storedValue.indexOf(SEPARATOR) + 1), expiry);
+    }
+
+    /**
+     * <h3 class="en-US">Replace value of stored value and keep the expiry deadline</h3>
+     * <h3 class="zh-CN">替换存储数据的数据并保持过期时间不变</h3>
+     *
+     * @param storedValue <span class="en-US">Stored value</span>
+     *                    <span class="zh-CN">存储的数据</span>
+     * @param value       <span class="en-US">New cache value</span>
+     *                    <span class="zh-CN">新的缓存数据</span>
+     *
+     * @return <span class="en-US">Stored value with new cache value</span>
+     * <span class="zh-CN">使用新缓存数据的存储数据</span>
+     */
+    static String update(final String storedValue, final String value) {
+        return storedValue.substring(0, storedValue.indexOf(SEPARATOR) + 1) + value;
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve value if not expired</h3>
+     * <h3 class="zh-CN">读取未过期的数据</h3>
+     *
+     * @param storedValue <span class="en-US">Stored value</span>
+     *                    <span class="zh-CN">存储的数据</span>
+     *
+     * @return <span class="en-US">Cache value or null if not exists or expired</span>
+     * <span class="zh-CN">缓存数据，不存在或已过期时返回null</span>
+     */
+    static String unwrap(final String storedValue) {
+        if (storedValue == null || expired(storedValue)) {
+            return null;
+        }
+        return storedValue.substring(storedValue.indexOf(SEPARATOR) + 1);
+    }
+
+    /**
+     * <h3 class="en-US">Check the stored value was expired</h3>
+     * <h3 class="zh-CN">检查存储的数据是否已过期</h3>
+     *
+     * @param storedValue <span class="en-US">Stored value</span>
+     *                    <span class="zh-CN">存储的数据</span>
+     *
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    static boolean expired(final String storedValue) {
+        long deadline = deadline(storedValue);
+        return deadline > 0L && deadline <= System.currentTimeMillis();
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve remaining time to live of stored value</h3>
+     * <h3 class="zh-CN">读取存储数据的剩余生存时间</h3>
+     *
+     * @param storedValue <span class="en-US">Stored value</span>
+     *                    <span class="zh-CN">存储的数据</span>
+     *
+     * @return <span class="en-US">Remaining milliseconds, -1 if never expire, -2 if not exists or expired</span>
+     * <span class="zh-CN">剩余毫秒数，永不过期返回-1，不存在或已过期返回-2</span>
+     */
+    static long remainTimeToLive(final String storedValue) {
+        if (storedValue == null) {
+            return -2L;
+        }
+        long deadline = deadline(storedValue);
+        if (deadline == 0L) {
+            return -1L;
+        }
+        long remain = deadline - System.currentTimeMillis();
+        return (remain > 0L) ? remain : -2L;
+    }
+
+    private static long deadline(final String storedValue) {
+        int index = storedValue.indexOf(SEPARATOR);
+        if (index <= 0) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(storedValue.substring(0, index));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
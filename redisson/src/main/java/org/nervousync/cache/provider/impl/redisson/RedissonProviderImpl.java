@@ -17,18 +17,42 @@
 package org.nervousync.cache.provider.impl.redisson;
 
 import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.batch.BatchOperation;
+import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig;
 import org.nervousync.cache.provider.impl.AbstractProvider;
 import org.nervousync.commons.Globals;
 import org.nervousync.utils.StringUtils;
 import org.redisson.Redisson;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.LocalCachedMapOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucket;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RBuckets;
+import org.redisson.api.RBucketsReactive;
+import org.redisson.api.RFuture;
+import org.redisson.api.RKeys;
+import org.redisson.api.RLocalCachedMap;
 import org.redisson.api.RedissonClient;
+import org.redisson.api.RedissonReactiveClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
 import org.redisson.client.codec.StringCodec;
 import org.redisson.config.*;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
 
 import java.time.Duration;
-import java.util.Arrays;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ToIntFunction;
 
 /**
  * <h2 class="en-US">Redis cache provider using Redisson</h2>
@@ -40,7 +64,45 @@ import java.util.List;
 @Provider(name = "RedissonProvider", titleKey = "redisson.cache.provider.name")
 public final class RedissonProviderImpl extends AbstractProvider {
 
+    /**
+     * <span class="en-US">Shared codec of string values, large values were compressed</span>
+     * <span class="zh-CN">共享的字符串数据编解码器，大数据被压缩</span>
+     */
+    private final Codec stringCodec =
+            new CompressionCodec(new StringCodec(Globals.DEFAULT_ENCODING), this::compress, this::decompress);
+    /**
+     * <span class="en-US">Shared codec of binary values, large values were compressed</span>
+     * <span class="zh-CN">共享的二进制数据编解码器，大数据被压缩</span>
+     */
+    private final Codec binaryCodec =
+            new CompressionCodec(ByteArrayCodec.INSTANCE, this::compress, this::decompress);
     private RedissonClient redissonClient = null;
+    private RedissonReactiveClient reactiveClient = null;
+    /**
+     * <span class="en-US">Shared handle of multi-key operations</span>
+     * <span class="zh-CN">共享的多键值操作句柄</span>
+     */
+    private RKeys redisKeys = null;
+    /**
+     * <span class="en-US">Shared handle of bulk string value operations</span>
+     * <span class="zh-CN">共享的字符串数据批量操作句柄</span>
+     */
+    private RBuckets stringBuckets = null;
+    /**
+     * <span class="en-US">Shared reactive handle of bulk string value operations</span>
+     * <span class="zh-CN">共享的字符串数据响应式批量操作句柄</span>
+     */
+    private RBucketsReactive reactiveBuckets = null;
+    /**
+     * <span class="en-US">Local cached map of string values, null if local cached map mode was disabled</span>
+     * <span class="zh-CN">字符串数据的本地缓存映射表，未启用本地缓存映射表模式时为null</span>
+     */
+    private RLocalCachedMap<String, String> localMap = null;
+    /**
+     * <span class="en-US">Executor of sweeping expired entries in local cached map</span>
+     * <span class="zh-CN">清理本地缓存映射表中过期条目的执行器</span>
+     */
+    private ScheduledExecutorService sweepExecutor = null;
 
     public RedissonProviderImpl() {
     }
@@ -56,8 +118,43 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     @Override
     public void set(final String key, final String value, final int expire) {
-        this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING))
-                .set(value, Duration.ofSeconds(this.expiryTime(expire)));
+        if (this.localMap != null) {
+            this.localMap.fastPut(key, LocalMapValue.wrap(value, this.expiryTime(expire)));
+            return;
+        }
+        RBucket<String> bucket = this.redissonClient.getBucket(key, this.stringCodec);
+        int expiry = this.expiryTime(expire);
+        if (expiry > 0) {
+            bucket.set(value, Duration.ofSeconds(expiry));
+        } else {
+            bucket.set(value);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#processAll(Map, ToIntFunction)
+     */
+    @Override
+    protected void processAll(final Map<String, String> dataMap, final ToIntFunction<String> expiryFunction) {
+        if (this.localMap != null) {
+            Map<String, String> storedMap = new HashMap<>(dataMap.size());
+            dataMap.forEach((key, value) ->
+                    storedMap.put(key, LocalMapValue.wrap(value, expiryFunction.applyAsInt(key))));
+            this.localMap.putAll(storedMap);
+            return;
+        }
+        RBatch batch = this.redissonClient.createBatch(BatchOptions.defaults().skipResult());
+        dataMap.forEach((key, value) -> {
+            RBucketAsync<String> bucket = batch.getBucket(key, this.stringCodec);
+            int expiry = expiryFunction.applyAsInt(key);
+            if (expiry > 0) {
+                bucket.setAsync(value, expiry, TimeUnit.SECONDS);
+            } else {
+                bucket.setAsync(value);
+            }
+        });
+        batch.execute();
     }
 
     /*
@@ -69,6 +166,59 @@ public final class RedissonProviderImpl extends AbstractProvider {
         this.set(key, value, expire);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#tryAdd(String, String, int)
+     */
+    @Override
+    public boolean tryAdd(final String key, final String value, final int expire) {
+        if (this.localMap != null) {
+            String storedValue = LocalMapValue.wrap(value, this.expiryTime(expire));
+            if (this.localMap.fastPutIfAbsent(key, storedValue)) {
+                return Boolean.TRUE;
+            }
+            //  Expired entry which not swept yet was replaced only if not modified by others
+            String currentValue = this.localMap.get(key);
+            return currentValue != null && LocalMapValue.expired(currentValue)
+                    && this.localMap.replace(key, currentValue, storedValue);
+        }
+        RBucket<String> bucket = this.redissonClient.getBucket(key, this.stringCodec);
+        int expiry = this.expiryTime(expire);
+        return (expiry > 0) ? bucket.setIfAbsent(value, Duration.ofSeconds(expiry)) : bucket.setIfAbsent(value);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#deleteIfEquals(String, String)
+     */
+    @Override
+    public boolean deleteIfEquals(final String key, final String value) {
+        if (this.localMap != null) {
+            //  Entry was removed only if not modified by others
+            String storedValue = this.localMap.get(key);
+            return storedValue != null && value.equals(LocalMapValue.unwrap(storedValue))
+                    && this.localMap.remove(key, storedValue);
+        }
+        //  Null update value deletes the bucket if current value equals to the expected value
+        return this.redissonClient.<String>getBucket(key, this.stringCodec).compareAndSet(value, null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#ttl(String)
+     */
+    @Override
+    public long ttl(final String key) {
+        if (this.localMap != null) {
+            long ttl = LocalMapValue.remainTimeToLive(this.localMap.get(key));
+            if (ttl != -2L) {
+                return ttl;
+            }
+            //  Binary values were stored in buckets in local cached map mode
+        }
+        return this.redissonClient.getBucket(key, this.stringCodec).remainTimeToLive();
+    }
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#replace(String, String, int)
@@ -78,14 +228,22 @@ public final class RedissonProviderImpl extends AbstractProvider {
         this.set(key, value, expire);
     }
 
-    /*
-     * (non-Javadoc)
-     * @see org.nervousync.cache.provider.Provider#touch(String...)
+    /**
+     * <h3 class="en-US">Execute touch operate which cache key was given</h3>
+     * <span class="en-US">
+     *     Entries of local cached map not have access time, so only binary values stored in buckets were touched
+     *     in local cached map mode.
+     * </span>
+     * <h3 class="zh-CN">修改指定缓存键值的最后访问时间</h3>
+     * <span class="zh-CN">本地缓存映射表的条目没有访问时间，因此在本地缓存映射表模式下仅修改存储在桶中的二进制数据</span>
+     *
+     * @param keys <span class="en-US">Cache keys array strings</span>
+     *             <span class="zh-CN">缓存键值数组</span>
      */
     @Override
     public void touch(final String... keys) {
-        Arrays.asList(keys)
-                .forEach(key -> this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING)).touch());
+        //  Keys were grouped by slot in cluster mode, one TOUCH command was sent for each group
+        this.redisKeys.touch(keys);
     }
 
     /*
@@ -94,7 +252,11 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     @Override
     public void delete(final String key) {
-        this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING)).delete();
+        if (this.localMap != null) {
+            this.localMap.fastRemove(key);
+        }
+        //  Binary values were stored in buckets in local cached map mode too
+        this.redisKeys.delete(key);
     }
 
     /*
@@ -103,7 +265,54 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     @Override
     public String get(final String key) {
-        return (String) this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING)).get();
+        if (this.localMap != null) {
+            return this.mapValue(key, this.localMap.get(key));
+        }
+        return (String) this.redissonClient.getBucket(key, this.stringCodec).get();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#setBytes(String, byte[], int)
+     */
+    @Override
+    public void setBytes(final String key, final byte[] value, final int expire) {
+        RBucket<byte[]> bucket = this.redissonClient.getBucket(key, this.binaryCodec);
+        int expiry = this.expiryTime(expire);
+        if (expiry > 0) {
+            bucket.set(value, Duration.ofSeconds(expiry));
+        } else {
+            bucket.set(value);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#getBytes(String)
+     */
+    @Override
+    public byte[] getBytes(final String key) {
+        return this.redissonClient.<byte[]>getBucket(key, this.binaryCodec).get();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAll(Collection)
+     */
+    @Override
+    public Map<String, String> getAll(final Collection<String> keys) {
+        if (this.localMap != null) {
+            return this.mapValues(this.localMap.getAll(new HashSet<>(keys)));
+        }
+        Map<String, String> resultMap = new HashMap<>(keys.size());
+        this.stringBuckets
+                .get(keys.toArray(new String[0]))
+                .forEach((key, value) -> {
+                    if (value != null) {
+                        resultMap.put(key, value.toString());
+                    }
+                });
+        return resultMap;
     }
 
     /*
@@ -112,6 +321,9 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     @Override
     public long incr(final String key, final long step) {
+        if (this.localMap != null) {
+            return this.mapCounter(key, step);
+        }
         return this.redissonClient.getAtomicLong(key).addAndGet(step);
     }
 
@@ -121,15 +333,250 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     @Override
     public long decr(final String key, final long step) {
+        if (this.localMap != null) {
+            return this.mapCounter(key, step * -1L);
+        }
         return this.redissonClient.getAtomicLong(key).addAndGet(step * -1L);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#batch(List)
+     */
+    @Override
+    public List<Object> batch(final List<BatchOperation> operations) {
+        if (this.localMap != null) {
+            //  Local entries must be synchronized by each operation, so operations were not sent in one batch
+            return super.batch(operations);
+        }
+        RBatch batch = this.redissonClient.createBatch(BatchOptions.defaults());
+        List<RFuture<?>> futureList = new ArrayList<>(operations.size());
+        for (BatchOperation operation : operations) {
+            RBucketAsync<String> bucket = batch.getBucket(operation.getKey(), this.stringCodec);
+            int expiry = this.expiryTime(operation.getExpire());
+            switch (operation.getOperationType()) {
+                case Set:
+                    futureList.add((expiry > 0)
+                            ? bucket.setAsync(operation.getValue(), expiry, TimeUnit.SECONDS)
+                            : bucket.setAsync(operation.getValue()));
+                    break;
+                //  Add and replace were executed conditionally as the other pipelined providers,
+                //  while synchronous add and replace write the value as set
+                case Add:
+                    futureList.add((expiry > 0)
+                            ? bucket.setIfAbsentAsync(operation.getValue(), Duration.ofSeconds(expiry))
+                            : bucket.setIfAbsentAsync(operation.getValue()));
+                    break;
+                case Replace:
+                    futureList.add((expiry > 0)
+                            ? bucket.setIfExistsAsync(operation.getValue(), expiry, TimeUnit.SECONDS)
+                            : bucket.setIfExistsAsync(operation.getValue()));
+                    break;
+                case Expire:
+                    futureList.add(bucket.expireAsync(Duration.ofSeconds(expiry)));
+                    break;
+                case Delete:
+                    futureList.add(bucket.deleteAsync());
+                    break;
+                case Get:
+                    futureList.add(bucket.getAsync());
+                    break;
+                case Incr:
+                    futureList.add(batch.getAtomicLong(operation.getKey()).addAndGetAsync(operation.getStep()));
+                    break;
+                case Decr:
+                    futureList.add(batch.getAtomicLong(operation.getKey()).addAndGetAsync(operation.getStep() * -1L));
+                    break;
+            }
+        }
+        //  All commands were sent in one round trip, futures were completed when the batch was executed
+        batch.execute();
+        List<Object> resultList = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            Object result = futureList.get(i).toCompletableFuture().join();
+            switch (operations.get(i).getOperationType()) {
+                case Get:
+                case Incr:
+                case Decr:
+                    resultList.add(result);
+                    break;
+                default:
+                    resultList.add(null);
+                    break;
+            }
+        }
+        return resultList;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#setAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> setAsync(final String key, final String value, final int expire) {
+        if (this.localMap != null) {
+            return toVoid(this.localMap.fastPutAsync(key, LocalMapValue.wrap(value, this.expiryTime(expire))));
+        }
+        RBucket<String> bucket = this.redissonClient.getBucket(key, this.stringCodec);
+        int expiry = this.expiryTime(expire);
+        if (expiry > 0) {
+            return bucket.setAsync(value, expiry, TimeUnit.SECONDS).toCompletableFuture();
+        }
+        return bucket.setAsync(value).toCompletableFuture();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#addAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> addAsync(final String key, final String value, final int expire) {
+        return this.setAsync(key, value, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#replaceAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> replaceAsync(final String key, final String value, final int expire) {
+        return this.setAsync(key, value, expire);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#expireAsync(String, int)
+     */
+    @Override
+    public CompletableFuture<Void> expireAsync(final String key, final int expire) {
+        if (this.localMap != null) {
+            return super.expireAsync(key, expire);
+        }
+        return toVoid(this.redissonClient.getBucket(key, this.stringCodec)
+                .expireAsync(Duration.ofMillis(this.expiryTime(expire) * 1000L)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#touchAsync(String...)
+     */
+    @Override
+    public CompletableFuture<Void> touchAsync(final String... keys) {
+        return toVoid(this.redisKeys.touchAsync(keys));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#deleteAsync(String)
+     */
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String key) {
+        if (this.localMap != null) {
+            return CompletableFuture.allOf(this.localMap.fastRemoveAsync(key).toCompletableFuture(),
+                    this.redisKeys.deleteAsync(key).toCompletableFuture());
+        }
+        return toVoid(this.redisKeys.deleteAsync(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAsync(String)
+     */
+    @Override
+    public CompletableFuture<String> getAsync(final String key) {
+        if (this.localMap != null) {
+            return this.localMap.getAsync(key)
+                    .toCompletableFuture()
+                    .thenApply(storedValue -> this.mapValue(key, storedValue));
+        }
+        return this.redissonClient.<String>getBucket(key, this.stringCodec)
+                .getAsync()
+                .toCompletableFuture();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAllAsync(Collection)
+     */
+    @Override
+    public CompletableFuture<Map<String, String>> getAllAsync(final Collection<String> keys) {
+        if (this.localMap != null) {
+            return this.localMap.getAllAsync(new HashSet<>(keys))
+                    .toCompletableFuture()
+                    .thenApply(this::mapValues);
+        }
+        return this.stringBuckets
+                .<String>getAsync(keys.toArray(new String[0]))
+                .toCompletableFuture()
+                .thenApply(HashMap::new);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#incrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> incrAsync(final String key, final long step) {
+        if (this.localMap != null) {
+            return super.incrAsync(key, step);
+        }
+        return this.redissonClient.getAtomicLong(key).addAndGetAsync(step).toCompletableFuture();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#decrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> decrAsync(final String key, final long step) {
+        if (this.localMap != null) {
+            return super.decrAsync(key, step);
+        }
+        return this.redissonClient.getAtomicLong(key).addAndGetAsync(step * -1L).toCompletableFuture();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getPublisher(String)
+     */
+    @Override
+    public Flow.Publisher<String> getPublisher(final String key) {
+        if (this.localMap != null) {
+            return super.getPublisher(key);
+        }
+        return JdkFlowAdapter.publisherToFlowPublisher(
+                this.reactiveClient.<String>getBucket(key, this.stringCodec).get());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAllPublisher(Collection)
+     */
+    @Override
+    public Flow.Publisher<Map.Entry<String, String>> getAllPublisher(final Collection<String> keys) {
+        if (this.localMap != null) {
+            return super.getAllPublisher(keys);
+        }
+        return JdkFlowAdapter.publisherToFlowPublisher(
+                Flux.fromIterable(keys)
+                        .buffer(CacheGlobals.DEFAULT_BATCH_SIZE)
+                        .concatMap(batchKeys -> this.reactiveBuckets.<String>get(batchKeys.toArray(new String[0])))
+                        .flatMapIterable(Map::entrySet));
+    }
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#destroy()
      */
     @Override
     public void destroy() {
+        if (this.sweepExecutor != null) {
+            this.sweepExecutor.shutdownNow();
+        }
+        if (this.localMap != null) {
+            //  Listeners of synchronization messages were removed, entries in server were kept
+            this.localMap.destroy();
+        }
         if (!this.redissonClient.isShutdown() && !this.redissonClient.isShuttingDown()) {
             this.redissonClient.shutdown();
         }
@@ -141,7 +588,15 @@ public final class RedissonProviderImpl extends AbstractProvider {
      */
     @Override
     public void expire(final String key, final int expire) {
-        this.redissonClient.getBucket(key, new StringCodec(Globals.DEFAULT_ENCODING))
+        if (this.localMap != null) {
+            String storedValue = this.localMap.get(key);
+            if (storedValue != null && !LocalMapValue.expired(storedValue)) {
+                this.localMap.replace(key, storedValue, LocalMapValue.rewrap(storedValue, this.expiryTime(expire)));
+                return;
+            }
+            //  Binary values were stored in buckets in local cached map mode
+        }
+        this.redissonClient.getBucket(key, this.stringCodec)
                 .expire(Duration.ofMillis(this.expiryTime(expire) * 1000L));
     }
 
@@ -165,7 +620,7 @@ public final class RedissonProviderImpl extends AbstractProvider {
             }
         }
         config.setTransportMode(TransportMode.NIO);
-        this.redissonClient = Redisson.create(config);
+        this.createClient(config);
     }
 
     /*
@@ -180,7 +635,7 @@ public final class RedissonProviderImpl extends AbstractProvider {
                 SentinelServersConfig sentinelConfig = config.useSentinelServers()
                         .setMasterName(masterName)
                         .setSentinelUsername(StringUtils.notBlank(userName) ? userName : null)
-                        .setSentinelPassword(StringUtils.notBlank(passWord) ? userName : null)
+                        .setSentinelPassword(StringUtils.notBlank(passWord) ? passWord : null)
                         .setConnectTimeout(this.getConnectTimeout() * 1000)
                         .setRetryAttempts(this.getRetryCount())
                         .setSlaveConnectionPoolSize(this.getClientPoolSize())
@@ -192,7 +647,7 @@ public final class RedissonProviderImpl extends AbstractProvider {
             case Master_Slave:
                 MasterSlaveServersConfig masterSlaveConfig = config.useMasterSlaveServers()
                         .setUsername(StringUtils.notBlank(userName) ? userName : null)
-                        .setPassword(StringUtils.notBlank(passWord) ? userName : null)
+                        .setPassword(StringUtils.notBlank(passWord) ? passWord : null)
                         .setConnectTimeout(this.getConnectTimeout() * 1000)
                         .setRetryAttempts(this.getRetryCount())
                         .setSlaveConnectionPoolSize(this.getClientPoolSize())
@@ -211,7 +666,7 @@ public final class RedissonProviderImpl extends AbstractProvider {
             default:
                 ClusterServersConfig clusterConfig = config.useClusterServers()
                         .setUsername(StringUtils.notBlank(userName) ? userName : null)
-                        .setPassword(StringUtils.notBlank(passWord) ? userName : null)
+                        .setPassword(StringUtils.notBlank(passWord) ? passWord : null)
                         .setConnectTimeout(this.getConnectTimeout() * 1000)
                         .setRetryAttempts(this.getRetryCount())
                         .setSlaveConnectionPoolSize(this.getClientPoolSize())
@@ -222,7 +677,155 @@ public final class RedissonProviderImpl extends AbstractProvider {
                 break;
         }
         config.setTransportMode(TransportMode.NIO);
+        this.createClient(config);
+    }
+
+    /**
+     * <h3 class="en-US">Create client and shared handles</h3>
+     * <span class="en-US">Codec and handles which not bind to a cache key were created once and reused by all operations</span>
+     * <h3 class="zh-CN">创建客户端和共享句柄</h3>
+     * <span class="zh-CN">编解码器和未绑定缓存键值的句柄仅创建一次，由所有操作复用</span>
+     *
+     * @param config <span class="en-US">Redisson configure instance</span>
+     *               <span class="zh-CN">Redisson配置实例</span>
+     */
+    private void createClient(final Config config) {
         this.redissonClient = Redisson.create(config);
+        this.reactiveClient = this.redissonClient.reactive();
+        this.redisKeys = this.redissonClient.getKeys();
+        this.stringBuckets = this.redissonClient.getBuckets(this.stringCodec);
+        this.reactiveBuckets = this.reactiveClient.getBuckets(this.stringCodec);
+        if (StringUtils.notBlank(this.getLocalMapName())) {
+            this.localCachedMap();
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Create local cached map</h3>
+     * <span class="en-US">
+     *     Entries of map not support time-to-live, so each value carries its expiry deadline.
+     *     Expired entries were removed when read, and swept in background by the eviction interval.
+     * </span>
+     * <h3 class="zh-CN">创建本地缓存映射表</h3>
+     * <span class="zh-CN">映射表的条目不支持过期时间，因此每个数据携带其过期时间。过期条目在读取时移除，并按照淘汰间隔在后台清理。</span>
+     */
+    private void localCachedMap() {
+        LocalCachedMapOptions<String, String> mapOptions = LocalCachedMapOptions.<String, String>defaults()
+                .cacheSize(this.getLocalMapSize())
+                .evictionPolicy(LocalCachedMapOptions.EvictionPolicy.valueOf(this.getLocalMapEviction()))
+                .reconnectionStrategy(LocalCachedMapOptions.ReconnectionStrategy.valueOf(this.getLocalMapReconnection()))
+                .syncStrategy(LocalCachedMapOptions.SyncStrategy.valueOf(this.getLocalMapSync()));
+        this.localMap = this.redissonClient.getLocalCachedMap(this.getLocalMapName(), this.stringCodec, mapOptions);
+        if (this.getEvictionInterval() > 0) {
+            this.sweepExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "RedissonProvider-Sweep-" + this.getLocalMapName());
+                thread.setDaemon(Boolean.TRUE);
+                return thread;
+            });
+            this.sweepExecutor.scheduleWithFixedDelay(this::sweep,
+                    this.getEvictionInterval(), this.getEvictionInterval(), TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Remove expired entries of local cached map</h3>
+     * <span class="en-US">Entries were scanned in batches, and removed only if not modified by others</span>
+     * <h3 class="zh-CN">移除本地缓存映射表的过期条目</h3>
+     * <span class="zh-CN">分批扫描条目，仅当未被其他客户端修改时移除</span>
+     */
+    private void sweep() {
+        try {
+            this.localMap.entrySet(CacheGlobals.DEFAULT_BATCH_SIZE).forEach(entry -> {
+                if (LocalMapValue.expired(entry.getValue())) {
+                    this.localMap.remove(entry.getKey(), entry.getValue());
+                }
+            });
+        } catch (RuntimeException e) {
+            this.logger.warn("Sweep_Expired_Redisson_Cache_Warn", this.getLocalMapName());
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("Utils", "Stack_Message_Error", e);
+            }
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve cache value from stored value of local cached map</h3>
+     * <span class="en-US">Expired entry was removed asynchronously only if not modified by others</span>
+     * <h3 class="zh-CN">从本地缓存映射表的存储数据中读取缓存数据</h3>
+     * <span class="zh-CN">过期条目仅当未被其他客户端修改时异步移除</span>
+     *
+     * @param key         <span class="en-US">Cache key</span>
+     *                    <span class="zh-CN">缓存键值</span>
+     * @param storedValue <span class="en-US">Stored value</span>
+     *                    <span class="zh-CN">存储的数据</span>
+     *
+     * @return <span class="en-US">Cache value or null if not exists or expired</span>
+     * <span class="zh-CN">缓存数据，不存在或已过期时返回null</span>
+     */
+    private String mapValue(final String key, final String storedValue) {
+        String value = LocalMapValue.unwrap(storedValue);
+        if (value == null && storedValue != null) {
+            this.localMap.removeAsync(key, storedValue);
+        }
+        return value;
+    }
+
+    private Map<String, String> mapValues(final Map<String, String> storedMap) {
+        Map<String, String> resultMap = new HashMap<>(storedMap.size());
+        storedMap.forEach((key, storedValue) -> {
+            String value = this.mapValue(key, storedValue);
+            if (value != null) {
+                resultMap.put(key, value);
+            }
+        });
+        return resultMap;
+    }
+
+    /**
+     * <h3 class="en-US">Add step to counter in local cached map</h3>
+     * <span class="en-US">
+     *     Entry was replaced only if not modified by others, retry until success or connect timeout.
+     *     Expiry deadline of entry was kept.
+     * </span>
+     * <h3 class="zh-CN">在本地缓存映射表中增加计数器的值</h3>
+     * <span class="zh-CN">仅当条目未被其他客户端修改时替换，重试直至成功或连接超时。条目的过期时间保持不变。</span>
+     *
+     * @param key  <span class="en-US">Cache key</span>
+     *             <span class="zh-CN">缓存键值</span>
+     * @param step <span class="en-US">Step value, negative for decrease</span>
+     *             <span class="zh-CN">步进值，减少时为负数</span>
+     *
+     * @return <span class="en-US">Operate result</span>
+     * <span class="zh-CN">操作结果</span>
+     * @throws IllegalStateException <span class="en-US">If counter was not updated until connect timeout</span>
+     *                               <span class="zh-CN">如果直至连接超时计数器仍未更新</span>
+     */
+    private long mapCounter(final String key, final long step) {
+        long endTime = System.currentTimeMillis() + Math.max(this.getConnectTimeout(), 1) * 1000L;
+        do {
+            String storedValue = this.localMap.get(key);
+            String currentValue = LocalMapValue.unwrap(storedValue);
+            long result = ((currentValue == null) ? 0L : Long.parseLong(currentValue)) + step;
+            boolean updated;
+            if (storedValue == null) {
+                updated = this.localMap.fastPutIfAbsent(key, LocalMapValue.wrap(String.valueOf(result), 0));
+            } else if (currentValue == null) {
+                updated = this.localMap.replace(key, storedValue, LocalMapValue.wrap(String.valueOf(result), 0));
+            } else {
+                updated = this.localMap.replace(key, storedValue, LocalMapValue.update(storedValue, String.valueOf(result)));
+            }
+            if (updated) {
+                return result;
+            }
+            //  Local entry was stale, wait for the synchronization message
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+        } while (System.currentTimeMillis() < endTime);
+        //  Result of the increment is unknown to the caller, a sentinel value could be taken as counter value
+        throw new IllegalStateException("Update counter of key: " + key + " in local cached map conflicted until timeout");
+    }
+
+    private static CompletableFuture<Void> toVoid(final CompletionStage<?> completionStage) {
+        return completionStage.toCompletableFuture().thenApply(result -> null);
     }
 
     private String serverAddress(final String serverAddress, final int serverPort) {
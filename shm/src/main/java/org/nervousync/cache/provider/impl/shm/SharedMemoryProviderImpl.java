@@ -0,0 +1,453 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.shm;
+
+import org.nervousync.annotations.provider.Provider;
+import org.nervousync.cache.config.CacheConfig.ServerConfig;
+import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.provider.impl.AbstractProvider;
+import org.nervousync.commons.Globals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * <h2 class="en-US">Cache provider shared by processes of the same host using memory-mapped file</h2>
+ * <span class="en-US">
+ *     The server address of configure was the path of store file, default file was created under /dev/shm or
+ *     the temporary directory if no server was configured. Data in the file survives the restart of processes.
+ *     Each entry was stored in a slot of configured size (512 bytes by default), key and value larger than the slot
+ *     were rejected. Existing store file keeps the geometry which it was created with.
+ *     Asynchronous operations were completed by the caller thread because no network round trip was needed.
+ * </span>
+ * <h2 class="zh-CN">使用内存映射文件由同一主机的多个进程共享的缓存适配器</h2>
+ * <span class="zh-CN">
+ *     配置的服务器地址为存储文件的路径，未配置服务器时在/dev/shm或临时目录下创建默认文件。文件中的数据在进程重启后仍然保留。
+ *     每个条目存储在配置大小（默认512字节）的槽位中，超过槽位大小的键值与数据将被拒绝。已存在的存储文件保持创建时的结构。由于不需要网络往返，异步操作由调用线程完成。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 15, 2024 15:47:09 $
+ */
+@Provider(name = "SharedMemoryProvider", titleKey = "shm.cache.provider.name")
+public final class SharedMemoryProviderImpl extends AbstractProvider {
+
+    /**
+     * <span class="en-US">File name of default store file</span>
+     * <span class="zh-CN">默认存储文件的文件名</span>
+     */
+    private static final String DEFAULT_FILE_NAME = "nervousync-cache";
+
+    /**
+     * <span class="en-US">Shared memory store instance</span>
+     * <span class="zh-CN">共享内存存储实例</span>
+     */
+    private SharedMemoryStore memoryStore = null;
+
+    /**
+     * <h3 class="en-US">Constructor for shared memory cache provider</h3>
+     * <h3 class="zh-CN">共享内存缓存适配器的构造方法</h3>
+     */
+    public SharedMemoryProviderImpl() {
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#defaultPort()
+     */
+    @Override
+    public int defaultPort() {
+        return Globals.DEFAULT_VALUE_INT;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#embeddedMode()
+     */
+    @Override
+    protected void embeddedMode() throws CacheException {
+        Path sharedPath = Paths.get("/dev/shm");
+        if (!Files.isDirectory(sharedPath)) {
+            sharedPath = Paths.get(System.getProperty("java.io.tmpdir"));
+        }
+        this.openStore(sharedPath.resolve(DEFAULT_FILE_NAME));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#singletonMode(ServerConfig, String, String)
+     */
+    @Override
+    protected void singletonMode(final ServerConfig serverConfig, final String userName, final String passWord)
+            throws CacheException {
+        this.openStore(Paths.get(serverConfig.getServerAddress()));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#clusterMode(List, String, String, String)
+     */
+    @Override
+    protected void clusterMode(final List<ServerConfig> serverConfigList, final String masterName,
+                               final String userName, final String passWord) throws CacheException {
+        this.logger.warn("Cluster_Not_Supported_Shared_Memory_Cache_Warn", serverConfigList.get(0).getServerAddress());
+        this.singletonMode(serverConfigList.get(0), userName, passWord);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#set(String, String, int)
+     */
+    @Override
+    public void set(final String key, final String value, final int expire) {
+        this.write(key, value.getBytes(StandardCharsets.UTF_8), super.expiryTime(expire), null, "set");
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#processAll(Map, ToIntFunction)
+     */
+    @Override
+    protected void processAll(final Map<String, String> dataMap, final ToIntFunction<String> expiryFunction) {
+        dataMap.forEach((key, value) -> this.write(key, value.getBytes(StandardCharsets.UTF_8), expiryFunction.applyAsInt(key), null, "setAll"));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#add(String, String, int)
+     */
+    @Override
+    public void add(final String key, final String value, final int expire) {
+        this.write(key, value.getBytes(StandardCharsets.UTF_8), super.expiryTime(expire), Boolean.TRUE, "add");
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#tryAdd(String, String, int)
+     */
+    @Override
+    public boolean tryAdd(final String key, final String value, final int expire) {
+        return this.write(key, value.getBytes(StandardCharsets.UTF_8), super.expiryTime(expire), Boolean.TRUE, "tryAdd");
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#deleteIfEquals(String, String)
+     */
+    @Override
+    public boolean deleteIfEquals(final String key, final String value) {
+        return this.memoryStore.deleteIfEquals(key, value.getBytes(StandardCharsets.UTF_8), System.currentTimeMillis());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#ttl(String)
+     */
+    @Override
+    public long ttl(final String key) {
+        return this.memoryStore.ttl(key, System.currentTimeMillis());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#replace(String, String, int)
+     */
+    @Override
+    public void replace(final String key, final String value, final int expire) {
+        this.write(key, value.getBytes(StandardCharsets.UTF_8), super.expiryTime(expire), Boolean.FALSE, "replace");
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#expire(String, int)
+     */
+    @Override
+    public void expire(final String key, final int expire) {
+        long currentTime = System.currentTimeMillis();
+        this.memoryStore.expire(key, this.expireAt(super.expiryTime(expire), currentTime), currentTime);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#touch(String...)
+     */
+    @Override
+    public void touch(final String... keys) {
+        //  Same as memcached, touch resets the expire time of cache keys to default expire time
+        long currentTime = System.currentTimeMillis();
+        long expireAt = this.expireAt(super.expiryTime(Globals.DEFAULT_VALUE_INT), currentTime);
+        for (String key : keys) {
+            this.memoryStore.expire(key, expireAt, currentTime);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#delete(String)
+     */
+    @Override
+    public void delete(final String key) {
+        this.memoryStore.delete(key);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#get(String)
+     */
+    @Override
+    public String get(final String key) {
+        byte[] value = this.memoryStore.get(key, System.currentTimeMillis());
+        return (value == null) ? null : new String(value, StandardCharsets.UTF_8);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#setBytes(String, byte[], int)
+     */
+    @Override
+    public void setBytes(final String key, final byte[] value, final int expire) {
+        this.write(key, value, super.expiryTime(expire), null, "setBytes");
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#getBytes(String)
+     */
+    @Override
+    public byte[] getBytes(final String key) {
+        return this.memoryStore.get(key, System.currentTimeMillis());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#getAll(Collection)
+     */
+    @Override
+    public Map<String, String> getAll(final Collection<String> keys) {
+        long currentTime = System.currentTimeMillis();
+        Map<String, String> resultMap = new HashMap<>(keys.size());
+        for (String key : keys) {
+            byte[] value = this.memoryStore.get(key, currentTime);
+            if (value != null) {
+                resultMap.put(key, new String(value, StandardCharsets.UTF_8));
+            }
+        }
+        return resultMap;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#incr(String, long)
+     */
+    @Override
+    public long incr(final String key, final long step) {
+        try {
+            return this.memoryStore.increment(key, step, System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            this.logger.error("Data_Operate_Cache_Error", "incr");
+            this.printStackMessage(e);
+            return Globals.DEFAULT_VALUE_LONG;
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#decr(String, long)
+     */
+    @Override
+    public long decr(final String key, final long step) {
+        return this.incr(key, -step);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#setAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> setAsync(final String key, final String value, final int expire) {
+        this.set(key, value, expire);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#addAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> addAsync(final String key, final String value, final int expire) {
+        this.add(key, value, expire);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#replaceAsync(String, String, int)
+     */
+    @Override
+    public CompletableFuture<Void> replaceAsync(final String key, final String value, final int expire) {
+        this.replace(key, value, expire);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#expireAsync(String, int)
+     */
+    @Override
+    public CompletableFuture<Void> expireAsync(final String key, final int expire) {
+        this.expire(key, expire);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#touchAsync(String...)
+     */
+    @Override
+    public CompletableFuture<Void> touchAsync(final String... keys) {
+        this.touch(keys);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#deleteAsync(String)
+     */
+    @Override
+    public CompletableFuture<Void> deleteAsync(final String key) {
+        this.delete(key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAsync(String)
+     */
+    @Override
+    public CompletableFuture<String> getAsync(final String key) {
+        return CompletableFuture.completedFuture(this.get(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAllAsync(Collection)
+     */
+    @Override
+    public CompletableFuture<Map<String, String>> getAllAsync(final Collection<String> keys) {
+        return CompletableFuture.completedFuture(this.getAll(keys));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#incrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> incrAsync(final String key, final long step) {
+        return CompletableFuture.completedFuture(this.incr(key, step));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#decrAsync(String, long)
+     */
+    @Override
+    public CompletableFuture<Long> decrAsync(final String key, final long step) {
+        return CompletableFuture.completedFuture(this.decr(key, step));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#destroy()
+     */
+    @Override
+    public void destroy() {
+        //  Mapped buffer was released by garbage collector, data remains in the file
+        this.memoryStore = null;
+    }
+
+    private void openStore(final Path filePath) throws CacheException {
+        try {
+            this.memoryStore = SharedMemoryStore.open(filePath, this.getStoreSlotCount(), this.getStoreSlotSize());
+        } catch (IOException | RuntimeException e) {
+            throw new CacheException(0x000C00000007L, e, filePath);
+        }
+        if (this.memoryStore.slotCount() < this.getStoreSlotCount() || this.memoryStore.slotSize() < this.getStoreSlotSize()) {
+            this.logger.warn("Geometry_Mismatch_Shared_Memory_Cache_Warn", filePath,
+                    this.memoryStore.slotCount(), this.memoryStore.slotSize());
+        }
+        if (!this.memoryStore.recoverable()) {
+            this.logger.warn("Lock_Recovery_Disabled_Shared_Memory_Cache_Warn", filePath);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Write key-value to store and log the failed operation</h3>
+     * <h3 class="zh-CN">将缓存信息写入存储并记录失败的操作</h3>
+     *
+     * @param key     <span class="en-US">Cache key</span>
+     *                <span class="zh-CN">缓存键值</span>
+     * @param value   <span class="en-US">Binary cache value</span>
+     *                <span class="zh-CN">二进制缓存数据</span>
+     * @param expiry  <span class="en-US">Resolved expire time, less than or equal to 0 means never expire</span>
+     *                <span class="zh-CN">已处理的过期时间，小于等于0表示永不过期</span>
+     * @param absent  <span class="en-US">Write only if the key was absent, null for writing anyway, false for writing only if the key was present</span>
+     *                <span class="zh-CN">true表示仅当键值不存在时写入，null表示总是写入，false表示仅当键值存在时写入</span>
+     * @param operate <span class="en-US">Operate name</span>
+     *                <span class="zh-CN">操作名称</span>
+     * @return <span class="en-US">true if value was written</span>
+     * <span class="zh-CN">写入成功返回true</span>
+     */
+    private boolean write(final String key, final byte[] value, final int expiry, final Boolean absent,
+                          final String operate) {
+        long currentTime = System.currentTimeMillis();
+        try {
+            return this.memoryStore.put(key, value, this.expireAt(expiry, currentTime), currentTime, absent);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            this.logger.error("Data_Operate_Cache_Error", operate);
+            this.printStackMessage(e);
+            return Boolean.FALSE;
+        }
+    }
+
+    private void printStackMessage(final Exception e) {
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("Utils", "Stack_Message_Error", e);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Convert expire time in seconds to the time of expiration</h3>
+     * <h3 class="zh-CN">将以秒为单位的过期时间转换为过期的时间点</h3>
+     *
+     * @param expiry      <span class="en-US">Resolved expire time, less than or equal to 0 means never expire</span>
+     *                    <span class="zh-CN">已处理的过期时间，小于等于0表示永不过期</span>
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @return <span class="en-US">Time of expiration in milliseconds</span>
+     * <span class="zh-CN">以毫秒为单位的过期时间点</span>
+     */
+    private long expireAt(final int expiry, final long currentTime) {
+        return (expiry > 0) ? currentTime + TimeUnit.SECONDS.toMillis(expiry) : SharedMemoryStore.NEVER_EXPIRE;
+    }
+}
@@ -0,0 +1,662 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.provider.impl.shm;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h2 class="en-US">Hash table stored in memory-mapped file and shared by processes</h2>
+ * <span class="en-US">
+ *     The file contains a header and fixed size slots of a linear probing table. Each slot has two lock words updated
+ *     by compare-and-set: the bucket lock serializes writers of keys which home slot is this slot, the slot lock guards
+ *     the content. Every operation holds the bucket lock of the key and at most one slot lock at the same time.
+ *     Deleted and expired slots were marked as tombstone and reused. When tombstones exceed a quarter of the slots,
+ *     the table was rebuilt by the operation which found it, while holding all bucket locks, so misses never probe
+ *     through long runs of tombstones. Bucket locks were always acquired in slot order, so processes never deadlock.
+ *     The lock word holds the process id of owner, a lock held by a dead process was released by the waiter.
+ *     Process id is only meaningful in the PID namespace of the process, so the header records the PID namespace of
+ *     processes which opened the file. Once the file was opened from another namespace, such as containers sharing
+ *     /dev/shm, a live owner may look dead, so locks were never released by waiters and a file left locked by a crashed
+ *     process must be removed.
+ * </span>
+ * <h2 class="zh-CN">存储在内存映射文件中并由多个进程共享的散列表</h2>
+ * <span class="zh-CN">
+ *     文件包含文件头和线性探测表的固定大小槽位。每个槽位有两个通过CAS更新的锁字：桶锁串行化以此槽位为起始槽位的键值写入者，
+ *     槽位锁保护槽位内容。每个操作同一时间持有键值的桶锁和至多一个槽位锁。
+ *     删除和过期的槽位标记为墓碑并被重用。墓碑超过槽位数量的四分之一时，发现该情况的操作持有所有桶锁重建散列表，因此未命中时不会探测大量墓碑。
+ *     桶锁总是按槽位顺序获取，因此进程之间不会死锁。锁字保存持有者的进程ID，已终止进程持有的锁由等待者释放。
+ *     进程ID仅在进程所在的PID命名空间内有效，因此文件头记录打开文件的进程的PID命名空间。文件一旦被其他命名空间（例如共享/dev/shm的容器）打开，
+ *     存活的持有者可能被判断为已终止，因此等待者不再释放锁，被崩溃进程锁定的文件必须删除。
+ * </span>
+ *
+ * @author Steven Wee	<a href="mailto:wmkm0113@gmail.com">wmkm0113@gmail.com</a>
+ * @version $Revision: 1.0.0 $ $Date: Mar 15, 2024 11:26:52 $
+ */
+final class SharedMemoryStore {
+
+    /**
+     * <span class="en-US">Value of expire time means never expire</span>
+     * <span class="zh-CN">表示永不过期的过期时间值</span>
+     */
+    static final long NEVER_EXPIRE = 0L;
+
+    private static final long MAGIC = 0x4E53594353484D31L;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_VERSION = 8;
+    private static final int HEADER_SLOT_COUNT = 12;
+    private static final int HEADER_SLOT_SIZE = 16;
+    private static final int HEADER_TOMBSTONES = 20;
+    private static final int HEADER_NAMESPACE = 24;
+
+    private static final int BUCKET_LOCK = 0;
+    private static final int SLOT_LOCK = 4;
+    private static final int STATE = 8;
+    private static final int KEY_LENGTH = 12;
+    private static final int HASH = 16;
+    private static final int EXPIRE_AT = 24;
+    private static final int VALUE_LENGTH = 32;
+    private static final int DATA = 40;
+
+    private static final int EMPTY = 0;
+    private static final int USED = 1;
+    private static final int DELETED = 2;
+
+    private static final int SPIN_LIMIT = 1 << 10;
+    private static final int OWNER = (int) ProcessHandle.current().pid();
+    /**
+     * <span class="en-US">Header value of namespace means the file was opened from different PID namespaces</span>
+     * <span class="zh-CN">表示文件被不同PID命名空间打开的文件头命名空间值</span>
+     */
+    private static final long MIXED_NAMESPACE = -1L;
+    private static final long NAMESPACE = namespace();
+    private static final VarHandle INT_HANDLE =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final VarHandle LONG_HANDLE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    /**
+     * <span class="en-US">Mapped buffer in native byte order, same as the view of variable handles</span>
+     * <span class="zh-CN">使用本机字节序的映射缓冲区，与变量句柄的视图一致</span>
+     */
+    private final ByteBuffer buffer;
+    private final int slotCount;
+    private final int slotSize;
+    private final int mask;
+    /**
+     * <span class="en-US">Tombstone count which triggers rebuilding of the table</span>
+     * <span class="zh-CN">触发重建散列表的墓碑数量</span>
+     */
+    private final int compactThreshold;
+
+    private SharedMemoryStore(final MappedByteBuffer buffer, final int slotCount, final int slotSize) {
+        this.buffer = buffer.order(ByteOrder.nativeOrder());
+        this.slotCount = slotCount;
+        this.slotSize = slotSize;
+        this.mask = slotCount - 1;
+        this.compactThreshold = slotCount >> 2;
+    }
+
+    /**
+     * <h3 class="en-US">Open or create store file</h3>
+     * <span class="en-US">
+     *     Existing file keeps its slot count and slot size, file with invalid header was initialized again by given geometry.
+     *     Slot count was rounded up to power of two, slot size was rounded up to multiple of 8.
+     * </span>
+     * <h3 class="zh-CN">打开或创建存储文件</h3>
+     * <span class="zh-CN">
+     *     已存在的文件保持原有的槽位数量和槽位大小，文件头无效的文件按照给定的结构重新初始化。槽位数量向上取整为2的幂，槽位大小向上取整为8的倍数。
+     * </span>
+     *
+     * @param filePath  <span class="en-US">Store file path</span>
+     *                  <span class="zh-CN">存储文件路径</span>
+     * @param slotCount <span class="en-US">Slot count of new created file</span>
+     *                  <span class="zh-CN">新建文件的槽位数量</span>
+     * @param slotSize  <span class="en-US">Slot size of new created file. Unit: byte</span>
+     *                  <span class="zh-CN">新建文件的槽位大小。单位：字节</span>
+     * @return <span class="en-US">Store instance</span>
+     * <span class="zh-CN">存储实例</span>
+     *
+     * @throws IOException              <span class="en-US">If open or map file error</span>
+     *                                  <span class="zh-CN">打开或映射文件出错时抛出异常</span>
+     * @throws IllegalArgumentException <span class="en-US">If file size of given geometry exceeds 2GB</span>
+     *                                  <span class="zh-CN">给定结构的文件大小超过2GB时抛出异常</span>
+     */
+    static SharedMemoryStore open(final Path filePath, final int slotCount, final int slotSize) throws IOException {
+        int newCount = Integer.highestOneBit(Math.max(slotCount, 2) - 1) << 1;
+        int newSize = (Math.max(slotSize, DATA + Long.BYTES) + Long.BYTES - 1) & -Long.BYTES;
+        if (newCount <= 0 || HEADER_SIZE + (long) newCount * newSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Shared memory store can not larger than 2GB");
+        }
+        //  File lock only excludes other processes, providers of current process were synchronized by class
+        synchronized (SharedMemoryStore.class) {
+            try (FileChannel fileChannel = FileChannel.open(filePath,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = fileChannel.lock(0L, HEADER_SIZE, Boolean.FALSE)) {
+                int storeCount = newCount;
+                int storeSize = newSize;
+                boolean initialized = Boolean.FALSE;
+                if (fileChannel.size() >= HEADER_SIZE) {
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+                    fileChannel.read(header, 0L);
+                    int count = header.getInt(HEADER_SLOT_COUNT);
+                    int size = header.getInt(HEADER_SLOT_SIZE);
+                    if (header.getLong(0) == MAGIC && header.getInt(HEADER_VERSION) == VERSION
+                            && count > 0 && Integer.bitCount(count) == 1 && size > DATA && size % Long.BYTES == 0
+                            && fileChannel.size() == HEADER_SIZE + (long) count * size
+                            && fileChannel.size() <= Integer.MAX_VALUE) {
+                        storeCount = count;
+                        storeSize = size;
+                        initialized = Boolean.TRUE;
+                    }
+                }
+                long fileSize = HEADER_SIZE + (long) storeCount * storeSize;
+                if (!initialized) {
+                    //  Truncate and extend the file, all slots were filled by zero which means empty and unlocked
+                    fileChannel.truncate(0L);
+                    fileChannel.write(ByteBuffer.allocate(1), fileSize - 1L);
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+                    header.putInt(HEADER_VERSION, VERSION)
+                            .putInt(HEADER_SLOT_COUNT, storeCount)
+                            .putInt(HEADER_SLOT_SIZE, storeSize)
+                            .putLong(0, MAGIC);
+                    fileChannel.write(header, 0L);
+                }
+                //  Mapping remains valid after the channel was closed
+                MappedByteBuffer mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, 0L, fileSize);
+                SharedMemoryStore memoryStore = new SharedMemoryStore(mappedBuffer, storeCount, storeSize);
+                //  Header was updated while holding the file lock, so processes which opening the file were serialized
+                long namespace = (long) LONG_HANDLE.getVolatile(memoryStore.buffer, HEADER_NAMESPACE);
+                if (namespace == 0L) {
+                    LONG_HANDLE.setVolatile(memoryStore.buffer, HEADER_NAMESPACE, NAMESPACE);
+                } else if (namespace != NAMESPACE) {
+                    LONG_HANDLE.setVolatile(memoryStore.buffer, HEADER_NAMESPACE, MIXED_NAMESPACE);
+                }
+                return memoryStore;
+            }
+        }
+    }
+
+    int slotCount() {
+        return this.slotCount;
+    }
+
+    int slotSize() {
+        return this.slotSize;
+    }
+
+    /**
+     * <h3 class="en-US">Check locks held by dead processes can be released</h3>
+     * <span class="en-US">Process id of lock owner can be checked only if all processes opened the file in the same PID namespace</span>
+     * <h3 class="zh-CN">检查已终止进程持有的锁是否可以释放</h3>
+     * <span class="zh-CN">仅当所有进程在同一PID命名空间中打开文件时才能检查锁持有者的进程ID</span>
+     *
+     * @return <span class="en-US">Check result</span>
+     * <span class="zh-CN">检查结果</span>
+     */
+    boolean recoverable() {
+        return NAMESPACE != MIXED_NAMESPACE
+                && (long) LONG_HANDLE.getVolatile(this.buffer, HEADER_NAMESPACE) == NAMESPACE;
+    }
+
+    byte[] get(final String key, final long currentTime) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        return this.execute(keyBytes, hash(keyBytes), Boolean.FALSE, offset -> {
+            if (offset < 0 || expired(this.buffer.getLong(offset + EXPIRE_AT), currentTime)) {
+                return null;
+            }
+            return this.readValue(offset);
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Retrieve remaining time to live of given cache key</h3>
+     * <h3 class="zh-CN">读取给定缓存键值的剩余生存时间</h3>
+     *
+     * @param key         <span class="en-US">Cache key</span>
+     *                    <span class="zh-CN">缓存键值</span>
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @return <span class="en-US">Remaining time to live in milliseconds, -1 if never expire, -2 if not exists</span>
+     * <span class="zh-CN">以毫秒为单位的剩余生存时间，永不过期时返回-1，不存在时返回-2</span>
+     */
+    long ttl(final String key, final long currentTime) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+        return this.execute(keyBytes, hash, Boolean.FALSE, offset -> {
+            if (offset < 0) {
+                return -2L;
+            }
+            long expireAt = this.buffer.getLong(offset + EXPIRE_AT);
+            if (expired(expireAt, currentTime)) {
+                return -2L;
+            }
+            return (expireAt == NEVER_EXPIRE) ? -1L : expireAt - currentTime;
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Write value of given cache key</h3>
+     * <h3 class="zh-CN">写入给定缓存键值的数据</h3>
+     *
+     * @param key         <span class="en-US">Cache key</span>
+     *                    <span class="zh-CN">缓存键值</span>
+     * @param valueBytes  <span class="en-US">Binary cache value</span>
+     *                    <span class="zh-CN">二进制缓存数据</span>
+     * @param expireAt    <span class="en-US">Expire time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的过期时间</span>
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @param absent      <span class="en-US">Write only if the key was absent, null for writing anyway, false for writing only if the key was present</span>
+     *                    <span class="zh-CN">true表示仅当键值不存在时写入，null表示总是写入，false表示仅当键值存在时写入</span>
+     * @return <span class="en-US">true if value was written</span>
+     * <span class="zh-CN">写入成功返回true</span>
+     *
+     * @throws IllegalArgumentException <span class="en-US">If key and value were too large for slot</span>
+     *                                  <span class="zh-CN">键值与数据对于槽位过大时抛出异常</span>
+     * @throws IllegalStateException    <span class="en-US">If no slot was available</span>
+     *                                  <span class="zh-CN">没有可用槽位时抛出异常</span>
+     */
+    boolean put(final String key, final byte[] valueBytes, final long expireAt, final long currentTime,
+                final Boolean absent) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        if (DATA + keyBytes.length + valueBytes.length > this.slotSize) {
+            throw new IllegalArgumentException("Cache data too large for slot size " + this.slotSize);
+        }
+        long hash = hash(keyBytes);
+        boolean claim = !Boolean.FALSE.equals(absent);
+        return this.execute(keyBytes, hash, claim, offset -> {
+            boolean exists = offset >= 0 && this.buffer.getInt(offset + STATE) == USED
+                    && this.matches(offset, keyBytes, hash)
+                    && !expired(this.buffer.getLong(offset + EXPIRE_AT), currentTime);
+            if (offset < 0 || (absent != null && absent == exists)) {
+                return Boolean.FALSE;
+            }
+            this.write(offset, keyBytes, hash, valueBytes, expireAt);
+            return Boolean.TRUE;
+        });
+    }
+
+    boolean expire(final String key, final long expireAt, final long currentTime) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+        return this.execute(keyBytes, hash, Boolean.FALSE, offset -> {
+            if (offset < 0 || expired(this.buffer.getLong(offset + EXPIRE_AT), currentTime)) {
+                return Boolean.FALSE;
+            }
+            this.buffer.putLong(offset + EXPIRE_AT, expireAt);
+            return Boolean.TRUE;
+        });
+    }
+
+    void delete(final String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+        this.execute(keyBytes, hash, Boolean.FALSE, offset -> {
+            if (offset >= 0) {
+                this.remove(offset);
+            }
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Remove given cache key only if current value equals to the given value</h3>
+     * <h3 class="zh-CN">仅当当前数据等于给定数据时移除给定的缓存键值</h3>
+     *
+     * @param key         <span class="en-US">Cache key</span>
+     *                    <span class="zh-CN">缓存键值</span>
+     * @param valueBytes  <span class="en-US">Expected binary cache value</span>
+     *                    <span class="zh-CN">预期的二进制缓存数据</span>
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @return <span class="en-US">true if removed</span>
+     * <span class="zh-CN">移除成功返回true</span>
+     */
+    boolean deleteIfEquals(final String key, final byte[] valueBytes, final long currentTime) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+        return this.execute(keyBytes, hash, Boolean.FALSE, offset -> {
+            if (offset < 0 || expired(this.buffer.getLong(offset + EXPIRE_AT), currentTime)
+                    || !Arrays.equals(this.readValue(offset), valueBytes)) {
+                return Boolean.FALSE;
+            }
+            this.remove(offset);
+            return Boolean.TRUE;
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Add step to the number value of given cache key atomically</h3>
+     * <span class="en-US">Missing or expired key was initialized as 0 and never expire, existing key keeps its expire time</span>
+     * <h3 class="zh-CN">以原子操作为给定缓存键值的数值加上步进值</h3>
+     * <span class="zh-CN">不存在或已过期的键值初始化为0且永不过期，已存在的键值保持原有的过期时间</span>
+     *
+     * @param key         <span class="en-US">Cache key</span>
+     *                    <span class="zh-CN">缓存键值</span>
+     * @param step        <span class="en-US">Step value</span>
+     *                    <span class="zh-CN">步进值</span>
+     * @param currentTime <span class="en-US">Current time in milliseconds</span>
+     *                    <span class="zh-CN">以毫秒为单位的当前时间</span>
+     * @return <span class="en-US">Value after increment</span>
+     * <span class="zh-CN">增加后的数值</span>
+     *
+     * @throws NumberFormatException <span class="en-US">If current value was not a number</span>
+     *                               <span class="zh-CN">当前值不是数值时抛出异常</span>
+     * @throws IllegalStateException <span class="en-US">If no slot was available</span>
+     *                               <span class="zh-CN">没有可用槽位时抛出异常</span>
+     */
+    long increment(final String key, final long step, final long currentTime) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(keyBytes);
+        return this.execute(keyBytes, hash, Boolean.TRUE, offset -> {
+            long expireAt = NEVER_EXPIRE;
+            long result = step;
+            if (this.buffer.getInt(offset + STATE) == USED && this.matches(offset, keyBytes, hash)
+                    && !expired(this.buffer.getLong(offset + EXPIRE_AT), currentTime)) {
+                expireAt = this.buffer.getLong(offset + EXPIRE_AT);
+                result = Long.parseLong(new String(this.readValue(offset), StandardCharsets.UTF_8)) + step;
+            }
+            this.write(offset, keyBytes, hash,
+                    Long.toString(result).getBytes(StandardCharsets.UTF_8), expireAt);
+            return result;
+        });
+    }
+
+    /**
+     * <h3 class="en-US">Execute operation on the slot of given key while holding its bucket lock and slot lock</h3>
+     * <span class="en-US">
+     *     The operation receives the slot offset of the key, or the offset of a claimed free slot if the key was absent and
+     *     claim was requested, or -1 if the key was absent and no slot was claimed.
+     * </span>
+     * <h3 class="zh-CN">在持有给定键值的桶锁和槽位锁时对其槽位执行操作</h3>
+     * <span class="zh-CN">操作接收键值所在槽位的偏移量，如果键值不存在且要求占用，则接收占用的空闲槽位偏移量，键值不存在且未占用槽位时接收-1</span>
+     */
+    private <T> T execute(final byte[] keyBytes, final long hash, final boolean claim, final SlotOperation<T> operation) {
+        T result = this.probe(keyBytes, hash, claim, operation);
+        if ((int) INT_HANDLE.getVolatile(this.buffer, HEADER_TOMBSTONES) > this.compactThreshold) {
+            this.compact();
+        }
+        return result;
+    }
+
+    private <T> T probe(final byte[] keyBytes, final long hash, final boolean claim, final SlotOperation<T> operation) {
+        int home = (int) hash & this.mask;
+        int bucketLock = this.offset(home) + BUCKET_LOCK;
+        this.lock(bucketLock);
+        try {
+            while (true) {
+                int freeIndex = -1;
+                int index = home;
+                for (int i = 0; i < this.slotCount; i++) {
+                    int offset = this.offset(index);
+                    int state = (int) INT_HANDLE.getVolatile(this.buffer, offset + STATE);
+                    if (state == EMPTY) {
+                        if (freeIndex < 0) {
+                            freeIndex = index;
+                        }
+                        break;
+                    }
+                    if (state == USED) {
+                        this.lock(offset + SLOT_LOCK);
+                        if (this.matches(offset, keyBytes, hash)) {
+                            try {
+                                return operation.apply(offset);
+                            } finally {
+                                this.unlock(offset + SLOT_LOCK);
+                            }
+                        }
+                        if (this.buffer.getInt(offset + STATE) == USED
+                                && expired(this.buffer.getLong(offset + EXPIRE_AT), System.currentTimeMillis())) {
+                            //  Expired entry of other key was marked as tombstone, which can be reused and reclaimed
+                            this.remove(offset);
+                            if (freeIndex < 0) {
+                                freeIndex = index;
+                            }
+                        }
+                        this.unlock(offset + SLOT_LOCK);
+                    } else if (freeIndex < 0) {
+                        freeIndex = index;
+                    }
+                    index = (index + 1) & this.mask;
+                }
+                if (!claim) {
+                    return operation.apply(-1);
+                }
+                if (freeIndex < 0) {
+                    throw new IllegalStateException("No slot available in shared memory store");
+                }
+                int offset = this.offset(freeIndex);
+                this.lock(offset + SLOT_LOCK);
+                try {
+                    //  Slot may be taken by other writer after probing, probe again if it was not free
+                    int state = this.buffer.getInt(offset + STATE);
+                    if (state != USED
+                            || expired(this.buffer.getLong(offset + EXPIRE_AT), System.currentTimeMillis())) {
+                        T result = operation.apply(offset);
+                        if (state == DELETED && this.buffer.getInt(offset + STATE) == USED) {
+                            INT_HANDLE.getAndAdd(this.buffer, HEADER_TOMBSTONES, -1);
+                        }
+                        return result;
+                    }
+                } finally {
+                    this.unlock(offset + SLOT_LOCK);
+                }
+            }
+        } finally {
+            this.unlock(bucketLock);
+        }
+    }
+
+    /**
+     * <h3 class="en-US">Rebuild the table to reclaim tombstones and expired entries</h3>
+     * <span class="en-US">
+     *     All bucket locks were acquired in slot order, every operation holds a bucket lock before accessing any slot,
+     *     so no other thread or process can access the table while entries were moved.
+     * </span>
+     * <h3 class="zh-CN">重建散列表以回收墓碑和过期条目</h3>
+     * <span class="zh-CN">按槽位顺序获取所有桶锁，每个操作在访问任何槽位前都持有桶锁，因此移动条目时其他线程或进程无法访问散列表</span>
+     */
+    private void compact() {
+        for (int index = 0; index < this.slotCount; index++) {
+            this.lock(this.offset(index) + BUCKET_LOCK);
+        }
+        try {
+            //  Table may be rebuilt by others while waiting for the bucket locks
+            if ((int) INT_HANDLE.getVolatile(this.buffer, HEADER_TOMBSTONES) <= this.compactThreshold) {
+                return;
+            }
+            long currentTime = System.currentTimeMillis();
+            List<byte[]> entryList = new ArrayList<>();
+            ByteBuffer dataBuffer = this.buffer.duplicate();
+            for (int index = 0; index < this.slotCount; index++) {
+                int offset = this.offset(index);
+                if (this.buffer.getInt(offset + STATE) == USED
+                        && !expired(this.buffer.getLong(offset + EXPIRE_AT), currentTime)) {
+                    //  Lock words were not copied, bucket locks stay at their slots
+                    byte[] entry = new byte[DATA - STATE + this.buffer.getInt(offset + KEY_LENGTH)
+                            + this.buffer.getInt(offset + VALUE_LENGTH)];
+                    dataBuffer.position(offset + STATE);
+                    dataBuffer.get(entry);
+                    entryList.add(entry);
+                }
+                this.buffer.putInt(offset + STATE, EMPTY);
+            }
+            for (byte[] entry : entryList) {
+                long hash = ByteBuffer.wrap(entry).order(ByteOrder.nativeOrder()).getLong(HASH - STATE);
+                int index = (int) hash & this.mask;
+                while (this.buffer.getInt(this.offset(index) + STATE) != EMPTY) {
+                    index = (index + 1) & this.mask;
+                }
+                dataBuffer.position(this.offset(index) + STATE);
+                dataBuffer.put(entry);
+            }
+            INT_HANDLE.setVolatile(this.buffer, HEADER_TOMBSTONES, 0);
+        } finally {
+            for (int index = 0; index < this.slotCount; index++) {
+                this.unlock(this.offset(index) + BUCKET_LOCK);
+            }
+        }
+    }
+
+    private void remove(final int offset) {
+        INT_HANDLE.setRelease(this.buffer, offset + STATE, DELETED);
+        INT_HANDLE.getAndAdd(this.buffer, HEADER_TOMBSTONES, 1);
+    }
+
+    private void write(final int offset, final byte[] keyBytes, final long hash, final byte[] valueBytes,
+                       final long expireAt) {
+        this.buffer.putInt(offset + KEY_LENGTH, keyBytes.length);
+        this.buffer.putInt(offset + VALUE_LENGTH, valueBytes.length);
+        this.buffer.putLong(offset + EXPIRE_AT, expireAt);
+        ByteBuffer dataBuffer = this.buffer.duplicate();
+        dataBuffer.position(offset + DATA);
+        dataBuffer.put(keyBytes).put(valueBytes);
+        //  Writers of other buckets check state before locking the slot
+        LONG_HANDLE.setRelease(this.buffer, offset + HASH, hash);
+        INT_HANDLE.setRelease(this.buffer, offset + STATE, USED);
+    }
+
+    private byte[] readValue(final int offset) {
+        byte[] valueBytes = new byte[this.buffer.getInt(offset + VALUE_LENGTH)];
+        ByteBuffer dataBuffer = this.buffer.duplicate();
+        dataBuffer.position(offset + DATA + this.buffer.getInt(offset + KEY_LENGTH));
+        dataBuffer.get(valueBytes);
+        return valueBytes;
+    }
+
+    private boolean matches(final int offset, final byte[] keyBytes, final long hash) {
+        if (this.buffer.getInt(offset + STATE) != USED || this.buffer.getLong(offset + HASH) != hash
+                || this.buffer.getInt(offset + KEY_LENGTH) != keyBytes.length) {
+            return false;
+        }
+        int dataOffset = offset + DATA;
+        for (int i = 0; i < keyBytes.length; i++) {
+            if (this.buffer.get(dataOffset + i) != keyBytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int offset(final int index) {
+        return HEADER_SIZE + index * this.slotSize;
+    }
+
+    /**
+     * <h3 class="en-US">Acquire lock word, the lock held by a dead process was released if the file was recoverable</h3>
+     * <h3 class="zh-CN">获取锁字，如果文件可恢复，已终止进程持有的锁将被释放</h3>
+     *
+     * @param offset <span class="en-US">Offset of lock word</span>
+     *               <span class="zh-CN">锁字的偏移量</span>
+     */
+    private void lock(final int offset) {
+        int spins = 0;
+        while (!INT_HANDLE.compareAndSet(this.buffer, offset, 0, OWNER)) {
+            if (++spins < SPIN_LIMIT) {
+                Thread.onSpinWait();
+                continue;
+            }
+            spins = 0;
+            int owner = (int) INT_HANDLE.getVolatile(this.buffer, offset);
+            if (owner != 0 && owner != OWNER && this.recoverable()
+                    && !ProcessHandle.of(owner).map(ProcessHandle::isAlive).orElse(Boolean.FALSE)) {
+                INT_HANDLE.compareAndSet(this.buffer, offset, owner, 0);
+            } else {
+                Thread.yield();
+            }
+        }
+    }
+
+    private void unlock(final int offset) {
+        INT_HANDLE.setRelease(this.buffer, offset, 0);
+    }
+
+    /**
+     * <h3 class="en-US">Read PID namespace identifier of current process</h3>
+     * <span class="en-US">
+     *     Identifier is the inode of /proc/self/ns/pid. Platforms without PID namespace share one identifier,
+     *     and an unreadable namespace was treated as mixed, so locks were never released by waiters.
+     * </span>
+     * <h3 class="zh-CN">读取当前进程的PID命名空间标识</h3>
+     * <span class="zh-CN">标识为/proc/self/ns/pid的inode。不支持PID命名空间的平台使用同一标识，无法读取的命名空间视为混合，因此等待者不会释放锁。</span>
+     *
+     * @return <span class="en-US">Namespace identifier</span>
+     * <span class="zh-CN">命名空间标识</span>
+     */
+    private static long namespace() {
+        try {
+            //  Link target was formatted as pid:[inode]
+            String target = Files.readSymbolicLink(Paths.get("/proc/self/ns/pid")).toString();
+            return Long.parseLong(target.substring(target.indexOf('[') + 1, target.indexOf(']')));
+        } catch (IOException | RuntimeException e) {
+            try {
+                return Files.exists(Paths.get("/proc/self/ns")) ? MIXED_NAMESPACE : 1L;
+            } catch (SecurityException ignored) {
+                return MIXED_NAMESPACE;
+            }
+        }
+    }
+
+    private static boolean expired(final long expireAt, final long currentTime) {
+        return expireAt != NEVER_EXPIRE && expireAt <= currentTime;
+    }
+
+    /**
+     * <h3 class="en-US">Calculate 64 bits hash code of key bytes, the result was same in every process</h3>
+     * <h3 class="zh-CN">计算键值字节数组的64位散列值，结果在每个进程中相同</h3>
+     *
+     * @param keyBytes <span class="en-US">Key bytes</span>
+     *                 <span class="zh-CN">键值字节数组</span>
+     * @return <span class="en-US">Hash code</span>
+     * <span class="zh-CN">散列值</span>
+     */
+    private static long hash(final byte[] keyBytes) {
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : keyBytes) {
+            hash ^= b;
+            hash *= 0x100000001B3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    @FunctionalInterface
+    private interface SlotOperation<T> {
+
+        T apply(final int offset);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Nervousync Studio (NSYC) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.nervousync.cache.test.shm;
+
+import org.junit.jupiter.api.*;
+import org.nervousync.cache.config.CacheConfig;
+import org.nervousync.cache.exceptions.CacheException;
+import org.nervousync.cache.provider.impl.shm.SharedMemoryProviderImpl;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public final class SharedMemoryProviderTest {
+
+    private Path filePath;
+    private SharedMemoryProviderImpl cacheProvider;
+
+    @BeforeAll
+    public void initialize() throws IOException, CacheException {
+        this.filePath = Files.createTempFile("nervousync", ".shm");
+        this.cacheProvider = this.newProvider();
+    }
+
+    @AfterAll
+    public void destroy() throws IOException {
+        this.cacheProvider.terminate();
+        Files.deleteIfExists(this.filePath);
+    }
+
+    @Test
+    @Order(10)
+    public void test000ReadWrite() {
+        this.cacheProvider.set("test", "Test set", 60);
+        Assertions.assertEquals("Test set", this.cacheProvider.get("test"));
+        this.cacheProvider.add("test", "Test add", 60);
+        Assertions.assertEquals("Test set", this.cacheProvider.get("test"));
+        this.cacheProvider.replace("test", "Test replace", 60);
+        Assertions.assertEquals("Test replace", this.cacheProvider.get("test"));
+        this.cacheProvider.replace("notExists", "Test replace", 60);
+        Assertions.assertNull(this.cacheProvider.get("notExists"));
+        this.cacheProvider.setAll(Map.of("test", "Test setAll", "testAll", "Test setAll"), 60);
+        Assertions.assertEquals(Map.of("test", "Test setAll", "testAll", "Test setAll"),
+                this.cacheProvider.getAll(List.of("test", "testAll", "notExists")));
+        this.cacheProvider.delete("test");
+        Assertions.assertNull(this.cacheProvider.get("test"));
+        Assertions.assertEquals(-2L, this.cacheProvider.ttl("test"));
+        this.cacheProvider.set("testLarge", "0123456789".repeat(100), 60);
+        Assertions.assertNull(this.cacheProvider.get("testLarge"));
+        this.cacheProvider.setBytes("testBytes", new byte[]{0x00, (byte) 0xFF, 0x7F}, 60);
+        Assertions.assertArrayEquals(new byte[]{0x00, (byte) 0xFF, 0x7F}, this.cacheProvider.getBytes("testBytes"));
+        Assertions.assertNull(this.cacheProvider.getBytes("notExists"));
+    }
+
+    @Test
+    @Order(20)
+    public void test010Counter() {
+        Assertions.assertEquals(10L, this.cacheProvider.incr("testNum", 10L));
+        Assertions.assertEquals(12L, this.cacheProvider.incr("testNum", 2L));
+        Assertions.assertEquals(9L, this.cacheProvider.decr("testNum", 3L));
+        Assertions.assertEquals(-1L, this.cacheProvider.ttl("testNum"));
+    }
+
+    @Test
+    @Order(30)
+    public void test020Expire() throws InterruptedException {
+        this.cacheProvider.set("testExpire", "Test expire", 1);
+        long ttl = this.cacheProvider.ttl("testExpire");
+        Assertions.assertTrue(ttl > 0L && ttl <= 1000L);
+        Thread.sleep(1100L);
+        Assertions.assertNull(this.cacheProvider.get("testExpire"));
+        Assertions.assertTrue(this.cacheProvider.tryAdd("testExpire", "Test add", 1));
+        Assertions.assertFalse(this.cacheProvider.deleteIfEquals("testExpire", "Other value"));
+        Assertions.assertTrue(this.cacheProvider.deleteIfEquals("testExpire", "Test add"));
+    }
+
+    @Test
+    @Order(40)
+    public void test030Shared() throws CacheException {
+        SharedMemoryProviderImpl sharedProvider = this.newProvider();
+        Assertions.assertEquals("Test setAll", sharedProvider.get("testAll"));
+        Assertions.assertEquals(10L, sharedProvider.incr("testNum", 1L));
+        Assertions.assertEquals("10", this.cacheProvider.get("testNum"));
+        sharedProvider.terminate();
+    }
+
+    @Test
+    @Order(50)
+    public void test040Reclaim() throws IOException, CacheException {
+        Path storePath = Files.createTempFile("nervousync", ".shm");
+        SharedMemoryProviderImpl smallProvider = this.newProvider(storePath, 16, 128);
+        try {
+            smallProvider.set("testLarge", "0123456789".repeat(10), 60);
+            Assertions.assertNull(smallProvider.get("testLarge"));
+            for (int i = 0; i < 1000; i++) {
+                smallProvider.set("testKey" + i, "Test value " + i, 60);
+                if (i >= 8) {
+                    smallProvider.delete("testKey" + (i - 8));
+                }
+            }
+            for (int i = 992; i < 1000; i++) {
+                Assertions.assertEquals("Test value " + i, smallProvider.get("testKey" + i));
+            }
+            Assertions.assertNull(smallProvider.get("testKey991"));
+            Assertions.assertEquals(64L + 16L * 128L, Files.size(storePath));
+        } finally {
+            smallProvider.terminate();
+            Files.deleteIfExists(storePath);
+        }
+    }
+
+    private SharedMemoryProviderImpl newProvider() throws CacheException {
+        return this.newProvider(this.filePath, 0, 0);
+    }
+
+    private SharedMemoryProviderImpl newProvider(final Path storePath, final int slotCount, final int slotSize)
+            throws CacheException {
+        CacheConfig.ServerConfig serverConfig = new CacheConfig.ServerConfig();
+        serverConfig.setServerAddress(storePath.toString());
+        CacheConfig cacheConfig = new CacheConfig();
+        cacheConfig.setStoreSlotCount(slotCount);
+        cacheConfig.setStoreSlotSize(slotSize);
+        cacheConfig.setProviderName("SharedMemoryProvider");
+        cacheConfig.setExpireTime(60);
+        cacheConfig.setServerConfigList(List.of(serverConfig));
+        SharedMemoryProviderImpl provider = new SharedMemoryProviderImpl();
+        provider.initialize(cacheConfig);
+        return provider;
+    }
+}
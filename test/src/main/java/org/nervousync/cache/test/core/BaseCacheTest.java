@@ -42,7 +42,10 @@ public abstract class BaseCacheTest {
     @AfterAll
     public static void clear() {
         Optional.ofNullable(ConfigureManager.getInstance())
-                .ifPresent(configureManager -> configureManager.removeConfigure(CacheConfig.class, "TestCache"));
+                .ifPresent(configureManager -> {
+                    configureManager.removeConfigure(CacheConfig.class, "TestCache");
+                    configureManager.removeConfigure(CacheConfig.class, "TestNearCache");
+                });
     }
 
     @BeforeEach
@@ -108,5 +111,48 @@ public abstract class BaseCacheTest {
         CacheUtils.deregister("TestCache");
         CacheUtils.destroy();
     }
-}
 
+    @Test
+    public final void testNearCache() throws BuilderException, CacheException {
+        if (PROPERTIES.isEmpty()) {
+            this.logger.info("No_Auth_File");
+            return;
+        }
+        boolean generateResult = CacheConfigBuilder.newBuilder("TestNearCache")
+                .providerName(this.providerName)
+                .connectTimeout(CacheGlobals.DEFAULT_CONNECTION_TIMEOUT)
+                .expireTime(5)
+                .clientPoolSize(CacheGlobals.DEFAULT_CLIENT_POOL_SIZE)
+                .maximumClient(CacheGlobals.DEFAULT_MAXIMUM_CLIENT)
+                .nearCache(1000, Globals.DEFAULT_VALUE_LONG, 5)
+                .serverBuilder()
+                .serverConfig(PROPERTIES.getProperty("ServerAddress"), Integer.parseInt(PROPERTIES.getProperty("ServerPort")))
+                .serverWeight(PROPERTIES.containsKey("ServerWeight")
+                        ? Integer.parseInt(PROPERTIES.getProperty("ServerWeight"))
+                        : Globals.DEFAULT_VALUE_INT)
+                .confirm()
+                .authorization(PROPERTIES.getProperty("UserName"), PROPERTIES.getProperty("PassWord"))
+                .confirm();
+        if (!generateResult) {
+            return;
+        }
+        CacheConfig cacheConfig = ConfigureManager.getInstance().readConfigure(CacheConfig.class, "TestNearCache");
+        Assertions.assertNotNull(cacheConfig);
+
+        CacheUtils cacheUtils = CacheUtils.getInstance();
+        this.logger.info("Register_Result", cacheUtils.register("TestNearCache", cacheConfig));
+        Optional.ofNullable(cacheUtils.client("TestNearCache"))
+                .ifPresent(client -> {
+                    client.set("testNear", "Test near");
+                    //  Second read was served by near cache
+                    Assertions.assertEquals("Test near", client.get("testNear"));
+                    Assertions.assertEquals("Test near", client.get("testNear"));
+                    client.set("testNear", "Test near update");
+                    Assertions.assertEquals("Test near update", client.get("testNear"));
+                    client.delete("testNear");
+                    Assertions.assertNull(client.get("testNear"));
+                });
+        CacheUtils.deregister("TestNearCache");
+        CacheUtils.destroy();
+    }
+}
@@ -20,13 +20,19 @@ import net.rubyeye.xmemcached.MemcachedClient;
 import net.rubyeye.xmemcached.MemcachedClientBuilder;
 import net.rubyeye.xmemcached.XMemcachedClientBuilder;
 import net.rubyeye.xmemcached.auth.AuthInfo;
+import net.rubyeye.xmemcached.CommandFactory;
+import net.rubyeye.xmemcached.GetsResponse;
 import net.rubyeye.xmemcached.command.BinaryCommandFactory;
 import net.rubyeye.xmemcached.exception.MemcachedException;
 import net.rubyeye.xmemcached.impl.KetamaMemcachedSessionLocator;
+import net.rubyeye.xmemcached.transcoders.CompressionMode;
+import net.rubyeye.xmemcached.transcoders.SerializingTranscoder;
 import net.rubyeye.xmemcached.utils.AddrUtil;
+import net.rubyeye.xmemcached.utils.ByteUtils;
 import org.nervousync.annotations.provider.Provider;
 import org.nervousync.cache.commons.CacheGlobals;
 import org.nervousync.cache.config.CacheConfig.ServerConfig;
+import org.nervousync.cache.enumeration.Compression;
 import org.nervousync.cache.exceptions.CacheException;
 import org.nervousync.cache.provider.impl.AbstractProvider;
 import org.nervousync.commons.Globals;
@@ -34,11 +40,12 @@ import org.nervousync.utils.StringUtils;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.ToIntFunction;
 
 /**
  * <h2 class="en-US">Memcached cache provider using xmemcached</h2>
@@ -54,6 +61,11 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	 * Memcached client object
 	 */
 	private MemcachedClient memcachedClient = null;
+	/**
+	 * <span class="en-US">Command factory of binary protocol, shared with memcached client</span>
+	 * <span class="zh-CN">二进制协议的命令工厂，与memcached客户端共享</span>
+	 */
+	private final CommandFactory commandFactory = new BinaryCommandFactory();
 
 	/**
 	 * Instantiates a new X memcached provider.
@@ -73,7 +85,11 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public void set(final String key, final String value, final int expire) {
 		try {
-			this.memcachedClient.set(key, super.expiryTime(expire), value);
+			if (this.isNoReply()) {
+				this.memcachedClient.setWithNoReply(key, super.expiryTime(expire), value);
+			} else {
+				this.memcachedClient.set(key, super.expiryTime(expire), value);
+			}
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "set");
 			this.printStackMessage(e);
@@ -84,6 +100,28 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 		}
 	}
 
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#processAll(Map, ToIntFunction)
+     */
+	@Override
+	protected void processAll(final Map<String, String> dataMap, final ToIntFunction<String> expiryFunction) {
+		try {
+			//  Binary protocol sends quiet commands for noreply operations, server only responds on error
+			for (Map.Entry<String, String> entry : dataMap.entrySet()) {
+				this.memcachedClient.setWithNoReply(entry.getKey(),
+						Math.max(expiryFunction.applyAsInt(entry.getKey()), 0), entry.getValue());
+			}
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "setAll");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "setAll");
+			this.printStackMessage(e);
+		}
+	}
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#add(String, String, int)
@@ -91,7 +129,11 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public void add(final String key, final String value, final int expire) {
 		try {
-			this.memcachedClient.add(key, super.expiryTime(expire), value);
+			if (this.isNoReply()) {
+				this.memcachedClient.addWithNoReply(key, super.expiryTime(expire), value);
+			} else {
+				this.memcachedClient.add(key, super.expiryTime(expire), value);
+			}
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "add");
 			this.printStackMessage(e);
@@ -102,6 +144,57 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 		}
 	}
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#tryAdd(String, String, int)
+     */
+	@Override
+	public boolean tryAdd(final String key, final String value, final int expire) {
+		try {
+			return this.memcachedClient.add(key, super.expiryTime(expire), value);
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "tryAdd");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException | MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "tryAdd");
+			this.printStackMessage(e);
+		}
+		return Boolean.FALSE;
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#deleteIfEquals(String, String)
+     */
+	@Override
+	public boolean deleteIfEquals(final String key, final String value) {
+		try {
+			//	Cache key was deleted only if the CAS unique was not changed after reading
+			GetsResponse<String> response = this.memcachedClient.gets(key);
+			return response != null && value.equals(response.getValue())
+					&& this.memcachedClient.delete(key, response.getCas(), this.memcachedClient.getOpTimeout());
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "deleteIfEquals");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException | MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "deleteIfEquals");
+			this.printStackMessage(e);
+		}
+		return Boolean.FALSE;
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#ttl(String)
+     */
+	@Override
+	public long ttl(final String key) {
+		//	Memcached protocol does not provide remaining time to live of cache key
+		return Globals.DEFAULT_VALUE_INT;
+	}
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#replace(String, String, int)
@@ -109,7 +202,11 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public void replace(final String key, final String value, final int expire) {
 		try {
-			this.memcachedClient.replace(key, super.expiryTime(expire), value);
+			if (this.isNoReply()) {
+				this.memcachedClient.replaceWithNoReply(key, super.expiryTime(expire), value);
+			} else {
+				this.memcachedClient.replace(key, super.expiryTime(expire), value);
+			}
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "replace");
 			this.printStackMessage(e);
@@ -144,9 +241,25 @@ public class XMemcachedProviderImpl extends AbstractProvider {
      */
 	@Override
 	public void touch(final String... keys) {
+		if (keys == null || keys.length == 0) {
+			return;
+		}
+		int expiry = super.expiryTime(Globals.DEFAULT_VALUE_INT);
 		try {
+			if (keys.length == 1) {
+				this.memcachedClient.touch(keys[0], expiry);
+				return;
+			}
+			//  Memcached protocol does not provide multi-key touch, all commands were written to the NIO sessions
+			//  without waiting, and one latch was counted down by the responses, so the keys were touched
+			//  in about one round trip without occupying any thread of executors
+			CountDownLatch latch = new CountDownLatch(keys.length);
 			for (String key : keys) {
-				this.memcachedClient.touch(key, super.expiryTime(Globals.DEFAULT_VALUE_INT));
+				this.memcachedClient.getConnector()
+						.send(this.commandFactory.createTouchCommand(key, ByteUtils.getBytes(key), latch, expiry, false));
+			}
+			if (!latch.await(this.memcachedClient.getOpTimeout(), TimeUnit.MILLISECONDS)) {
+				throw new TimeoutException("Touch commands not finished in time, command count: " + keys.length);
 			}
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "touch");
@@ -158,6 +271,26 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 		}
 	}
 
+    /*
+     * (non-Javadoc)
+     * @see AbstractProvider#getAndTouch(String, int)
+     */
+	@Override
+	public String getAndTouch(final String key, final int expire) {
+		try {
+			//  Binary protocol sends GAT command, value was read and expire time was updated in one round trip
+			return this.memcachedClient.getAndTouch(key, super.expiryTime(expire));
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getAndTouch");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException | MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getAndTouch");
+			this.printStackMessage(e);
+		}
+		return null;
+	}
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#delete(String)
@@ -165,7 +298,11 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 	@Override
 	public void delete(final String key) {
 		try {
-			this.memcachedClient.delete(key);
+			if (this.isNoReply()) {
+				this.memcachedClient.deleteWithNoReply(key);
+			} else {
+				this.memcachedClient.delete(key);
+			}
 		} catch (InterruptedException e) {
 			this.logger.error("Data_Operate_Cache_Error", "delete");
 			this.printStackMessage(e);
@@ -195,6 +332,77 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 		return null;
 	}
 
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#setBytes(String, byte[], int)
+     */
+	@Override
+	public void setBytes(final String key, final byte[] value, final int expire) {
+		try {
+			//  Byte arrays were stored as is by the transcoder, without serialization or string encoding
+			if (this.isNoReply()) {
+				this.memcachedClient.setWithNoReply(key, super.expiryTime(expire), value);
+			} else {
+				this.memcachedClient.set(key, super.expiryTime(expire), value);
+			}
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "setBytes");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException | MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "setBytes");
+			this.printStackMessage(e);
+		}
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.CacheProvider#getBytes(String)
+     */
+	@Override
+	public byte[] getBytes(final String key) {
+		try {
+			Object value = this.memcachedClient.get(key);
+			if (value instanceof byte[]) {
+				return (byte[]) value;
+			}
+			//  Values written by string operations were decoded to string by the transcoder
+			if (value instanceof String) {
+				return ((String) value).getBytes(StandardCharsets.UTF_8);
+			}
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getBytes");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException | MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getBytes");
+			this.printStackMessage(e);
+		}
+		return null;
+	}
+
+    /*
+     * (non-Javadoc)
+     * @see org.nervousync.cache.provider.Provider#getAll(Collection)
+     */
+	@Override
+	public Map<String, String> getAll(final Collection<String> keys) {
+		try {
+			Map<String, String> resultMap = this.memcachedClient.get(keys);
+			if (resultMap != null) {
+				return resultMap;
+			}
+		} catch (InterruptedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getAll");
+			this.printStackMessage(e);
+			Thread.currentThread().interrupt();
+		} catch (TimeoutException | MemcachedException e) {
+			this.logger.error("Data_Operate_Cache_Error", "getAll");
+			this.printStackMessage(e);
+		}
+		return new HashMap<>();
+	}
+
     /*
      * (non-Javadoc)
      * @see org.nervousync.cache.provider.Provider#incr(String, long)
@@ -295,6 +503,33 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 		return serverConfig.getServerAddress() + ":" + super.serverPort(serverConfig.getServerPort());
 	}
 	
+	/**
+	 * <h3 class="en-US">Generate transcoder which compress large values</h3>
+	 * <span class="en-US">
+	 *     Using compressed flag of memcached protocol instead of compressed frames,
+	 *     so values were compatible with other memcached clients.
+	 * </span>
+	 * <h3 class="zh-CN">生成压缩大数据的转码器</h3>
+	 * <span class="zh-CN">使用memcached协议的压缩标志代替压缩帧，因此数据与其他memcached客户端兼容</span>
+	 *
+	 * @return 	<span class="en-US">Transcoder instance</span>
+	 * 			<span class="zh-CN">转码器实例</span>
+	 */
+	private SerializingTranscoder transcoder() {
+		SerializingTranscoder transcoder = new SerializingTranscoder();
+		transcoder.setCompressionMode(CompressionMode.ZIP);
+		if (Compression.None.equals(this.getCompression())) {
+			transcoder.setCompressionThreshold(Integer.MAX_VALUE);
+		} else {
+			if (Compression.LZ4.equals(this.getCompression())) {
+				this.logger.warn("LZ4_Unsupported_Memcached_Cache_Warn");
+			}
+			//  Transcoder compress values which size was greater than the threshold
+			transcoder.setCompressionThreshold(this.getCompressThreshold() - 1);
+		}
+		return transcoder;
+	}
+
 	private void initConnection(final List<InetSocketAddress> serverList, final int[] serverWeights, 
 								final String userName, final String passWord) throws CacheException {
 		if (serverList == null || serverWeights == null || serverList.size() != serverWeights.length) {
@@ -303,7 +538,8 @@ public class XMemcachedProviderImpl extends AbstractProvider {
 		MemcachedClientBuilder clientBuilder =
 				new XMemcachedClientBuilder(serverList, serverWeights);
 		//  Using binary protocol instead of text protocol, if we use memcached 1.4.0 or later
-		clientBuilder.setCommandFactory(new BinaryCommandFactory());
+		clientBuilder.setCommandFactory(this.commandFactory);
+		clientBuilder.setTranscoder(this.transcoder());
 
 		if (serverList.size() > 1) {
 			//  Consistent Hash